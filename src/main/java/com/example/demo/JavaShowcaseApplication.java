@@ -87,6 +87,31 @@ public class JavaShowcaseApplication {
             OjAlgoShowcase.demonstrate();
             SMILEShowcase.demonstrate();
             EJMLShowcase.demonstrate();
+            PersistentCollectionsShowcase.demonstrate();
+            ConcurrentSortedMapsShowcase.demonstrate();
+            SchedulerQueuesShowcase.demonstrate();
+            ReferenceCacheShowcase.demonstrate();
+            PerfectHashShowcase.demonstrate();
+            AdaptiveExecutorShowcase.demonstrate();
+            StructuredConcurrencyShowcase.demonstrate();
+            StripedCountersShowcase.demonstrate();
+            ContextPropagationShowcase.demonstrate();
+            ConcurrencyStressShowcase.demonstrate();
+            ExecutorDrainShowcase.demonstrate();
+            FusedPipelinesShowcase.demonstrate();
+            ParallelSpliteratorsShowcase.demonstrate();
+            AggregatingCollectorsShowcase.demonstrate();
+            StreamOperatorsShowcase.demonstrate();
+            DelimitedTokenizerShowcase.demonstrate();
+            CompiledFormatShowcase.demonstrate();
+            RopeShowcase.demonstrate();
+            StringInternerShowcase.demonstrate();
+            MultiPatternSearchShowcase.demonstrate();
+            FastNumbersShowcase.demonstrate();
+            FastTimestampShowcase.demonstrate();
+            ZoneTransitionShowcase.demonstrate();
+            FixedDecimalShowcase.demonstrate();
+            VectorMathShowcase.demonstrate();
 
             System.out.println("\n╔══════════════════════════════════════════════════════╗");
             System.out.println("║       ALL SHOWCASES COMPLETED!                       ║");
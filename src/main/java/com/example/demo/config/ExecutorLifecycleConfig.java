@@ -0,0 +1,94 @@
+package com.example.demo.config;
+
+import com.example.demo.util.ExecutorDrainCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Executor lifecycle configuration
+ * Drains every executor registered with the coordinator during Spring's shutdown
+ *
+ * The drain runs in a phase below the web server's graceful shutdown, so requests in flight
+ * can still submit work; it must finish within spring.lifecycle.timeout-per-shutdown-phase
+ *
+ * This class is wiring only: the application itself creates no executors, so nothing is
+ * registered here and the hook returns immediately. Components that own an ExecutorService
+ * inject the coordinator and call register() when they create it
+ */
+@Configuration
+public class ExecutorLifecycleConfig {
+
+    /** Web server graceful shutdown runs at DEFAULT_PHASE - 1024 and the server stops at - 2048 */
+    public static final int EXECUTOR_DRAIN_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutorLifecycleConfig.class);
+
+    @Bean
+    public ExecutorDrainCoordinator executorDrainCoordinator(
+            @Value("${showcase.executors.unstarted-task-file:${java.io.tmpdir}/java-showcase-unstarted-tasks.log}")
+            String unstartedTaskFile) {
+        return new ExecutorDrainCoordinator(
+            new ExecutorDrainCoordinator.FileUnstartedTaskStore(Path.of(unstartedTaskFile)));
+    }
+
+    @Bean
+    public SmartLifecycle executorDrainLifecycle(ExecutorDrainCoordinator coordinator) {
+        return new SmartLifecycle() {
+            private volatile boolean running;
+
+            @Override
+            public void start() {
+                running = true;
+            }
+
+            @Override
+            public void stop() {
+                drain();
+            }
+
+            @Override
+            public void stop(Runnable callback) {
+                // Asynchronous so other beans in this phase stop concurrently with the drain
+                Thread.ofPlatform().name("executor-drain").start(() -> {
+                    try {
+                        drain();
+                    } finally {
+                        callback.run();
+                    }
+                });
+            }
+
+            private void drain() {
+                try {
+                    if (coordinator.registeredCount() == 0) {
+                        return;
+                    }
+                    ExecutorDrainCoordinator.DrainReport report = coordinator.shutdownAll();
+                    log.info("Drained {} executors in {} ms (sequential would be {} ms)",
+                        report.pools().size(), report.totalMillis(), report.sequentialMillis());
+                    for (ExecutorDrainCoordinator.PoolReport pool : report.pools()) {
+                        log.info("  {}", pool);
+                    }
+                } finally {
+                    running = false;
+                }
+            }
+
+            @Override
+            public boolean isRunning() {
+                return running;
+            }
+
+            @Override
+            public int getPhase() {
+                return EXECUTOR_DRAIN_PHASE;
+            }
+        };
+    }
+}
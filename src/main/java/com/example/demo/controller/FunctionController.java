@@ -2,10 +2,12 @@ package com.example.demo.controller;
 
 import com.example.demo.model.User;
 import com.example.demo.service.DataProcessingService;
+import com.example.demo.util.PerfectHashTable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -16,6 +18,21 @@ import java.util.Map;
 @RequestMapping("/api")
 public class FunctionController {
 
+    /** Operations of /api/calculate; PerfectHashShowcase benchmarks the same dispatch */
+    public enum CalculateOperation { ADD, SUBTRACT, MULTIPLY, DIVIDE }
+
+    private enum StringOperation { UPPERCASE, LOWERCASE, REVERSE, CAPITALIZE }
+
+    /**
+     * Operation names resolved through perfect-hash tables built once at class load,
+     * then dispatched with an enum switch (ordinal jump table) instead of a string switch
+     */
+    private static final PerfectHashTable<CalculateOperation> CALCULATE_OPERATIONS =
+        PerfectHashTable.forEnum(CalculateOperation.class, op -> op.name().toLowerCase(Locale.ROOT));
+
+    private static final PerfectHashTable<StringOperation> STRING_OPERATIONS =
+        PerfectHashTable.forEnum(StringOperation.class, op -> op.name().toLowerCase(Locale.ROOT));
+
     private final DataProcessingService dataProcessingService;
 
     public FunctionController(DataProcessingService dataProcessingService) {
@@ -81,12 +98,12 @@ public class FunctionController {
             @RequestParam int b,
             @RequestParam(defaultValue = "add") String operation) {
 
-        int result = switch (operation.toLowerCase()) {
-            case "add" -> a + b;
-            case "subtract" -> a - b;
-            case "multiply" -> a * b;
-            case "divide" -> b != 0 ? a / b : 0;
-            default -> 0;
+        CalculateOperation op = CALCULATE_OPERATIONS.get(operation.toLowerCase());
+        int result = op == null ? 0 : switch (op) {
+            case ADD -> a + b;
+            case SUBTRACT -> a - b;
+            case MULTIPLY -> a * b;
+            case DIVIDE -> b != 0 ? a / b : 0;
         };
 
         return ResponseEntity.ok(Map.of(
@@ -105,13 +122,13 @@ public class FunctionController {
         String input = request.getOrDefault("text", "");
         String operation = request.getOrDefault("operation", "uppercase");
 
-        String result = switch (operation) {
-            case "uppercase" -> input.toUpperCase();
-            case "lowercase" -> input.toLowerCase();
-            case "reverse" -> new StringBuilder(input).reverse().toString();
-            case "capitalize" -> input.isEmpty() ? "" :
+        StringOperation op = STRING_OPERATIONS.get(operation);
+        String result = op == null ? input : switch (op) {
+            case UPPERCASE -> input.toUpperCase();
+            case LOWERCASE -> input.toLowerCase();
+            case REVERSE -> new StringBuilder(input).reverse().toString();
+            case CAPITALIZE -> input.isEmpty() ? "" :
                 Character.toUpperCase(input.charAt(0)) + input.substring(1).toLowerCase();
-            default -> input;
         };
 
         return ResponseEntity.ok(Map.of(
@@ -0,0 +1,640 @@
+package com.example.demo.showcase;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Demonstrates an adaptive, self-tuning thread pool
+ * Including online core/max resizing driven by queue depth, queue wait and CPU load,
+ * pluggable backpressure-based rejection strategies and Micrometer gauges for every pool stat
+ */
+public class AdaptiveExecutorShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== ADAPTIVE EXECUTOR SHOWCASE ==========\n");
+
+        rejectionStrategiesDemo();
+        autoTuningDemo();
+        workStealingTelemetryDemo();
+    }
+
+    // ========== Instrumented Executor ==========
+
+    /**
+     * ThreadPoolExecutor that records queue wait and execution time of every task
+     * as exponentially weighted moving averages, plus completed/rejected counts.
+     */
+    static final class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor {
+        private static final double EWMA_ALPHA = 0.2;
+
+        private final String name;
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder resizes = new LongAdder();
+        private volatile double queueWaitMillisEwma;
+        private volatile double executionMillisEwma;
+        // Enqueue times keyed by the caller's own command (by identity), so getQueue(), remove(),
+        // shutdownNow() and the rejection strategy all see the submitted objects, not wrappers
+        private final Map<Runnable, Long> enqueuedAt = Collections.synchronizedMap(new IdentityHashMap<>());
+        private final ThreadLocal<long[]> startedAt = ThreadLocal.withInitial(() -> new long[1]);
+
+        InstrumentedThreadPoolExecutor(String name, int corePoolSize, int maximumPoolSize,
+                                       BlockingQueue<Runnable> queue, RejectionStrategy rejectionStrategy) {
+            super(corePoolSize, maximumPoolSize, 30L, TimeUnit.SECONDS, queue, new NamedThreadFactory(name));
+            this.name = name;
+            setRejectedExecutionHandler((task, executor) -> {
+                rejectionStrategy.reject(task, executor, rejected);
+            });
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            // Recorded first: a worker may pick the task up before super.execute() returns
+            enqueuedAt.put(command, System.nanoTime());
+            try {
+                super.execute(command);
+            } catch (RuntimeException e) {
+                enqueuedAt.remove(command);
+                throw e;
+            }
+        }
+
+        @Override
+        protected void beforeExecute(Thread thread, Runnable task) {
+            long now = System.nanoTime();
+            startedAt.get()[0] = now;
+            Long enqueued = enqueuedAt.remove(task);
+            if (enqueued != null) {
+                queueWaitMillisEwma = ewma(queueWaitMillisEwma, (now - enqueued) / 1e6);
+            }
+        }
+
+        @Override
+        protected void afterExecute(Runnable task, Throwable failure) {
+            executionMillisEwma = ewma(executionMillisEwma, (System.nanoTime() - startedAt.get()[0]) / 1e6);
+        }
+
+        @Override
+        public boolean remove(Runnable task) {
+            boolean removed = super.remove(task);
+            if (removed) {
+                enqueuedAt.remove(task);
+            }
+            return removed;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            List<Runnable> unstarted = super.shutdownNow();
+            unstarted.forEach(enqueuedAt::remove);
+            return unstarted;
+        }
+
+        /** Drops the enqueue time of a task that left the queue without running. */
+        void forget(Runnable task) {
+            enqueuedAt.remove(task);
+        }
+
+        private static double ewma(double current, double sample) {
+            // Racy read-modify-write across workers is acceptable for a smoothed signal
+            return current == 0 ? sample : current + EWMA_ALPHA * (sample - current);
+        }
+
+        /** Grows max before core (and shrinks core before max) so core <= max always holds. */
+        void resize(int newCore, int newMax) {
+            if (newMax >= getMaximumPoolSize()) {
+                setMaximumPoolSize(newMax);
+                setCorePoolSize(newCore);
+            } else {
+                setCorePoolSize(newCore);
+                setMaximumPoolSize(newMax);
+            }
+            resizes.increment();
+        }
+
+        String name() {
+            return name;
+        }
+
+        long rejectedCount() {
+            return rejected.sum();
+        }
+
+        long resizeCount() {
+            return resizes.sum();
+        }
+
+        double queueWaitMillis() {
+            return queueWaitMillisEwma;
+        }
+
+        double executionMillis() {
+            return executionMillisEwma;
+        }
+    }
+
+    static final class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger(1);
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    // ========== Rejection Strategies ==========
+
+    /**
+     * Pluggable policy for a saturated pool. Unlike CallerRunsPolicy, the backpressure
+     * strategies never run work on the submitting thread (which may be an event loop
+     * or a request thread holding resources); they slow the producer down instead.
+     */
+    @FunctionalInterface
+    interface RejectionStrategy {
+        void reject(Runnable task, ThreadPoolExecutor executor, LongAdder rejectedCounter);
+
+        /** Block the producer until queue space frees up, failing after the timeout. */
+        static RejectionStrategy blockWithTimeout(Duration timeout) {
+            return (task, executor, rejectedCounter) -> {
+                if (executor.isShutdown()) {
+                    rejectedCounter.increment();
+                    throw new RejectedExecutionException("Executor is shut down");
+                }
+                try {
+                    if (!executor.getQueue().offer(task, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                        rejectedCounter.increment();
+                        throw new RejectedExecutionException("Queue still full after " + timeout.toMillis() + " ms");
+                    }
+                    // shutdown() may have run while we waited; then no worker is guaranteed to take the task
+                    if (executor.isShutdown() && executor.remove(task)) {
+                        rejectedCounter.increment();
+                        throw new RejectedExecutionException("Executor shut down while waiting for queue space");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    rejectedCounter.increment();
+                    throw new RejectedExecutionException("Interrupted while waiting for queue space", e);
+                }
+            };
+        }
+
+        /** Drop the oldest queued task to admit the newest; a dropped submit() Future is cancelled. */
+        static RejectionStrategy shedOldest() {
+            return (task, executor, rejectedCounter) -> {
+                if (executor.isShutdown()) {
+                    discard(task, executor, rejectedCounter);
+                    return;
+                }
+                Runnable oldest = executor.getQueue().poll();
+                if (oldest != null) {
+                    discard(oldest, executor, rejectedCounter);
+                }
+                if (!executor.getQueue().offer(task)) {
+                    discard(task, executor, rejectedCounter);
+                }
+            };
+        }
+
+        /** Counts a dropped task and cancels it if it is a Future, so callers blocked on get() are released. */
+        private static void discard(Runnable task, ThreadPoolExecutor executor, LongAdder rejectedCounter) {
+            rejectedCounter.increment();
+            if (executor instanceof InstrumentedThreadPoolExecutor instrumented) {
+                instrumented.forget(task);
+            }
+            if (task instanceof Future<?> future) {
+                future.cancel(false);
+            }
+        }
+
+        /** Reject immediately so the caller can return 429/503 or retry elsewhere. */
+        static RejectionStrategy failFast() {
+            return (task, executor, rejectedCounter) -> {
+                rejectedCounter.increment();
+                throw new RejectedExecutionException("Pool saturated: queue=" + executor.getQueue().size()
+                    + ", active=" + executor.getActiveCount());
+            };
+        }
+    }
+
+    private static void rejectionStrategiesDemo() {
+        System.out.println("--- Backpressure Rejection Strategies ---");
+        System.out.println("Config: core=1, max=1, queue=2, 8 tasks of 30ms submitted as fast as possible\n");
+
+        record Strategy(String name, RejectionStrategy strategy) { }
+        List<Strategy> strategies = List.of(
+            new Strategy("blockWithTimeout(500ms)", RejectionStrategy.blockWithTimeout(Duration.ofMillis(500))),
+            new Strategy("shedOldest()", RejectionStrategy.shedOldest()),
+            new Strategy("failFast()", RejectionStrategy.failFast())
+        );
+
+        for (Strategy s : strategies) {
+            InstrumentedThreadPoolExecutor executor = new InstrumentedThreadPoolExecutor(
+                "demo", 1, 1, new ArrayBlockingQueue<>(2), s.strategy());
+            AtomicInteger ranOnCaller = new AtomicInteger();
+            AtomicInteger completed = new AtomicInteger();
+            Thread caller = Thread.currentThread();
+            int exceptions = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < 8; i++) {
+                try {
+                    executor.execute(() -> {
+                        if (Thread.currentThread() == caller) {
+                            ranOnCaller.incrementAndGet();
+                        }
+                        sleep(30);
+                        completed.incrementAndGet();
+                    });
+                } catch (RejectedExecutionException e) {
+                    exceptions++;
+                }
+            }
+            long submitMillis = (System.nanoTime() - start) / 1_000_000;
+            executor.shutdown();
+            awaitTermination(executor);
+            System.out.println(String.format("  %-24s submit took %3d ms, completed %d, rejected %d, "
+                    + "exceptions %d, ran on caller %d",
+                s.name(), submitMillis, completed.get(), executor.rejectedCount(), exceptions, ranOnCaller.get()));
+        }
+        System.out.println("  (CallerRunsPolicy would have run tasks on the submitting thread instead)");
+
+        // submit() wraps each task in a FutureTask; the ones shedOldest() drops are cancelled, not left pending
+        InstrumentedThreadPoolExecutor shedding = new InstrumentedThreadPoolExecutor(
+            "demo", 1, 1, new ArrayBlockingQueue<>(2), RejectionStrategy.shedOldest());
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(shedding.submit(() -> sleep(30)));
+        }
+        shedding.shutdown();
+        awaitTermination(shedding);
+        System.out.println("  shedOldest() with submit(): " + futures.stream().filter(Future::isDone).count()
+            + " of 8 futures done, " + futures.stream().filter(Future::isCancelled).count() + " cancelled by shedding");
+
+        // Timing is kept beside the tasks, not in wrappers, so the queue holds the caller's own objects
+        InstrumentedThreadPoolExecutor plain = new InstrumentedThreadPoolExecutor(
+            "demo", 1, 1, new ArrayBlockingQueue<>(4), RejectionStrategy.failFast());
+        Runnable blocker = () -> sleep(50);
+        Runnable queuedA = () -> { };
+        Runnable queuedB = () -> { };
+        plain.execute(blocker);
+        plain.execute(queuedA);
+        plain.execute(queuedB);
+        boolean removed = plain.remove(queuedA);
+        List<Runnable> unstarted = plain.shutdownNow();
+        awaitTermination(plain);
+        System.out.println("  remove(task) on a queued task: " + removed + ", shutdownNow() returns the submitted task: "
+            + (unstarted.size() == 1 && unstarted.get(0) == queuedB));
+
+        System.out.println();
+    }
+
+    // ========== Auto-Tuning ==========
+
+    /**
+     * Periodically samples a pool and resizes it:
+     * grow when tasks wait in the queue longer than the target and the CPU has headroom,
+     * shrink after several idle samples. Growth doubles (fast reaction to bursts),
+     * shrinking is one thread at a time (avoids oscillation).
+     */
+    static final class PoolTuner implements Runnable {
+        private final InstrumentedThreadPoolExecutor executor;
+        private final int minThreads;
+        private final int maxThreads;
+        private final double targetQueueWaitMillis;
+        private final double cpuCeiling;
+        private final int idleSamplesBeforeShrink;
+        private final List<String> log = new CopyOnWriteArrayList<>();
+        private int idleSamples;
+
+        PoolTuner(InstrumentedThreadPoolExecutor executor, int minThreads, int maxThreads,
+                  double targetQueueWaitMillis, double cpuCeiling, int idleSamplesBeforeShrink) {
+            this.executor = executor;
+            this.minThreads = minThreads;
+            this.maxThreads = maxThreads;
+            this.targetQueueWaitMillis = targetQueueWaitMillis;
+            this.cpuCeiling = cpuCeiling;
+            this.idleSamplesBeforeShrink = idleSamplesBeforeShrink;
+        }
+
+        @Override
+        public void run() {
+            int core = executor.getCorePoolSize();
+            int queued = executor.getQueue().size();
+            int active = executor.getActiveCount();
+            double queueWait = executor.queueWaitMillis();
+            double cpu = cpuLoad();
+            boolean cpuHeadroom = cpu < 0 || cpu < cpuCeiling;
+
+            if (queued > 0 && queueWait > targetQueueWaitMillis && cpuHeadroom && core < maxThreads) {
+                int newCore = Math.min(maxThreads, core * 2);
+                executor.resize(newCore, Math.min(maxThreads, newCore + Math.max(1, newCore / 2)));
+                idleSamples = 0;
+                log.add(String.format("grow %d -> %d (queued=%d, wait=%.1fms, cpu=%s)",
+                    core, newCore, queued, queueWait, formatCpu(cpu)));
+            } else if (queued == 0 && active < core / 2.0 && core > minThreads) {
+                if (++idleSamples >= idleSamplesBeforeShrink) {
+                    int newCore = core - 1;
+                    executor.resize(newCore, Math.min(maxThreads, newCore + Math.max(1, newCore / 2)));
+                    idleSamples = 0;
+                    log.add(String.format("shrink %d -> %d (active=%d)", core, newCore, active));
+                }
+            } else {
+                idleSamples = 0;
+            }
+        }
+
+        List<String> log() {
+            return log;
+        }
+
+        private static String formatCpu(double cpu) {
+            return cpu < 0 ? "n/a" : String.format("%.0f%%", cpu * 100);
+        }
+    }
+
+    private static double cpuLoad() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+            return sunOs.getProcessCpuLoad();
+        }
+        return -1;
+    }
+
+    // ========== Executor Factory ==========
+
+    /**
+     * Builds instrumented, self-tuning pools and publishes their stats as Micrometer meters,
+     * all tagged with the pool name. One shared daemon thread runs every pool's tuner.
+     */
+    static final class AdaptiveExecutorFactory implements AutoCloseable {
+        private final MeterRegistry registry;
+        private final ScheduledExecutorService tuningScheduler =
+            Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("pool-tuner"));
+
+        AdaptiveExecutorFactory(MeterRegistry registry) {
+            this.registry = registry;
+        }
+
+        Builder newPool(String name) {
+            return new Builder(name);
+        }
+
+        final class Builder {
+            private final String name;
+            private int minThreads = 1;
+            private int maxThreads = Runtime.getRuntime().availableProcessors() * 4;
+            private int queueCapacity = 1_000;
+            private RejectionStrategy rejectionStrategy = RejectionStrategy.blockWithTimeout(Duration.ofSeconds(1));
+            private Duration tuningInterval = Duration.ofSeconds(1);
+            private double targetQueueWaitMillis = 50;
+            private double cpuCeiling = 0.85;
+            private int idleSamplesBeforeShrink = 5;
+            private PoolTuner tuner;
+
+            private Builder(String name) {
+                this.name = name;
+            }
+
+            Builder threads(int min, int max) {
+                if (min < 1 || max < min) {
+                    throw new IllegalArgumentException("Require 1 <= min <= max, got min=" + min + ", max=" + max);
+                }
+                this.minThreads = min;
+                this.maxThreads = max;
+                return this;
+            }
+
+            Builder queueCapacity(int capacity) {
+                this.queueCapacity = capacity;
+                return this;
+            }
+
+            Builder rejectionStrategy(RejectionStrategy strategy) {
+                this.rejectionStrategy = strategy;
+                return this;
+            }
+
+            Builder tuning(Duration interval, double targetQueueWaitMillis, double cpuCeiling, int idleSamples) {
+                this.tuningInterval = interval;
+                this.targetQueueWaitMillis = targetQueueWaitMillis;
+                this.cpuCeiling = cpuCeiling;
+                this.idleSamplesBeforeShrink = idleSamples;
+                return this;
+            }
+
+            InstrumentedThreadPoolExecutor build() {
+                InstrumentedThreadPoolExecutor executor = new InstrumentedThreadPoolExecutor(
+                    name, minThreads, Math.min(maxThreads, minThreads + 1),
+                    new ArrayBlockingQueue<>(queueCapacity), rejectionStrategy);
+                tuner = new PoolTuner(executor, minThreads, maxThreads,
+                    targetQueueWaitMillis, cpuCeiling, idleSamplesBeforeShrink);
+                tuningScheduler.scheduleWithFixedDelay(() -> {
+                    if (!executor.isShutdown()) {
+                        tuner.run();
+                    }
+                }, tuningInterval.toMillis(), tuningInterval.toMillis(), TimeUnit.MILLISECONDS);
+                bindMetrics(executor, registry);
+                return executor;
+            }
+
+            PoolTuner tuner() {
+                return tuner;
+            }
+        }
+
+        @Override
+        public void close() {
+            tuningScheduler.shutdownNow();
+        }
+    }
+
+    static void bindMetrics(InstrumentedThreadPoolExecutor executor, MeterRegistry registry) {
+        Tags tags = Tags.of(Tag.of("name", executor.name()));
+        Gauge.builder("executor.pool.core", executor, ThreadPoolExecutor::getCorePoolSize)
+            .tags(tags).description("Current core pool size").baseUnit("threads").register(registry);
+        Gauge.builder("executor.pool.max", executor, ThreadPoolExecutor::getMaximumPoolSize)
+            .tags(tags).description("Current maximum pool size").baseUnit("threads").register(registry);
+        Gauge.builder("executor.pool.size", executor, ThreadPoolExecutor::getPoolSize)
+            .tags(tags).description("Threads currently in the pool").baseUnit("threads").register(registry);
+        Gauge.builder("executor.active", executor, ThreadPoolExecutor::getActiveCount)
+            .tags(tags).description("Threads actively running tasks").baseUnit("threads").register(registry);
+        Gauge.builder("executor.queued", executor, e -> e.getQueue().size())
+            .tags(tags).description("Tasks waiting in the queue").baseUnit("tasks").register(registry);
+        Gauge.builder("executor.queue.remaining", executor, e -> e.getQueue().remainingCapacity())
+            .tags(tags).description("Free queue slots").baseUnit("tasks").register(registry);
+        Gauge.builder("executor.queue.wait.ewma", executor, InstrumentedThreadPoolExecutor::queueWaitMillis)
+            .tags(tags).description("Smoothed time tasks spend queued").baseUnit("milliseconds").register(registry);
+        Gauge.builder("executor.execution.ewma", executor, InstrumentedThreadPoolExecutor::executionMillis)
+            .tags(tags).description("Smoothed task execution time").baseUnit("milliseconds").register(registry);
+        FunctionCounter.builder("executor.completed", executor, ThreadPoolExecutor::getCompletedTaskCount)
+            .tags(tags).description("Tasks completed").baseUnit("tasks").register(registry);
+        FunctionCounter.builder("executor.rejected", executor, InstrumentedThreadPoolExecutor::rejectedCount)
+            .tags(tags).description("Tasks rejected or shed").baseUnit("tasks").register(registry);
+        FunctionCounter.builder("executor.resizes", executor, InstrumentedThreadPoolExecutor::resizeCount)
+            .tags(tags).description("Online pool resizes by the tuner").register(registry);
+    }
+
+    private static void autoTuningDemo() {
+        System.out.println("--- Auto-Tuning Pool with Micrometer Gauges ---");
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        try (AdaptiveExecutorFactory factory = new AdaptiveExecutorFactory(registry)) {
+            AdaptiveExecutorFactory.Builder builder = factory.newPool("io-pool")
+                .threads(1, 16)
+                .queueCapacity(100)
+                .rejectionStrategy(RejectionStrategy.blockWithTimeout(Duration.ofSeconds(2)))
+                .tuning(Duration.ofMillis(50), 20, 0.9, 3);
+            InstrumentedThreadPoolExecutor executor = builder.build();
+
+            System.out.println("Phase 1: burst of 300 I/O-style tasks (10ms each) on a 1-thread pool");
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                futures.add(executor.submit(() -> sleep(10)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            System.out.println("  Burst drained in " + (System.nanoTime() - start) / 1_000_000
+                + " ms (a fixed 1-thread pool would need ~3000 ms)");
+            printGauges(registry, "io-pool");
+
+            System.out.println("Phase 2: idle - tuner shrinks the pool one thread per 3 idle samples");
+            sleep(800);
+            printGauges(registry, "io-pool");
+
+            System.out.println("Tuner decisions:");
+            builder.tuner().log().forEach(line -> System.out.println("  " + line));
+
+            executor.shutdown();
+            awaitTermination(executor);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        }
+
+        System.out.println();
+    }
+
+    private static void printGauges(MeterRegistry registry, String poolName) {
+        String[] gauges = {"executor.pool.core", "executor.pool.max", "executor.pool.size",
+            "executor.active", "executor.queued", "executor.queue.wait.ewma"};
+        StringBuilder line = new StringBuilder("  ");
+        for (String gauge : gauges) {
+            Gauge meter = registry.find(gauge).tag("name", poolName).gauge();
+            line.append(gauge.substring("executor.".length())).append('=')
+                .append(meter == null ? "n/a" : String.format("%.1f", meter.value())).append("  ");
+        }
+        FunctionCounter completed = registry.find("executor.completed").tag("name", poolName).functionCounter();
+        FunctionCounter resizes = registry.find("executor.resizes").tag("name", poolName).functionCounter();
+        line.append("completed=").append(completed == null ? "n/a" : (long) completed.count())
+            .append("  resizes=").append(resizes == null ? "n/a" : (long) resizes.count());
+        System.out.println(line);
+    }
+
+    // ========== Work-Stealing Pool Telemetry ==========
+
+    static void bindMetrics(String name, ForkJoinPool pool, MeterRegistry registry) {
+        Tags tags = Tags.of(Tag.of("name", name));
+        Gauge.builder("executor.parallelism", pool, ForkJoinPool::getParallelism)
+            .tags(tags).description("Target parallelism").baseUnit("threads").register(registry);
+        Gauge.builder("executor.pool.size", pool, ForkJoinPool::getPoolSize)
+            .tags(tags).description("Worker threads started").baseUnit("threads").register(registry);
+        Gauge.builder("executor.active", pool, ForkJoinPool::getActiveThreadCount)
+            .tags(tags).description("Workers stealing or running tasks").baseUnit("threads").register(registry);
+        Gauge.builder("executor.queued", pool, ForkJoinPool::getQueuedTaskCount)
+            .tags(tags).description("Tasks in worker deques").baseUnit("tasks").register(registry);
+        Gauge.builder("executor.queued.submissions", pool, ForkJoinPool::getQueuedSubmissionCount)
+            .tags(tags).description("External submissions not yet picked up").baseUnit("tasks").register(registry);
+        FunctionCounter.builder("executor.steals", pool, ForkJoinPool::getStealCount)
+            .tags(tags).description("Tasks stolen between workers").register(registry);
+    }
+
+    static final class SumTask extends RecursiveTask<Long> {
+        private final long from;
+        private final long to;
+
+        SumTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= 10_000) {
+                long sum = 0;
+                for (long i = from; i < to; i++) {
+                    sum += i;
+                }
+                return sum;
+            }
+            long mid = (from + to) >>> 1;
+            SumTask left = new SumTask(from, mid);
+            left.fork();
+            return new SumTask(mid, to).compute() + left.join();
+        }
+    }
+
+    private static void workStealingTelemetryDemo() {
+        System.out.println("--- Work-Stealing Pool Telemetry ---");
+        System.out.println("ForkJoinPool exposes steal counts; parallelism can be resized online (JDK 19+)");
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        bindMetrics("fj-pool", pool, registry);
+
+        long sum = pool.invoke(new SumTask(0, 10_000_000));
+        int previous = pool.setParallelism(4);
+        long sumAfterResize = pool.invoke(new SumTask(0, 10_000_000));
+
+        FunctionCounter steals = registry.find("executor.steals").tag("name", "fj-pool").functionCounter();
+        Gauge parallelism = registry.find("executor.parallelism").tag("name", "fj-pool").gauge();
+        System.out.println("Sum: " + sum + ", after resize " + previous + " -> "
+            + (parallelism == null ? "n/a" : (int) parallelism.value()) + ": " + sumAfterResize);
+        System.out.println("Steals recorded: " + (steals == null ? "n/a" : (long) steals.count()));
+
+        pool.shutdown();
+        awaitTermination(pool);
+        System.out.println();
+    }
+
+    // ========== Helper Methods ==========
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
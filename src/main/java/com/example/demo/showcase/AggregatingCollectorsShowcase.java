@@ -0,0 +1,647 @@
+package com.example.demo.showcase;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Demonstrates specialized collectors for grouping and aggregation on parallel streams
+ * Including primitive group-by with sum/count/min/max, a dense concurrent variant, a pre-sized
+ * joiner, top-K with a bounded heap, combiners that fold the smaller container into the larger
+ * one, and benchmarks against the Collectors used in StreamShowcase
+ */
+public class AggregatingCollectorsShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== AGGREGATING COLLECTORS SHOWCASE ==========\n");
+
+        groupStatsDemo();
+        joinerDemo();
+        topKDemo();
+        groupingBenchmark();
+        joiningAndTopKBenchmark();
+    }
+
+    // ========== Primitive Group Stats ==========
+
+    /**
+     * int key -> sum/count/min/max with no boxing. Groups live in dense parallel arrays in
+     * insertion order; an open-addressing table of dense index + 1 (0 = empty) finds them.
+     * Not thread-safe: a parallel collect gives every leaf task its own instance.
+     */
+    static final class IntGroupStats {
+        private int[] table = new int[16];
+        private int[] keys = new int[8];
+        private long[] sums = new long[8];
+        private long[] counts = new long[8];
+        private long[] mins = new long[8];
+        private long[] maxs = new long[8];
+        private int size;
+
+        void add(int key, long value) {
+            int index = indexFor(key);
+            sums[index] += value;
+            counts[index]++;
+            if (value < mins[index]) {
+                mins[index] = value;
+            }
+            if (value > maxs[index]) {
+                maxs[index] = value;
+            }
+        }
+
+        private void addGroup(int key, long sum, long count, long min, long max) {
+            int index = indexFor(key);
+            sums[index] += sum;
+            counts[index] += count;
+            mins[index] = Math.min(mins[index], min);
+            maxs[index] = Math.max(maxs[index], max);
+        }
+
+        private int indexFor(int key) {
+            int mask = table.length - 1;
+            for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+                int entry = table[slot];
+                if (entry == 0) {
+                    return insert(key, slot);
+                }
+                if (keys[entry - 1] == key) {
+                    return entry - 1;
+                }
+            }
+        }
+
+        private int insert(int key, int slot) {
+            if (size == keys.length) {
+                int capacity = size << 1;
+                keys = Arrays.copyOf(keys, capacity);
+                sums = Arrays.copyOf(sums, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+                mins = Arrays.copyOf(mins, capacity);
+                maxs = Arrays.copyOf(maxs, capacity);
+            }
+            int index = size++;
+            keys[index] = key;
+            mins[index] = Long.MAX_VALUE;
+            maxs[index] = Long.MIN_VALUE;
+            table[slot] = index + 1;
+            if (size * 2 > table.length) {
+                rehash();
+            }
+            return index;
+        }
+
+        private void rehash() {
+            int[] newTable = new int[table.length << 1];
+            int mask = newTable.length - 1;
+            for (int index = 0; index < size; index++) {
+                int slot = mix(keys[index]) & mask;
+                while (newTable[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                newTable[slot] = index + 1;
+            }
+            table = newTable;
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        /**
+         * Folds the smaller instance into the larger and returns the larger, so a parallel collect
+         * never copies the big per-leaf tables, only walks the small ones.
+         */
+        IntGroupStats merge(IntGroupStats other) {
+            IntGroupStats target = size >= other.size ? this : other;
+            target.addAll(target == this ? other : this);
+            return target;
+        }
+
+        void addAll(IntGroupStats source) {
+            for (int i = 0; i < source.size; i++) {
+                addGroup(source.keys[i], source.sums[i], source.counts[i], source.mins[i], source.maxs[i]);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        OptionalLong sum(int key) {
+            int index = find(key);
+            return index < 0 ? OptionalLong.empty() : OptionalLong.of(sums[index]);
+        }
+
+        LongSummaryStatistics stats(int key) {
+            int index = find(key);
+            return index < 0 ? new LongSummaryStatistics()
+                : new LongSummaryStatistics(counts[index], mins[index], maxs[index], sums[index]);
+        }
+
+        private int find(int key) {
+            int mask = table.length - 1;
+            for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+                int entry = table[slot];
+                if (entry == 0) {
+                    return -1;
+                }
+                if (keys[entry - 1] == key) {
+                    return entry - 1;
+                }
+            }
+        }
+
+        /** Boxed view for display and equality checks; sorted by key. */
+        SortedMap<Integer, Long> sumsByKey() {
+            SortedMap<Integer, Long> result = new TreeMap<>();
+            for (int i = 0; i < size; i++) {
+                result.put(keys[i], sums[i]);
+            }
+            return result;
+        }
+
+        long checksum() {
+            long checksum = 0;
+            for (int i = 0; i < size; i++) {
+                checksum += (long) keys[i] * 31 + sums[i] + counts[i] * 7 + mins[i] * 3 + maxs[i];
+            }
+            return checksum;
+        }
+    }
+
+    /**
+     * Concurrent group stats for keys in [0, keyRange): one shared container for the whole parallel
+     * collect, so there is nothing to merge. LongAdder and LongAccumulator stripe under contention.
+     */
+    static final class DenseConcurrentGroupStats {
+        private final LongAdder[] sums;
+        private final LongAdder[] counts;
+        private final LongAccumulator[] mins;
+        private final LongAccumulator[] maxs;
+
+        DenseConcurrentGroupStats(int keyRange) {
+            sums = new LongAdder[keyRange];
+            counts = new LongAdder[keyRange];
+            mins = new LongAccumulator[keyRange];
+            maxs = new LongAccumulator[keyRange];
+            for (int i = 0; i < keyRange; i++) {
+                sums[i] = new LongAdder();
+                counts[i] = new LongAdder();
+                mins[i] = new LongAccumulator(Math::min, Long.MAX_VALUE);
+                maxs[i] = new LongAccumulator(Math::max, Long.MIN_VALUE);
+            }
+        }
+
+        void add(int key, long value) {
+            sums[key].add(value);
+            counts[key].increment();
+            mins[key].accumulate(value);
+            maxs[key].accumulate(value);
+        }
+
+        DenseConcurrentGroupStats merge(DenseConcurrentGroupStats other) {
+            for (int key = 0; key < sums.length; key++) {
+                long count = other.counts[key].sum();
+                if (count > 0) {
+                    sums[key].add(other.sums[key].sum());
+                    counts[key].add(count);
+                    mins[key].accumulate(other.mins[key].get());
+                    maxs[key].accumulate(other.maxs[key].get());
+                }
+            }
+            return this;
+        }
+
+        LongSummaryStatistics stats(int key) {
+            long count = counts[key].sum();
+            return count == 0 ? new LongSummaryStatistics()
+                : new LongSummaryStatistics(count, mins[key].get(), maxs[key].get(), sums[key].sum());
+        }
+
+        long checksum() {
+            long checksum = 0;
+            for (int key = 0; key < sums.length; key++) {
+                long count = counts[key].sum();
+                if (count > 0) {
+                    checksum += (long) key * 31 + sums[key].sum() + count * 7 + mins[key].get() * 3 + maxs[key].get();
+                }
+            }
+            return checksum;
+        }
+    }
+
+    // ========== Joiner ==========
+
+    /**
+     * Collects references into a list of chunks and computes the exact length as it goes; the
+     * finisher allocates the result buffer once. Chunks double in size, so adding never copies,
+     * and combining links the right-hand chunks after the left ones in O(1). expectedParts only
+     * caps chunk growth: a sequential join allocates exactly that many slots, while parallel
+     * leaves start from a small chunk and grow with what they actually receive.
+     */
+    static final class Joiner {
+        private static final int FIRST_CHUNK = 16;
+
+        private static final class Chunk {
+            final String[] parts;
+            int size;
+            Chunk next;
+
+            Chunk(int capacity) {
+                this.parts = new String[capacity];
+            }
+        }
+
+        private final String delimiter;
+        private final int expectedParts;
+        private Chunk head;
+        private Chunk tail;
+        private int count;
+        private long length;
+
+        Joiner(String delimiter, int expectedParts) {
+            this.delimiter = delimiter;
+            this.expectedParts = expectedParts;
+        }
+
+        void add(String part) {
+            if (tail == null || tail.size == tail.parts.length) {
+                link(new Chunk(nextChunkSize()));
+            }
+            tail.parts[tail.size++] = part;
+            count++;
+            length += part.length();
+        }
+
+        private int nextChunkSize() {
+            int grown = Math.max(FIRST_CHUNK, count);
+            int remaining = expectedParts - count;
+            return remaining > 0 ? Math.min(grown, remaining) : grown;
+        }
+
+        private void link(Chunk chunk) {
+            if (tail == null) {
+                head = chunk;
+            } else {
+                tail.next = chunk;
+            }
+            tail = chunk;
+        }
+
+        Joiner merge(Joiner right) {
+            if (right.head == null) {
+                return this;
+            }
+            link(right.head);
+            tail = right.tail;
+            count += right.count;
+            length += right.length;
+            return this;
+        }
+
+        String join(String prefix, String suffix) {
+            long total = prefix.length() + suffix.length() + length
+                + (long) Math.max(count - 1, 0) * delimiter.length();
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new OutOfMemoryError("Joined string too long: " + total + " chars");
+            }
+            StringBuilder result = new StringBuilder((int) total).append(prefix);
+            boolean first = true;
+            for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+                for (int i = 0; i < chunk.size; i++) {
+                    if (!first) {
+                        result.append(delimiter);
+                    }
+                    result.append(chunk.parts[i]);
+                    first = false;
+                }
+            }
+            return result.append(suffix).toString();
+        }
+    }
+
+    // ========== Top-K ==========
+
+    /**
+     * The k greatest elements by comparator in an array-backed min-heap: the root is the weakest
+     * element kept, so most candidates are rejected with a single comparison once the heap is full.
+     */
+    static final class BoundedTopK<T> {
+        private final int k;
+        private final Comparator<? super T> comparator;
+        private final Object[] heap;
+        private int size;
+
+        BoundedTopK(int k, Comparator<? super T> comparator) {
+            if (k <= 0) {
+                throw new IllegalArgumentException("k must be positive: " + k);
+            }
+            this.k = k;
+            this.comparator = comparator;
+            this.heap = new Object[k];
+        }
+
+        void offer(T element) {
+            if (size < k) {
+                heap[size] = element;
+                siftUp(size++);
+            } else if (comparator.compare(element, at(0)) > 0) {
+                heap[0] = element;
+                siftDown(0);
+            }
+        }
+
+        /** Offers the smaller heap's elements to the larger one; at most k offers, no heap copies. */
+        BoundedTopK<T> merge(BoundedTopK<T> other) {
+            BoundedTopK<T> target = size >= other.size ? this : other;
+            BoundedTopK<T> source = target == this ? other : this;
+            for (int i = 0; i < source.size; i++) {
+                target.offer(source.at(i));
+            }
+            return target;
+        }
+
+        /** Greatest first. */
+        List<T> toSortedList() {
+            List<T> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(at(i));
+            }
+            result.sort(comparator.reversed());
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T at(int index) {
+            return (T) heap[index];
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (comparator.compare(at(index), at(parent)) >= 0) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && comparator.compare(at(left), at(smallest)) < 0) {
+                    smallest = left;
+                }
+                if (right < size && comparator.compare(at(right), at(smallest)) < 0) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            Object tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+
+    // ========== Collector Factories ==========
+
+    /**
+     * Factories in the style of java.util.stream.Collectors
+     */
+    static final class FastCollectors {
+        private FastCollectors() {
+        }
+
+        static <T> Collector<T, ?, IntGroupStats> groupingStats(ToIntFunction<? super T> key,
+                                                               ToLongFunction<? super T> value) {
+            return Collector.of(IntGroupStats::new,
+                (stats, element) -> stats.add(key.applyAsInt(element), value.applyAsLong(element)),
+                IntGroupStats::merge,
+                Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+        }
+
+        /** CONCURRENT + UNORDERED: parallel streams accumulate into one shared container. */
+        static <T> Collector<T, ?, DenseConcurrentGroupStats> concurrentGroupingStats(
+                int keyRange, ToIntFunction<? super T> key, ToLongFunction<? super T> value) {
+            return Collector.of(() -> new DenseConcurrentGroupStats(keyRange),
+                (stats, element) -> stats.add(key.applyAsInt(element), value.applyAsLong(element)),
+                DenseConcurrentGroupStats::merge,
+                Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.CONCURRENT);
+        }
+
+        static Collector<CharSequence, ?, String> joining(CharSequence delimiter, CharSequence prefix,
+                                                          CharSequence suffix, int expectedParts) {
+            String delimiterString = delimiter.toString();
+            return Collector.of(() -> new Joiner(delimiterString, expectedParts),
+                (joiner, part) -> joiner.add(part.toString()),
+                Joiner::merge,
+                joiner -> joiner.join(prefix.toString(), suffix.toString()));
+        }
+
+        static <T> Collector<T, ?, List<T>> topK(int k, Comparator<? super T> comparator) {
+            return Collector.of(() -> new BoundedTopK<T>(k, comparator),
+                BoundedTopK::offer,
+                BoundedTopK::merge,
+                BoundedTopK::toSortedList,
+                Collector.Characteristics.UNORDERED);
+        }
+    }
+
+    record Trade(int account, long amount) { }
+
+    // ========== Demos ==========
+
+    private static void groupStatsDemo() {
+        System.out.println("--- Primitive Group-By Sum/Count/Min/Max ---");
+
+        List<String> words = Arrays.asList("apple", "banana", "cherry", "date", "elderberry", "apple");
+        IntGroupStats byLength = words.stream()
+            .collect(FastCollectors.groupingStats(String::length, w -> 1));
+        System.out.println("Word count by length: " + byLength.sumsByKey()
+            + " (Collectors: " + words.stream().collect(Collectors.groupingBy(String::length, TreeMap::new,
+                Collectors.counting())) + ")");
+
+        IntGroupStats byFirstChar = words.stream()
+            .collect(FastCollectors.groupingStats(w -> w.charAt(0), String::length));
+        System.out.println("Length stats for 'a': " + byFirstChar.stats('a'));
+
+        List<Trade> trades = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 100_000; i++) {
+            trades.add(new Trade(random.nextInt(100), random.nextLong(1, 10_000)));
+        }
+        IntGroupStats perAccount = trades.parallelStream()
+            .collect(FastCollectors.groupingStats(Trade::account, Trade::amount));
+        DenseConcurrentGroupStats concurrent = trades.parallelStream()
+            .collect(FastCollectors.concurrentGroupingStats(100, Trade::account, Trade::amount));
+        Map<Integer, LongSummaryStatistics> jdk = trades.parallelStream()
+            .collect(Collectors.groupingBy(Trade::account, Collectors.summarizingLong(Trade::amount)));
+        System.out.println("Account 7 (parallel, per-leaf maps): " + perAccount.stats(7));
+        System.out.println("Account 7 (parallel, shared concurrent): " + concurrent.stats(7));
+        System.out.println("All three agree: " + (perAccount.checksum() == concurrent.checksum()
+            && jdk.get(7).getSum() == perAccount.sum(7).orElse(-1)));
+
+        System.out.println();
+    }
+
+    private static void joinerDemo() {
+        System.out.println("--- Pre-Sized Joiner ---");
+
+        List<String> words = Arrays.asList("apple", "banana", "cherry", "date", "elderberry", "apple");
+        String joined = words.stream().collect(FastCollectors.joining(", ", "[", "]", words.size()));
+        System.out.println("Joined: " + joined);
+        String parallel = IntStream.range(0, 20).parallel().mapToObj(Integer::toString)
+            .collect(FastCollectors.joining(",", "", "", 20));
+        System.out.println("Parallel join keeps encounter order: " + parallel);
+        List<String> many = IntStream.range(0, 100_000).mapToObj(i -> "w" + i).toList();
+        System.out.println("100K parts in parallel, same as Collectors.joining: "
+            + many.parallelStream().collect(FastCollectors.joining("-", "<", ">", many.size()))
+                .equals(many.stream().collect(Collectors.joining("-", "<", ">"))));
+
+        System.out.println();
+    }
+
+    private static void topKDemo() {
+        System.out.println("--- Top-K with a Bounded Heap ---");
+
+        List<Trade> trades = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 50_000; i++) {
+            trades.add(new Trade(random.nextInt(1_000), random.nextLong(1, 1_000_000)));
+        }
+        List<Trade> largest = trades.parallelStream()
+            .collect(FastCollectors.topK(3, Comparator.comparingLong(Trade::amount)));
+        List<Trade> expected = trades.stream()
+            .sorted(Comparator.comparingLong(Trade::amount).reversed()).limit(3).toList();
+        System.out.println("Top 3 trades: " + largest);
+        System.out.println("Same as sorted().limit(3): " + largest.equals(expected));
+
+        List<String> words = Arrays.asList("apple", "banana", "cherry", "date", "elderberry", "apple");
+        System.out.println("Two longest words: " + words.stream()
+            .collect(FastCollectors.topK(2, Comparator.comparingInt(String::length))));
+
+        System.out.println();
+    }
+
+    // ========== Benchmarks ==========
+
+    private static final int BENCH_SIZE = 2_000_000;
+    private static final int BENCH_KEYS = 1_000;
+
+    private static void groupingBenchmark() {
+        System.out.println("--- Benchmark: Group-By Sum/Count/Min/Max, " + BENCH_SIZE / 1_000_000
+            + "M-Element Parallel Streams ---");
+
+        System.out.println(String.format("  %-64s %8s", "collector", "best ms"));
+        benchmark("Collectors.groupingBy + summarizingLong", () -> checksum(
+            boxedStream().collect(Collectors.groupingBy(AggregatingCollectorsShowcase::key,
+                Collectors.summarizingLong(AggregatingCollectorsShowcase::value)))));
+        benchmark("Collectors.groupingByConcurrent + summarizingLong", () -> checksum(
+            boxedStream().collect(Collectors.groupingByConcurrent(AggregatingCollectorsShowcase::key,
+                Collectors.summarizingLong(AggregatingCollectorsShowcase::value)))));
+        benchmark("FastCollectors.groupingStats (per-leaf, merge small into large)", () ->
+            boxedStream().collect(FastCollectors.groupingStats(AggregatingCollectorsShowcase::key,
+                AggregatingCollectorsShowcase::value)).checksum());
+        benchmark("FastCollectors.concurrentGroupingStats (shared, dense)", () ->
+            boxedStream().collect(FastCollectors.concurrentGroupingStats(BENCH_KEYS,
+                AggregatingCollectorsShowcase::key, AggregatingCollectorsShowcase::value)).checksum());
+        benchmark("IntStream.collect into IntGroupStats (no boxing at all)", () ->
+            IntStream.range(0, BENCH_SIZE).parallel().collect(IntGroupStats::new,
+                (stats, i) -> stats.add(key(i), value(i)),
+                // IntStream.collect's combiner must fold into the left container, whichever is larger
+                IntGroupStats::addAll).checksum());
+
+        System.out.println("Scaled down from 100M elements to keep startup short; checksums are compared across rows.");
+        System.out.println();
+    }
+
+    private static void joiningAndTopKBenchmark() {
+        System.out.println("--- Benchmark: Joining and Top-K ---");
+
+        List<String> parts = IntStream.range(0, 500_000).mapToObj(i -> "item-" + i).toList();
+        benchmark("Collectors.joining(\", \") parallel", () ->
+            (long) parts.parallelStream().collect(Collectors.joining(", ")).length());
+        benchmark("FastCollectors.joining(\", \", ..., 500_000) parallel", () ->
+            (long) parts.parallelStream().collect(FastCollectors.joining(", ", "", "", parts.size())).length());
+        System.out.println("  (StringJoiner already sizes its result exactly; its merge flattens the right side into a");
+        System.out.println("   String first, where Joiner.merge only links chunk lists)");
+
+        Comparator<Integer> natural = Comparator.naturalOrder();
+        // Scrambled order: ascending input would make every element replace the heap root
+        benchmark("sorted(reverseOrder()).limit(10) parallel, 500K", () -> topChecksum(
+            scrambledStream(500_000).sorted(natural.reversed()).limit(10).toList()));
+        benchmark("FastCollectors.topK(10) parallel, 500K", () -> topChecksum(
+            scrambledStream(500_000).collect(FastCollectors.topK(10, natural))));
+
+        System.out.println();
+    }
+
+    private static Stream<Integer> boxedStream() {
+        return IntStream.range(0, BENCH_SIZE).parallel().boxed();
+    }
+
+    private static Stream<Integer> scrambledStream(int size) {
+        // Multiplying by an odd constant is a bijection on int, so values stay distinct
+        return IntStream.range(0, size).parallel().map(i -> i * 0x9E3779B1).boxed();
+    }
+
+    private static int key(int i) {
+        return (int) ((i * 7919L) % BENCH_KEYS);
+    }
+
+    private static long value(int i) {
+        return (i * 31L) & 0xFFFF;
+    }
+
+    private static long checksum(Map<Integer, LongSummaryStatistics> groups) {
+        long checksum = 0;
+        for (Map.Entry<Integer, LongSummaryStatistics> entry : groups.entrySet()) {
+            LongSummaryStatistics stats = entry.getValue();
+            checksum += (long) entry.getKey() * 31 + stats.getSum() + stats.getCount() * 7
+                + stats.getMin() * 3 + stats.getMax();
+        }
+        return checksum;
+    }
+
+    private static long topChecksum(List<Integer> top) {
+        long checksum = 0;
+        for (int value : top) {
+            checksum = checksum * 31 + value;
+        }
+        return checksum;
+    }
+
+    private static void benchmark(String name, Supplier<Long> body) {
+        long result = body.get();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            long again = body.get();
+            best = Math.min(best, System.nanoTime() - start);
+            if (again != result) {
+                throw new IllegalStateException(name + " is not deterministic");
+            }
+        }
+        System.out.println(String.format("  %-64s %8.1f   checksum %d", name, best / 1e6, result));
+    }
+}
@@ -0,0 +1,734 @@
+package com.example.demo.showcase;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Demonstrates a compiled, cached replacement for String.format on hot paths
+ * Including patterns parsed once into cached plans, rendering into reusable StringBuilders and
+ * byte buffers, a typed writer that avoids boxing, fast grouped integers and fixed-precision
+ * doubles that match Formatter output, and a comparison against String.format, MessageFormat
+ * and concatenation
+ */
+public class CompiledFormatShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== COMPILED FORMAT SHOWCASE ==========\n");
+
+        compiledFormatDemo();
+        typedWriterDemo();
+        compatibilityCheck();
+        formatBenchmark();
+    }
+
+    // ========== Compiled Format ==========
+
+    /**
+     * A format pattern parsed once into literals and argument specs. Supports the Formatter
+     * subset used on hot paths: %s, %d, %x, %f, %%, %n with the '-', '0', '+' and ',' flags,
+     * width and precision. Output is locale-independent, equal to String.format(Locale.ROOT, ...).
+     * Instances are immutable and shared; of() caches them by pattern.
+     */
+    static final class CompiledFormat {
+        private static final int MAX_CACHED = 1_024;
+        private static final Map<String, CompiledFormat> CACHE = new ConcurrentHashMap<>();
+
+        private final String pattern;
+        // literals[i] precedes specs[i]; literals has one extra trailing entry
+        private final String[] literals;
+        private final Spec[] specs;
+
+        private CompiledFormat(String pattern, String[] literals, Spec[] specs) {
+            this.pattern = pattern;
+            this.literals = literals;
+            this.specs = specs;
+        }
+
+        /** Cached compile; beyond MAX_CACHED patterns (likely not constants) compiles without caching. */
+        static CompiledFormat of(String pattern) {
+            CompiledFormat format = CACHE.get(pattern);
+            if (format != null) {
+                return format;
+            }
+            return CACHE.size() < MAX_CACHED ? CACHE.computeIfAbsent(pattern, CompiledFormat::compile) : compile(pattern);
+        }
+
+        static int cacheSize() {
+            return CACHE.size();
+        }
+
+        static CompiledFormat compile(String pattern) {
+            List<String> literals = new ArrayList<>();
+            List<Spec> specs = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int i = 0;
+            while (i < pattern.length()) {
+                char c = pattern.charAt(i++);
+                if (c != '%') {
+                    literal.append(c);
+                    continue;
+                }
+                if (i >= pattern.length()) {
+                    throw new UnknownFormatConversionException("%");
+                }
+                boolean left = false;
+                boolean zero = false;
+                boolean plus = false;
+                boolean grouping = false;
+                for (; i < pattern.length(); i++) {
+                    char flag = pattern.charAt(i);
+                    if (flag == '-') {
+                        left = true;
+                    } else if (flag == '0') {
+                        zero = true;
+                    } else if (flag == '+') {
+                        plus = true;
+                    } else if (flag == ',') {
+                        grouping = true;
+                    } else {
+                        break;
+                    }
+                }
+                int width = 0;
+                while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+                    width = width * 10 + (pattern.charAt(i++) - '0');
+                }
+                int precision = -1;
+                if (i < pattern.length() && pattern.charAt(i) == '.') {
+                    precision = 0;
+                    i++;
+                    while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+                        precision = precision * 10 + (pattern.charAt(i++) - '0');
+                    }
+                }
+                if (i >= pattern.length()) {
+                    throw new UnknownFormatConversionException(pattern.substring(pattern.lastIndexOf('%')));
+                }
+                char conversion = pattern.charAt(i++);
+                checkFlags(conversion, left, zero, plus, grouping, width, precision);
+                switch (conversion) {
+                    case '%' -> {
+                        int padding = Math.max(0, width - 1);
+                        literal.append(left ? "%" : "").repeat(' ', padding).append(left ? "" : "%");
+                    }
+                    case 'n' -> literal.append(System.lineSeparator());
+                    case 's', 'd', 'x', 'f' -> {
+                        literals.add(literal.toString());
+                        literal.setLength(0);
+                        specs.add(new Spec(conversion, left, zero, plus, grouping, width,
+                            conversion == 'f' && precision < 0 ? 6 : precision));
+                    }
+                    default -> throw new UnknownFormatConversionException(String.valueOf(conversion));
+                }
+            }
+            literals.add(literal.toString());
+            return new CompiledFormat(pattern, literals.toArray(String[]::new), specs.toArray(Spec[]::new));
+        }
+
+        /** Rejects the flag, width and precision combinations that Formatter rejects, with its exceptions. */
+        private static void checkFlags(char conversion, boolean left, boolean zero, boolean plus, boolean grouping,
+                                       int width, int precision) {
+            String flags = (left ? "-" : "") + (zero ? "0" : "") + (plus ? "+" : "") + (grouping ? "," : "");
+            if (conversion == 'n') {
+                if (width > 0) {
+                    throw new IllegalFormatWidthException(width);
+                }
+                if (precision >= 0) {
+                    throw new IllegalFormatPrecisionException(precision);
+                }
+                if (!flags.isEmpty()) {
+                    throw new IllegalFormatFlagsException(flags);
+                }
+                return;
+            }
+            if (precision >= 0 && (conversion == '%' || conversion == 'd' || conversion == 'x')) {
+                throw new IllegalFormatPrecisionException(precision);
+            }
+            if ((conversion == '%' || conversion == 's') && (zero || plus || grouping)) {
+                String bad = (zero ? "0" : "") + (plus ? "+" : "") + (grouping ? "," : "");
+                if (conversion == '%') {
+                    throw new IllegalFormatFlagsException(flags);
+                }
+                throw new FormatFlagsConversionMismatchException(bad, conversion);
+            }
+            if ((left || zero) && width == 0) {
+                throw new MissingFormatWidthException("%" + flags + conversion);
+            }
+            if (left && zero) {
+                throw new IllegalFormatFlagsException(flags);
+            }
+            if (conversion == 'x' && (plus || grouping)) {
+                throw new FormatFlagsConversionMismatchException(plus ? "+" : ",", conversion);
+            }
+        }
+
+        String format(Object... args) {
+            return formatTo(new StringBuilder(pattern.length() + 16 * specs.length), args).toString();
+        }
+
+        StringBuilder formatTo(StringBuilder out, Object... args) {
+            if (args.length < specs.length) {
+                throw new MissingFormatArgumentException(specs[args.length].toString());
+            }
+            for (int i = 0; i < specs.length; i++) {
+                out.append(literals[i]);
+                specs[i].render(out, args[i]);
+            }
+            return out.append(literals[specs.length]);
+        }
+    }
+
+    /**
+     * One placeholder. Rendering appends the unpadded text, then inserts padding in place,
+     * so nothing is allocated for padded output either.
+     */
+    record Spec(char conversion, boolean left, boolean zero, boolean plus, boolean grouping, int width,
+                int precision) {
+
+        void render(StringBuilder out, Object arg) {
+            switch (conversion) {
+                case 'd' -> {
+                    if (arg instanceof Long || arg instanceof Integer || arg instanceof Short || arg instanceof Byte) {
+                        renderLong(out, ((Number) arg).longValue());
+                    } else {
+                        throw new IllegalFormatConversionException('d', arg == null ? Void.class : arg.getClass());
+                    }
+                }
+                case 'x' -> {
+                    if (arg instanceof Integer value) {
+                        renderHex(out, Integer.toUnsignedLong(value));
+                    } else if (arg instanceof Long value) {
+                        renderHex(out, value);
+                    } else {
+                        throw new IllegalFormatConversionException('x', arg == null ? Void.class : arg.getClass());
+                    }
+                }
+                case 'f' -> {
+                    if (arg instanceof Double || arg instanceof Float) {
+                        renderDouble(out, ((Number) arg).doubleValue());
+                    } else {
+                        throw new IllegalFormatConversionException('f', arg == null ? Void.class : arg.getClass());
+                    }
+                }
+                default -> renderString(out, arg);
+            }
+        }
+
+        void renderString(StringBuilder out, Object arg) {
+            int start = out.length();
+            String text = String.valueOf(arg);
+            if (precision >= 0 && precision < text.length()) {
+                out.append(text, 0, precision);
+            } else {
+                out.append(text);
+            }
+            pad(out, start, start);
+        }
+
+        void renderLong(StringBuilder out, long value) {
+            int start = out.length();
+            if (value < 0) {
+                out.append('-');
+            } else if (plus) {
+                out.append('+');
+            }
+            int digitsStart = out.length();
+            if (grouping) {
+                appendGrouped(out, value);
+            } else if (value == Long.MIN_VALUE) {
+                out.append("9223372036854775808");
+            } else {
+                out.append(Math.abs(value));
+            }
+            pad(out, start, digitsStart);
+        }
+
+        void renderHex(StringBuilder out, long value) {
+            int start = out.length();
+            for (int shift = (63 - Long.numberOfLeadingZeros(value | 1)) & ~3; shift >= 0; shift -= 4) {
+                out.append(HEX_DIGITS[(int) (value >>> shift) & 0xF]);
+            }
+            pad(out, start, start);
+        }
+
+        /**
+         * Fixed-point rendering that matches Formatter: the shortest decimal representation of the
+         * double, rounded HALF_UP. Scaling by 10^precision and rounding gives the same digits
+         * unless the scaled value is within a few ulps of a rounding tie; only those rare values
+         * (and very large ones) take the exact BigDecimal path.
+         */
+        void renderDouble(StringBuilder out, double value) {
+            int start = out.length();
+            if (Double.isNaN(value)) {
+                out.append("NaN");
+                pad(out, start, start, false);
+                return;
+            }
+            boolean negative = Double.doubleToRawLongBits(value) < 0;
+            if (negative) {
+                out.append('-');
+            } else if (plus) {
+                out.append('+');
+            }
+            int digitsStart = out.length();
+            double magnitude = Math.abs(value);
+            if (Double.isInfinite(magnitude)) {
+                out.append("Infinity");
+                pad(out, start, start, false);
+                return;
+            }
+            if (precision <= 9) {
+                double scaled = magnitude * POW10[precision];
+                if (scaled < 0x1p52) {
+                    double floor = Math.floor(scaled);
+                    double fraction = scaled - floor;
+                    if (Math.abs(fraction - 0.5) > 4 * Math.ulp(scaled)) {
+                        long units = (long) floor + (fraction > 0.5 ? 1 : 0);
+                        appendFixed(out, units / POW10_LONG[precision], units % POW10_LONG[precision]);
+                        pad(out, start, digitsStart);
+                        return;
+                    }
+                }
+            }
+            String plain = new BigDecimal(Double.toString(magnitude))
+                .setScale(precision, RoundingMode.HALF_UP).toPlainString();
+            int dot = plain.indexOf('.');
+            String integerPart = dot < 0 ? plain : plain.substring(0, dot);
+            if (grouping) {
+                for (int i = 0; i < integerPart.length(); i++) {
+                    if (i > 0 && (integerPart.length() - i) % 3 == 0) {
+                        out.append(',');
+                    }
+                    out.append(integerPart.charAt(i));
+                }
+            } else {
+                out.append(integerPart);
+            }
+            if (dot >= 0) {
+                out.append(plain, dot, plain.length());
+            }
+            pad(out, start, digitsStart);
+        }
+
+        private void appendFixed(StringBuilder out, long integerPart, long fractionPart) {
+            if (grouping) {
+                appendGrouped(out, integerPart);
+            } else {
+                out.append(integerPart);
+            }
+            if (precision > 0) {
+                out.append('.');
+                for (long unit = POW10_LONG[precision - 1]; unit > 1 && fractionPart < unit; unit /= 10) {
+                    out.append('0');
+                }
+                out.append(fractionPart);
+            }
+        }
+
+        /** Appends |value| with ',' every three digits, without an intermediate String. */
+        private static void appendGrouped(StringBuilder out, long value) {
+            int start = out.length();
+            if (value == Long.MIN_VALUE) {
+                out.append("9,223,372,036,854,775,808");
+                return;
+            }
+            long magnitude = Math.abs(value);
+            int digits = 0;
+            do {
+                if (digits > 0 && digits % 3 == 0) {
+                    out.append(',');
+                }
+                out.append((char) ('0' + magnitude % 10));
+                magnitude /= 10;
+                digits++;
+            } while (magnitude > 0);
+            reverse(out, start, out.length() - 1);
+        }
+
+        private static void reverse(StringBuilder out, int from, int to) {
+            for (; from < to; from++, to--) {
+                char tmp = out.charAt(from);
+                out.setCharAt(from, out.charAt(to));
+                out.setCharAt(to, tmp);
+            }
+        }
+
+        private void pad(StringBuilder out, int start, int digitsStart) {
+            pad(out, start, digitsStart, zero);
+        }
+
+        /**
+         * Left-justifies or pads to width: zeros go after the sign, spaces before it. NaN and
+         * Infinity pass zeroFill false, since Formatter pads them with spaces even under '0'.
+         */
+        private void pad(StringBuilder out, int start, int digitsStart, boolean zeroFill) {
+            int missing = width - (out.length() - start);
+            if (missing <= 0) {
+                return;
+            }
+            if (left) {
+                for (int i = 0; i < missing; i++) {
+                    out.append(' ');
+                }
+                return;
+            }
+            int at = zeroFill ? digitsStart : start;
+            for (int remaining = missing; remaining > 0; remaining -= SPACES.length) {
+                out.insert(at, SPACES, 0, Math.min(remaining, SPACES.length));
+            }
+            if (zeroFill) {
+                for (int i = at; i < at + missing; i++) {
+                    out.setCharAt(i, '0');
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "%" + (left ? "-" : "") + (zero ? "0" : "") + (plus ? "+" : "") + (grouping ? "," : "")
+                + (width > 0 ? width : "") + (precision >= 0 ? "." + precision : "") + conversion;
+        }
+    }
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final char[] SPACES = " ".repeat(64).toCharArray();
+    private static final double[] POW10 = {1, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9};
+    private static final long[] POW10_LONG = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000,
+        100_000_000, 1_000_000_000, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L};
+
+    // ========== Typed Writer ==========
+
+    /**
+     * Reusable, single-threaded writer that renders one format into a StringBuilder with typed
+     * arguments, so ints and doubles are never boxed. Each arg() call fills the next placeholder
+     * and copies the literal after it; finish() checks that every placeholder was filled.
+     */
+    static final class FormatWriter {
+        private CompiledFormat format;
+        private StringBuilder out;
+        private int next;
+
+        FormatWriter start(CompiledFormat format, StringBuilder out) {
+            this.format = format;
+            this.out = out;
+            this.next = 0;
+            out.append(format.literals[0]);
+            return this;
+        }
+
+        FormatWriter arg(CharSequence value) {
+            Spec spec = nextSpec();
+            if (spec.conversion() != 's') {
+                spec.render(out, value);
+            } else {
+                spec.renderString(out, value);
+            }
+            return advance();
+        }
+
+        FormatWriter arg(long value) {
+            Spec spec = nextSpec();
+            switch (spec.conversion()) {
+                case 'd' -> spec.renderLong(out, value);
+                case 'x' -> spec.renderHex(out, value);
+                case 'f' -> throw new IllegalFormatConversionException('f', long.class);
+                default -> {
+                    // %s of an integer: same text as %d without flags
+                    int start = out.length();
+                    out.append(value);
+                    spec.pad(out, start, start);
+                }
+            }
+            return advance();
+        }
+
+        FormatWriter arg(double value) {
+            Spec spec = nextSpec();
+            if (spec.conversion() != 'f') {
+                spec.render(out, value);
+            } else {
+                spec.renderDouble(out, value);
+            }
+            return advance();
+        }
+
+        StringBuilder finish() {
+            if (next != format.specs.length) {
+                throw new MissingFormatArgumentException(format.specs[next].toString());
+            }
+            return out;
+        }
+
+        private Spec nextSpec() {
+            if (next >= format.specs.length) {
+                throw new IllegalArgumentException("Too many arguments for \"" + format.pattern + "\"");
+            }
+            return format.specs[next];
+        }
+
+        private FormatWriter advance() {
+            out.append(format.literals[++next]);
+            return this;
+        }
+    }
+
+    /**
+     * Encodes chars to UTF-8 straight into a ByteBuffer; ASCII is one store per char.
+     * Returns false, leaving the buffer position unchanged, if the buffer is too small.
+     */
+    static boolean encodeUtf8(CharSequence text, ByteBuffer out) {
+        int mark = out.position();
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80 && out.hasRemaining()) {
+                out.put((byte) c);
+                continue;
+            }
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, text.charAt(++i));
+            } else if (Character.isSurrogate(c)) {
+                codePoint = '?';
+            }
+            int needed = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (out.remaining() < needed) {
+                out.position(mark);
+                return false;
+            }
+            switch (needed) {
+                case 1 -> out.put((byte) codePoint);
+                case 2 -> out.put((byte) (0xC0 | codePoint >> 6)).put((byte) (0x80 | codePoint & 0x3F));
+                case 3 -> out.put((byte) (0xE0 | codePoint >> 12)).put((byte) (0x80 | codePoint >> 6 & 0x3F))
+                    .put((byte) (0x80 | codePoint & 0x3F));
+                default -> out.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                    .put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+            }
+        }
+        return true;
+    }
+
+    // ========== Demos ==========
+
+    private static final String PROFILE = "Name: %s, Age: %d, Score: %.2f";
+
+    private static void compiledFormatDemo() {
+        System.out.println("--- Compiled Formats ---");
+
+        CompiledFormat profile = CompiledFormat.of(PROFILE);
+        System.out.println("String.format : " + String.format(Locale.ROOT, PROFILE, "Alice", 25, 95.5));
+        System.out.println("CompiledFormat: " + profile.format("Alice", 25, 95.5));
+        System.out.println("Same instance from cache: " + (profile == CompiledFormat.of(PROFILE))
+            + ", cached patterns: " + CompiledFormat.cacheSize());
+
+        CompiledFormat table = CompiledFormat.of("|%-10s|%8d|%,12d|%+08.3f|%x|%5.3s|%%");
+        System.out.println("Flags and widths: " + table.format("widget", 42, 1234567L, -3.14159, 255, "truncate"));
+        System.out.println("Formatter says  : " + String.format(Locale.ROOT, "|%-10s|%8d|%,12d|%+08.3f|%x|%5.3s|%%",
+            "widget", 42, 1234567L, -3.14159, 255, "truncate"));
+
+        try {
+            CompiledFormat.of("Total: %q");
+        } catch (UnknownFormatConversionException e) {
+            System.out.println("Unsupported conversion fails at compile time: " + e.getMessage());
+        }
+
+        System.out.println();
+    }
+
+    private static void typedWriterDemo() {
+        System.out.println("--- Typed Writer into Reusable Buffers ---");
+
+        CompiledFormat line = CompiledFormat.of("%-8s qty=%4d price=%,10.2f%n");
+        FormatWriter writer = new FormatWriter();
+        StringBuilder report = new StringBuilder(256);
+        String[] products = {"widget", "gadget", "gizmo"};
+        int[] quantities = {3, 120, 7};
+        double[] prices = {4.99, 1234.5, 99999.999};
+        for (int i = 0; i < products.length; i++) {
+            writer.start(line, report).arg(products[i]).arg(quantities[i]).arg(prices[i]).finish();
+        }
+        System.out.print(report);
+
+        ByteBuffer bytes = ByteBuffer.allocate(64);
+        report.setLength(0);
+        writer.start(CompiledFormat.of("caf\u00e9 %s=%d"), report).arg("na\u00efve \uD83D\uDE00").arg(7).finish();
+        encodeUtf8(report, bytes);
+        System.out.println("Encoded into ByteBuffer: " + bytes.position() + " UTF-8 bytes for " + report.length()
+            + " chars, round trip equal: " + new String(bytes.array(), 0, bytes.position(),
+            java.nio.charset.StandardCharsets.UTF_8).contentEquals(report));
+
+        System.out.println();
+    }
+
+    private static void compatibilityCheck() {
+        System.out.println("--- Output Identical to String.format(Locale.ROOT, ...) ---");
+
+        String[] patterns = {"%.2f", "%.0f", "%.3f", "%,.2f", "%10.4f", "%+.1f", "%.6f", "%f", "%d", "%,d", "%08d",
+            "%-6d|", "%x"};
+        SplittableRandom random = new SplittableRandom(2024);
+        int checked = 0;
+        int mismatches = 0;
+        String firstMismatch = null;
+        for (int n = 0; n < 5_000; n++) {
+            // Mix random doubles with decimal ties such as 1.005, 2.675 and 0.125
+            double value = switch (n % 4) {
+                case 0 -> random.nextDouble(-1e6, 1e6);
+                case 1 -> random.nextInt(-100_000, 100_000) / 1000.0 + 0.0005;
+                case 2 -> random.nextInt(0, 10_000) / 8.0;
+                default -> Math.scalb(random.nextDouble(), random.nextInt(-30, 60));
+            };
+            long integer = random.nextLong() >> random.nextInt(64);
+            for (String pattern : patterns) {
+                Object arg = pattern.contains("f") ? (Object) value : (Object) integer;
+                String expected = String.format(Locale.ROOT, pattern, arg);
+                String actual = CompiledFormat.of(pattern).format(arg);
+                checked++;
+                if (!expected.equals(actual)) {
+                    mismatches++;
+                    if (firstMismatch == null) {
+                        firstMismatch = pattern + " of " + arg + ": " + expected + " vs " + actual;
+                    }
+                }
+            }
+        }
+        System.out.println("Compared " + checked + " renderings across " + patterns.length + " patterns: "
+            + mismatches + " mismatches" + (firstMismatch == null ? "" : " (first: " + firstMismatch + ")"));
+
+        // Non-finite values are space-padded even under the '0' flag
+        List<String> nonFinite = new ArrayList<>();
+        int nonFiniteMismatches = 0;
+        for (double value : new double[]{Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}) {
+            for (String pattern : new String[]{"%010.2f", "%+012f", "%-10.1f|", "%5%|%010.2f"}) {
+                String expected = String.format(Locale.ROOT, pattern, value);
+                String actual = CompiledFormat.of(pattern).format(value);
+                nonFiniteMismatches += expected.equals(actual) ? 0 : 1;
+                if (pattern.equals("%010.2f")) {
+                    nonFinite.add("\"" + actual + "\"");
+                }
+            }
+        }
+        System.out.println("%010.2f of NaN, Infinity, -Infinity: " + String.join(", ", nonFinite) + " ("
+            + nonFiniteMismatches + " mismatches)");
+
+        // Flag combinations Formatter rejects are rejected at compile time with the same exception
+        String[] invalid = {"%0s", "%+s", "%-0d", "%-08d", "%,x", "%+x", "%-d", "%08s", "%.2d", "%5n", "%-n", "%0%"};
+        int sameException = 0;
+        for (String pattern : invalid) {
+            String expected = exceptionName(() -> String.format(Locale.ROOT, pattern, 1));
+            String actual = exceptionName(() -> CompiledFormat.compile(pattern));
+            sameException += expected.equals(actual) ? 1 : 0;
+        }
+        System.out.println("Invalid patterns rejected with Formatter's exception: " + sameException + " of "
+            + invalid.length + " (e.g. %-08d -> " + exceptionName(() -> CompiledFormat.compile("%-08d")) + ")");
+
+        System.out.println();
+    }
+
+    private static String exceptionName(Runnable action) {
+        try {
+            action.run();
+            return "none";
+        } catch (IllegalFormatException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    // ========== Benchmark ==========
+
+    private static void formatBenchmark() {
+        System.out.println("--- Benchmark: \"" + PROFILE + "\" ---");
+
+        int n = 50_000;
+        String[] names = {"Alice", "Bob", "Carol", "Dave"};
+        CompiledFormat compiled = CompiledFormat.of(PROFILE);
+        MessageFormat message = new MessageFormat("Name: {0}, Age: {1}, Score: {2,number,0.00}", Locale.ROOT);
+        StringBuilder reused = new StringBuilder(64);
+        FormatWriter writer = new FormatWriter();
+        ByteBuffer bytes = ByteBuffer.allocate(64);
+
+        System.out.println(String.format("  %-46s %8s %12s", "approach", "ns/op", "bytes/op"));
+        measure("String.format", n, () -> {
+            long length = 0;
+            for (int i = 0; i < n; i++) {
+                length += String.format(PROFILE, names[i & 3], 20 + (i & 63), i * 0.37).length();
+            }
+            return length;
+        });
+        measure("MessageFormat.format (static, parses each call)", n / 10, () -> {
+            long length = 0;
+            for (int i = 0; i < n / 10; i++) {
+                length += MessageFormat.format("Name: {0}, Age: {1}, Score: {2,number,0.00}",
+                    names[i & 3], 20 + (i & 63), i * 0.37).length();
+            }
+            return length;
+        });
+        measure("MessageFormat instance (parsed once)", n, () -> {
+            long length = 0;
+            Object[] args = new Object[3];
+            for (int i = 0; i < n; i++) {
+                args[0] = names[i & 3];
+                args[1] = 20 + (i & 63);
+                args[2] = i * 0.37;
+                length += message.format(args).length();
+            }
+            return length;
+        });
+        measure("concatenation (score not rounded)", n, () -> {
+            long length = 0;
+            for (int i = 0; i < n; i++) {
+                length += ("Name: " + names[i & 3] + ", Age: " + (20 + (i & 63)) + ", Score: " + i * 0.37).length();
+            }
+            return length;
+        });
+        measure("CompiledFormat.format -> String", n, () -> {
+            long length = 0;
+            for (int i = 0; i < n; i++) {
+                length += compiled.format(names[i & 3], 20 + (i & 63), i * 0.37).length();
+            }
+            return length;
+        });
+        measure("CompiledFormat.formatTo(reused StringBuilder)", n, () -> {
+            long length = 0;
+            for (int i = 0; i < n; i++) {
+                reused.setLength(0);
+                length += compiled.formatTo(reused, names[i & 3], 20 + (i & 63), i * 0.37).length();
+            }
+            return length;
+        });
+        measure("FormatWriter typed args, reused StringBuilder", n, () -> {
+            long length = 0;
+            for (int i = 0; i < n; i++) {
+                reused.setLength(0);
+                length += writer.start(compiled, reused).arg(names[i & 3]).arg(20 + (i & 63)).arg(i * 0.37)
+                    .finish().length();
+            }
+            return length;
+        });
+        measure("FormatWriter + UTF-8 into reused ByteBuffer", n, () -> {
+            long length = 0;
+            for (int i = 0; i < n; i++) {
+                reused.setLength(0);
+                bytes.clear();
+                writer.start(compiled, reused).arg(names[i & 3]).arg(20 + (i & 63)).arg(i * 0.37).finish();
+                encodeUtf8(reused, bytes);
+                length += bytes.position();
+            }
+            return length;
+        });
+
+        System.out.println("Inline best-of-3 timings after 5 warm-up runs; allocation measured on the calling thread.");
+
+        System.out.println();
+    }
+
+    private static void measure(String name, int operations, LongSupplier body) {
+        ShowcaseSupport.Timing timing = ShowcaseSupport.time(5, body);
+        System.out.println(String.format("  %-46s %8.1f %12.1f", name, (double) timing.bestNanos() / operations,
+            (double) timing.bestBytes() / operations));
+    }
+}
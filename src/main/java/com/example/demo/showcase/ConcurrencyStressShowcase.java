@@ -0,0 +1,415 @@
+package com.example.demo.showcase;
+
+import java.util.*;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Demonstrates a jcstress-style stress harness for the concurrency primitives in these showcases
+ * Including batched actor threads racing over fresh state objects with seeded timing jitter,
+ * outcome histograms, forbidden-outcome detection and a throughput report per primitive
+ *
+ * The showcase run uses a small trial budget. For millions of trials run the Maven profile:
+ * {@code mvn -Pstress verify -Dstress.trials=5000000}, which calls {@link #main} and fails the
+ * build if any forbidden or unexpected outcome is observed.
+ */
+public class ConcurrencyStressShowcase {
+
+    private static final long SHOWCASE_TRIALS = 100_000;
+    private static final long DEFAULT_TRIALS = 2_000_000;
+
+    public static void demonstrate() {
+        System.out.println("\n========== CONCURRENCY STRESS SHOWCASE ==========\n");
+
+        System.out.println("--- Stress Harness (" + SHOWCASE_TRIALS + " trials per test) ---");
+        System.out.println("Each trial races the actors over a fresh state, then the arbiter records the outcome\n");
+
+        List<StressReport> reports = new StressRunner(42L, 1024).runAll(allTests(), SHOWCASE_TRIALS);
+        printSummary(reports);
+
+        System.out.println();
+    }
+
+    /**
+     * Entry point for the {@code stress} Maven profile: {@code [trials] [seed]}.
+     * Exits with status 1 when any test observes a forbidden or unexpected outcome.
+     */
+    public static void main(String[] args) {
+        long trials = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TRIALS;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        System.out.println("Concurrency stress run: " + trials + " trials per test, seed " + seed
+            + ", " + Runtime.getRuntime().availableProcessors() + " CPUs\n");
+
+        List<StressReport> reports = new StressRunner(seed, 4096).runAll(allTests(), trials);
+        printSummary(reports);
+        if (reports.stream().anyMatch(StressReport::failed)) {
+            System.exit(1);
+        }
+    }
+
+    // ========== Test Model ==========
+
+    enum Expect {
+        ACCEPTABLE,
+        ACCEPTABLE_INTERESTING,
+        FORBIDDEN
+    }
+
+    record Expectation(Expect expect, String description) { }
+
+    /** One side of a race: reads/writes the shared state and records what it saw in its result slots. */
+    @FunctionalInterface
+    interface Actor<S> {
+        void act(S state, long[] result);
+    }
+
+    /**
+     * A race between two or more actors over a state object. The arbiter runs after all actors
+     * finished (happens-after), typically to record the final state. Outcomes are the result
+     * slots joined with ", "; any outcome not declared is reported as unexpected.
+     */
+    static final class StressTest<S> {
+        final String name;
+        final String covers;
+        final Supplier<S> stateFactory;
+        final List<Actor<S>> actors;
+        final Actor<S> arbiter;
+        final int resultSlots;
+        final Map<String, Expectation> expectations;
+
+        private StressTest(Builder<S> builder) {
+            this.name = builder.name;
+            this.covers = builder.covers;
+            this.stateFactory = builder.stateFactory;
+            this.actors = List.copyOf(builder.actors);
+            this.arbiter = builder.arbiter;
+            this.resultSlots = builder.resultSlots;
+            this.expectations = Collections.unmodifiableMap(new LinkedHashMap<>(builder.expectations));
+        }
+
+        static <S> Builder<S> builder(String name, Supplier<S> stateFactory) {
+            return new Builder<>(name, stateFactory);
+        }
+
+        static final class Builder<S> {
+            private final String name;
+            private final Supplier<S> stateFactory;
+            private final List<Actor<S>> actors = new ArrayList<>();
+            private final Map<String, Expectation> expectations = new LinkedHashMap<>();
+            private String covers = "";
+            private Actor<S> arbiter = (state, result) -> { };
+            private int resultSlots = 1;
+
+            private Builder(String name, Supplier<S> stateFactory) {
+                this.name = name;
+                this.stateFactory = stateFactory;
+            }
+
+            Builder<S> covers(String covers) {
+                this.covers = covers;
+                return this;
+            }
+
+            Builder<S> results(int slots) {
+                this.resultSlots = slots;
+                return this;
+            }
+
+            Builder<S> actor(Actor<S> actor) {
+                actors.add(actor);
+                return this;
+            }
+
+            Builder<S> arbiter(Actor<S> arbiter) {
+                this.arbiter = arbiter;
+                return this;
+            }
+
+            Builder<S> outcome(String outcome, Expect expect, String description) {
+                expectations.put(outcome, new Expectation(expect, description));
+                return this;
+            }
+
+            StressTest<S> build() {
+                if (actors.size() < 2) {
+                    throw new IllegalStateException(name + ": a stress test needs at least two actors");
+                }
+                return new StressTest<>(this);
+            }
+        }
+    }
+
+    record StressReport(String name, String covers, long trials, long elapsedNanos,
+                        Map<String, Long> histogram, Map<String, Expectation> expectations) {
+        boolean failed() {
+            for (String outcome : histogram.keySet()) {
+                Expectation expectation = expectations.get(outcome);
+                if (expectation == null || expectation.expect() == Expect.FORBIDDEN) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean interesting() {
+            return histogram.keySet().stream().map(expectations::get)
+                .anyMatch(e -> e != null && e.expect() == Expect.ACCEPTABLE_INTERESTING);
+        }
+
+        double trialsPerSecond() {
+            return trials * 1e9 / elapsedNanos;
+        }
+    }
+
+    // ========== Runner ==========
+
+    /**
+     * Runs each actor on its own long-lived thread. Per batch, the runner allocates fresh states,
+     * releases all actors through a barrier, and each actor sweeps the batch in the same order
+     * with a small seeded random spin before every action, so the actors drift in and out of
+     * phase and hit many different interleavings. The barrier at the end of the batch makes
+     * every actor's writes visible to the arbiter.
+     */
+    static final class StressRunner {
+        private final long seed;
+        private final int batchSize;
+
+        StressRunner(long seed, int batchSize) {
+            this.seed = seed;
+            this.batchSize = batchSize;
+        }
+
+        List<StressReport> runAll(List<StressTest<?>> tests, long trials) {
+            List<StressReport> reports = new ArrayList<>();
+            for (StressTest<?> test : tests) {
+                // Short warm-up so the measured run exercises compiled code, as jcstress does
+                run(test, Math.min(trials / 10, 50_000));
+                StressReport report = run(test, trials);
+                printReport(report);
+                reports.add(report);
+            }
+            return reports;
+        }
+
+        <S> StressReport run(StressTest<S> test, long trials) {
+            int actorCount = test.actors.size();
+            Object[] states = new Object[batchSize];
+            long[][] results = new long[batchSize][test.resultSlots];
+            int[] batchLength = new int[1];
+            AtomicBoolean stop = new AtomicBoolean();
+            CyclicBarrier barrier = new CyclicBarrier(actorCount + 1);
+            Map<String, Long> histogram = new TreeMap<>();
+            List<Thread> threads = new ArrayList<>();
+
+            for (int a = 0; a < actorCount; a++) {
+                Actor<S> actor = test.actors.get(a);
+                SplittableRandom jitter = new SplittableRandom(seed * 31 + a);
+                Thread thread = new Thread(() -> {
+                    try {
+                        while (true) {
+                            barrier.await();
+                            if (stop.get()) {
+                                return;
+                            }
+                            int length = batchLength[0];
+                            for (int i = 0; i < length; i++) {
+                                for (int spin = jitter.nextInt(4); spin > 0; spin--) {
+                                    Thread.onSpinWait();
+                                }
+                                @SuppressWarnings("unchecked")
+                                S state = (S) states[i];
+                                actor.act(state, results[i]);
+                            }
+                            barrier.await();
+                        }
+                    } catch (InterruptedException | BrokenBarrierException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }, "stress-actor-" + a);
+                thread.setDaemon(true);
+                thread.start();
+                threads.add(thread);
+            }
+
+            long start = System.nanoTime();
+            StringBuilder key = new StringBuilder();
+            try {
+                for (long done = 0; done < trials; done += batchLength[0]) {
+                    int length = (int) Math.min(batchSize, trials - done);
+                    for (int i = 0; i < length; i++) {
+                        states[i] = test.stateFactory.get();
+                        Arrays.fill(results[i], 0L);
+                    }
+                    batchLength[0] = length;
+                    barrier.await();
+                    barrier.await();
+                    for (int i = 0; i < length; i++) {
+                        @SuppressWarnings("unchecked")
+                        S state = (S) states[i];
+                        test.arbiter.act(state, results[i]);
+                        key.setLength(0);
+                        for (int slot = 0; slot < test.resultSlots; slot++) {
+                            if (slot > 0) {
+                                key.append(", ");
+                            }
+                            key.append(results[i][slot]);
+                        }
+                        histogram.merge(key.toString(), 1L, Long::sum);
+                    }
+                }
+                stop.set(true);
+                barrier.await();
+            } catch (InterruptedException | BrokenBarrierException e) {
+                Thread.currentThread().interrupt();
+            }
+            long elapsed = System.nanoTime() - start;
+            for (Thread thread : threads) {
+                try {
+                    thread.join(1_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new StressReport(test.name, test.covers, trials, elapsed, histogram, test.expectations);
+        }
+    }
+
+    // ========== Tests ==========
+
+    /** Mirrors ConcurrencyShowcase.VolatileExample: data written before a volatile flag. */
+    static final class VolatilePublication {
+        int counter;
+        volatile boolean flag;
+    }
+
+    /** Same pattern without volatile: the reader may see the flag but stale data. */
+    static final class PlainPublication {
+        int counter;
+        boolean flag;
+    }
+
+    static final class RacyCounter {
+        int count;
+    }
+
+    static List<StressTest<?>> allTests() {
+        List<StressTest<?>> tests = new ArrayList<>();
+
+        tests.add(StressTest.<VolatilePublication>builder("volatile publication", VolatilePublication::new)
+            .covers("ConcurrencyShowcase.volatileDemo")
+            .results(2)
+            .actor((s, r) -> {
+                s.counter = 42;
+                s.flag = true;
+            })
+            .actor((s, r) -> {
+                r[0] = s.flag ? 1 : 0;
+                r[1] = s.counter;
+            })
+            .outcome("0, 0", Expect.ACCEPTABLE, "reader ran before the writer")
+            .outcome("0, 42", Expect.ACCEPTABLE, "data visible, flag not yet")
+            .outcome("1, 42", Expect.ACCEPTABLE, "flag and data both visible")
+            .outcome("1, 0", Expect.FORBIDDEN, "flag visible but data stale: happens-before broken")
+            .build());
+
+        tests.add(StressTest.<PlainPublication>builder("plain publication", PlainPublication::new)
+            .covers("volatileDemo without volatile")
+            .results(2)
+            .actor((s, r) -> {
+                s.counter = 42;
+                s.flag = true;
+            })
+            .actor((s, r) -> {
+                r[0] = s.flag ? 1 : 0;
+                r[1] = s.counter;
+            })
+            .outcome("0, 0", Expect.ACCEPTABLE, "reader ran before the writer")
+            .outcome("0, 42", Expect.ACCEPTABLE, "data visible, flag not yet")
+            .outcome("1, 42", Expect.ACCEPTABLE, "flag and data both visible")
+            .outcome("1, 0", Expect.ACCEPTABLE_INTERESTING, "reordered: allowed by the JMM, seen on ARM/POWER")
+            .build());
+
+        tests.add(StressTest.builder("synchronized Counter", ConcurrencyShowcase.Counter::new)
+            .covers("ConcurrencyShowcase.synchronizedDemo")
+            .actor((s, r) -> s.increment())
+            .actor((s, r) -> s.incrementBlock())
+            .arbiter((s, r) -> r[0] = s.getCount())
+            .outcome("2", Expect.ACCEPTABLE, "both increments applied")
+            .outcome("1", Expect.FORBIDDEN, "lost update")
+            .build());
+
+        tests.add(StressTest.builder("unsynchronized count++", RacyCounter::new)
+            .covers("synchronizedDemo without synchronized")
+            .actor((s, r) -> s.count++)
+            .actor((s, r) -> s.count++)
+            .arbiter((s, r) -> r[0] = s.count)
+            .outcome("2", Expect.ACCEPTABLE, "both increments applied")
+            .outcome("1", Expect.ACCEPTABLE_INTERESTING, "lost update: read-modify-write is not atomic")
+            .build());
+
+        tests.add(StressTest.builder("AtomicInteger.incrementAndGet", AtomicInteger::new)
+            .covers("ConcurrencyShowcase.atomicVariablesDemo")
+            .results(3)
+            .actor((s, r) -> r[0] = s.incrementAndGet())
+            .actor((s, r) -> r[1] = s.incrementAndGet())
+            .arbiter((s, r) -> r[2] = s.get())
+            .outcome("1, 2, 2", Expect.ACCEPTABLE, "actor 1 first")
+            .outcome("2, 1, 2", Expect.ACCEPTABLE, "actor 2 first")
+            .outcome("1, 1, 1", Expect.FORBIDDEN, "both saw the same value: not atomic")
+            .build());
+
+        tests.add(StressTest.builder("AtomicInteger.compareAndSet", AtomicInteger::new)
+            .covers("ConcurrencyShowcase.atomicVariablesDemo")
+            .results(2)
+            .actor((s, r) -> r[0] = s.compareAndSet(0, 1) ? 1 : 0)
+            .actor((s, r) -> r[1] = s.compareAndSet(0, 2) ? 1 : 0)
+            .outcome("1, 0", Expect.ACCEPTABLE, "actor 1 won")
+            .outcome("0, 1", Expect.ACCEPTABLE, "actor 2 won")
+            .outcome("1, 1", Expect.FORBIDDEN, "two winners")
+            .outcome("0, 0", Expect.FORBIDDEN, "no winner")
+            .build());
+
+        tests.add(StressTest.builder("StripedCounter", StripedCountersShowcase.StripedCounter::new)
+            .covers("StripedCountersShowcase.StripedCounter")
+            .actor((s, r) -> s.increment())
+            .actor((s, r) -> s.increment())
+            .arbiter((s, r) -> r[0] = s.sum())
+            .outcome("2", Expect.ACCEPTABLE, "both increments applied")
+            .outcome("1", Expect.FORBIDDEN, "lost update")
+            .build());
+
+        return tests;
+    }
+
+    // ========== Reporting ==========
+
+    private static void printReport(StressReport report) {
+        String status = report.failed() ? "FAILED" : report.interesting() ? "INTERESTING" : "OK";
+        System.out.println(String.format("[%s] %s (%s): %,d trials, %,.0f trials/s", status, report.name(),
+            report.covers(), report.trials(), report.trialsPerSecond()));
+        Set<String> outcomes = new LinkedHashSet<>(report.expectations().keySet());
+        outcomes.addAll(report.histogram().keySet());
+        for (String outcome : outcomes) {
+            Expectation expectation = report.expectations().get(outcome);
+            System.out.println(String.format("    %-10s %,12d  %-22s %s", outcome,
+                report.histogram().getOrDefault(outcome, 0L),
+                expectation == null ? "UNEXPECTED" : expectation.expect(),
+                expectation == null ? "outcome not declared by the test" : expectation.description()));
+        }
+    }
+
+    private static void printSummary(List<StressReport> reports) {
+        System.out.println("\nThroughput per primitive:");
+        for (StressReport report : reports) {
+            System.out.println(String.format("  %-32s %,14.0f trials/s  %s", report.name(),
+                report.trialsPerSecond(), report.failed() ? "FAILED" : "passed"));
+        }
+        long failed = reports.stream().filter(StressReport::failed).count();
+        System.out.println(failed == 0
+            ? "No forbidden outcomes observed"
+            : failed + " test(s) observed forbidden or unexpected outcomes");
+    }
+}
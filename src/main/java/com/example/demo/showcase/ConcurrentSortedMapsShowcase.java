@@ -0,0 +1,666 @@
+package com.example.demo.showcase;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Demonstrates concurrent sorted maps for range queries
+ * Including ConcurrentSkipListMap and an in-memory B+tree with primitive long keys
+ * using optimistic lock coupling, with point-lookup, range-scan and mixed benchmarks
+ */
+public class ConcurrentSortedMapsShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== CONCURRENT SORTED MAPS SHOWCASE ==========\n");
+
+        concurrentSkipListMapDemo();
+        bPlusTreeDemo();
+        concurrentWritersDemo();
+        pointLookupBenchmark();
+        rangeScanBenchmark();
+        mixedWorkloadBenchmark();
+    }
+
+    // ========== ConcurrentSkipListMap ==========
+
+    private static void concurrentSkipListMapDemo() {
+        System.out.println("--- ConcurrentSkipListMap ---");
+        System.out.println("Lock-free sorted map, O(log n) expected, one node object per entry");
+
+        ConcurrentSkipListMap<Long, String> map = new ConcurrentSkipListMap<>();
+        map.put(30L, "Thirty");
+        map.put(10L, "Ten");
+        map.put(40L, "Forty");
+        map.put(20L, "Twenty");
+
+        System.out.println("Map: " + map);
+        System.out.println("subMap [15, 35]: " + map.subMap(15L, true, 35L, true));
+        System.out.println("ceilingKey(25): " + map.ceilingKey(25L));
+        System.out.println("Weakly consistent iterators - no ConcurrentModificationException");
+
+        System.out.println();
+    }
+
+    // ========== B+Tree with Optimistic Lock Coupling ==========
+
+    @FunctionalInterface
+    interface LongEntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private static final int LEAF_CAPACITY = 64;
+    private static final int INNER_CAPACITY = 64;
+
+    /**
+     * Every node carries a version word used as a sequence lock:
+     * even = unlocked, odd = write-locked. Readers never write shared memory -
+     * they remember the version, read the node, then validate the version is unchanged.
+     */
+    abstract static class Node {
+        private static final VarHandle VERSION;
+
+        static {
+            try {
+                VERSION = MethodHandles.lookup().findVarHandle(Node.class, "version", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private volatile long version;
+        int count;
+
+        /** Returns the current version, or -1 if a writer holds the node. */
+        long readVersion() {
+            long v = version;
+            return (v & 1L) == 0 ? v : -1L;
+        }
+
+        boolean validate(long expected) {
+            VarHandle.acquireFence();
+            return version == expected;
+        }
+
+        boolean tryLock(long expected) {
+            return VERSION.compareAndSet(this, expected, expected + 1);
+        }
+
+        void unlock() {
+            version = version + 1;
+        }
+    }
+
+    static final class InnerNode extends Node {
+        final long[] keys = new long[INNER_CAPACITY];
+        final Node[] children = new Node[INNER_CAPACITY + 1];
+
+        /** Child i holds keys in [keys[i - 1], keys[i]). */
+        int childIndex(long key) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        void insertChild(long separator, Node right) {
+            int pos = childIndex(separator);
+            System.arraycopy(keys, pos, keys, pos + 1, count - pos);
+            System.arraycopy(children, pos + 1, children, pos + 2, count - pos);
+            keys[pos] = separator;
+            children[pos + 1] = right;
+            count++;
+        }
+    }
+
+    static final class LeafNode<V> extends Node {
+        final long[] keys = new long[LEAF_CAPACITY];
+        final Object[] values = new Object[LEAF_CAPACITY];
+        LeafNode<V> next;
+
+        /** Index of the first key >= the given key. */
+        int lowerBound(long key) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        @SuppressWarnings("unchecked")
+        V insert(long key, V value) {
+            int pos = lowerBound(key);
+            if (pos < count && keys[pos] == key) {
+                V previous = (V) values[pos];
+                values[pos] = value;
+                return previous;
+            }
+            System.arraycopy(keys, pos, keys, pos + 1, count - pos);
+            System.arraycopy(values, pos, values, pos + 1, count - pos);
+            keys[pos] = key;
+            values[pos] = value;
+            count++;
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        V remove(long key) {
+            int pos = lowerBound(key);
+            if (pos >= count || keys[pos] != key) {
+                return null;
+            }
+            V previous = (V) values[pos];
+            System.arraycopy(keys, pos + 1, keys, pos, count - pos - 1);
+            System.arraycopy(values, pos + 1, values, pos, count - pos - 1);
+            values[--count] = null;
+            return previous;
+        }
+    }
+
+    /**
+     * Concurrent B+tree keyed by primitive longs.
+     * Keys live in contiguous long[] arrays (no boxing, few cache misses per level);
+     * leaves are linked for range scans. Full nodes are split eagerly on the way down,
+     * so a split only ever needs to lock the node and its parent.
+     * Removal does not rebalance - leaves may underflow, which keeps readers' invariants simple.
+     */
+    static final class LongBPlusTree<V> {
+        private volatile Node root = new LeafNode<V>();
+        private final LongAdder size = new LongAdder();
+
+        public long size() {
+            return size.sum();
+        }
+
+        @SuppressWarnings("unchecked")
+        public V get(long key) {
+            restart:
+            while (true) {
+                Node node = root;
+                long version = node.readVersion();
+                if (version < 0 || node != root) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                while (node instanceof InnerNode inner) {
+                    Node child = inner.children[inner.childIndex(key)];
+                    if (!inner.validate(version)) {
+                        continue restart;
+                    }
+                    long childVersion = child.readVersion();
+                    if (childVersion < 0 || !inner.validate(version)) {
+                        continue restart;
+                    }
+                    node = child;
+                    version = childVersion;
+                }
+                LeafNode<V> leaf = (LeafNode<V>) node;
+                int pos = leaf.lowerBound(key);
+                Object value = pos < leaf.count && leaf.keys[pos] == key ? leaf.values[pos] : null;
+                if (leaf.validate(version)) {
+                    return (V) value;
+                }
+            }
+        }
+
+        public V put(long key, V value) {
+            Objects.requireNonNull(value, "value");
+            restart:
+            while (true) {
+                Node node = root;
+                long version = node.readVersion();
+                if (version < 0 || node != root) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                InnerNode parent = null;
+                long parentVersion = 0;
+
+                while (node instanceof InnerNode inner) {
+                    if (inner.count == INNER_CAPACITY) {
+                        split(inner, version, parent, parentVersion);
+                        continue restart;
+                    }
+                    if (parent != null && !parent.validate(parentVersion)) {
+                        continue restart;
+                    }
+                    Node child = inner.children[inner.childIndex(key)];
+                    if (!inner.validate(version)) {
+                        continue restart;
+                    }
+                    long childVersion = child.readVersion();
+                    if (childVersion < 0) {
+                        continue restart;
+                    }
+                    parent = inner;
+                    parentVersion = version;
+                    node = child;
+                    version = childVersion;
+                }
+
+                @SuppressWarnings("unchecked")
+                LeafNode<V> leaf = (LeafNode<V>) node;
+                if (leaf.count == LEAF_CAPACITY) {
+                    split(leaf, version, parent, parentVersion);
+                    continue;
+                }
+                if (!leaf.tryLock(version)) {
+                    continue;
+                }
+                if (parent != null && !parent.validate(parentVersion)) {
+                    leaf.unlock();
+                    continue;
+                }
+                V previous = leaf.insert(key, value);
+                leaf.unlock();
+                if (previous == null) {
+                    size.increment();
+                }
+                return previous;
+            }
+        }
+
+        public V remove(long key) {
+            long[] version = new long[1];
+            while (true) {
+                LeafNode<V> leaf = findLeaf(key, version);
+                // A leaf's key range only shrinks when it splits, which bumps its version
+                if (!leaf.tryLock(version[0])) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                V previous = leaf.remove(key);
+                leaf.unlock();
+                if (previous != null) {
+                    size.decrement();
+                }
+                return previous;
+            }
+        }
+
+        /**
+         * Visits entries with from <= key <= to in ascending order.
+         * Weakly consistent: entries written concurrently may or may not be seen,
+         * but each visited entry is a value that was present at some point during the scan.
+         */
+        @SuppressWarnings("unchecked")
+        public int scan(long from, long to, LongEntryConsumer<? super V> consumer) {
+            long[] keyBuffer = new long[LEAF_CAPACITY];
+            Object[] valueBuffer = new Object[LEAF_CAPACITY];
+            long[] versionHolder = new long[1];
+            long cursor = from;
+            int visited = 0;
+
+            LeafNode<V> leaf = findLeaf(cursor, versionHolder);
+            long version = versionHolder[0];
+            while (true) {
+                if (version < 0) {
+                    leaf = findLeaf(cursor, versionHolder);
+                    version = versionHolder[0];
+                    continue;
+                }
+                int buffered = 0;
+                boolean pastEnd = false;
+                int count = leaf.count;
+                for (int i = leaf.lowerBound(cursor); i < count; i++) {
+                    long k = leaf.keys[i];
+                    if (k > to) {
+                        pastEnd = true;
+                        break;
+                    }
+                    keyBuffer[buffered] = k;
+                    valueBuffer[buffered] = leaf.values[i];
+                    buffered++;
+                }
+                LeafNode<V> next = leaf.next;
+                if (!leaf.validate(version)) {
+                    // Leaf changed under us - re-read it from the root at the same cursor
+                    version = -1;
+                    continue;
+                }
+                for (int i = 0; i < buffered; i++) {
+                    consumer.accept(keyBuffer[i], (V) valueBuffer[i]);
+                }
+                visited += buffered;
+                if (pastEnd || next == null) {
+                    return visited;
+                }
+                if (buffered > 0) {
+                    long last = keyBuffer[buffered - 1];
+                    if (last == Long.MAX_VALUE) {
+                        return visited;
+                    }
+                    cursor = last + 1;
+                }
+                leaf = next;
+                version = leaf.readVersion();
+            }
+        }
+
+        private LeafNode<V> findLeaf(long key, long[] versionOut) {
+            while (true) {
+                LeafNode<V> leaf = findLeafUnchecked(key, versionOut);
+                if (leaf != null) {
+                    return leaf;
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+        /**
+         * One optimistic descent; returns null if a concurrent writer forced a restart.
+         * On success versionOut[0] holds the leaf version validated against its parent.
+         */
+        @SuppressWarnings("unchecked")
+        private LeafNode<V> findLeafUnchecked(long key, long[] versionOut) {
+            Node node = root;
+            long version = node.readVersion();
+            if (version < 0 || node != root) {
+                return null;
+            }
+            while (node instanceof InnerNode inner) {
+                Node child = inner.children[inner.childIndex(key)];
+                if (!inner.validate(version)) {
+                    return null;
+                }
+                long childVersion = child.readVersion();
+                if (childVersion < 0 || !inner.validate(version)) {
+                    return null;
+                }
+                node = child;
+                version = childVersion;
+            }
+            versionOut[0] = version;
+            return (LeafNode<V>) node;
+        }
+
+        /** Splits a full node while holding write locks on it and its parent. */
+        private void split(Node node, long version, InnerNode parent, long parentVersion) {
+            if (parent != null && !parent.tryLock(parentVersion)) {
+                return;
+            }
+            if (!node.tryLock(version)) {
+                if (parent != null) {
+                    parent.unlock();
+                }
+                return;
+            }
+            if (parent == null && node != root) {
+                node.unlock();
+                return;
+            }
+
+            long separator;
+            Node right;
+            if (node instanceof InnerNode inner) {
+                InnerNode newInner = new InnerNode();
+                int mid = inner.count / 2;
+                separator = inner.keys[mid];
+                newInner.count = inner.count - mid - 1;
+                System.arraycopy(inner.keys, mid + 1, newInner.keys, 0, newInner.count);
+                System.arraycopy(inner.children, mid + 1, newInner.children, 0, newInner.count + 1);
+                Arrays.fill(inner.children, mid + 1, inner.count + 1, null);
+                inner.count = mid;
+                right = newInner;
+            } else {
+                @SuppressWarnings("unchecked")
+                LeafNode<V> leaf = (LeafNode<V>) node;
+                LeafNode<V> newLeaf = new LeafNode<>();
+                int mid = leaf.count / 2;
+                newLeaf.count = leaf.count - mid;
+                System.arraycopy(leaf.keys, mid, newLeaf.keys, 0, newLeaf.count);
+                System.arraycopy(leaf.values, mid, newLeaf.values, 0, newLeaf.count);
+                Arrays.fill(leaf.values, mid, leaf.count, null);
+                leaf.count = mid;
+                newLeaf.next = leaf.next;
+                leaf.next = newLeaf;
+                separator = newLeaf.keys[0];
+                right = newLeaf;
+            }
+
+            if (parent != null) {
+                parent.insertChild(separator, right);
+            } else {
+                InnerNode newRoot = new InnerNode();
+                newRoot.keys[0] = separator;
+                newRoot.children[0] = node;
+                newRoot.children[1] = right;
+                newRoot.count = 1;
+                root = newRoot;
+            }
+            node.unlock();
+            if (parent != null) {
+                parent.unlock();
+            }
+        }
+
+        int height() {
+            int height = 1;
+            Node node = root;
+            while (node instanceof InnerNode inner) {
+                node = inner.children[0];
+                height++;
+            }
+            return height;
+        }
+    }
+
+    private static void bPlusTreeDemo() {
+        System.out.println("--- B+Tree with Optimistic Lock Coupling ---");
+        System.out.println("long[] keys per node, linked leaves, readers validate versions instead of locking");
+
+        LongBPlusTree<String> tree = new LongBPlusTree<>();
+        for (long key = 0; key < 10_000; key += 10) {
+            tree.put(key, "v" + key);
+        }
+        System.out.println("Entries: " + tree.size() + ", height: " + tree.height());
+        System.out.println("get(500): " + tree.get(500));
+        System.out.println("get(505): " + tree.get(505));
+        System.out.println("put(500) previous value: " + tree.put(500, "updated"));
+        System.out.println("remove(510): " + tree.remove(510) + ", size now: " + tree.size());
+
+        StringJoiner range = new StringJoiner(", ", "[", "]");
+        int visited = tree.scan(480, 540, (key, value) -> range.add(key + "=" + value));
+        System.out.println("scan [480, 540] visited " + visited + ": " + range);
+
+        System.out.println();
+    }
+
+    private static void concurrentWritersDemo() {
+        System.out.println("--- Concurrent Writers ---");
+
+        LongBPlusTree<Long> tree = new LongBPlusTree<>();
+        int threads = 4;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                // Interleaved key ranges force concurrent splits of the same leaves
+                for (int i = 0; i < perThread; i++) {
+                    long key = (long) i * threads + offset;
+                    tree.put(key, key);
+                }
+            }));
+        }
+        waitAll(futures);
+        executor.shutdown();
+
+        long[] expectedNext = {0};
+        boolean[] ordered = {true};
+        tree.scan(Long.MIN_VALUE, Long.MAX_VALUE, (key, value) -> {
+            if (key != expectedNext[0] || value != key) {
+                ordered[0] = false;
+            }
+            expectedNext[0]++;
+        });
+        System.out.println(threads + " threads inserted " + (threads * perThread) + " keys");
+        System.out.println("Tree size: " + tree.size() + ", height: " + tree.height());
+        System.out.println("Full scan is complete and ascending: " + (ordered[0] && expectedNext[0] == tree.size()));
+
+        System.out.println();
+    }
+
+    // ========== Benchmarks ==========
+
+    private static final int PRELOAD = 100_000;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+
+    /** Minimal common surface so each benchmark runs identically against every map. */
+    private interface LongKeyedMap {
+        String name();
+
+        Object get(long key);
+
+        void put(long key, Long value);
+
+        int scan(long from, long to);
+    }
+
+    private static List<LongKeyedMap> preloadedMaps() {
+        LongBPlusTree<Long> tree = new LongBPlusTree<>();
+        ConcurrentSkipListMap<Long, Long> skipList = new ConcurrentSkipListMap<>();
+        SortedMap<Long, Long> synchronizedTree = Collections.synchronizedSortedMap(new TreeMap<>());
+        for (long i = 0; i < PRELOAD; i++) {
+            long key = i * 2;
+            tree.put(key, i);
+            skipList.put(key, i);
+            synchronizedTree.put(key, i);
+        }
+
+        LongKeyedMap bTree = new LongKeyedMap() {
+            public String name() { return "LongBPlusTree"; }
+            public Object get(long key) { return tree.get(key); }
+            public void put(long key, Long value) { tree.put(key, value); }
+            public int scan(long from, long to) { return tree.scan(from, to, (k, v) -> { }); }
+        };
+        LongKeyedMap skip = new LongKeyedMap() {
+            public String name() { return "ConcurrentSkipListMap"; }
+            public Object get(long key) { return skipList.get(key); }
+            public void put(long key, Long value) { skipList.put(key, value); }
+            public int scan(long from, long to) {
+                int n = 0;
+                for (Long ignored : skipList.subMap(from, true, to, true).values()) {
+                    n++;
+                }
+                return n;
+            }
+        };
+        LongKeyedMap synced = new LongKeyedMap() {
+            public String name() { return "synchronizedSortedMap"; }
+            public Object get(long key) { return synchronizedTree.get(key); }
+            public void put(long key, Long value) { synchronizedTree.put(key, value); }
+            public int scan(long from, long to) {
+                synchronized (synchronizedTree) {
+                    return synchronizedTree.subMap(from, to + 1).size();
+                }
+            }
+        };
+        return List.of(bTree, skip, synced);
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(LongKeyedMap map, ThreadLocalRandom random);
+    }
+
+    /** Runs opsPerThread operations on each of N threads and returns total ops per millisecond. */
+    private static long throughput(LongKeyedMap map, int threads, int opsPerThread, Operation operation) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                start.await();
+                for (int i = 0; i < opsPerThread; i++) {
+                    operation.run(map, random);
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        waitAll(futures);
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return (long) threads * opsPerThread * 1_000_000L / Math.max(elapsed, 1);
+    }
+
+    private static void report(String title, int opsPerThread, Operation operation) {
+        System.out.println(title + " (ops/ms, " + opsPerThread + " ops per thread):");
+        List<LongKeyedMap> maps = preloadedMaps();
+        StringBuilder header = new StringBuilder(String.format("  %-24s", "threads"));
+        for (int threads : THREAD_COUNTS) {
+            header.append(String.format("%10d", threads));
+        }
+        System.out.println(header);
+        for (LongKeyedMap map : maps) {
+            // Warm-up pass so the JIT has compiled the hot paths before measuring
+            throughput(map, 1, opsPerThread / 4, operation);
+            StringBuilder row = new StringBuilder(String.format("  %-24s", map.name()));
+            for (int threads : THREAD_COUNTS) {
+                row.append(String.format("%10d", throughput(map, threads, opsPerThread, operation)));
+            }
+            System.out.println(row);
+        }
+    }
+
+    private static void pointLookupBenchmark() {
+        System.out.println("--- Point Lookup Benchmark ---");
+        report("Random get() over " + PRELOAD + " keys", 100_000,
+            (map, random) -> map.get(random.nextLong(PRELOAD * 2L)));
+        System.out.println();
+    }
+
+    private static void rangeScanBenchmark() {
+        System.out.println("--- Range Scan Benchmark ---");
+        report("Scans of 100 consecutive keys", 4_000, (map, random) -> {
+            long from = random.nextLong(PRELOAD * 2L - 200);
+            map.scan(from, from + 199);
+        });
+        System.out.println();
+    }
+
+    private static void mixedWorkloadBenchmark() {
+        System.out.println("--- Mixed Read/Write Benchmark ---");
+        report("90% get / 10% put", 50_000, (map, random) -> {
+            long key = random.nextLong(PRELOAD * 4L);
+            if (random.nextInt(10) == 0) {
+                map.put(key, key);
+            } else {
+                map.get(key);
+            }
+        });
+        System.out.println();
+    }
+
+    private static void waitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,776 @@
+package com.example.demo.showcase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Demonstrates a streaming delimited-text tokenizer that replaces String.split
+ * Including field views (offset/length) over CharSequence, ByteBuffer and memory-mapped files,
+ * RFC 4180 quoting and backslash escapes, allocation-free numeric parsing, parallel parsing by
+ * chunking on record boundaries, and GB/s benchmarks against split and Scanner
+ */
+public class DelimitedTokenizerShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== DELIMITED TOKENIZER SHOWCASE ==========\n");
+
+        basicTokenizingDemo();
+        quotingAndEscapesDemo();
+        parallelChunkingDemo();
+        tokenizerBenchmark();
+    }
+
+    // ========== Dialect ==========
+
+    /** Sentinel for "no quote character" / "no escape character". */
+    static final char NONE = '\0';
+
+    /**
+     * Delimiter, quote and escape characters. They must be ASCII so the byte cursor can match them
+     * directly in UTF-8 input: bytes below 0x80 never occur inside a multi-byte sequence.
+     */
+    record Dialect(char delimiter, char quote, char escape) {
+        static final Dialect CSV = new Dialect(',', '"', NONE);
+        static final Dialect TSV = new Dialect('\t', NONE, '\\');
+
+        Dialect {
+            if (delimiter == NONE || delimiter >= 0x80 || quote >= 0x80 || escape >= 0x80) {
+                throw new IllegalArgumentException("Delimiter, quote and escape must be ASCII");
+            }
+            if (delimiter == quote || delimiter == escape || delimiter == '\n' || delimiter == '\r') {
+                throw new IllegalArgumentException("Delimiter clashes with quote, escape or line break");
+            }
+        }
+    }
+
+    static final class DelimitedFormatException extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+
+        DelimitedFormatException(String message, long record, int offset) {
+            super(message + " in record " + record + " at offset " + offset);
+        }
+    }
+
+    // ========== Byte Cursor ==========
+
+    /**
+     * Pull tokenizer over a range of a ByteBuffer (heap, direct or mapped). Only absolute gets are
+     * used, so several cursors may read disjoint ranges of one buffer from different threads.
+     * The current field is described by [fieldStart, fieldEnd) inside the buffer, excluding the
+     * surrounding quotes; fieldEscaped() says whether "" or escape sequences still need removing,
+     * which fieldString() does. Nothing is allocated unless the caller asks for a String.
+     */
+    static final class ByteFieldCursor {
+        private final ByteBuffer buffer;
+        private final int end;
+        private final byte delimiter;
+        private final int quote;
+        private final int escape;
+        private final long delimiterWord;
+        private final long escapeWord;
+        private int position;
+        private int fieldStart;
+        private int fieldEnd;
+        private boolean fieldEscaped;
+        private boolean inRecord;
+        private boolean recordEnded;
+        private long record = -1;
+
+        ByteFieldCursor(ByteBuffer buffer, Dialect dialect) {
+            this(buffer, 0, buffer.limit(), dialect);
+        }
+
+        ByteFieldCursor(ByteBuffer buffer, int start, int end, Dialect dialect) {
+            // Little-endian view so the lowest set bit of a SWAR match is the first matching byte
+            this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            this.position = start;
+            this.end = end;
+            this.delimiter = (byte) dialect.delimiter();
+            // Out of byte range when absent, so no input byte can match
+            this.quote = dialect.quote() == NONE ? ABSENT : dialect.quote();
+            this.escape = dialect.escape() == NONE ? ABSENT : dialect.escape();
+            this.delimiterWord = broadcast(dialect.delimiter());
+            this.escapeWord = dialect.escape() == NONE ? 0 : broadcast(dialect.escape());
+        }
+
+        /** Moves to the next record, skipping any unread fields of the current one. */
+        boolean nextRecord() {
+            if (inRecord) {
+                while (nextField()) {
+                    // Skip the rest of the record
+                }
+            }
+            if (position >= end) {
+                inRecord = false;
+                return false;
+            }
+            inRecord = true;
+            recordEnded = false;
+            record++;
+            return true;
+        }
+
+        boolean nextField() {
+            if (!inRecord || recordEnded) {
+                return false;
+            }
+            fieldEscaped = false;
+            int p = position;
+            if (p < end && buffer.get(p) == quote) {
+                p = scanQuoted(p + 1);
+            } else {
+                fieldStart = p;
+                while ((p = skipPlain(p)) < end && buffer.get(p) == escape) {
+                    fieldEscaped = true;
+                    p += 2;
+                }
+                fieldEnd = Math.min(p, end);
+            }
+            finishField(p);
+            return true;
+        }
+
+        /**
+         * Index of the first delimiter, line break or escape byte at or after p, or end. Tests eight
+         * bytes per step with SWAR: a byte equal to the target becomes zero after XOR with the
+         * broadcast target, and (x - 0x01..) & ~x & 0x80.. flags the first zero byte exactly.
+         */
+        private int skipPlain(int p) {
+            while (p + Long.BYTES <= end) {
+                long word = buffer.getLong(p);
+                long hits = zeroBytes(word ^ delimiterWord) | zeroBytes(word ^ LF_WORD) | zeroBytes(word ^ CR_WORD);
+                if (escape != ABSENT) {
+                    hits |= zeroBytes(word ^ escapeWord);
+                }
+                if (hits != 0) {
+                    return p + (Long.numberOfTrailingZeros(hits) >>> 3);
+                }
+                p += Long.BYTES;
+            }
+            for (; p < end; p++) {
+                byte b = buffer.get(p);
+                if (b == delimiter || b == '\n' || b == '\r' || b == escape) {
+                    return p;
+                }
+            }
+            return end;
+        }
+
+        private int scanQuoted(int p) {
+            fieldStart = p;
+            while (true) {
+                if (p >= end) {
+                    throw new DelimitedFormatException("Unterminated quoted field", record, fieldStart - 1);
+                }
+                byte b = buffer.get(p);
+                if (b == escape) {
+                    fieldEscaped = true;
+                    p += 2;
+                } else if (b == quote) {
+                    if (p + 1 < end && buffer.get(p + 1) == quote) {
+                        fieldEscaped = true;
+                        p += 2;
+                    } else {
+                        fieldEnd = p;
+                        return p + 1;
+                    }
+                } else {
+                    p++;
+                }
+            }
+        }
+
+        private void finishField(int p) {
+            if (p >= end) {
+                position = end;
+                recordEnded = true;
+                return;
+            }
+            byte b = buffer.get(p);
+            if (b == delimiter) {
+                position = p + 1;
+            } else if (b == '\n') {
+                position = p + 1;
+                recordEnded = true;
+            } else if (b == '\r') {
+                position = p + 1 < end && buffer.get(p + 1) == '\n' ? p + 2 : p + 1;
+                recordEnded = true;
+            } else {
+                throw new DelimitedFormatException("Unexpected character after closing quote", record, p);
+            }
+        }
+
+        long record() {
+            return record;
+        }
+
+        int fieldStart() {
+            return fieldStart;
+        }
+
+        int fieldLength() {
+            return fieldEnd - fieldStart;
+        }
+
+        boolean fieldEscaped() {
+            return fieldEscaped;
+        }
+
+        /** Parses the field as a decimal long without creating a String. */
+        long parseLong() {
+            return parseLongDigits(buffer, fieldStart, fieldEnd, record);
+        }
+
+        boolean fieldEquals(String ascii) {
+            if (fieldEscaped) {
+                return fieldString().equals(ascii);
+            }
+            int length = fieldEnd - fieldStart;
+            if (length != ascii.length()) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (buffer.get(fieldStart + i) != ascii.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Allocates: decodes UTF-8 and removes quote doubling and escapes. */
+        String fieldString() {
+            byte[] bytes = new byte[fieldEnd - fieldStart];
+            buffer.get(fieldStart, bytes);
+            if (!fieldEscaped) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+            int length = 0;
+            for (int i = 0; i < bytes.length; i++) {
+                byte b = bytes[i];
+                if ((b == escape || b == quote) && i + 1 < bytes.length) {
+                    i++;
+                    b = bytes[i];
+                }
+                bytes[length++] = b;
+            }
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final int ABSENT = Integer.MIN_VALUE;
+    private static final long LF_WORD = broadcast('\n');
+    private static final long CR_WORD = broadcast('\r');
+
+    private static long broadcast(char c) {
+        return (c & 0xFFL) * 0x0101010101010101L;
+    }
+
+    private static long zeroBytes(long x) {
+        return (x - 0x0101010101010101L) & ~x & 0x8080808080808080L;
+    }
+
+    private static long parseLongDigits(ByteBuffer buffer, int start, int end, long record) {
+        if (start >= end) {
+            throw new NumberFormatException("Empty field in record " + record);
+        }
+        int p = start;
+        boolean negative = buffer.get(p) == '-';
+        if (negative || buffer.get(p) == '+') {
+            p++;
+        }
+        if (p == end || end - p > 18) {
+            // Up to 18 digits cannot overflow; longer values take the checked path
+            return Long.parseLong(StandardCharsets.US_ASCII.decode(buffer.slice(start, end - start)).toString());
+        }
+        long value = 0;
+        for (; p < end; p++) {
+            int digit = buffer.get(p) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Not a number in record " + record + " at offset " + p);
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    // ========== Char Cursor ==========
+
+    /**
+     * The same tokenizer over a CharSequence (String, StringBuilder, CharBuffer). Field bounds are
+     * indexes into the sequence; fieldView() exposes the field as a CharSequence without copying.
+     */
+    static final class CharFieldCursor {
+        private final CharSequence text;
+        private final int end;
+        private final char delimiter;
+        private final int quote;
+        private final int escape;
+        private int position;
+        private int fieldStart;
+        private int fieldEnd;
+        private boolean fieldEscaped;
+        private boolean inRecord;
+        private boolean recordEnded;
+        private long record = -1;
+
+        CharFieldCursor(CharSequence text, Dialect dialect) {
+            this.text = text;
+            this.end = text.length();
+            this.delimiter = dialect.delimiter();
+            this.quote = dialect.quote() == NONE ? ABSENT : dialect.quote();
+            this.escape = dialect.escape() == NONE ? ABSENT : dialect.escape();
+        }
+
+        boolean nextRecord() {
+            if (inRecord) {
+                while (nextField()) {
+                    // Skip the rest of the record
+                }
+            }
+            if (position >= end) {
+                inRecord = false;
+                return false;
+            }
+            inRecord = true;
+            recordEnded = false;
+            record++;
+            return true;
+        }
+
+        boolean nextField() {
+            if (!inRecord || recordEnded) {
+                return false;
+            }
+            fieldEscaped = false;
+            int p = position;
+            if (p < end && text.charAt(p) == quote) {
+                p = scanQuoted(p + 1);
+            } else {
+                fieldStart = p;
+                while (p < end) {
+                    char c = text.charAt(p);
+                    if (c == delimiter || c == '\n' || c == '\r') {
+                        break;
+                    }
+                    if (c == escape) {
+                        fieldEscaped = true;
+                        p++;
+                    }
+                    p++;
+                }
+                fieldEnd = Math.min(p, end);
+            }
+            finishField(p);
+            return true;
+        }
+
+        private int scanQuoted(int p) {
+            fieldStart = p;
+            while (true) {
+                if (p >= end) {
+                    throw new DelimitedFormatException("Unterminated quoted field", record, fieldStart - 1);
+                }
+                char c = text.charAt(p);
+                if (c == escape) {
+                    fieldEscaped = true;
+                    p += 2;
+                } else if (c == quote) {
+                    if (p + 1 < end && text.charAt(p + 1) == quote) {
+                        fieldEscaped = true;
+                        p += 2;
+                    } else {
+                        fieldEnd = p;
+                        return p + 1;
+                    }
+                } else {
+                    p++;
+                }
+            }
+        }
+
+        private void finishField(int p) {
+            if (p >= end) {
+                position = end;
+                recordEnded = true;
+                return;
+            }
+            char c = text.charAt(p);
+            if (c == delimiter) {
+                position = p + 1;
+            } else if (c == '\n') {
+                position = p + 1;
+                recordEnded = true;
+            } else if (c == '\r') {
+                position = p + 1 < end && text.charAt(p + 1) == '\n' ? p + 2 : p + 1;
+                recordEnded = true;
+            } else {
+                throw new DelimitedFormatException("Unexpected character after closing quote", record, p);
+            }
+        }
+
+        int fieldStart() {
+            return fieldStart;
+        }
+
+        int fieldLength() {
+            return fieldEnd - fieldStart;
+        }
+
+        boolean fieldEscaped() {
+            return fieldEscaped;
+        }
+
+        /** Raw field content, still escaped if fieldEscaped(); copies for String, a view for CharBuffer. */
+        CharSequence fieldView() {
+            return text.subSequence(fieldStart, fieldEnd);
+        }
+
+        long parseLong() {
+            return Long.parseLong(text, fieldStart, fieldEnd, 10);
+        }
+
+        boolean fieldEquals(CharSequence expected) {
+            if (fieldEscaped) {
+                return fieldString().contentEquals(expected);
+            }
+            int length = fieldEnd - fieldStart;
+            if (length != expected.length()) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (text.charAt(fieldStart + i) != expected.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        String fieldString() {
+            if (!fieldEscaped) {
+                return text.subSequence(fieldStart, fieldEnd).toString();
+            }
+            StringBuilder unescaped = new StringBuilder(fieldEnd - fieldStart);
+            for (int i = fieldStart; i < fieldEnd; i++) {
+                char c = text.charAt(i);
+                if ((c == escape || c == quote) && i + 1 < fieldEnd) {
+                    c = text.charAt(++i);
+                }
+                unescaped.append(c);
+            }
+            return unescaped.toString();
+        }
+    }
+
+    // ========== Parallel Chunking ==========
+
+    /**
+     * Splits a buffer into ranges that start on record boundaries, so each range can be parsed by its
+     * own cursor. A newline only ends a record outside quotes, and with RFC 4180 quote doubling the
+     * quote state at any offset is the parity of the quotes before it: every chunk counts its
+     * quotes in parallel, a prefix sum gives each chunk's starting state, and the boundary search
+     * runs from that state. An escape character breaks that argument (whether a quote or newline
+     * is escaped depends on everything before it), so dialects with one are rejected.
+     */
+    static int[] recordAlignedChunks(ByteBuffer buffer, int chunks, Dialect dialect) {
+        if (dialect.escape() != NONE) {
+            throw new IllegalArgumentException("Parallel chunking needs quote doubling, not escapes");
+        }
+        int length = buffer.limit();
+        chunks = Math.max(1, Math.min(chunks, length / 4096 + 1));
+        int[] nominal = new int[chunks + 1];
+        for (int i = 0; i <= chunks; i++) {
+            nominal[i] = (int) ((long) length * i / chunks);
+        }
+        byte quote = (byte) dialect.quote();
+        long[] quotes = new long[chunks];
+        if (dialect.quote() != NONE) {
+            IntStream.range(0, chunks).parallel().forEach(i -> {
+                long count = 0;
+                for (int p = nominal[i]; p < nominal[i + 1]; p++) {
+                    if (buffer.get(p) == quote) {
+                        count++;
+                    }
+                }
+                quotes[i] = count;
+            });
+        }
+        int[] starts = new int[chunks + 1];
+        starts[chunks] = length;
+        long quotesBefore = 0;
+        for (int i = 1; i < chunks; i++) {
+            quotesBefore += quotes[i - 1];
+            boolean inQuotes = (quotesBefore & 1) == 1;
+            int p = nominal[i];
+            if (starts[i - 1] > p) {
+                // The previous record ran past this nominal boundary; resume at its end, a known record start
+                p = starts[i - 1];
+                inQuotes = false;
+            }
+            while (p < length) {
+                byte b = buffer.get(p++);
+                if (b == quote && dialect.quote() != NONE) {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    break;
+                }
+            }
+            starts[i] = p;
+        }
+        return starts;
+    }
+
+    // ========== Demos ==========
+
+    private static void basicTokenizingDemo() {
+        System.out.println("--- Field Views Instead of split() ---");
+
+        String csv = "apple,banana,cherry";
+        CharFieldCursor cursor = new CharFieldCursor(csv, Dialect.CSV);
+        StringBuilder views = new StringBuilder();
+        while (cursor.nextRecord()) {
+            while (cursor.nextField()) {
+                views.append(String.format("[%d+%d]", cursor.fieldStart(), cursor.fieldLength()));
+            }
+        }
+        System.out.println("split(','): " + Arrays.toString(csv.split(",")) + "  ->  views " + views);
+
+        String orders = "id,product,qty,price_cents\n1,widget,3,499\n2,gadget,10,1250\r\n3,gizmo,1,99999\n";
+        ByteBuffer bytes = ByteBuffer.wrap(orders.getBytes(StandardCharsets.UTF_8));
+        ByteFieldCursor rows = new ByteFieldCursor(bytes, Dialect.CSV);
+        rows.nextRecord();
+        long total = 0;
+        while (rows.nextRecord()) {
+            rows.nextField();
+            rows.nextField();
+            boolean widget = rows.fieldEquals("widget");
+            rows.nextField();
+            long qty = rows.parseLong();
+            rows.nextField();
+            total += qty * rows.parseLong();
+            if (widget) {
+                System.out.println("Record " + rows.record() + " is a widget order, qty " + qty);
+            }
+        }
+        System.out.println("Order total (cents) parsed from bytes, no Strings created: " + total);
+
+        System.out.println();
+    }
+
+    private static void quotingAndEscapesDemo() {
+        System.out.println("--- Quoted Fields and Escapes ---");
+
+        String tricky = "name,quote,city\n"
+            + "\"Smith, John\",\"He said \"\"hi\"\"\",London\n"
+            + "\"multi\nline\",,\"\"\n";
+        System.out.println("split(',') on the first data row: "
+            + String.join(" | ", tricky.split("\n")[1].split(",")));
+        CharFieldCursor cursor = new CharFieldCursor(tricky, Dialect.CSV);
+        while (cursor.nextRecord()) {
+            List<String> fields = new ArrayList<>();
+            while (cursor.nextField()) {
+                fields.add(cursor.fieldString().replace("\n", "\\n"));
+            }
+            System.out.println("  record: " + fields);
+        }
+
+        String tsv = "path\tnote\nC:\\\\temp\ttab\\\there\n";
+        CharFieldCursor tsvCursor = new CharFieldCursor(tsv, Dialect.TSV);
+        tsvCursor.nextRecord();
+        tsvCursor.nextRecord();
+        tsvCursor.nextField();
+        String path = tsvCursor.fieldString();
+        tsvCursor.nextField();
+        System.out.println("TSV with backslash escapes: path=" + path + ", note="
+            + tsvCursor.fieldString().replace("\t", "<TAB>"));
+
+        try {
+            CharFieldCursor broken = new CharFieldCursor("a,\"unterminated\nb,c\n", Dialect.CSV);
+            while (broken.nextRecord()) {
+                while (broken.nextField()) {
+                    // Consume
+                }
+            }
+        } catch (DelimitedFormatException e) {
+            System.out.println("Malformed input: " + e.getMessage());
+        }
+
+        System.out.println();
+    }
+
+    private static void parallelChunkingDemo() {
+        System.out.println("--- Parallel Parsing on Record Boundaries ---");
+
+        // Every 7th record has a quoted field with an embedded newline and delimiter
+        StringBuilder text = new StringBuilder();
+        long expected = 0;
+        for (int i = 0; i < 50_000; i++) {
+            String note = i % 7 == 0 ? "\"line one,\nline \"\"two\"\"\"" : "plain";
+            text.append(i).append(',').append(note).append(',').append(i % 1000).append('\n');
+            expected += i % 1000;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+
+        int[] starts = recordAlignedChunks(buffer, 8, Dialect.CSV);
+        long[] records = new long[starts.length - 1];
+        long sum = IntStream.range(0, starts.length - 1).parallel().mapToLong(i -> {
+            ByteFieldCursor cursor = new ByteFieldCursor(buffer, starts[i], starts[i + 1], Dialect.CSV);
+            long partial = 0;
+            while (cursor.nextRecord()) {
+                cursor.nextField();
+                cursor.nextField();
+                cursor.nextField();
+                partial += cursor.parseLong();
+                records[i]++;
+            }
+            return partial;
+        }).sum();
+
+        System.out.println("Chunks: " + records.length + ", records per chunk: " + Arrays.toString(records));
+        System.out.println("Sum of column 3: " + sum + " (expected " + expected + ", records "
+            + Arrays.stream(records).sum() + ")");
+
+        // A 10 KB quoted multi-line field makes its record span several nominal chunk boundaries
+        StringBuilder spanning = new StringBuilder("0,\"");
+        for (int i = 0; i < 1_300; i++) {
+            spanning.append("line ").append(i % 10).append("\n,");
+        }
+        spanning.append("\",7\n");
+        long spanningExpected = 7;
+        for (int i = 1; i <= 3_000; i++) {
+            spanning.append(i).append(",\"a\nb\",").append(i).append('\n');
+            spanningExpected += i;
+        }
+        ByteBuffer spanningBuffer = ByteBuffer.wrap(spanning.toString().getBytes(StandardCharsets.UTF_8));
+        int[] spanningStarts = recordAlignedChunks(spanningBuffer, 16, Dialect.CSV);
+        long spanningSum = IntStream.range(0, spanningStarts.length - 1).parallel()
+            .mapToLong(i -> sumThirdColumn(spanningBuffer, spanningStarts[i], spanningStarts[i + 1])).sum();
+        System.out.println("Record spanning chunk boundaries: sum " + spanningSum + " (expected " + spanningExpected
+            + "), chunk starts " + Arrays.toString(Arrays.copyOf(spanningStarts, 4)) + "...");
+
+        System.out.println();
+    }
+
+    // ========== Benchmark ==========
+
+    private static void tokenizerBenchmark() {
+        System.out.println("--- Benchmark: Sum One Column (GB/s and bytes allocated per record) ---");
+
+        int rows = 400_000;
+        StringBuilder builder = new StringBuilder(rows * 48);
+        for (int i = 0; i < rows; i++) {
+            builder.append(i).append(",customer-").append(i % 5_000).append(',').append(i % 977)
+                .append(",2024-01-").append(10 + i % 20).append(",EUR\n");
+        }
+        String text = builder.toString();
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        System.out.println(String.format("Input: %,d records, %.1f MB", rows, bytes.length / 1e6));
+        System.out.println(String.format("  %-44s %8s %12s", "tokenizer", "GB/s", "bytes/record"));
+
+        long expected = measure("String.lines() + split(\",\")", bytes.length, rows, () ->
+            text.lines().mapToLong(line -> Long.parseLong(line.split(",")[2])).sum());
+        int scannerRows = rows / 10;
+        String scannerText = text.substring(0, ordinalIndexOfNewline(text, scannerRows) + 1);
+        measure("Scanner with [,\\n] delimiter (1/10 input)", scannerText.length(), scannerRows, () -> {
+            long sum = 0;
+            try (Scanner scanner = new Scanner(scannerText).useDelimiter("[,\\n]")) {
+                while (scanner.hasNext()) {
+                    scanner.next();
+                    scanner.next();
+                    sum += scanner.nextLong();
+                    scanner.next();
+                    scanner.next();
+                }
+            }
+            return sum;
+        });
+        check(expected, measure("CharFieldCursor over String", bytes.length, rows, () -> {
+            CharFieldCursor cursor = new CharFieldCursor(text, Dialect.CSV);
+            long sum = 0;
+            while (cursor.nextRecord()) {
+                cursor.nextField();
+                cursor.nextField();
+                cursor.nextField();
+                sum += cursor.parseLong();
+            }
+            return sum;
+        }));
+        check(expected, measure("ByteFieldCursor over heap ByteBuffer", bytes.length, rows,
+            () -> sumThirdColumn(heap, 0, bytes.length)));
+
+        Path file = null;
+        try {
+            file = Files.createTempFile("tokenizer", ".csv");
+            Files.write(file, bytes);
+            MappedByteBuffer mapped;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            check(expected, measure("ByteFieldCursor over mapped file", bytes.length, rows,
+                () -> sumThirdColumn(mapped, 0, bytes.length)));
+            int parallelism = Runtime.getRuntime().availableProcessors();
+            check(expected, measure("record-aligned chunks, mapped, parallelism " + parallelism, bytes.length, rows, () -> {
+                int[] starts = recordAlignedChunks(mapped, parallelism * 4, Dialect.CSV);
+                return IntStream.range(0, starts.length - 1).parallel()
+                    .mapToLong(i -> sumThirdColumn(mapped, starts[i], starts[i + 1])).sum();
+            }));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            ShowcaseSupport.deleteQuietly(file);
+        }
+
+        System.out.println("split(\",\") takes String's single-character fast path (no regex), but still allocates");
+        System.out.println("the line, the String[] and one String per field. Allocation is counted on the calling");
+        System.out.println("thread only, so the parallel row reports just the chunking overhead; its extra quote-counting");
+        System.out.println("pass only pays off with more than one core.");
+
+        System.out.println();
+    }
+
+    private static long sumThirdColumn(ByteBuffer buffer, int start, int end) {
+        ByteFieldCursor cursor = new ByteFieldCursor(buffer, start, end, Dialect.CSV);
+        long sum = 0;
+        while (cursor.nextRecord()) {
+            cursor.nextField();
+            cursor.nextField();
+            cursor.nextField();
+            sum += cursor.parseLong();
+        }
+        return sum;
+    }
+
+    private static long measure(String name, long bytes, long records, LongSupplier body) {
+        ShowcaseSupport.Timing timing = ShowcaseSupport.time(3, body);
+        System.out.println(String.format("  %-44s %8.2f %12.1f", name, (double) bytes / timing.bestNanos(),
+            (double) timing.bestBytes() / records));
+        return timing.result();
+    }
+
+    private static void check(long expected, long actual) {
+        if (expected != actual) {
+            throw new IllegalStateException("Tokenizer result " + actual + " differs from split() result " + expected);
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private static int ordinalIndexOfNewline(String text, int ordinal) {
+        int index = -1;
+        for (int i = 0; i < ordinal; i++) {
+            index = text.indexOf('\n', index + 1);
+        }
+        return index;
+    }
+}
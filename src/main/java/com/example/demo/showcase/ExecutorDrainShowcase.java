@@ -0,0 +1,206 @@
+package com.example.demo.showcase;
+
+import com.example.demo.util.ExecutorDrainCoordinator;
+import com.example.demo.util.ExecutorDrainCoordinator.DrainPolicy;
+import com.example.demo.util.ExecutorDrainCoordinator.DrainReport;
+import com.example.demo.util.ExecutorDrainCoordinator.PersistedTask;
+import com.example.demo.util.ExecutorDrainCoordinator.PoolReport;
+import com.example.demo.util.ExecutorDrainCoordinator.ReplayableTask;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Demonstrates bounded-latency executor shutdown with ExecutorDrainCoordinator
+ * Including parallel shutdown of all pools, per-pool drain deadlines and policies,
+ * persisting unstarted tasks, replaying them after restart and drain-time reports
+ *
+ * In the application the coordinator is a bean drained by ExecutorLifecycleConfig
+ * during Spring's graceful shutdown.
+ */
+public class ExecutorDrainShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== EXECUTOR DRAIN SHOWCASE ==========\n");
+
+        Path store = null;
+        try {
+            store = Files.createTempFile("unstarted-tasks", ".log");
+            Files.delete(store);
+            sequentialVsParallelDemo(store);
+            deadlinesAndPersistenceDemo(store);
+            replayDemo(store);
+        } catch (IOException e) {
+            System.out.println("Task store unavailable: " + e.getMessage());
+        } finally {
+            ShowcaseSupport.deleteQuietly(store);
+        }
+    }
+
+    /** Example unit of work that can be persisted and rebuilt: type plus payload. */
+    record EmailTask(String recipient, AtomicInteger sent) implements ReplayableTask {
+        @Override
+        public String type() {
+            return "email";
+        }
+
+        @Override
+        public String payload() {
+            return recipient;
+        }
+
+        @Override
+        public void run() {
+            sleep(40);
+            sent.incrementAndGet();
+        }
+    }
+
+    // ========== Sequential vs Parallel ==========
+
+    private static void sequentialVsParallelDemo(Path store) {
+        System.out.println("--- Sequential vs Parallel Shutdown ---");
+        System.out.println("3 pools, each with a task that overruns its 300 ms drain deadline");
+
+        List<ExecutorService> pools = stuckPools(3);
+        long start = System.nanoTime();
+        for (ExecutorService pool : pools) {
+            // The ThreadPoolExecutorShowcase pattern: one pool at a time, each waiting out its timeout
+            pool.shutdown();
+            try {
+                if (!pool.awaitTermination(300, TimeUnit.MILLISECONDS)) {
+                    pool.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        long sequentialMillis = (System.nanoTime() - start) / 1_000_000;
+
+        ExecutorDrainCoordinator coordinator =
+            new ExecutorDrainCoordinator(new ExecutorDrainCoordinator.FileUnstartedTaskStore(store));
+        List<ExecutorService> parallelPools = stuckPools(3);
+        for (int i = 0; i < parallelPools.size(); i++) {
+            coordinator.register("pool-" + i, parallelPools.get(i), Duration.ofMillis(300), DrainPolicy.DRAIN_QUEUE);
+        }
+        DrainReport report = coordinator.shutdownAll();
+
+        System.out.println("Sequential shutdown + awaitTermination: " + sequentialMillis + " ms");
+        System.out.println("ExecutorDrainCoordinator.shutdownAll(): " + report.totalMillis()
+            + " ms (sum of per-pool drain times: " + report.sequentialMillis() + " ms)");
+
+        System.out.println();
+    }
+
+    private static List<ExecutorService> stuckPools(int count) {
+        List<ExecutorService> pools = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ExecutorService pool = Executors.newFixedThreadPool(2);
+            pool.execute(() -> sleep(2_000));
+            pool.execute(() -> sleep(50));
+            pools.add(pool);
+        }
+        return pools;
+    }
+
+    // ========== Deadlines and Persistence ==========
+
+    private static void deadlinesAndPersistenceDemo(Path store) {
+        System.out.println("--- Per-Pool Deadlines, Policies and Persistence ---");
+
+        ExecutorDrainCoordinator coordinator =
+            new ExecutorDrainCoordinator(new ExecutorDrainCoordinator.FileUnstartedTaskStore(store));
+        AtomicInteger sent = new AtomicInteger();
+
+        // Drains its queue for 150 ms, then persists what is left
+        ExecutorService mail = coordinator.register("mail", singleThreadPool(), Duration.ofMillis(150),
+            DrainPolicy.DRAIN_QUEUE);
+        // Persists its queue at once; only the running task finishes
+        ExecutorService notifications = coordinator.register("notifications", singleThreadPool(),
+            Duration.ofMillis(500), DrainPolicy.PERSIST_QUEUE);
+        // Lambdas cannot be persisted: counted as dropped
+        ExecutorService reports = coordinator.register("reports", singleThreadPool(), Duration.ofMillis(100),
+            DrainPolicy.DRAIN_QUEUE);
+
+        for (int i = 0; i < 10; i++) {
+            mail.execute(new EmailTask("user" + i + "@example.com", sent));
+            notifications.execute(new EmailTask("ops" + i + "@example.com", sent));
+            reports.execute(() -> sleep(60));
+        }
+        sleep(10);
+
+        DrainReport report = coordinator.shutdownAll();
+        System.out.println(String.format("  %-14s %-14s %-10s %8s %9s %9s %7s", "pool", "policy", "terminated",
+            "drain ms", "completed", "persisted", "dropped"));
+        for (PoolReport pool : report.pools()) {
+            System.out.println(String.format("  %-14s %-14s %-10s %8d %9d %9d %7d", pool.name(), pool.policy(),
+                pool.terminated(), pool.drainMillis(), pool.completedDuringDrain(), pool.persisted(),
+                pool.dropped()));
+        }
+        System.out.println("Total stop time: " + report.totalMillis() + " ms (bounded by the slowest deadline, "
+            + "not the sum); clean: " + report.clean());
+
+        System.out.println();
+    }
+
+    private static ThreadPoolExecutor singleThreadPool() {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    }
+
+    // ========== Replay ==========
+
+    private static void replayDemo(Path storePath) throws IOException {
+        System.out.println("--- Replaying Persisted Tasks After Restart ---");
+
+        ExecutorDrainCoordinator.FileUnstartedTaskStore store =
+            new ExecutorDrainCoordinator.FileUnstartedTaskStore(storePath);
+        List<PersistedTask> persisted = store.load();
+        System.out.println("Loaded " + persisted.size() + " tasks from " + storePath.getFileName());
+
+        AtomicInteger sent = new AtomicInteger();
+        Map<String, Function<String, Runnable>> factories = Map.of(
+            "email", recipient -> new EmailTask(recipient, sent));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Map<String, Integer> perPool = new TreeMap<>();
+        for (PersistedTask task : persisted) {
+            Function<String, Runnable> factory = factories.get(task.type());
+            if (factory != null) {
+                executor.execute(factory.apply(task.payload()));
+                perPool.merge(task.pool(), 1, Integer::sum);
+            }
+        }
+        executor.shutdown();
+        awaitQuietly(executor, 5_000);
+        store.clear();
+
+        System.out.println("Replayed per pool: " + perPool + ", emails sent: " + sent.get());
+        System.out.println("Store cleared: " + store.load().isEmpty());
+
+        System.out.println();
+    }
+
+    // ========== Helper Methods ==========
+
+    private static void awaitQuietly(ExecutorService executor, long millis) {
+        try {
+            executor.awaitTermination(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
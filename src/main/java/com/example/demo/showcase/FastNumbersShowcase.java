@@ -0,0 +1,771 @@
+package com.example.demo.showcase;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/**
+ * Demonstrates allocation-free number parsing and formatting on byte[] and CharSequence ranges
+ * Including int and long parsing with JDK-compatible overflow errors, Eisel-Lemire double
+ * parsing with a Clinger fast path, Schubfach shortest round-trip double formatting identical
+ * to Double.toString, randomized cross-checks against the JDK, and CSV-like benchmarks
+ */
+public class FastNumbersShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== FAST NUMBERS SHOWCASE ==========\n");
+
+        integerDemo();
+        doubleDemo();
+        crossCheck();
+        parseBenchmark();
+        formatBenchmark();
+    }
+
+    // ========== Integers ==========
+
+    /**
+     * Integer parsing and formatting straight from and into ASCII ranges. Parsing accumulates
+     * negatively, like Long.parseLong, so Long.MIN_VALUE needs no special case; malformed or
+     * overflowing input throws NumberFormatException with the offending text.
+     */
+    static final class FastIntegers {
+        private static final byte[] DIGIT_PAIRS = new byte[200];
+
+        static {
+            for (int i = 0; i < 100; i++) {
+                DIGIT_PAIRS[2 * i] = (byte) ('0' + i / 10);
+                DIGIT_PAIRS[2 * i + 1] = (byte) ('0' + i % 10);
+            }
+        }
+
+        static long parseLong(byte[] bytes, int from, int to) {
+            int i = from;
+            boolean negative = false;
+            if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+                negative = bytes[i++] == '-';
+            }
+            if (i == to) {
+                throw invalid(new String(bytes, from, to - from, StandardCharsets.ISO_8859_1));
+            }
+            long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+            long result = 0;
+            for (; i < to; i++) {
+                int digit = bytes[i] - '0';
+                if (digit < 0 || digit > 9 || result < Long.MIN_VALUE / 10 || result * 10 < limit + digit) {
+                    throw invalid(new String(bytes, from, to - from, StandardCharsets.ISO_8859_1));
+                }
+                result = result * 10 - digit;
+            }
+            return negative ? result : -result;
+        }
+
+        static long parseLong(CharSequence text, int from, int to) {
+            int i = from;
+            boolean negative = false;
+            if (i < to && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                negative = text.charAt(i++) == '-';
+            }
+            if (i == to) {
+                throw invalid(text.subSequence(from, to));
+            }
+            long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+            long result = 0;
+            for (; i < to; i++) {
+                int digit = text.charAt(i) - '0';
+                if (digit < 0 || digit > 9 || result < Long.MIN_VALUE / 10 || result * 10 < limit + digit) {
+                    throw invalid(text.subSequence(from, to));
+                }
+                result = result * 10 - digit;
+            }
+            return negative ? result : -result;
+        }
+
+        static int parseInt(byte[] bytes, int from, int to) {
+            long value = parseLong(bytes, from, to);
+            if (value != (int) value) {
+                throw invalid(new String(bytes, from, to - from, StandardCharsets.ISO_8859_1));
+            }
+            return (int) value;
+        }
+
+        /** Writes the decimal digits of value at position; returns the position after the last digit. */
+        static int writeLong(long value, byte[] out, int position) {
+            if (value < 0) {
+                if (value == Long.MIN_VALUE) {
+                    byte[] min = "-9223372036854775808".getBytes(StandardCharsets.ISO_8859_1);
+                    System.arraycopy(min, 0, out, position, min.length);
+                    return position + min.length;
+                }
+                out[position++] = '-';
+                value = -value;
+            }
+            int end = position + digitCount(value);
+            int i = end;
+            while (value >= 100) {
+                int pair = (int) (value % 100) * 2;
+                value /= 100;
+                out[--i] = DIGIT_PAIRS[pair + 1];
+                out[--i] = DIGIT_PAIRS[pair];
+            }
+            if (value >= 10) {
+                out[--i] = DIGIT_PAIRS[(int) value * 2 + 1];
+                out[--i] = DIGIT_PAIRS[(int) value * 2];
+            } else {
+                out[--i] = (byte) ('0' + value);
+            }
+            return end;
+        }
+
+        static int digitCount(long nonNegative) {
+            long power = 10;
+            for (int digits = 1; digits < 19; digits++, power *= 10) {
+                if (nonNegative < power) {
+                    return digits;
+                }
+            }
+            return 19;
+        }
+
+        private static NumberFormatException invalid(CharSequence text) {
+            return new NumberFormatException("For input string: \"" + text + "\"");
+        }
+    }
+
+    // ========== Double Parsing ==========
+
+    /**
+     * Decimal-to-double conversion after Lemire, "Number Parsing at a Gigabyte per Second".
+     * The scanner collects up to 18 significant digits into a long w and a decimal exponent q.
+     * Small cases are exact in double arithmetic (Clinger); otherwise w is multiplied by a
+     * 128-bit truncated 5^q and the top bits give the correctly rounded significand unless the
+     * product sits too close to a rounding boundary. Those rare cases, subnormals, more than
+     * 18 digits that do not round the same either way, and any syntax beyond
+     * [sign] digits [. digits] [e [sign] digits] fall back to Double.parseDouble.
+     */
+    static final class FastDoubleParser {
+        private static final int MIN_POWER = -342;
+        private static final int MAX_POWER = 308;
+        private static final int MAX_DIGITS = 18;
+        private static final long[] POW5_HIGH = new long[MAX_POWER - MIN_POWER + 1];
+        private static final long[] POW5_LOW = new long[MAX_POWER - MIN_POWER + 1];
+        private static final double[] EXACT_POW10 = new double[23];
+
+        static {
+            BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+            BigInteger two127 = BigInteger.ONE.shiftLeft(127);
+            for (int q = MIN_POWER; q <= MAX_POWER; q++) {
+                BigInteger value;
+                if (q < 0) {
+                    // Rounded-up reciprocal of 5^-q, as in the reference tables
+                    BigInteger power5 = BigInteger.valueOf(5).pow(-q);
+                    int z = power5.bitLength();
+                    int b = q >= -27 ? z + 127 : 2 * z + 128;
+                    value = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+                } else {
+                    value = BigInteger.valueOf(5).pow(q);
+                }
+                while (value.compareTo(two127) < 0) {
+                    value = value.shiftLeft(1);
+                }
+                while (value.compareTo(two128) >= 0) {
+                    value = value.shiftRight(1);
+                }
+                POW5_HIGH[q - MIN_POWER] = value.shiftRight(64).longValue();
+                POW5_LOW[q - MIN_POWER] = value.longValue();
+            }
+            for (int i = 0; i < EXACT_POW10.length; i++) {
+                EXACT_POW10[i] = Double.parseDouble("1e" + i);
+            }
+        }
+
+        static double parseDouble(byte[] bytes, int from, int to) {
+            int i = from;
+            boolean negative = false;
+            if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+                negative = bytes[i++] == '-';
+            }
+            long w = 0;
+            int digits = 0;
+            int exponent = 0;
+            boolean truncated = false;
+            boolean any = false;
+            for (; i < to && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+                any = true;
+                int digit = bytes[i] - '0';
+                if (digits < MAX_DIGITS) {
+                    if (w != 0 || digit != 0) {
+                        w = w * 10 + digit;
+                        digits++;
+                    }
+                } else {
+                    exponent++;
+                    truncated |= digit != 0;
+                }
+            }
+            if (i < to && bytes[i] == '.') {
+                for (i++; i < to && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+                    any = true;
+                    int digit = bytes[i] - '0';
+                    if (digits < MAX_DIGITS) {
+                        if (w != 0 || digit != 0) {
+                            w = w * 10 + digit;
+                            digits++;
+                        }
+                        exponent--;
+                    } else {
+                        truncated |= digit != 0;
+                    }
+                }
+            }
+            if (any && i < to && (bytes[i] == 'e' || bytes[i] == 'E')) {
+                int mark = ++i;
+                boolean negativeExponent = false;
+                if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+                    negativeExponent = bytes[i++] == '-';
+                }
+                int explicit = 0;
+                for (; i < to && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+                    explicit = Math.min(explicit * 10 + bytes[i] - '0', 100_000);
+                }
+                if (i == mark || (i == mark + 1 && (bytes[mark] == '-' || bytes[mark] == '+'))) {
+                    any = false;
+                }
+                exponent += negativeExponent ? -explicit : explicit;
+            }
+            double value = any && i == to ? toDouble(negative, w, exponent, truncated) : Double.NaN;
+            return Double.isNaN(value)
+                ? Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.ISO_8859_1))
+                : value;
+        }
+
+        static double parseDouble(CharSequence text, int from, int to) {
+            int i = from;
+            boolean negative = false;
+            if (i < to && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                negative = text.charAt(i++) == '-';
+            }
+            long w = 0;
+            int digits = 0;
+            int exponent = 0;
+            boolean truncated = false;
+            boolean any = false;
+            for (char c; i < to && (c = text.charAt(i)) >= '0' && c <= '9'; i++) {
+                any = true;
+                int digit = c - '0';
+                if (digits < MAX_DIGITS) {
+                    if (w != 0 || digit != 0) {
+                        w = w * 10 + digit;
+                        digits++;
+                    }
+                } else {
+                    exponent++;
+                    truncated |= digit != 0;
+                }
+            }
+            if (i < to && text.charAt(i) == '.') {
+                i++;
+                for (char c; i < to && (c = text.charAt(i)) >= '0' && c <= '9'; i++) {
+                    any = true;
+                    int digit = c - '0';
+                    if (digits < MAX_DIGITS) {
+                        if (w != 0 || digit != 0) {
+                            w = w * 10 + digit;
+                            digits++;
+                        }
+                        exponent--;
+                    } else {
+                        truncated |= digit != 0;
+                    }
+                }
+            }
+            if (any && i < to && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+                int mark = ++i;
+                boolean negativeExponent = false;
+                if (i < to && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                    negativeExponent = text.charAt(i++) == '-';
+                }
+                int explicit = 0;
+                for (char c; i < to && (c = text.charAt(i)) >= '0' && c <= '9'; i++) {
+                    explicit = Math.min(explicit * 10 + c - '0', 100_000);
+                }
+                if (i == mark || (i == mark + 1 && (text.charAt(mark) == '-' || text.charAt(mark) == '+'))) {
+                    any = false;
+                }
+                exponent += negativeExponent ? -explicit : explicit;
+            }
+            double value = any && i == to ? toDouble(negative, w, exponent, truncated) : Double.NaN;
+            return Double.isNaN(value) ? Double.parseDouble(text.subSequence(from, to).toString()) : value;
+        }
+
+        /** w * 10^q correctly rounded, or NaN when the fast algorithms cannot decide. */
+        static double toDouble(boolean negative, long w, int q, boolean truncated) {
+            if (w == 0) {
+                return negative ? -0.0 : 0.0;
+            }
+            if (truncated) {
+                // The true significand lies in (w, w + 1); if both ends round alike, so does it
+                double low = eiselLemire(negative, w, q);
+                return low == eiselLemire(negative, w + 1, q) ? low : Double.NaN;
+            }
+            if (q >= -22 && q <= 22 && w <= 1L << 53) {
+                double value = q < 0 ? w / EXACT_POW10[-q] : w * EXACT_POW10[q];
+                return negative ? -value : value;
+            }
+            return eiselLemire(negative, w, q);
+        }
+
+        private static double eiselLemire(boolean negative, long w, int q) {
+            if (q < MIN_POWER) {
+                return negative ? -0.0 : 0.0;
+            }
+            if (q > MAX_POWER) {
+                return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            }
+            int index = q - MIN_POWER;
+            int leadingZeros = Long.numberOfLeadingZeros(w);
+            long normalized = w << leadingZeros;
+            long upper = Math.unsignedMultiplyHigh(normalized, POW5_HIGH[index]);
+            long lower = normalized * POW5_HIGH[index];
+            if ((upper & 0x1FF) == 0x1FF && Long.compareUnsigned(lower + normalized, lower) < 0) {
+                // Low 64 bits of the product may carry into the top; widen to 192 bits
+                long productLow = normalized * POW5_LOW[index];
+                long productMiddle2 = Math.unsignedMultiplyHigh(normalized, POW5_LOW[index]);
+                long productMiddle = lower + productMiddle2;
+                if (Long.compareUnsigned(productMiddle, lower) < 0) {
+                    upper++;
+                }
+                if (productMiddle + 1 == 0 && (upper & 0x1FF) == 0x1FF
+                    && Long.compareUnsigned(productLow + normalized, productLow) < 0) {
+                    return Double.NaN;
+                }
+                lower = productMiddle;
+            }
+            long upperBit = upper >>> 63;
+            long mantissa = upper >>> (upperBit + 9);
+            leadingZeros += (int) (1 ^ upperBit);
+            if (lower == 0 && (upper & 0x1FF) == 0 && (mantissa & 3) == 1) {
+                // Exactly halfway: ties-to-even needs the exact value
+                return Double.NaN;
+            }
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+            if (mantissa >= 1L << 53) {
+                mantissa = 1L << 52;
+                leadingZeros--;
+            }
+            mantissa &= ~(1L << 52);
+            long exponent = (((152_170L + 65_536L) * q) >> 16) + 1024 + 63 - leadingZeros;
+            if (exponent < 1 || exponent > 2046) {
+                return Double.NaN;
+            }
+            long bits = mantissa | exponent << 52 | (negative ? 1L << 63 : 0);
+            return Double.longBitsToDouble(bits);
+        }
+    }
+
+    // ========== Double Formatting ==========
+
+    /**
+     * Shortest round-trip double formatting with Giulietti's Schubfach algorithm, the one behind
+     * Double.toString since JDK 19, writing ASCII into a caller's byte[] instead of building a
+     * String. The value c * 2^q is scaled by a 126-bit approximation of 10^-k so that the digits
+     * of the shortest decimal in the rounding interval, and the closest one among ties, can be
+     * chosen with three 64x128-bit multiplications and no loops. Output text equals
+     * Double.toString, including its choice between plain and computerized scientific notation.
+     */
+    static final class FastDoubleFormatter {
+        static final int MAX_CHARS = 24;
+
+        private static final int Q_MIN = -1074;
+        private static final long C_MIN = 1L << 52;
+        private static final int C_TINY = 3;
+        private static final int K_MIN = -324;
+        private static final int K_MAX = 292;
+        private static final long MASK_63 = (1L << 63) - 1;
+        private static final long[] G1 = new long[K_MAX - K_MIN + 1];
+        private static final long[] G0 = new long[K_MAX - K_MIN + 1];
+
+        static {
+            // g(k) = floor(10^-k / 2^r) + 1 with r chosen so 2^125 <= g < 2^126
+            for (int k = K_MIN; k <= K_MAX; k++) {
+                int e = -k;
+                int r = flog2pow10(e) - 125;
+                BigInteger numerator = e >= 0 ? BigInteger.TEN.pow(e) : BigInteger.ONE;
+                BigInteger denominator = e >= 0 ? BigInteger.ONE : BigInteger.TEN.pow(-e);
+                if (r >= 0) {
+                    denominator = denominator.shiftLeft(r);
+                } else {
+                    numerator = numerator.shiftLeft(-r);
+                }
+                BigInteger g = numerator.divide(denominator).add(BigInteger.ONE);
+                if (g.bitLength() != 126) {
+                    throw new IllegalStateException("g(" + k + ") has " + g.bitLength() + " bits");
+                }
+                G1[k - K_MIN] = g.shiftRight(63).longValue();
+                G0[k - K_MIN] = g.longValue() & MASK_63;
+            }
+        }
+
+        /** Writes value as Double.toString would; returns the position after the last char. */
+        static int write(double value, byte[] out, int position) {
+            long bits = Double.doubleToRawLongBits(value);
+            int biasedExponent = (int) (bits >>> 52) & 0x7FF;
+            long fraction = bits & (C_MIN - 1);
+            if (biasedExponent == 0x7FF) {
+                String special = fraction != 0 ? "NaN" : bits < 0 ? "-Infinity" : "Infinity";
+                return ascii(special, out, position);
+            }
+            if (bits < 0) {
+                out[position++] = '-';
+            }
+            if (biasedExponent == 0 && fraction == 0) {
+                return ascii("0.0", out, position);
+            }
+            if (biasedExponent != 0) {
+                int mq = -Q_MIN + 1 - biasedExponent;
+                long c = C_MIN | fraction;
+                if (0 < mq && mq < 53) {
+                    long f = c >> mq;
+                    if (f << mq == c) {
+                        return digits(f, 0, out, position);
+                    }
+                }
+                return toDecimal(-mq, c, 0, out, position);
+            }
+            return fraction < C_TINY
+                ? toDecimal(Q_MIN, 10 * fraction, -1, out, position)
+                : toDecimal(Q_MIN, fraction, 0, out, position);
+        }
+
+        private static int toDecimal(int q, long c, int dk, byte[] output, int position) {
+            int out = (int) c & 0x1;
+            long cb = c << 2;
+            long cbr = cb + 2;
+            long cbl;
+            int k;
+            if (c != C_MIN | q == Q_MIN) {
+                cbl = cb - 2;
+                k = flog10pow2(q);
+            } else {
+                cbl = cb - 1;
+                k = flog10threeQuartersPow2(q);
+            }
+            int h = q + flog2pow10(-k) + 2;
+            long g1 = G1[k - K_MIN];
+            long g0 = G0[k - K_MIN];
+            long vb = roundToOdd(g1, g0, cb << h);
+            long vbl = roundToOdd(g1, g0, cbl << h);
+            long vbr = roundToOdd(g1, g0, cbr << h);
+            long s = vb >> 2;
+            if (s >= 100) {
+                // One digit shorter: s rounded down and up to a multiple of ten
+                long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+                long tp10 = sp10 + 10;
+                boolean upin = vbl + out <= sp10 << 2;
+                boolean wpin = (tp10 << 2) + out <= vbr;
+                if (upin != wpin) {
+                    return digits(upin ? sp10 : tp10, k, output, position);
+                }
+            }
+            long t = s + 1;
+            boolean uin = vbl + out <= s << 2;
+            boolean win = (t << 2) + out <= vbr;
+            if (uin != win) {
+                return digits(uin ? s : t, k + dk, output, position);
+            }
+            long cmp = vb - (s + t << 1);
+            return digits(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, output, position);
+        }
+
+        private static long roundToOdd(long g1, long g0, long cp) {
+            long x1 = Math.multiplyHigh(g0, cp);
+            long y0 = g1 * cp;
+            long y1 = Math.multiplyHigh(g1, cp);
+            long z = (y0 >>> 1) + x1;
+            long vbp = y1 + (z >>> 63);
+            return vbp | (z & MASK_63) + MASK_63 >>> 63;
+        }
+
+        /** Renders f * 10^e, trailing zeros removed, in Double.toString's layout. */
+        private static int digits(long f, int e, byte[] out, int position) {
+            while (f % 10 == 0) {
+                f /= 10;
+                e++;
+            }
+            int count = FastIntegers.digitCount(f);
+            int scientific = e + count - 1;
+            if (scientific >= -3 && scientific < 7) {
+                if (scientific < 0) {
+                    out[position++] = '0';
+                    out[position++] = '.';
+                    for (int z = -1; z > scientific; z--) {
+                        out[position++] = '0';
+                    }
+                    return FastIntegers.writeLong(f, out, position);
+                }
+                int end = FastIntegers.writeLong(f, out, position);
+                for (int z = 0; z < e; z++) {
+                    out[end++] = '0';
+                }
+                int integerDigits = scientific + 1;
+                if (integerDigits >= end - position) {
+                    out[end++] = '.';
+                    out[end++] = '0';
+                    return end;
+                }
+                int point = position + integerDigits;
+                System.arraycopy(out, point, out, point + 1, end - point);
+                out[point] = '.';
+                return end + 1;
+            }
+            int end = FastIntegers.writeLong(f, out, position + 1);
+            out[position] = out[position + 1];
+            out[position + 1] = '.';
+            if (count == 1) {
+                out[end++] = '0';
+            }
+            out[end++] = 'E';
+            return FastIntegers.writeLong(scientific, out, end);
+        }
+
+        private static int flog10pow2(int e) {
+            return (int) (e * 661_971_961_083L >> 41);
+        }
+
+        private static int flog10threeQuartersPow2(int e) {
+            return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+        }
+
+        private static int flog2pow10(int e) {
+            return (int) (e * 913_124_641_741L >> 38);
+        }
+
+        private static int ascii(String text, byte[] out, int position) {
+            for (int i = 0; i < text.length(); i++) {
+                out[position++] = (byte) text.charAt(i);
+            }
+            return position;
+        }
+    }
+
+    // ========== Demos ==========
+
+    private static void integerDemo() {
+        System.out.println("--- Integers from and into Byte Ranges ---");
+
+        byte[] row = "42,-9223372036854775808,2147483647,007".getBytes(StandardCharsets.US_ASCII);
+        int[] commas = {2, 23, 34};
+        System.out.println("Fields: " + FastIntegers.parseLong(row, 0, commas[0]) + ", "
+            + FastIntegers.parseLong(row, commas[0] + 1, commas[1]) + ", "
+            + FastIntegers.parseInt(row, commas[1] + 1, commas[2]) + ", "
+            + FastIntegers.parseLong("x=007;", 2, 5) + " (CharSequence range)");
+        for (String bad : new String[]{"9223372036854775808", "12a", "-"}) {
+            try {
+                byte[] bytes = bad.getBytes(StandardCharsets.US_ASCII);
+                FastIntegers.parseLong(bytes, 0, bytes.length);
+            } catch (NumberFormatException e) {
+                System.out.println("Rejected like Long.parseLong: " + e.getMessage());
+            }
+        }
+        byte[] out = new byte[64];
+        int end = FastIntegers.writeLong(-1234567890123L, out, 0);
+        out[end++] = ',';
+        end = FastIntegers.writeLong(Long.MIN_VALUE, out, end);
+        System.out.println("Written into a reused byte[]: " + new String(out, 0, end, StandardCharsets.US_ASCII));
+
+        System.out.println();
+    }
+
+    private static void doubleDemo() {
+        System.out.println("--- Doubles: Eisel-Lemire Parsing, Schubfach Formatting ---");
+
+        String[] inputs = {"3.14159", "0.1", "-2.5e-3", "1.7976931348623157E308", "4.9e-324", "123456789012345678901234",
+            "9007199254740993", "1e23", "NaN"};
+        byte[] out = new byte[FastDoubleFormatter.MAX_CHARS];
+        for (String input : inputs) {
+            byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+            double parsed = FastDoubleParser.parseDouble(bytes, 0, bytes.length);
+            int end = FastDoubleFormatter.write(parsed, out, 0);
+            String formatted = new String(out, 0, end, StandardCharsets.US_ASCII);
+            System.out.println(String.format("  %-26s -> %-24s same bits as JDK: %-5s same text: %s", input, formatted,
+                Double.doubleToRawLongBits(parsed) == Double.doubleToRawLongBits(Double.parseDouble(input)),
+                formatted.equals(Double.toString(parsed))));
+        }
+        System.out.println("4.9e-324 (subnormal), the 24-digit input and NaN take the JDK fallback; the rest never allocate.");
+
+        System.out.println();
+    }
+
+    private static void crossCheck() {
+        System.out.println("--- Cross-Check against Double.toString and Double.parseDouble ---");
+
+        SplittableRandom random = new SplittableRandom(46);
+        byte[] out = new byte[FastDoubleFormatter.MAX_CHARS];
+        int formatMismatches = 0;
+        int roundTripMismatches = 0;
+        int samples = 300_000;
+        for (int n = 0; n < samples; n++) {
+            double value = switch (n % 3) {
+                case 0 -> Double.longBitsToDouble(random.nextLong());
+                case 1 -> random.nextDouble() * Math.pow(10, random.nextInt(-20, 20));
+                default -> random.nextInt(-1_000_000, 1_000_000) / 100.0;
+            };
+            int end = FastDoubleFormatter.write(value, out, 0);
+            if (!new String(out, 0, end, StandardCharsets.US_ASCII).equals(Double.toString(value))) {
+                formatMismatches++;
+            }
+            double parsed = FastDoubleParser.parseDouble(out, 0, end);
+            if (Double.doubleToRawLongBits(parsed) != Double.doubleToRawLongBits(value) && !Double.isNaN(value)) {
+                roundTripMismatches++;
+            }
+        }
+        int parseMismatches = 0;
+        StringBuilder decimal = new StringBuilder();
+        for (int n = 0; n < samples; n++) {
+            decimal.setLength(0);
+            if (random.nextBoolean()) {
+                decimal.append('-');
+            }
+            int digits = random.nextInt(1, 25);
+            for (int d = 0; d < digits; d++) {
+                decimal.append((char) ('0' + random.nextInt(10)));
+                if (d == 0 && random.nextBoolean()) {
+                    decimal.append('.');
+                }
+            }
+            decimal.append('e').append(random.nextInt(-330, 310));
+            if (Double.doubleToRawLongBits(FastDoubleParser.parseDouble(decimal, 0, decimal.length()))
+                != Double.doubleToRawLongBits(Double.parseDouble(decimal.toString()))) {
+                parseMismatches++;
+            }
+        }
+        System.out.println(String.format("%,d doubles (random bits, scaled, two-decimal prices): %d text mismatches "
+            + "with Double.toString, %d round-trip failures", samples, formatMismatches, roundTripMismatches));
+        System.out.println(String.format("%,d random decimals of 1-24 digits, exponents -330..309: %d mismatches "
+            + "with Double.parseDouble", samples, parseMismatches));
+
+        System.out.println();
+    }
+
+    // ========== Benchmarks ==========
+
+    private static final int ROWS = 100_000;
+
+    private static void parseBenchmark() {
+        System.out.println("--- Benchmark: Parsing CSV-like Fields (id,quantity,price,measurement) ---");
+
+        SplittableRandom random = new SplittableRandom(7);
+        StringBuilder csv = new StringBuilder(ROWS * 48);
+        for (int i = 0; i < ROWS; i++) {
+            csv.append(1_000_000 + i).append(',').append(random.nextInt(1, 500)).append(',')
+                .append(random.nextInt(100, 100_000) / 100.0).append(',')
+                .append(random.nextDouble() * 1e3).append('\n');
+        }
+        String text = csv.toString();
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        int[] bounds = fieldBounds(bytes);
+        int fields = bounds.length / 2;
+
+        System.out.println(String.format("  %-46s %10s %12s", "approach", "ns/field", "bytes/field"));
+        double expected = measure("new String + Long.parseLong/Double.parseDouble", fields, () -> {
+            double sum = 0;
+            for (int f = 0; f < fields; f++) {
+                String field = new String(bytes, bounds[2 * f], bounds[2 * f + 1] - bounds[2 * f], StandardCharsets.US_ASCII);
+                sum += f % 4 < 2 ? Long.parseLong(field) : Double.parseDouble(field);
+            }
+            return Double.doubleToRawLongBits(sum);
+        });
+        double fromBytes = measure("FastIntegers/FastDoubleParser on byte[] ranges", fields, () -> {
+            double sum = 0;
+            for (int f = 0; f < fields; f++) {
+                sum += f % 4 < 2
+                    ? FastIntegers.parseLong(bytes, bounds[2 * f], bounds[2 * f + 1])
+                    : FastDoubleParser.parseDouble(bytes, bounds[2 * f], bounds[2 * f + 1]);
+            }
+            return Double.doubleToRawLongBits(sum);
+        });
+        double fromChars = measure("FastIntegers/FastDoubleParser on String ranges", fields, () -> {
+            double sum = 0;
+            for (int f = 0; f < fields; f++) {
+                sum += f % 4 < 2
+                    ? FastIntegers.parseLong(text, bounds[2 * f], bounds[2 * f + 1])
+                    : FastDoubleParser.parseDouble(text, bounds[2 * f], bounds[2 * f + 1]);
+            }
+            return Double.doubleToRawLongBits(sum);
+        });
+        System.out.println("All three produce the same sum: " + (expected == fromBytes && fromBytes == fromChars));
+
+        System.out.println();
+    }
+
+    private static void formatBenchmark() {
+        System.out.println("--- Benchmark: Formatting Doubles into an Output Buffer ---");
+
+        SplittableRandom random = new SplittableRandom(8);
+        double[] values = new double[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            values[i] = i % 2 == 0 ? random.nextInt(100, 100_000) / 100.0 : random.nextDouble() * 1e3;
+        }
+        byte[] out = new byte[ROWS * FastDoubleFormatter.MAX_CHARS];
+
+        System.out.println(String.format("  %-46s %10s %12s", "approach", "ns/value", "bytes/value"));
+        measure("Double.toString + getBytes + arraycopy", ROWS, () -> {
+            int position = 0;
+            for (double value : values) {
+                byte[] text = Double.toString(value).getBytes(StandardCharsets.US_ASCII);
+                System.arraycopy(text, 0, out, position, text.length);
+                position += text.length;
+                out[position++] = ',';
+            }
+            return position;
+        });
+        measure("StringBuilder.append(double), reused", ROWS, () -> {
+            StringBuilder builder = new StringBuilder(ROWS * FastDoubleFormatter.MAX_CHARS);
+            for (double value : values) {
+                builder.append(value).append(',');
+            }
+            return builder.length();
+        });
+        measure("FastDoubleFormatter.write into byte[]", ROWS, () -> {
+            int position = 0;
+            for (double value : values) {
+                position = FastDoubleFormatter.write(value, out, position);
+                out[position++] = ',';
+            }
+            return position;
+        });
+        System.out.println("Double.toString has used Schubfach since JDK 19, so per-value speed is similar; the gain is");
+        System.out.println("that no String or byte[] is created per value. Inline best-of-3 timings after warm-up.");
+
+        System.out.println();
+    }
+
+    private static double measure(String name, int operations, LongSupplier body) {
+        ShowcaseSupport.Timing timing = ShowcaseSupport.time(5, body);
+        System.out.println(String.format("  %-46s %10.1f %12.1f", name, (double) timing.bestNanos() / operations,
+            (double) timing.bestBytes() / operations));
+        return Double.longBitsToDouble(timing.result());
+    }
+
+    // ========== Helper Methods ==========
+
+    /** Start and end offsets of every comma- or newline-terminated field. */
+    private static int[] fieldBounds(byte[] bytes) {
+        int[] bounds = new int[16];
+        int count = 0;
+        int start = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == ',' || bytes[i] == '\n') {
+                if (count + 2 > bounds.length) {
+                    bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                }
+                bounds[count++] = start;
+                bounds[count++] = i;
+                start = i + 1;
+            }
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+}
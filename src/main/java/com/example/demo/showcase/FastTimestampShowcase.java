@@ -0,0 +1,548 @@
+package com.example.demo.showcase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.zone.ZoneRules;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Demonstrates high-throughput ISO-8601 / RFC 3339 timestamp handling
+ * Including fixed-layout parsers and formatters that work on byte arrays, a cache of compiled
+ * DateTimeFormatter patterns, a per-second cached formatter for log timestamps, cross-checks
+ * against java.time and benchmarks against DateTimeFormatter
+ */
+public class FastTimestampShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== FAST TIMESTAMP SHOWCASE ==========\n");
+
+        isoParsingDemo();
+        formatterCacheDemo();
+        logTimestampDemo();
+        crossCheck();
+        parseBenchmark();
+        formatBenchmark();
+    }
+
+    // ========== Fixed-Layout ISO-8601 ==========
+
+    /**
+     * RFC 3339 timestamps on ASCII bytes: yyyy-MM-dd, 'T', 't' or ' ', HH:mm:ss, an optional
+     * fraction of 1-9 digits, then 'Z', 'z' or a ±HH:mm offset. Each field sits at a fixed
+     * index, so parsing is digit arithmetic plus range checks, and the epoch day comes from
+     * the civil-calendar formula instead of a LocalDate. Invalid input throws the same
+     * DateTimeParseException type as DateTimeFormatter, with the error index. Leap seconds
+     * (second 60) are rejected, as Instant.parse does without a smoothing resolver.
+     */
+    static final class Iso8601 {
+        /** "2024-05-01T12:34:56.789Z" */
+        static final int MILLIS_LENGTH = 24;
+
+        static long parseEpochMillis(byte[] bytes, int from, int to) {
+            long epochSecond = parseEpochSecond(bytes, from, to);
+            return epochSecond * 1_000 + fractionNanos(bytes, from, to) / 1_000_000;
+        }
+
+        static Instant parseInstant(byte[] bytes, int from, int to) {
+            return Instant.ofEpochSecond(parseEpochSecond(bytes, from, to), fractionNanos(bytes, from, to));
+        }
+
+        private static long parseEpochSecond(byte[] bytes, int from, int to) {
+            if (to - from < 20) {
+                throw error(bytes, from, to, "Text too short", to - from);
+            }
+            int year = digits(bytes, from, 0, 4, to);
+            expect(bytes, from, 4, '-', to);
+            int month = digits(bytes, from, 5, 2, to);
+            expect(bytes, from, 7, '-', to);
+            int day = digits(bytes, from, 8, 2, to);
+            byte separator = bytes[from + 10];
+            if (separator != 'T' && separator != 't' && separator != ' ') {
+                throw error(bytes, from, to, "Expected 'T' or ' '", 10);
+            }
+            int hour = digits(bytes, from, 11, 2, to);
+            expect(bytes, from, 13, ':', to);
+            int minute = digits(bytes, from, 14, 2, to);
+            expect(bytes, from, 16, ':', to);
+            int second = digits(bytes, from, 17, 2, to);
+            if (month < 1 || month > 12) {
+                throw error(bytes, from, to, "Invalid month " + month, 5);
+            }
+            if (day < 1 || day > lengthOfMonth(year, month)) {
+                throw error(bytes, from, to, "Invalid day " + day, 8);
+            }
+            if (hour > 23 || minute > 59 || second > 59) {
+                throw error(bytes, from, to, "Invalid time", 11);
+            }
+            int i = from + 19;
+            if (bytes[i] == '.') {
+                int start = ++i;
+                while (i < to && bytes[i] >= '0' && bytes[i] <= '9') {
+                    i++;
+                }
+                if (i == start || i - start > 9) {
+                    throw error(bytes, from, to, "Fraction must have 1-9 digits", start - from);
+                }
+            }
+            int offsetSeconds = offsetSeconds(bytes, from, i, to);
+            return (daysFromCivil(year, month, day) * 86_400 + hour * 3_600 + minute * 60 + second) - offsetSeconds;
+        }
+
+        private static int fractionNanos(byte[] bytes, int from, int to) {
+            int i = from + 19;
+            if (bytes[i] != '.') {
+                return 0;
+            }
+            int nanos = 0;
+            int digits = 0;
+            for (i++; i < to && bytes[i] >= '0' && bytes[i] <= '9'; i++, digits++) {
+                nanos = nanos * 10 + bytes[i] - '0';
+            }
+            for (; digits < 9; digits++) {
+                nanos *= 10;
+            }
+            return nanos;
+        }
+
+        private static int offsetSeconds(byte[] bytes, int from, int i, int to) {
+            if (i == to - 1 && (bytes[i] == 'Z' || bytes[i] == 'z')) {
+                return 0;
+            }
+            if (i != to - 6 || (bytes[i] != '+' && bytes[i] != '-') || bytes[i + 3] != ':') {
+                throw error(bytes, from, to, "Expected 'Z' or an offset ±HH:mm", i - from);
+            }
+            int hours = digits(bytes, i, 1, 2, to);
+            int minutes = digits(bytes, i, 4, 2, to);
+            if (hours > 18 || minutes > 59) {
+                throw error(bytes, from, to, "Invalid offset", i - from);
+            }
+            int seconds = hours * 3_600 + minutes * 60;
+            return bytes[i] == '-' ? -seconds : seconds;
+        }
+
+        /**
+         * Writes epochMillis as yyyy-MM-ddTHH:mm:ss.SSSZ (24 bytes) and returns the end
+         * position. Years outside 0000-9999 have no fixed-width form and go through
+         * DateTimeFormatter.ISO_INSTANT instead.
+         */
+        static int formatEpochMillis(long epochMillis, byte[] out, int position) {
+            long epochSecond = Math.floorDiv(epochMillis, 1_000);
+            long epochDay = Math.floorDiv(epochSecond, 86_400);
+            if (epochDay < MIN_FIXED_DAY || epochDay > MAX_FIXED_DAY) {
+                byte[] text = DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(epochMillis))
+                    .getBytes(StandardCharsets.US_ASCII);
+                System.arraycopy(text, 0, out, position, text.length);
+                return position + text.length;
+            }
+            position = writeDateTime(epochDay, (int) (epochSecond - epochDay * 86_400), 'T', out, position);
+            out[position++] = '.';
+            position = write3(Math.floorMod(epochMillis, 1_000), out, position);
+            out[position++] = 'Z';
+            return position;
+        }
+
+        /** Writes yyyy-MM-dd, the separator and HH:mm:ss for a day and second-of-day. */
+        static int writeDateTime(long epochDay, int secondOfDay, char separator, byte[] out, int position) {
+            long civil = civilFromDays(epochDay);
+            int year = (int) (civil >> 16);
+            int month = (int) (civil >> 8) & 0xFF;
+            int day = (int) civil & 0xFF;
+            position = write2(year / 100, out, position);
+            position = write2(year % 100, out, position);
+            out[position++] = '-';
+            position = write2(month, out, position);
+            out[position++] = '-';
+            position = write2(day, out, position);
+            out[position++] = (byte) separator;
+            position = write2(secondOfDay / 3_600, out, position);
+            out[position++] = ':';
+            position = write2(secondOfDay / 60 % 60, out, position);
+            out[position++] = ':';
+            return write2(secondOfDay % 60, out, position);
+        }
+
+        static final long MIN_FIXED_DAY = daysFromCivil(0, 1, 1);
+        static final long MAX_FIXED_DAY = daysFromCivil(9999, 12, 31);
+
+        /** Days since 1970-01-01 of a proleptic Gregorian date (Hinnant's days_from_civil). */
+        static long daysFromCivil(int year, int month, int day) {
+            int y = month <= 2 ? year - 1 : year;
+            int era = Math.floorDiv(y, 400);
+            int yearOfEra = y - era * 400;
+            int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+            int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+            return era * 146_097L + dayOfEra - 719_468;
+        }
+
+        /** Inverse of daysFromCivil, packed as year << 16 | month << 8 | day to avoid a carrier object. */
+        static long civilFromDays(long epochDay) {
+            long z = epochDay + 719_468;
+            long era = Math.floorDiv(z, 146_097);
+            int dayOfEra = (int) (z - era * 146_097);
+            int yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+            int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+            int mp = (5 * dayOfYear + 2) / 153;
+            int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+            int month = mp < 10 ? mp + 3 : mp - 9;
+            long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+            return year << 16 | (long) month << 8 | day;
+        }
+
+        static int lengthOfMonth(int year, int month) {
+            return month == 2
+                ? (Year.isLeap(year) ? 29 : 28)
+                : 30 + ((month + (month >> 3)) & 1);
+        }
+
+        private static int digits(byte[] bytes, int base, int offset, int count, int to) {
+            int value = 0;
+            for (int i = base + offset; i < base + offset + count; i++) {
+                int digit = i < to ? bytes[i] - '0' : -1;
+                if (digit < 0 || digit > 9) {
+                    throw error(bytes, base, to, "Expected a digit", offset);
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        private static void expect(byte[] bytes, int from, int offset, char expected, int to) {
+            if (bytes[from + offset] != expected) {
+                throw error(bytes, from, to, "Expected '" + expected + "'", offset);
+            }
+        }
+
+        private static DateTimeParseException error(byte[] bytes, int from, int to, String message, int index) {
+            String text = new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+            return new DateTimeParseException("Text '" + text + "' could not be parsed: " + message, text, index);
+        }
+
+        static int write2(int value, byte[] out, int position) {
+            out[position] = (byte) ('0' + value / 10);
+            out[position + 1] = (byte) ('0' + value % 10);
+            return position + 2;
+        }
+
+        static int write3(int value, byte[] out, int position) {
+            out[position] = (byte) ('0' + value / 100);
+            out[position + 1] = (byte) ('0' + value / 10 % 10);
+            out[position + 2] = (byte) ('0' + value % 10);
+            return position + 3;
+        }
+    }
+
+    // ========== Formatter Cache ==========
+
+    /**
+     * DateTimeFormatter.ofPattern parses the pattern into a printer-parser tree on every call;
+     * the resulting formatter is immutable and thread-safe, so one per pattern and locale can be
+     * shared. Patterns beyond MAX_CACHED are compiled without caching, since that many
+     * distinct patterns means they are being built dynamically.
+     */
+    static final class FormatterCache {
+        private static final int MAX_CACHED = 256;
+        private static final Map<PatternKey, DateTimeFormatter> CACHE = new ConcurrentHashMap<>();
+
+        record PatternKey(String pattern, Locale locale) {
+        }
+
+        static DateTimeFormatter ofPattern(String pattern) {
+            return ofPattern(pattern, Locale.getDefault(Locale.Category.FORMAT));
+        }
+
+        static DateTimeFormatter ofPattern(String pattern, Locale locale) {
+            PatternKey key = new PatternKey(pattern, locale);
+            DateTimeFormatter formatter = CACHE.get(key);
+            if (formatter != null) {
+                return formatter;
+            }
+            return CACHE.size() < MAX_CACHED
+                ? CACHE.computeIfAbsent(key, k -> DateTimeFormatter.ofPattern(k.pattern(), k.locale()))
+                : DateTimeFormatter.ofPattern(pattern, locale);
+        }
+
+        static int size() {
+            return CACHE.size();
+        }
+    }
+
+    // ========== Log Timestamps ==========
+
+    /**
+     * Formats epoch millis as "yyyy-MM-dd HH:mm:ss.SSS" in a zone, for log lines. Consecutive log
+     * events share their second, so the 20-byte "yyyy-MM-dd HH:mm:ss." prefix, including the zone
+     * offset lookup, is computed once per second and published as an immutable snapshot; each call
+     * then copies it and writes three digits. Safe for concurrent use: a thread that sees a stale
+     * snapshot just builds and publishes a new one.
+     */
+    static final class LogTimestampFormatter {
+        static final int LENGTH = 23;
+
+        private record CachedSecond(long epochSecond, byte[] prefix) {
+        }
+
+        private final ZoneRules rules;
+        private volatile CachedSecond cached = new CachedSecond(Long.MIN_VALUE, new byte[20]);
+
+        LogTimestampFormatter(ZoneId zone) {
+            this.rules = zone.getRules();
+        }
+
+        int format(long epochMillis, byte[] out, int position) {
+            long epochSecond = Math.floorDiv(epochMillis, 1_000);
+            CachedSecond snapshot = cached;
+            if (snapshot.epochSecond() != epochSecond) {
+                snapshot = new CachedSecond(epochSecond, prefix(epochSecond));
+                cached = snapshot;
+            }
+            System.arraycopy(snapshot.prefix(), 0, out, position, 20);
+            return Iso8601.write3(Math.floorMod(epochMillis, 1_000), out, position + 20);
+        }
+
+        private byte[] prefix(long epochSecond) {
+            int offset = rules.isFixedOffset()
+                ? rules.getOffset(Instant.EPOCH).getTotalSeconds()
+                : rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+            long localSecond = epochSecond + offset;
+            long epochDay = Math.floorDiv(localSecond, 86_400);
+            byte[] prefix = new byte[20];
+            Iso8601.writeDateTime(epochDay, (int) (localSecond - epochDay * 86_400), ' ', prefix, 0);
+            prefix[19] = '.';
+            return prefix;
+        }
+    }
+
+    // ========== Demos ==========
+
+    private static void isoParsingDemo() {
+        System.out.println("--- Fixed-Layout ISO-8601 on Bytes ---");
+
+        String[] inputs = {"2024-05-01T12:34:56.789Z", "2024-05-01 14:34:56.789123456+02:00", "1969-12-31t23:59:59Z",
+            "2024-02-30T00:00:00Z", "2024-05-01T12:34:56"};
+        for (String input : inputs) {
+            byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+            try {
+                Instant instant = Iso8601.parseInstant(bytes, 0, bytes.length);
+                System.out.println(String.format("  %-38s -> %s (epoch millis %d)", input, instant,
+                    Iso8601.parseEpochMillis(bytes, 0, bytes.length)));
+            } catch (DateTimeParseException e) {
+                System.out.println(String.format("  %-38s -> rejected at index %d: %s", input, e.getErrorIndex(),
+                    e.getMessage().substring(e.getMessage().indexOf(": ") + 2)));
+            }
+        }
+        byte[] out = new byte[Iso8601.MILLIS_LENGTH];
+        int end = Iso8601.formatEpochMillis(1_714_566_896_789L, out, 0);
+        System.out.println("Formatted into a byte[]: " + new String(out, 0, end, StandardCharsets.US_ASCII));
+
+        System.out.println();
+    }
+
+    private static void formatterCacheDemo() {
+        System.out.println("--- Cached Pattern Formatters ---");
+
+        DateTimeFormatter first = FormatterCache.ofPattern("yyyy-MM-dd HH:mm:ss", Locale.ROOT);
+        DateTimeFormatter second = FormatterCache.ofPattern("yyyy-MM-dd HH:mm:ss", Locale.ROOT);
+        System.out.println("Same compiled formatter for the same pattern: " + (first == second)
+            + " (cached patterns: " + FormatterCache.size() + ")");
+        System.out.println("Formatted: " + LocalDateTime.of(2024, 12, 25, 15, 30).format(first));
+
+        int calls = 20_000;
+        LocalDateTime dateTime = LocalDateTime.of(2024, 12, 25, 15, 30);
+        long inline = bestOf(() -> {
+            long length = 0;
+            for (int i = 0; i < calls; i++) {
+                length += dateTime.format(DateTimeFormatter.ofPattern("EEE, MMM d, ''yy")).length();
+            }
+            return length;
+        });
+        long cached = bestOf(() -> {
+            long length = 0;
+            for (int i = 0; i < calls; i++) {
+                length += dateTime.format(FormatterCache.ofPattern("EEE, MMM d, ''yy")).length();
+            }
+            return length;
+        });
+        System.out.println(String.format("Pattern compiled inline per call: %.0f ns, from the cache: %.0f ns",
+            (double) inline / calls, (double) cached / calls));
+
+        System.out.println();
+    }
+
+    private static void logTimestampDemo() {
+        System.out.println("--- Per-Second Cached Log Timestamps ---");
+
+        LogTimestampFormatter formatter = new LogTimestampFormatter(ZoneId.of("America/New_York"));
+        byte[] out = new byte[LogTimestampFormatter.LENGTH];
+        // 2024-03-10 06:59:59.998 UTC is 01:59:59.998 in New York, just before the spring-forward gap
+        long[] events = {1_710_053_999_998L, 1_710_053_999_999L, 1_710_054_000_000L, 1_710_054_000_457L};
+        for (long event : events) {
+            formatter.format(event, out, 0);
+            System.out.println("  " + event + " -> " + new String(out, StandardCharsets.US_ASCII)
+                + "   DateTimeFormatter: " + LOG_PATTERN.format(Instant.ofEpochMilli(event)));
+        }
+        System.out.println("The DST change at the second boundary is picked up when the prefix is rebuilt.");
+
+        System.out.println();
+    }
+
+    private static final DateTimeFormatter LOG_PATTERN =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS", Locale.ROOT).withZone(ZoneId.of("America/New_York"));
+
+    private static void crossCheck() {
+        System.out.println("--- Cross-Check against java.time ---");
+
+        SplittableRandom random = new SplittableRandom(47);
+        DateTimeFormatter isoMillis = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSX", Locale.ROOT)
+            .withZone(ZoneOffset.UTC);
+        byte[] out = new byte[64];
+        int mismatches = 0;
+        int samples = 100_000;
+        long min = Instant.parse("1900-01-01T00:00:00Z").toEpochMilli();
+        long max = Instant.parse("2200-01-01T00:00:00Z").toEpochMilli();
+        for (int n = 0; n < samples; n++) {
+            long millis = random.nextLong(min, max);
+            int end = Iso8601.formatEpochMillis(millis, out, 0);
+            String ours = new String(out, 0, end, StandardCharsets.US_ASCII);
+            if (!ours.equals(isoMillis.format(Instant.ofEpochMilli(millis))) || Iso8601.parseEpochMillis(out, 0, end) != millis) {
+                mismatches++;
+            }
+            int offsetMinutes = random.nextInt(-18 * 60, 18 * 60 + 1);
+            String withOffset = OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis),
+                ZoneOffset.ofTotalSeconds(offsetMinutes * 60)).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+            byte[] bytes = withOffset.getBytes(StandardCharsets.US_ASCII);
+            if (Iso8601.parseEpochMillis(bytes, 0, bytes.length) != OffsetDateTime.parse(withOffset).toInstant().toEpochMilli()) {
+                mismatches++;
+            }
+        }
+        System.out.println(String.format("%,d random instants 1900-2200 formatted, re-parsed and parsed with random "
+            + "offsets: %d mismatches", samples, mismatches));
+
+        System.out.println();
+    }
+
+    // ========== Benchmarks ==========
+
+    private static final int EVENTS = 100_000;
+
+    private static void parseBenchmark() {
+        System.out.println("--- Benchmark: Parsing RFC 3339 Timestamps from Log Bytes ---");
+
+        long start = Instant.parse("2024-05-01T00:00:00Z").toEpochMilli();
+        StringBuilder log = new StringBuilder(EVENTS * 26);
+        SplittableRandom random = new SplittableRandom(3);
+        long millis = start;
+        for (int i = 0; i < EVENTS; i++) {
+            millis += random.nextInt(50);
+            log.append(Instant.ofEpochMilli(millis).atOffset(ZoneOffset.UTC)
+                .format(DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSX", Locale.ROOT))).append('\n');
+        }
+        byte[] bytes = log.toString().getBytes(StandardCharsets.US_ASCII);
+        int stride = Iso8601.MILLIS_LENGTH + 1;
+
+        System.out.println(String.format("  %-48s %10s %12s", "approach", "ns/value", "bytes/value"));
+        long expected = measure("new String + Instant.parse", () -> {
+            long sum = 0;
+            for (int i = 0; i < EVENTS; i++) {
+                sum += Instant.parse(new String(bytes, i * stride, Iso8601.MILLIS_LENGTH, StandardCharsets.US_ASCII))
+                    .toEpochMilli();
+            }
+            return sum;
+        });
+        measure("new String + OffsetDateTime.parse (ISO_OFFSET)", () -> {
+            long sum = 0;
+            for (int i = 0; i < EVENTS; i++) {
+                sum += OffsetDateTime.parse(new String(bytes, i * stride, Iso8601.MILLIS_LENGTH, StandardCharsets.US_ASCII))
+                    .toInstant().toEpochMilli();
+            }
+            return sum;
+        });
+        long actual = measure("Iso8601.parseEpochMillis on byte[]", () -> {
+            long sum = 0;
+            for (int i = 0; i < EVENTS; i++) {
+                sum += Iso8601.parseEpochMillis(bytes, i * stride, i * stride + Iso8601.MILLIS_LENGTH);
+            }
+            return sum;
+        });
+        System.out.println("Same epoch millis from every parser: " + (expected == actual));
+
+        System.out.println();
+    }
+
+    private static void formatBenchmark() {
+        System.out.println("--- Benchmark: Formatting Log Timestamps (events ~25 ms apart) ---");
+
+        long[] events = new long[EVENTS];
+        SplittableRandom random = new SplittableRandom(4);
+        events[0] = Instant.parse("2024-05-01T00:00:00Z").toEpochMilli();
+        for (int i = 1; i < EVENTS; i++) {
+            events[i] = events[i - 1] + random.nextInt(50);
+        }
+        ZoneId zone = ZoneId.of("Europe/London");
+        DateTimeFormatter cachedPattern = FormatterCache.ofPattern("yyyy-MM-dd HH:mm:ss.SSS", Locale.ROOT).withZone(zone);
+        LogTimestampFormatter logFormatter = new LogTimestampFormatter(zone);
+        byte[] out = new byte[64];
+
+        System.out.println(String.format("  %-48s %10s %12s", "approach", "ns/value", "bytes/value"));
+        measure("ofPattern per call + format (zone)", () -> {
+            long length = 0;
+            for (long event : events) {
+                length += DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS", Locale.ROOT).withZone(zone)
+                    .format(Instant.ofEpochMilli(event)).length();
+            }
+            return length;
+        });
+        measure("cached DateTimeFormatter.format (zone)", () -> {
+            long length = 0;
+            for (long event : events) {
+                length += cachedPattern.format(Instant.ofEpochMilli(event)).length();
+            }
+            return length;
+        });
+        measure("DateTimeFormatter.ISO_INSTANT (UTC)", () -> {
+            long length = 0;
+            for (long event : events) {
+                length += DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(event)).length();
+            }
+            return length;
+        });
+        measure("Iso8601.formatEpochMillis into byte[] (UTC)", () -> {
+            long length = 0;
+            for (long event : events) {
+                length += Iso8601.formatEpochMillis(event, out, 0);
+            }
+            return length;
+        });
+        measure("LogTimestampFormatter into byte[] (zone)", () -> {
+            long length = 0;
+            for (long event : events) {
+                length += logFormatter.format(event, out, 0);
+            }
+            return length;
+        });
+        System.out.println("The log formatter allocates once per distinct second (a prefix and a zone lookup),");
+        System.out.println("so its bytes/value shrinks as event rates grow. Inline best-of-3 timings after warm-up.");
+
+        System.out.println();
+    }
+
+    private static long measure(String name, LongSupplier body) {
+        ShowcaseSupport.Timing timing = ShowcaseSupport.time(3, body);
+        System.out.println(String.format("  %-48s %10.1f %12.1f", name, (double) timing.bestNanos() / EVENTS,
+            (double) timing.bestBytes() / EVENTS));
+        return timing.result();
+    }
+
+    private static long bestOf(LongSupplier body) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            ShowcaseSupport.consume(body.getAsLong());
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,682 @@
+package com.example.demo.showcase;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Demonstrates exact fixed-scale decimal arithmetic on primitive longs as an alternative to BigDecimal
+ * Including a 64-bit decimal with configurable scale and rounding, overflow detection, 128-bit
+ * intermediate products and quotients, a two-long 128-bit accumulator, bulk array operations,
+ * randomized cross-checks against BigDecimal and benchmarks on sums and products of millions of values
+ */
+public class FixedDecimalShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== FIXED DECIMAL SHOWCASE ==========\n");
+
+        decimal64Demo();
+        roundingDemo();
+        decimal128Demo();
+        crossCheck();
+        sumBenchmark();
+        productBenchmark();
+    }
+
+    // ========== 64-Bit Decimal ==========
+
+    /**
+     * A fixed-scale decimal context: values are plain long unscaled amounts (1999 at scale 2 is
+     * 19.99), so arrays of them are flat and operations allocate nothing. Products and quotients
+     * are computed exactly in 128 bits and rounded once with this context's RoundingMode. As with
+     * BigDecimal, overflow and RoundingMode.UNNECESSARY on an inexact result throw
+     * ArithmeticException and malformed text throws NumberFormatException.
+     */
+    static final class Decimal64 {
+        static final long[] POW10 = new long[19];
+
+        static {
+            POW10[0] = 1;
+            for (int i = 1; i < POW10.length; i++) {
+                POW10[i] = POW10[i - 1] * 10;
+            }
+        }
+
+        private final int scale;
+        private final RoundingMode rounding;
+        private final long one;
+
+        private Decimal64(int scale, RoundingMode rounding) {
+            if (scale < 0 || scale > 18) {
+                throw new IllegalArgumentException("Scale must be in [0, 18]: " + scale);
+            }
+            this.scale = scale;
+            this.rounding = Objects.requireNonNull(rounding, "rounding");
+            this.one = POW10[scale];
+        }
+
+        static Decimal64 of(int scale, RoundingMode rounding) {
+            return new Decimal64(scale, rounding);
+        }
+
+        int scale() {
+            return scale;
+        }
+
+        RoundingMode rounding() {
+            return rounding;
+        }
+
+        long add(long a, long b) {
+            return Math.addExact(a, b);
+        }
+
+        long subtract(long a, long b) {
+            return Math.subtractExact(a, b);
+        }
+
+        long multiply(long a, long b) {
+            return multiply(a, b, scale);
+        }
+
+        /** Multiplies by a factor with its own scale, such as a tax rate held at scale 4. */
+        long multiply(long a, long factor, int factorScale) {
+            return divideRounded(Math.multiplyHigh(a, factor), a * factor, POW10[factorScale], rounding);
+        }
+
+        long divide(long a, long b) {
+            if (b == 0) {
+                throw new ArithmeticException("Division by zero");
+            }
+            return divideRounded(Math.multiplyHigh(a, one), a * one, b, rounding);
+        }
+
+        long ofLong(long units) {
+            return Math.multiplyExact(units, one);
+        }
+
+        long fromBigDecimal(BigDecimal value) {
+            return value.setScale(scale, rounding).unscaledValue().longValueExact();
+        }
+
+        BigDecimal toBigDecimal(long unscaled) {
+            return BigDecimal.valueOf(unscaled, scale);
+        }
+
+        /**
+         * Parses plain decimal text. Up to 18 significant digits are accumulated in a long and
+         * rounded to this scale in one step; longer input goes through BigDecimal.
+         */
+        long parse(CharSequence text) {
+            int length = text.length();
+            int i = 0;
+            boolean negative = false;
+            if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                negative = text.charAt(i++) == '-';
+            }
+            long digits = 0;
+            int count = 0;
+            int fraction = -1;
+            boolean sawDigit = false;
+            for (; i < length; i++) {
+                char c = text.charAt(i);
+                if (c == '.' && fraction < 0) {
+                    fraction = 0;
+                } else if (c >= '0' && c <= '9') {
+                    sawDigit = true;
+                    digits = digits * 10 + (c - '0');
+                    count += digits == 0 ? 0 : 1;
+                    fraction += fraction < 0 ? 0 : 1;
+                    if (count > 18 || fraction > 18) {
+                        return fromBigDecimal(new BigDecimal(text.toString()));
+                    }
+                } else {
+                    throw new NumberFormatException("Not a plain decimal: \"" + text + "\"");
+                }
+            }
+            if (!sawDigit) {
+                throw new NumberFormatException("Not a plain decimal: \"" + text + "\"");
+            }
+            long signed = negative ? -digits : digits;
+            int digitsScale = Math.max(fraction, 0);
+            if (digitsScale <= scale) {
+                return Math.multiplyExact(signed, POW10[scale - digitsScale]);
+            }
+            return divideRounded(signed >> 63, signed, POW10[digitsScale - scale], rounding);
+        }
+
+        String toString(long unscaled) {
+            return appendTo(new StringBuilder(21), unscaled).toString();
+        }
+
+        /** Appends the plain decimal form, always with exactly scale fraction digits. */
+        StringBuilder appendTo(StringBuilder out, long unscaled) {
+            if (unscaled < 0) {
+                out.append('-');
+            }
+            long magnitude = Math.abs(unscaled);
+            long integer = Long.divideUnsigned(magnitude, one);
+            long fraction = Long.remainderUnsigned(magnitude, one);
+            out.append(integer);
+            if (scale > 0) {
+                out.append('.');
+                for (int digit = scale - 1; digit >= 0; digit--) {
+                    out.append((char) ('0' + fraction / POW10[digit] % 10));
+                }
+            }
+            return out;
+        }
+
+        // ---------- Bulk operations ----------
+
+        /**
+         * Sums with a single overflow check at the end: each addition records whether it wrapped
+         * (both operands' signs differ from the result's), so the loop has no branches.
+         */
+        long sum(long[] values, int from, int to) {
+            long sum = 0;
+            long overflow = 0;
+            for (int i = from; i < to; i++) {
+                long next = sum + values[i];
+                overflow |= (sum ^ next) & (values[i] ^ next);
+                sum = next;
+            }
+            if (overflow < 0) {
+                throw new ArithmeticException("long overflow");
+            }
+            return sum;
+        }
+
+        void multiply(long[] values, long[] factors, int factorScale, long[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = multiply(values[i], factors[i], factorScale);
+            }
+        }
+
+        void multiply(long[] values, long factor, int factorScale, long[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = multiply(values[i], factor, factorScale);
+            }
+        }
+
+        /** The exact sum of a[i] * b[i] in 128 bits, rounded once to this scale. */
+        long sumOfProducts(long[] a, long[] b) {
+            Decimal128 total = new Decimal128(2 * scale);
+            for (int i = 0; i < a.length; i++) {
+                total.addProduct(a[i], b[i]);
+            }
+            return total.toUnscaledLong(this);
+        }
+
+        // ---------- 128-bit division ----------
+
+        /**
+         * Divides the signed 128-bit value (high, low) by divisor and rounds the quotient with
+         * mode. The work happens on magnitudes: a 64-bit division when the dividend fits a long,
+         * otherwise a 128-by-64 bit long division. Throws if the quotient needs more than 64 bits.
+         */
+        static long divideRounded(long high, long low, long divisor, RoundingMode mode) {
+            boolean negative = (high ^ divisor) < 0;
+            long divisorMagnitude = divisor < 0 ? -divisor : divisor;
+            long quotient;
+            long remainder;
+            if (high == low >> 63) {
+                long magnitude = low < 0 ? -low : low;
+                quotient = Long.divideUnsigned(magnitude, divisorMagnitude);
+                remainder = magnitude - quotient * divisorMagnitude;
+            } else {
+                long magnitudeLow = low;
+                long magnitudeHigh = high;
+                if (high < 0) {
+                    magnitudeLow = -low;
+                    magnitudeHigh = ~high + (low == 0 ? 1 : 0);
+                }
+                if (Long.compareUnsigned(magnitudeHigh, divisorMagnitude) >= 0) {
+                    // BigDecimal.setScale reports an inexact result before an oversized one
+                    if (mode == RoundingMode.UNNECESSARY) {
+                        long reduced = divideUnsigned128(Long.remainderUnsigned(magnitudeHigh, divisorMagnitude),
+                            magnitudeLow, divisorMagnitude);
+                        if (magnitudeLow != reduced * divisorMagnitude) {
+                            throw new ArithmeticException("Rounding necessary");
+                        }
+                    }
+                    throw new ArithmeticException("long overflow");
+                }
+                quotient = divideUnsigned128(magnitudeHigh, magnitudeLow, divisorMagnitude);
+                remainder = magnitudeLow - quotient * divisorMagnitude;
+            }
+            if (quotient < 0 && !(negative && quotient == Long.MIN_VALUE)) {
+                // Out of range before rounding; checked first because an increment could wrap 2^64 - 1 to 0
+                if (remainder != 0 && mode == RoundingMode.UNNECESSARY) {
+                    throw new ArithmeticException("Rounding necessary");
+                }
+                throw new ArithmeticException("long overflow");
+            }
+            if (remainder != 0 && roundsAwayFromZero(mode, negative, quotient, remainder, divisorMagnitude)) {
+                quotient++;
+            }
+            if (quotient < 0 && !(negative && quotient == Long.MIN_VALUE)) {
+                throw new ArithmeticException("long overflow");
+            }
+            return negative ? -quotient : quotient;
+        }
+
+        private static boolean roundsAwayFromZero(RoundingMode mode, boolean negative, long quotient, long remainder,
+                long divisor) {
+            int half = Long.compareUnsigned(remainder, divisor - remainder);
+            return switch (mode) {
+                case UP -> true;
+                case DOWN -> false;
+                case CEILING -> !negative;
+                case FLOOR -> negative;
+                case HALF_UP -> half >= 0;
+                case HALF_DOWN -> half > 0;
+                case HALF_EVEN -> half > 0 || half == 0 && (quotient & 1) != 0;
+                case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+            };
+        }
+
+        /**
+         * Unsigned (high, low) / divisor for high < divisor, by two 64/32-bit steps on the
+         * normalized divisor (Knuth's algorithm D, as in Hacker's Delight divlu).
+         */
+        static long divideUnsigned128(long high, long low, long divisor) {
+            int shift = Long.numberOfLeadingZeros(divisor);
+            long v = divisor << shift;
+            long vHigh = v >>> 32;
+            long vLow = v & 0xFFFF_FFFFL;
+            long u32 = shift == 0 ? high : high << shift | low >>> (64 - shift);
+            long u10 = low << shift;
+            long u1 = u10 >>> 32;
+            long u0 = u10 & 0xFFFF_FFFFL;
+
+            long q1 = Long.divideUnsigned(u32, vHigh);
+            long rHat = u32 - q1 * vHigh;
+            while (Long.compareUnsigned(q1, 1L << 32) >= 0 || Long.compareUnsigned(q1 * vLow, rHat << 32 | u1) > 0) {
+                q1--;
+                rHat += vHigh;
+                if (Long.compareUnsigned(rHat, 1L << 32) >= 0) {
+                    break;
+                }
+            }
+            long u21 = (u32 << 32 | u1) - q1 * v;
+
+            long q0 = Long.divideUnsigned(u21, vHigh);
+            rHat = u21 - q0 * vHigh;
+            while (Long.compareUnsigned(q0, 1L << 32) >= 0 || Long.compareUnsigned(q0 * vLow, rHat << 32 | u0) > 0) {
+                q0--;
+                rHat += vHigh;
+                if (Long.compareUnsigned(rHat, 1L << 32) >= 0) {
+                    break;
+                }
+            }
+            return q1 << 32 | q0;
+        }
+    }
+
+    // ========== 128-Bit Decimal ==========
+
+    /**
+     * A signed 128-bit fixed-scale decimal held in two longs. It is a mutable accumulator, in the
+     * spirit of StringBuilder or LongAdder, so totals over millions of values and exact sums of
+     * products never allocate per element; results leave it rounded to a Decimal64 or as a
+     * BigDecimal. Additions that overflow 128 bits throw ArithmeticException.
+     */
+    static final class Decimal128 {
+        private final int scale;
+        private long high;
+        private long low;
+
+        Decimal128(int scale) {
+            this.scale = scale;
+        }
+
+        Decimal128 add(long unscaled) {
+            return add(unscaled >> 63, unscaled);
+        }
+
+        Decimal128 subtract(long unscaled) {
+            return unscaled == Long.MIN_VALUE ? add(0, Long.MIN_VALUE) : add(-unscaled);
+        }
+
+        Decimal128 add(Decimal128 other) {
+            if (other.scale != scale) {
+                throw new IllegalArgumentException("Scale mismatch: " + scale + " and " + other.scale);
+            }
+            return add(other.high, other.low);
+        }
+
+        /** Adds the exact product a * b, whose scale is the sum of the operands' scales. */
+        Decimal128 addProduct(long a, long b) {
+            return add(Math.multiplyHigh(a, b), a * b);
+        }
+
+        Decimal128 negate() {
+            if (high == Long.MIN_VALUE && low == 0) {
+                throw new ArithmeticException("Decimal128 overflow");
+            }
+            low = -low;
+            high = ~high + (low == 0 ? 1 : 0);
+            return this;
+        }
+
+        Decimal128 reset() {
+            high = 0;
+            low = 0;
+            return this;
+        }
+
+        private Decimal128 add(long otherHigh, long otherLow) {
+            long sumLow = low + otherLow;
+            long sumHigh = high + otherHigh + (Long.compareUnsigned(sumLow, low) < 0 ? 1 : 0);
+            if (((high ^ sumHigh) & (otherHigh ^ sumHigh)) < 0) {
+                throw new ArithmeticException("Decimal128 overflow");
+            }
+            high = sumHigh;
+            low = sumLow;
+            return this;
+        }
+
+        /** Rescales to the context's scale with its rounding mode. */
+        long toUnscaledLong(Decimal64 context) {
+            int shift = scale - context.scale();
+            if (shift >= 0) {
+                if (shift > 18) {
+                    return context.fromBigDecimal(toBigDecimal());
+                }
+                return Decimal64.divideRounded(high, low, Decimal64.POW10[shift], context.rounding());
+            }
+            if (high != low >> 63 || -shift > 18) {
+                throw new ArithmeticException("long overflow");
+            }
+            return Math.multiplyExact(low, Decimal64.POW10[-shift]);
+        }
+
+        /** Divides by an integer, such as a count for an average, rounding to the context's scale. */
+        long divideToUnscaledLong(long divisor, Decimal64 context) {
+            if (divisor == 0) {
+                throw new ArithmeticException("Division by zero");
+            }
+            if (scale != context.scale()) {
+                throw new IllegalArgumentException("Scale mismatch: " + scale + " and " + context.scale());
+            }
+            return Decimal64.divideRounded(high, low, divisor, context.rounding());
+        }
+
+        BigDecimal toBigDecimal() {
+            BigInteger unscaled = BigInteger.valueOf(high).shiftLeft(64)
+                .add(new BigInteger(Long.toUnsignedString(low)));
+            return new BigDecimal(unscaled, scale);
+        }
+
+        @Override
+        public String toString() {
+            return toBigDecimal().toPlainString();
+        }
+    }
+
+    // ========== Demos ==========
+
+    private static void decimal64Demo() {
+        System.out.println("--- 64-Bit Fixed-Scale Decimal ---");
+
+        Decimal64 money = Decimal64.of(2, RoundingMode.HALF_EVEN);
+        long price = money.parse("19.99");
+        long total = money.multiply(price, money.ofLong(3));
+        System.out.println("19.99 * 3 = " + money.toString(total) + " (unscaled long " + total + ")");
+        long tax = money.multiply(total, 825, 4);
+        System.out.println("Tax at 8.25% = " + money.toString(tax) + ", total " + money.toString(money.add(total, tax)));
+        System.out.println("0.1 + 0.2 = " + money.toString(money.add(money.parse("0.1"), money.parse("0.2"))));
+        System.out.println("100.00 / 3 = " + money.toString(money.divide(money.ofLong(100), money.ofLong(3))));
+        try {
+            money.add(Long.MAX_VALUE, 1);
+        } catch (ArithmeticException e) {
+            System.out.println("Overflow detected: " + e.getMessage());
+        }
+        try {
+            money.multiply(money.parse("92233720368547758.07"), money.ofLong(2));
+        } catch (ArithmeticException e) {
+            System.out.println("Product overflow detected: " + e.getMessage());
+        }
+        try {
+            money.parse("12.3.4");
+        } catch (NumberFormatException e) {
+            System.out.println("Rejected: " + e.getMessage());
+        }
+
+        System.out.println();
+    }
+
+    private static void roundingDemo() {
+        System.out.println("--- Configurable Rounding (scale 0, compared with BigDecimal.setScale) ---");
+
+        String[] inputs = {"2.5", "-2.5", "1.5", "1.49", "-1.51"};
+        System.out.println(String.format("  %-12s %s", "mode", String.join("   ", inputs)));
+        for (RoundingMode mode : List.of(RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING,
+                RoundingMode.FLOOR, RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN)) {
+            Decimal64 whole = Decimal64.of(0, mode);
+            StringBuilder line = new StringBuilder(String.format("  %-12s", mode));
+            boolean agrees = true;
+            for (String input : inputs) {
+                long rounded = whole.parse(input);
+                agrees &= rounded == new BigDecimal(input).setScale(0, mode).longValueExact();
+                line.append(String.format(" %4d ", rounded));
+            }
+            System.out.println(line + (agrees ? "  matches BigDecimal" : "  MISMATCH"));
+        }
+        try {
+            Decimal64.of(2, RoundingMode.UNNECESSARY).divide(100, 300);
+        } catch (ArithmeticException e) {
+            System.out.println("UNNECESSARY on an inexact quotient: " + e.getMessage());
+        }
+
+        System.out.println();
+    }
+
+    private static void decimal128Demo() {
+        System.out.println("--- 128-Bit Accumulator ---");
+
+        Decimal64 money = Decimal64.of(2, RoundingMode.HALF_EVEN);
+        Decimal128 total = new Decimal128(2);
+        for (int i = 0; i < 1_000; i++) {
+            total.add(Long.MAX_VALUE);
+        }
+        System.out.println("1,000 x " + money.toString(Long.MAX_VALUE) + " = " + total);
+        System.out.println("Matches BigDecimal: " + total.toBigDecimal()
+            .equals(BigDecimal.valueOf(Long.MAX_VALUE, 2).multiply(BigDecimal.valueOf(1_000))));
+        System.out.println("Average back in 64 bits: " + money.toString(total.divideToUnscaledLong(1_000, money)));
+
+        long[] prices = {money.parse("0.333"), money.parse("1.005"), money.parse("12.345")};
+        long[] quantities = {money.parse("3.00"), money.parse("7.50"), money.parse("0.10")};
+        Decimal128 exact = new Decimal128(4);
+        for (int i = 0; i < prices.length; i++) {
+            exact.addProduct(prices[i], quantities[i]);
+        }
+        System.out.println("Sum of products at scale 4: " + exact + ", rounded once: "
+            + money.toString(money.sumOfProducts(prices, quantities)));
+
+        System.out.println();
+    }
+
+    private static void crossCheck() {
+        System.out.println("--- Cross-Check against BigDecimal ---");
+
+        SplittableRandom random = new SplittableRandom(49);
+        RoundingMode[] modes = RoundingMode.values();
+        int samples = 200_000;
+        int mismatches = 0;
+        int overflows = 0;
+        for (int n = 0; n < samples; n++) {
+            int scale = random.nextInt(0, 10);
+            Decimal64 context = Decimal64.of(scale, modes[random.nextInt(modes.length)]);
+            long a = random.nextLong() >> random.nextInt(64);
+            long b = random.nextLong() >> random.nextInt(64);
+            BigDecimal x = context.toBigDecimal(a);
+            BigDecimal y = context.toBigDecimal(b);
+
+            String expected = expected(() -> x.multiply(y).setScale(scale, context.rounding()));
+            String actual = actual(() -> context.multiply(a, b), context);
+            mismatches += expected.equals(actual) ? 0 : 1;
+            overflows += expected.equals("overflow") ? 1 : 0;
+            if (b != 0) {
+                expected = expected(() -> x.divide(y, scale, context.rounding()));
+                actual = actual(() -> context.divide(a, b), context);
+                mismatches += expected.equals(actual) ? 0 : 1;
+            }
+            String text = x.toPlainString() + random.nextInt(10);
+            expected = expected(() -> new BigDecimal(text).setScale(scale, context.rounding()));
+            actual = actual(() -> context.parse(text), context);
+            mismatches += expected.equals(actual) ? 0 : 1;
+        }
+        System.out.println(String.format("%,d random multiply, divide and parse cases over scales 0-9 and all "
+            + "rounding modes: %d mismatches (%,d products overflowed in both)", samples * 3, mismatches, overflows));
+
+        // Unsigned quotients at 2^64 - 1 with a remainder: rounding up must overflow, not wrap to 0
+        int boundaryCases = 0;
+        int boundaryMismatches = 0;
+        for (RoundingMode mode : modes) {
+            Decimal64 context = Decimal64.of(18, mode);
+            for (long offset = -2; offset <= 2; offset++) {
+                for (long sign : new long[]{1, -1}) {
+                    long a = sign * (7378697629483820683L + offset);
+                    long b = 400000000000000002L;
+                    BigDecimal x = context.toBigDecimal(a);
+                    BigDecimal y = context.toBigDecimal(b);
+                    boundaryMismatches += expected(() -> x.divide(y, 18, mode))
+                        .equals(actual(() -> context.divide(a, b), context)) ? 0 : 1;
+                    long c = 2_500_000_000_000_000_000L;
+                    BigDecimal z = context.toBigDecimal(c);
+                    boundaryMismatches += expected(() -> x.multiply(z).setScale(18, mode))
+                        .equals(actual(() -> context.multiply(a, c), context)) ? 0 : 1;
+                    boundaryCases += 2;
+                }
+            }
+        }
+        System.out.println(boundaryCases + " divide and multiply cases at the 64-bit quotient boundary: "
+            + boundaryMismatches + " mismatches");
+
+        System.out.println();
+    }
+
+    private static String expected(Supplier<BigDecimal> operation) {
+        try {
+            BigDecimal result = operation.get();
+            return result.unscaledValue().bitLength() < 64 ? result.toPlainString() : "overflow";
+        } catch (ArithmeticException e) {
+            return e.getMessage().startsWith("Rounding") ? "rounding" : "overflow";
+        }
+    }
+
+    private static String actual(LongSupplier operation, Decimal64 context) {
+        try {
+            return context.toBigDecimal(operation.getAsLong()).toPlainString();
+        } catch (ArithmeticException e) {
+            return e.getMessage().startsWith("Rounding") ? "rounding" : "overflow";
+        }
+    }
+
+    // ========== Benchmarks ==========
+
+    private static final int VALUES = 2_000_000;
+
+    private static void sumBenchmark() {
+        System.out.println("--- Benchmark: Summing " + String.format("%,d", VALUES) + " Amounts ---");
+
+        Decimal64 money = Decimal64.of(2, RoundingMode.HALF_EVEN);
+        SplittableRandom random = new SplittableRandom(11);
+        long[] amounts = new long[VALUES];
+        BigDecimal[] decimals = new BigDecimal[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            amounts[i] = random.nextLong(-1_000_000_00L, 1_000_000_00L);
+            decimals[i] = money.toBigDecimal(amounts[i]);
+        }
+
+        System.out.println(String.format("  %-46s %10s %12s", "approach", "ns/value", "bytes/value"));
+        long expected = measure("BigDecimal.add over BigDecimal[]", () -> {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (BigDecimal decimal : decimals) {
+                sum = sum.add(decimal);
+            }
+            return money.fromBigDecimal(sum);
+        });
+        long checked = measure("Math.addExact per element over long[]", () -> {
+            long sum = 0;
+            for (long amount : amounts) {
+                sum = money.add(sum, amount);
+            }
+            return sum;
+        });
+        long bulk = measure("Decimal64.sum (one overflow check)", () -> money.sum(amounts, 0, amounts.length));
+        long wide = measure("Decimal128 accumulator", () -> {
+            Decimal128 total = new Decimal128(2);
+            for (long amount : amounts) {
+                total.add(amount);
+            }
+            return total.toUnscaledLong(money);
+        });
+        System.out.println("Same total from every approach: " + (expected == checked && checked == bulk && bulk == wide));
+
+        System.out.println();
+    }
+
+    private static void productBenchmark() {
+        System.out.println("--- Benchmark: Line Totals (price x quantity, HALF_EVEN to cents) ---");
+
+        Decimal64 money = Decimal64.of(2, RoundingMode.HALF_EVEN);
+        Decimal64 quantity = Decimal64.of(3, RoundingMode.HALF_EVEN);
+        SplittableRandom random = new SplittableRandom(12);
+        long[] prices = new long[VALUES];
+        long[] quantities = new long[VALUES];
+        BigDecimal[] priceDecimals = new BigDecimal[VALUES];
+        BigDecimal[] quantityDecimals = new BigDecimal[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            prices[i] = random.nextLong(1, 10_000_00L);
+            quantities[i] = random.nextLong(1, 1_000_000L);
+            priceDecimals[i] = money.toBigDecimal(prices[i]);
+            quantityDecimals[i] = quantity.toBigDecimal(quantities[i]);
+        }
+        long[] lineTotals = new long[VALUES];
+
+        System.out.println(String.format("  %-46s %10s %12s", "approach", "ns/value", "bytes/value"));
+        long expected = measure("BigDecimal multiply + setScale, summed", () -> {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int i = 0; i < VALUES; i++) {
+                sum = sum.add(priceDecimals[i].multiply(quantityDecimals[i]).setScale(2, RoundingMode.HALF_EVEN));
+            }
+            return money.fromBigDecimal(sum);
+        });
+        long rounded = measure("Decimal64.multiply into long[], then sum", () -> {
+            money.multiply(prices, quantities, 3, lineTotals);
+            return money.sum(lineTotals, 0, VALUES);
+        });
+        long exactExpected = measure("BigDecimal exact sum of products", () -> {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int i = 0; i < VALUES; i++) {
+                sum = sum.add(priceDecimals[i].multiply(quantityDecimals[i]));
+            }
+            return money.fromBigDecimal(sum);
+        });
+        long exact = measure("Decimal128.addProduct, rounded once", () -> {
+            Decimal128 total = new Decimal128(5);
+            for (int i = 0; i < VALUES; i++) {
+                total.addProduct(prices[i], quantities[i]);
+            }
+            return total.toUnscaledLong(money);
+        });
+        System.out.println("Per-line rounding matches BigDecimal: " + (expected == rounded)
+            + ", exact totals match: " + (exactExpected == exact));
+        System.out.println("Inline best-of-3 timings after warm-up; bytes/value counts only this thread's allocations.");
+
+        System.out.println();
+    }
+
+    private static long measure(String name, LongSupplier body) {
+        ShowcaseSupport.Timing timing = ShowcaseSupport.time(2, body);
+        System.out.println(String.format("  %-46s %10.1f %12.1f", name, (double) timing.bestNanos() / VALUES,
+            (double) timing.bestBytes() / VALUES));
+        return timing.result();
+    }
+}
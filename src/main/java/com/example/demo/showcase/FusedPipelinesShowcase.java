@@ -0,0 +1,670 @@
+package com.example.demo.showcase;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Demonstrates a small push-based pipeline library with int/long/double specializations
+ * Including filter/map chains fused into one source loop, adjacent maps and filters composed
+ * into a single stage, no boxing between stages,
+ * short-circuiting through the sink return value, and benchmarks against java.util.stream
+ * for the pipelines used in StreamShowcase
+ */
+public class FusedPipelinesShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== FUSED PIPELINES SHOWCASE ==========\n");
+
+        pipelineBasicsDemo();
+        earlyTerminationDemo();
+        primitiveSpecializationDemo();
+        streamShowcaseBenchmark();
+    }
+
+    // ========== Sinks ==========
+
+    /**
+     * Receives one element; returning false asks the source to stop. That single boolean is the
+     * whole short-circuit protocol, checked once per element by the source loop.
+     */
+    @FunctionalInterface
+    interface IntSink {
+        boolean accept(int value);
+    }
+
+    @FunctionalInterface
+    interface LongSink {
+        boolean accept(long value);
+    }
+
+    @FunctionalInterface
+    interface DoubleSink {
+        boolean accept(double value);
+    }
+
+    /** A source with all upstream stages already applied: pushes elements until the sink says stop. */
+    @FunctionalInterface
+    interface IntPush {
+        void pushTo(IntSink sink);
+    }
+
+    @FunctionalInterface
+    interface LongPush {
+        void pushTo(LongSink sink);
+    }
+
+    @FunctionalInterface
+    interface DoublePush {
+        void pushTo(DoubleSink sink);
+    }
+
+    // ========== Int Pipeline ==========
+
+    /**
+     * Immutable int pipeline. Each intermediate operation wraps the upstream push function, so a
+     * terminal operation runs exactly one loop over the source with every stage inlined into the
+     * sink chain: no intermediate collections, no Spliterator, no boxing.
+     */
+    static final class IntPipeline {
+        private final IntPush upstream;
+        // Set when this pipeline is a single map or filter over parent, so the next stage of the
+        // same kind can be composed into it instead of adding another sink layer
+        private final IntPipeline parent;
+        private final IntUnaryOperator mapper;
+        private final IntPredicate predicate;
+
+        private IntPipeline(IntPush upstream) {
+            this(upstream, null, null, null);
+        }
+
+        private IntPipeline(IntPush upstream, IntPipeline parent, IntUnaryOperator mapper, IntPredicate predicate) {
+            this.upstream = upstream;
+            this.parent = parent;
+            this.mapper = mapper;
+            this.predicate = predicate;
+        }
+
+        static IntPipeline of(int... values) {
+            return new IntPipeline(sink -> {
+                for (int value : values) {
+                    if (!sink.accept(value)) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        static IntPipeline range(int fromInclusive, int toExclusive) {
+            return new IntPipeline(sink -> {
+                for (int i = fromInclusive; i < toExclusive; i++) {
+                    if (!sink.accept(i)) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        static IntPipeline rangeClosed(int fromInclusive, int toInclusive) {
+            return range(fromInclusive, toInclusive + 1);
+        }
+
+        /** Maps each element of an object list straight to int, e.g. words to their lengths. */
+        static <T> IntPipeline from(List<T> list, ToIntFunction<? super T> mapper) {
+            if (list instanceof RandomAccess) {
+                return new IntPipeline(sink -> {
+                    for (int i = 0, n = list.size(); i < n; i++) {
+                        if (!sink.accept(mapper.applyAsInt(list.get(i)))) {
+                            return;
+                        }
+                    }
+                });
+            }
+            return new IntPipeline(sink -> {
+                for (T element : list) {
+                    if (!sink.accept(mapper.applyAsInt(element))) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        // ---- Intermediate operations (fused) ----
+
+        IntPipeline map(IntUnaryOperator next) {
+            if (mapper != null) {
+                IntUnaryOperator first = mapper;
+                return parent.map(v -> next.applyAsInt(first.applyAsInt(v)));
+            }
+            return new IntPipeline(sink -> upstream.pushTo(v -> sink.accept(next.applyAsInt(v))), this, next, null);
+        }
+
+        IntPipeline filter(IntPredicate next) {
+            if (predicate != null) {
+                IntPredicate first = predicate;
+                return parent.filter(v -> first.test(v) && next.test(v));
+            }
+            return new IntPipeline(sink -> upstream.pushTo(v -> !next.test(v) || sink.accept(v)), this, null, next);
+        }
+
+        IntPipeline peek(IntConsumer action) {
+            return new IntPipeline(sink -> upstream.pushTo(v -> {
+                action.accept(v);
+                return sink.accept(v);
+            }));
+        }
+
+        IntPipeline flatMap(IntFunction<IntPipeline> mapper) {
+            return new IntPipeline(sink -> upstream.pushTo(v -> {
+                boolean[] keepGoing = {true};
+                mapper.apply(v).upstream.pushTo(inner -> keepGoing[0] = sink.accept(inner));
+                return keepGoing[0];
+            }));
+        }
+
+        IntPipeline limit(long maxSize) {
+            if (maxSize < 0) {
+                throw new IllegalArgumentException("Negative limit: " + maxSize);
+            }
+            return new IntPipeline(sink -> {
+                if (maxSize == 0) {
+                    return;
+                }
+                long[] remaining = {maxSize};
+                // Stop the source as soon as the last allowed element has been accepted
+                upstream.pushTo(v -> sink.accept(v) && --remaining[0] > 0);
+            });
+        }
+
+        IntPipeline skip(long count) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Negative skip: " + count);
+            }
+            return new IntPipeline(sink -> {
+                long[] toSkip = {count};
+                upstream.pushTo(v -> toSkip[0] > 0 ? toSkip[0]-- > 0 : sink.accept(v));
+            });
+        }
+
+        IntPipeline takeWhile(IntPredicate predicate) {
+            return new IntPipeline(sink -> upstream.pushTo(v -> predicate.test(v) && sink.accept(v)));
+        }
+
+        IntPipeline dropWhile(IntPredicate predicate) {
+            return new IntPipeline(sink -> {
+                boolean[] dropping = {true};
+                upstream.pushTo(v -> {
+                    if (dropping[0] && predicate.test(v)) {
+                        return true;
+                    }
+                    dropping[0] = false;
+                    return sink.accept(v);
+                });
+            });
+        }
+
+        /** Stateful barrier: buffers everything, sorts, then pushes (the only non-fused step). */
+        IntPipeline sorted() {
+            return new IntPipeline(sink -> {
+                int[] buffer = toArray();
+                Arrays.sort(buffer);
+                for (int value : buffer) {
+                    if (!sink.accept(value)) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        IntPipeline sortedDescending() {
+            return new IntPipeline(sink -> {
+                int[] buffer = toArray();
+                Arrays.sort(buffer);
+                for (int i = buffer.length - 1; i >= 0; i--) {
+                    if (!sink.accept(buffer[i])) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        LongPipeline mapToLong(IntToLongFunction mapper) {
+            return new LongPipeline(sink -> upstream.pushTo(v -> sink.accept(mapper.applyAsLong(v))));
+        }
+
+        DoublePipeline mapToDouble(IntToDoubleFunction mapper) {
+            return new DoublePipeline(sink -> upstream.pushTo(v -> sink.accept(mapper.applyAsDouble(v))));
+        }
+
+        // ---- Terminal operations ----
+
+        void forEach(IntConsumer action) {
+            upstream.pushTo(v -> {
+                action.accept(v);
+                return true;
+            });
+        }
+
+        /** Sum as long, so it cannot silently overflow like IntStream.sum(). */
+        long sum() {
+            LongAccumulatorSink acc = new LongAccumulatorSink();
+            upstream.pushTo(acc::add);
+            return acc.value;
+        }
+
+        long count() {
+            LongAccumulatorSink acc = new LongAccumulatorSink();
+            upstream.pushTo(v -> acc.add(1));
+            return acc.value;
+        }
+
+        int reduce(int identity, IntBinaryOperator op) {
+            int[] result = {identity};
+            upstream.pushTo(v -> {
+                result[0] = op.applyAsInt(result[0], v);
+                return true;
+            });
+            return result[0];
+        }
+
+        OptionalInt min() {
+            IntSummaryStatistics stats = summaryStatistics();
+            return stats.getCount() == 0 ? OptionalInt.empty() : OptionalInt.of(stats.getMin());
+        }
+
+        OptionalInt max() {
+            IntSummaryStatistics stats = summaryStatistics();
+            return stats.getCount() == 0 ? OptionalInt.empty() : OptionalInt.of(stats.getMax());
+        }
+
+        OptionalDouble average() {
+            IntSummaryStatistics stats = summaryStatistics();
+            return stats.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(stats.getAverage());
+        }
+
+        IntSummaryStatistics summaryStatistics() {
+            IntSummaryStatistics stats = new IntSummaryStatistics();
+            upstream.pushTo(v -> {
+                stats.accept(v);
+                return true;
+            });
+            return stats;
+        }
+
+        boolean anyMatch(IntPredicate predicate) {
+            boolean[] found = {false};
+            upstream.pushTo(v -> !(found[0] = predicate.test(v)));
+            return found[0];
+        }
+
+        boolean allMatch(IntPredicate predicate) {
+            return !anyMatch(predicate.negate());
+        }
+
+        boolean noneMatch(IntPredicate predicate) {
+            return !anyMatch(predicate);
+        }
+
+        OptionalInt findFirst() {
+            int[] first = new int[1];
+            boolean[] found = {false};
+            upstream.pushTo(v -> {
+                first[0] = v;
+                found[0] = true;
+                return false;
+            });
+            return found[0] ? OptionalInt.of(first[0]) : OptionalInt.empty();
+        }
+
+        int[] toArray() {
+            IntBuffer buffer = new IntBuffer();
+            upstream.pushTo(buffer::add);
+            return buffer.toArray();
+        }
+    }
+
+    /** Growable int[]; the only allocation in a toArray() pipeline besides the result. */
+    static final class IntBuffer {
+        private int[] data = new int[16];
+        private int size;
+
+        boolean add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size << 1);
+            }
+            data[size++] = value;
+            return true;
+        }
+
+        int[] toArray() {
+            return size == data.length ? data : Arrays.copyOf(data, size);
+        }
+    }
+
+    static final class LongBuffer {
+        private long[] data = new long[16];
+        private int size;
+
+        boolean add(long value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size << 1);
+            }
+            data[size++] = value;
+            return true;
+        }
+
+        long[] toArray() {
+            return size == data.length ? data : Arrays.copyOf(data, size);
+        }
+    }
+
+    static final class LongAccumulatorSink {
+        long value;
+
+        boolean add(long delta) {
+            value += delta;
+            return true;
+        }
+    }
+
+    // ========== Long and Double Pipelines ==========
+
+    static final class LongPipeline {
+        private final LongPush upstream;
+
+        private LongPipeline(LongPush upstream) {
+            this.upstream = upstream;
+        }
+
+        static LongPipeline of(long... values) {
+            return new LongPipeline(sink -> {
+                for (long value : values) {
+                    if (!sink.accept(value)) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        LongPipeline map(LongUnaryOperator mapper) {
+            return new LongPipeline(sink -> upstream.pushTo(v -> sink.accept(mapper.applyAsLong(v))));
+        }
+
+        LongPipeline filter(LongPredicate predicate) {
+            return new LongPipeline(sink -> upstream.pushTo(v -> !predicate.test(v) || sink.accept(v)));
+        }
+
+        LongPipeline limit(long maxSize) {
+            if (maxSize < 0) {
+                throw new IllegalArgumentException("Negative limit: " + maxSize);
+            }
+            return new LongPipeline(sink -> {
+                if (maxSize == 0) {
+                    return;
+                }
+                long[] remaining = {maxSize};
+                upstream.pushTo(v -> sink.accept(v) && --remaining[0] > 0);
+            });
+        }
+
+        LongPipeline sortedDescending() {
+            return new LongPipeline(sink -> {
+                long[] buffer = toArray();
+                Arrays.sort(buffer);
+                for (int i = buffer.length - 1; i >= 0; i--) {
+                    if (!sink.accept(buffer[i])) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        DoublePipeline mapToDouble(LongToDoubleFunction mapper) {
+            return new DoublePipeline(sink -> upstream.pushTo(v -> sink.accept(mapper.applyAsDouble(v))));
+        }
+
+        long sum() {
+            LongAccumulatorSink acc = new LongAccumulatorSink();
+            upstream.pushTo(acc::add);
+            return acc.value;
+        }
+
+        long reduce(long identity, LongBinaryOperator op) {
+            long[] result = {identity};
+            upstream.pushTo(v -> {
+                result[0] = op.applyAsLong(result[0], v);
+                return true;
+            });
+            return result[0];
+        }
+
+        LongSummaryStatistics summaryStatistics() {
+            LongSummaryStatistics stats = new LongSummaryStatistics();
+            upstream.pushTo(v -> {
+                stats.accept(v);
+                return true;
+            });
+            return stats;
+        }
+
+        long[] toArray() {
+            LongBuffer buffer = new LongBuffer();
+            upstream.pushTo(buffer::add);
+            return buffer.toArray();
+        }
+    }
+
+    static final class DoublePipeline {
+        private final DoublePush upstream;
+
+        private DoublePipeline(DoublePush upstream) {
+            this.upstream = upstream;
+        }
+
+        static DoublePipeline of(double... values) {
+            return new DoublePipeline(sink -> {
+                for (double value : values) {
+                    if (!sink.accept(value)) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        DoublePipeline map(DoubleUnaryOperator mapper) {
+            return new DoublePipeline(sink -> upstream.pushTo(v -> sink.accept(mapper.applyAsDouble(v))));
+        }
+
+        DoublePipeline filter(DoublePredicate predicate) {
+            return new DoublePipeline(sink -> upstream.pushTo(v -> !predicate.test(v) || sink.accept(v)));
+        }
+
+        double sum() {
+            // Kahan summation, matching the accuracy of DoubleStream.sum()
+            double[] state = new double[2];
+            upstream.pushTo(v -> {
+                double y = v - state[1];
+                double t = state[0] + y;
+                state[1] = (t - state[0]) - y;
+                state[0] = t;
+                return true;
+            });
+            return state[0];
+        }
+
+        DoubleSummaryStatistics summaryStatistics() {
+            DoubleSummaryStatistics stats = new DoubleSummaryStatistics();
+            upstream.pushTo(v -> {
+                stats.accept(v);
+                return true;
+            });
+            return stats;
+        }
+    }
+
+    // ========== Demos ==========
+
+    private static void pipelineBasicsDemo() {
+        System.out.println("--- Fused Pipelines (StreamShowcase examples) ---");
+
+        int[] numbers = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        List<String> words = List.of("hello", "world", "java", "stream");
+
+        System.out.println("Even numbers: " + Arrays.toString(
+            IntPipeline.of(numbers).filter(n -> n % 2 == 0).toArray()));
+        System.out.println("Multiple filters (>3, <8, odd): " + Arrays.toString(
+            IntPipeline.of(numbers).filter(n -> n > 3).filter(n -> n < 8).filter(n -> n % 2 != 0).toArray()));
+        System.out.println("TakeWhile (< 6): " + Arrays.toString(
+            IntPipeline.of(numbers).takeWhile(n -> n < 6).toArray()));
+        System.out.println("DropWhile (< 6): " + Arrays.toString(
+            IntPipeline.of(numbers).dropWhile(n -> n < 6).toArray()));
+        System.out.println("Word lengths: " + Arrays.toString(IntPipeline.from(words, String::length).toArray())
+            + ", total " + IntPipeline.from(words, String::length).sum()
+            + ", average " + IntPipeline.from(words, String::length).average().orElse(0));
+        System.out.println("Chained (even, square, sorted desc, limit 3): " + Arrays.toString(
+            IntPipeline.of(numbers).filter(n -> n % 2 == 0).map(n -> n * n).sortedDescending().limit(3).toArray()));
+        System.out.println("Reduce product 1..5: " + IntPipeline.rangeClosed(1, 5).reduce(1, (a, b) -> a * b));
+        System.out.println("FlatMap 1..3 -> n copies of n: " + Arrays.toString(
+            IntPipeline.rangeClosed(1, 3).flatMap(n -> IntPipeline.range(0, n).map(i -> n)).toArray()));
+        System.out.println("Summary 1..100: " + IntPipeline.rangeClosed(1, 100).summaryStatistics());
+
+        System.out.println();
+    }
+
+    private static void earlyTerminationDemo() {
+        System.out.println("--- Early Termination ---");
+
+        int[] visited = new int[1];
+        boolean found = IntPipeline.range(0, 1_000_000)
+            .peek(n -> visited[0]++)
+            .map(n -> n * 3)
+            .anyMatch(n -> n > 30);
+        System.out.println("anyMatch(n*3 > 30) over 1,000,000: " + found + " after visiting " + visited[0] + " elements");
+
+        visited[0] = 0;
+        int[] firstFive = IntPipeline.range(0, 1_000_000)
+            .peek(n -> visited[0]++)
+            .filter(n -> n % 7 == 0)
+            .limit(5)
+            .toArray();
+        System.out.println("filter(n % 7 == 0).limit(5): " + Arrays.toString(firstFive)
+            + " after visiting " + visited[0] + " elements");
+
+        visited[0] = 0;
+        OptionalInt first = IntPipeline.range(0, 1_000_000)
+            .peek(n -> visited[0]++)
+            .flatMap(n -> IntPipeline.range(0, 1_000))
+            .filter(n -> n == 500)
+            .findFirst();
+        System.out.println("findFirst inside flatMap: " + first + ", outer elements visited: " + visited[0]);
+
+        System.out.println();
+    }
+
+    private static void primitiveSpecializationDemo() {
+        System.out.println("--- Primitive Specialization Across Stages ---");
+
+        long sumOfSquares = IntPipeline.rangeClosed(1, 1_000_000)
+            .mapToLong(n -> (long) n * n)
+            .sum();
+        System.out.println("Sum of squares 1..1,000,000 (int -> long, no overflow): " + sumOfSquares);
+        System.out.println("IntPipeline.sum() of 100,000 x Integer.MAX_VALUE: "
+            + IntPipeline.range(0, 100_000).map(n -> Integer.MAX_VALUE).sum()
+            + " (IntStream.sum() wraps: " + IntStream.range(0, 100_000).map(n -> Integer.MAX_VALUE).sum() + ")");
+
+        DoubleSummaryStatistics stats = IntPipeline.rangeClosed(1, 10)
+            .mapToDouble(Math::sqrt)
+            .filter(d -> d > 2)
+            .summaryStatistics();
+        System.out.println("sqrt(1..10) > 2: " + stats);
+        System.out.println("LongPipeline Fibonacci-ish reduce: "
+            + LongPipeline.of(1, 1, 2, 3, 5, 8, 13).map(v -> v * 10).filter(v -> v > 20).reduce(0, Long::sum));
+
+        System.out.println();
+    }
+
+    // ========== Benchmark ==========
+
+    private static void streamShowcaseBenchmark() {
+        System.out.println("--- Benchmark: StreamShowcase Pipelines Scaled to 1,000,000 Elements ---");
+
+        int size = 1_000_000;
+        List<Integer> boxedNumbers = IntStream.rangeClosed(1, size).boxed().collect(Collectors.toList());
+        int[] numbers = IntStream.rangeClosed(1, size).toArray();
+        String[] vocabulary = {"hello", "world", "java", "stream", "apple", "banana", "cherry", "elderberry"};
+        List<String> words = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            words.add(vocabulary[i % vocabulary.length]);
+        }
+
+        System.out.println(String.format("%-32s %16s %12s %12s", "pipeline", "Stream<Integer>", "IntStream",
+            "IntPipeline"));
+
+        report("filter even -> collect",
+            () -> boxedNumbers.stream().filter(n -> n % 2 == 0).collect(Collectors.toList()).size(),
+            () -> Arrays.stream(numbers).filter(n -> n % 2 == 0).toArray().length,
+            () -> IntPipeline.of(numbers).filter(n -> n % 2 == 0).toArray().length);
+
+        report("filter >3, <8, odd -> collect",
+            () -> boxedNumbers.stream().filter(n -> n > 3).filter(n -> n < size - 3).filter(n -> n % 2 != 0)
+                .collect(Collectors.toList()).size(),
+            () -> Arrays.stream(numbers).filter(n -> n > 3).filter(n -> n < size - 3).filter(n -> n % 2 != 0)
+                .toArray().length,
+            () -> IntPipeline.of(numbers).filter(n -> n > 3).filter(n -> n < size - 3).filter(n -> n % 2 != 0)
+                .toArray().length);
+
+        report("words mapToInt(length).sum",
+            () -> words.stream().map(String::length).reduce(0, Integer::sum),
+            () -> words.stream().mapToInt(String::length).sum(),
+            () -> IntPipeline.from(words, String::length).sum());
+
+        report("map n*2 -> reduce sum",
+            () -> boxedNumbers.stream().map(n -> n * 2).reduce(0, Integer::sum),
+            () -> Arrays.stream(numbers).map(n -> n * 2).sum(),
+            () -> IntPipeline.of(numbers).map(n -> n * 2).reduce(0, Integer::sum));
+
+        // Squares of n up to size overflow int, so every variant squares in long
+        report("even, square, sort desc, limit 3",
+            () -> boxedNumbers.stream().filter(n -> n % 2 == 0).map(n -> (long) n * n)
+                .sorted(Comparator.reverseOrder()).limit(3).collect(Collectors.toList()).get(0),
+            () -> Arrays.stream(numbers).filter(n -> n % 2 == 0).mapToLong(n -> (long) n * n).boxed()
+                .sorted(Comparator.reverseOrder()).limit(3).mapToLong(Long::longValue).toArray()[0],
+            () -> IntPipeline.of(numbers).filter(n -> n % 2 == 0).mapToLong(n -> (long) n * n).sortedDescending()
+                .limit(3).toArray()[0]);
+
+        report("anyMatch (hit at 90%)",
+            () -> boxedNumbers.stream().anyMatch(n -> n > size * 9 / 10) ? 1 : 0,
+            () -> Arrays.stream(numbers).anyMatch(n -> n > size * 9 / 10) ? 1 : 0,
+            () -> IntPipeline.of(numbers).anyMatch(n -> n > size * 9 / 10) ? 1 : 0);
+
+        System.out.println("Best of 5 runs after warm-up, ms. IntStream has no descending sort, so it boxes there.");
+        System.out.println("The gap to Stream<Integer> is mostly boxing. Against IntStream the win comes from composing");
+        System.out.println("adjacent map/filter stages and skipping Spliterator setup; simple chains are close to even.");
+
+        System.out.println();
+    }
+
+    private static void report(String name, LongSupplier boxed, LongSupplier intStream, LongSupplier pipeline) {
+        long[] results = new long[3];
+        double boxedMillis = bestOf(boxed, results, 0);
+        double intStreamMillis = bestOf(intStream, results, 1);
+        double pipelineMillis = bestOf(pipeline, results, 2);
+        boolean agree = results[0] == results[1] && results[1] == results[2];
+        System.out.println(String.format("%-32s %13.2f ms %9.2f ms %9.2f ms%s", name, boxedMillis, intStreamMillis,
+            pipelineMillis, agree ? "" : "  (RESULTS DIFFER)"));
+    }
+
+    private static double bestOf(LongSupplier body, long[] results, int slot) {
+        for (int i = 0; i < 3; i++) {
+            results[slot] = body.getAsLong();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            results[slot] = body.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e6;
+    }
+}
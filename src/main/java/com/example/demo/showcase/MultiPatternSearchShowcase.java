@@ -0,0 +1,828 @@
+package com.example.demo.showcase;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Demonstrates multi-pattern text search with an Aho-Corasick automaton
+ * Including a compact double-array transition layout, ASCII case folding, streaming
+ * matching over CharSequence, Reader and ByteBuffer input, a required-literal prefilter
+ * in front of java.util.regex patterns, and benchmarks against looping indexOf and a
+ * combined alternation regex
+ */
+public class MultiPatternSearchShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== MULTI-PATTERN SEARCH SHOWCASE ==========\n");
+
+        automatonDemo();
+        streamingDemo();
+        regexPrefilterDemo();
+        keywordBenchmark();
+        regexBenchmark();
+    }
+
+    // ========== Aho-Corasick Automaton ==========
+
+    /** Receives one match; return false to stop the search. */
+    @FunctionalInterface
+    interface MatchHandler {
+        boolean onMatch(int keyword, long start, long end);
+    }
+
+    /**
+     * Aho-Corasick over the UTF-8 bytes of the keywords, so byte input is matched directly and
+     * char input is encoded on the fly. Bytes are first mapped to dense classes (0 for bytes no
+     * keyword contains), and the trie is stored as a double array: the child of state s on
+     * class c is t = base[s] + c, valid iff check[t] == s. That is three int arrays plus a
+     * flattened output list instead of a 256-wide table per state, and a transition is two
+     * array reads. Reports every match, including overlapping ones, with its keyword index.
+     */
+    static final class AhoCorasick {
+        private static final int ROOT = 0;
+        private static final int FREE = -1;
+
+        private final String[] keywords;
+        private final int[] classOf = new int[256];
+        private final int[] base;
+        private final int[] check;
+        private final int[] fail;
+        // outputs[outputStart[s] .. outputStart[s + 1]) are the keywords ending in state s,
+        // already merged with those of its failure chain
+        private final int[] outputStart;
+        private final int[] outputs;
+        private final int[] byteLengths;
+        private final int[] charLengths;
+        private final int stateCount;
+
+        private AhoCorasick(List<String> keywords, boolean ignoreCase) {
+            this.keywords = keywords.toArray(String[]::new);
+            this.byteLengths = new int[this.keywords.length];
+            this.charLengths = new int[this.keywords.length];
+
+            // 1. Pointer trie over byte classes
+            List<TreeMap<Integer, Integer>> children = new ArrayList<>();
+            List<List<Integer>> terminals = new ArrayList<>();
+            children.add(new TreeMap<>());
+            terminals.add(new ArrayList<>());
+            int classes = 0;
+            for (int id = 0; id < this.keywords.length; id++) {
+                String keyword = this.keywords[id];
+                if (keyword.isEmpty()) {
+                    throw new IllegalArgumentException("Empty keyword at index " + id);
+                }
+                byte[] bytes = (ignoreCase ? foldAscii(keyword) : keyword).getBytes(StandardCharsets.UTF_8);
+                byteLengths[id] = bytes.length;
+                charLengths[id] = keyword.length();
+                int node = 0;
+                for (byte b : bytes) {
+                    int unsigned = b & 0xFF;
+                    if (classOf[unsigned] == 0) {
+                        classOf[unsigned] = ++classes;
+                    }
+                    Integer child = children.get(node).get(classOf[unsigned]);
+                    if (child == null) {
+                        child = children.size();
+                        children.add(new TreeMap<>());
+                        terminals.add(new ArrayList<>());
+                        children.get(node).put(classOf[unsigned], child);
+                    }
+                    node = child;
+                }
+                terminals.get(node).add(id);
+            }
+            if (ignoreCase) {
+                for (int c = 'A'; c <= 'Z'; c++) {
+                    classOf[c] = classOf[c + ('a' - 'A')];
+                }
+            }
+
+            // 2. Place nodes into the double array breadth-first, first fit
+            int capacity = children.size() * 2 + classes + 1;
+            int[] base = new int[capacity];
+            int[] check = new int[capacity];
+            Arrays.fill(check, FREE);
+            check[ROOT] = -2;
+            int[] slotOf = new int[children.size()];
+            int[] order = new int[children.size()];
+            int head = 0;
+            int tail = 1;
+            int firstFree = 1;
+            int highest = 0;
+            while (head < tail) {
+                int node = order[head++];
+                int slot = slotOf[node];
+                TreeMap<Integer, Integer> edges = children.get(node);
+                if (edges.isEmpty()) {
+                    continue;
+                }
+                int candidate = Math.max(1, firstFree - edges.firstKey());
+                while (true) {
+                    if (candidate + classes + 1 > capacity) {
+                        capacity = Math.max(capacity * 2, candidate + classes + 1);
+                        base = Arrays.copyOf(base, capacity);
+                        int previous = check.length;
+                        check = Arrays.copyOf(check, capacity);
+                        Arrays.fill(check, previous, capacity, FREE);
+                    }
+                    boolean fits = true;
+                    for (int cls : edges.keySet()) {
+                        if (check[candidate + cls] != FREE) {
+                            fits = false;
+                            break;
+                        }
+                    }
+                    if (fits) {
+                        break;
+                    }
+                    candidate++;
+                }
+                base[slot] = candidate;
+                for (Map.Entry<Integer, Integer> edge : edges.entrySet()) {
+                    int childSlot = candidate + edge.getKey();
+                    check[childSlot] = slot;
+                    slotOf[edge.getValue()] = childSlot;
+                    order[tail++] = edge.getValue();
+                    highest = Math.max(highest, childSlot);
+                }
+                while (firstFree < capacity && check[firstFree] != FREE) {
+                    firstFree++;
+                }
+            }
+            // Sized so base[s] + class never needs a bounds check for any state
+            int length = highest + classes + 1;
+            this.base = Arrays.copyOf(base, length);
+            this.check = Arrays.copyOf(check, length);
+            this.stateCount = children.size();
+
+            // 3. Failure links and merged outputs, in the same breadth-first order
+            this.fail = new int[length];
+            List<int[]> merged = new ArrayList<>(Collections.nCopies(length, (int[]) null));
+            merged.set(ROOT, new int[0]);
+            for (int i = 0; i < stateCount; i++) {
+                int node = order[i];
+                int slot = slotOf[node];
+                if (slot != ROOT) {
+                    int[] own = terminals.get(node).stream().mapToInt(Integer::intValue).toArray();
+                    int[] inherited = merged.get(fail[slot]);
+                    int[] all = Arrays.copyOf(own, own.length + inherited.length);
+                    System.arraycopy(inherited, 0, all, own.length, inherited.length);
+                    merged.set(slot, all);
+                }
+                for (int cls : children.get(node).keySet()) {
+                    int child = this.base[slot] + cls;
+                    int state = slot;
+                    int target = ROOT;
+                    while (state != ROOT) {
+                        state = fail[state];
+                        if (this.check[this.base[state] + cls] == state) {
+                            target = this.base[state] + cls;
+                            break;
+                        }
+                    }
+                    fail[child] = target;
+                }
+            }
+            this.outputStart = new int[length + 1];
+            int total = 0;
+            for (int s = 0; s < length; s++) {
+                outputStart[s] = total;
+                total += merged.get(s) == null ? 0 : merged.get(s).length;
+            }
+            outputStart[length] = total;
+            this.outputs = new int[total];
+            for (int s = 0; s < length; s++) {
+                if (merged.get(s) != null) {
+                    System.arraycopy(merged.get(s), 0, outputs, outputStart[s], merged.get(s).length);
+                }
+            }
+        }
+
+        static AhoCorasick of(Collection<String> keywords) {
+            return new AhoCorasick(List.copyOf(keywords), false);
+        }
+
+        static AhoCorasick ignoringAsciiCase(Collection<String> keywords) {
+            return new AhoCorasick(List.copyOf(keywords), true);
+        }
+
+        String keyword(int index) {
+            return keywords[index];
+        }
+
+        int keywordCount() {
+            return keywords.length;
+        }
+
+        private int next(int state, int cls) {
+            if (cls == 0) {
+                return ROOT;
+            }
+            while (true) {
+                int target = base[state] + cls;
+                if (check[target] == state) {
+                    return target;
+                }
+                if (state == ROOT) {
+                    return ROOT;
+                }
+                state = fail[state];
+            }
+        }
+
+        /** Matches UTF-8 bytes between position and limit; offsets are buffer indexes. */
+        long search(ByteBuffer buffer, MatchHandler handler) {
+            long matches = 0;
+            int state = ROOT;
+            for (int i = buffer.position(), limit = buffer.limit(); i < limit; i++) {
+                state = next(state, classOf[buffer.get(i) & 0xFF]);
+                if (outputStart[state] != outputStart[state + 1]) {
+                    for (int k = outputStart[state]; k < outputStart[state + 1]; k++) {
+                        matches++;
+                        int keyword = outputs[k];
+                        if (!handler.onMatch(keyword, i + 1 - byteLengths[keyword], i + 1)) {
+                            return matches;
+                        }
+                    }
+                }
+            }
+            return matches;
+        }
+
+        /** Matches chars, encoding non-ASCII to UTF-8 as it goes; offsets are char indexes. */
+        long search(CharSequence text, MatchHandler handler) {
+            Cursor cursor = new Cursor(handler);
+            for (int i = 0, length = text.length(); i < length && cursor.running; i++) {
+                cursor.accept(text.charAt(i));
+            }
+            return cursor.matches;
+        }
+
+        /** Streams a Reader through one char buffer; the automaton state carries across reads. */
+        long search(Reader reader, MatchHandler handler) throws IOException {
+            Cursor cursor = new Cursor(handler);
+            char[] buffer = new char[8_192];
+            int read;
+            while (cursor.running && (read = reader.read(buffer)) >= 0) {
+                for (int i = 0; i < read && cursor.running; i++) {
+                    cursor.accept(buffer[i]);
+                }
+            }
+            return cursor.matches;
+        }
+
+        boolean containsAny(CharSequence text) {
+            return search(text, (keyword, start, end) -> false) > 0;
+        }
+
+        /** Search state for char input; a high surrogate waits for its pair before encoding. */
+        private final class Cursor {
+            private final MatchHandler handler;
+            private int state = ROOT;
+            private long position;
+            private char pendingHigh;
+            private long matches;
+            private boolean running = true;
+
+            Cursor(MatchHandler handler) {
+                this.handler = handler;
+            }
+
+            void accept(char c) {
+                position++;
+                if (c < 0x80) {
+                    step(c);
+                } else if (Character.isHighSurrogate(c)) {
+                    pendingHigh = c;
+                    return;
+                } else if (Character.isLowSurrogate(c) && pendingHigh != 0) {
+                    int codePoint = Character.toCodePoint(pendingHigh, c);
+                    state = next(state, classOf[0xF0 | codePoint >> 18]);
+                    state = next(state, classOf[0x80 | codePoint >> 12 & 0x3F]);
+                    state = next(state, classOf[0x80 | codePoint >> 6 & 0x3F]);
+                    step(0x80 | codePoint & 0x3F);
+                } else if (c < 0x800) {
+                    state = next(state, classOf[0xC0 | c >> 6]);
+                    step(0x80 | c & 0x3F);
+                } else {
+                    state = next(state, classOf[0xE0 | c >> 12]);
+                    state = next(state, classOf[0x80 | c >> 6 & 0x3F]);
+                    step(0x80 | c & 0x3F);
+                }
+                pendingHigh = 0;
+            }
+
+            private void step(int unsigned) {
+                state = next(state, classOf[unsigned]);
+                for (int k = outputStart[state]; k < outputStart[state + 1]; k++) {
+                    matches++;
+                    int keyword = outputs[k];
+                    if (!handler.onMatch(keyword, position - charLengths[keyword], position)) {
+                        running = false;
+                        return;
+                    }
+                }
+            }
+        }
+
+        int stateCount() {
+            return stateCount;
+        }
+
+        long footprintBytes() {
+            return 4L * (base.length + check.length + fail.length + outputStart.length + outputs.length + classOf.length);
+        }
+
+        private static String foldAscii(String keyword) {
+            char[] chars = keyword.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                if (chars[i] >= 'A' && chars[i] <= 'Z') {
+                    chars[i] += 'a' - 'A';
+                }
+            }
+            return new String(chars);
+        }
+    }
+
+    // ========== Regex Prefilter ==========
+
+    /**
+     * Runs many regexes over the same text by first finding, with one Aho-Corasick pass, which
+     * patterns' required literals occur at all; only those patterns (plus any without a usable
+     * literal) reach the regex engine. The literal automaton folds ASCII case for every pattern,
+     * which can only add candidates, never lose a match.
+     */
+    static final class RegexPrefilter {
+        private static final int MIN_LITERAL = 3;
+
+        private final Pattern[] patterns;
+        private final AhoCorasick literals;
+        private final int[][] patternsByLiteral;
+        private final int[] unfiltered;
+
+        RegexPrefilter(List<Pattern> patterns) {
+            this.patterns = patterns.toArray(Pattern[]::new);
+            Map<String, List<Integer>> byLiteral = new LinkedHashMap<>();
+            List<Integer> always = new ArrayList<>();
+            for (int i = 0; i < this.patterns.length; i++) {
+                String literal = requiredLiteral(this.patterns[i]);
+                if (literal == null) {
+                    always.add(i);
+                } else {
+                    byLiteral.computeIfAbsent(literal, key -> new ArrayList<>()).add(i);
+                }
+            }
+            this.literals = AhoCorasick.ignoringAsciiCase(byLiteral.keySet());
+            this.patternsByLiteral = byLiteral.values().stream()
+                .map(ids -> ids.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+            this.unfiltered = always.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        /** Indexes of the patterns that find() a match in the text, in pattern order. */
+        int[] matchingPatterns(CharSequence text) {
+            BitSet candidates = new BitSet(patterns.length);
+            literals.search(text, (literal, start, end) -> {
+                for (int pattern : patternsByLiteral[literal]) {
+                    candidates.set(pattern);
+                }
+                return true;
+            });
+            for (int pattern : unfiltered) {
+                candidates.set(pattern);
+            }
+            int[] matching = new int[candidates.cardinality()];
+            int count = 0;
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                if (patterns[i].matcher(text).find()) {
+                    matching[count++] = i;
+                }
+            }
+            return Arrays.copyOf(matching, count);
+        }
+
+        int filteredPatternCount() {
+            return patterns.length - unfiltered.length;
+        }
+
+        /**
+         * Longest run of literal characters every match must contain, or null if none of at least
+         * MIN_LITERAL chars can be proven. Conservative: groups, classes and anything after a
+         * top-level alternation end or discard a run rather than being analysed, and escapes
+         * with operands (such as \x41 or \cJ) disable the prefilter for the pattern.
+         */
+        static String requiredLiteral(Pattern pattern) {
+            String regex = pattern.pattern();
+            int flags = pattern.flags();
+            // Unicode case folding and canonical equivalence match text the ASCII-folding automaton cannot see
+            if ((flags & (Pattern.COMMENTS | Pattern.UNICODE_CASE | Pattern.CANON_EQ)) != 0) {
+                return null;
+            }
+            if ((flags & Pattern.LITERAL) != 0) {
+                return regex.length() >= MIN_LITERAL
+                    && ((flags & Pattern.CASE_INSENSITIVE) == 0 || isAscii(regex)) ? regex : null;
+            }
+            String inline = inlineFlags(regex);
+            if (inline.contains("x") || inline.contains("u")) {
+                return null;
+            }
+            boolean caseInsensitive = (flags & Pattern.CASE_INSENSITIVE) != 0 || inline.contains("i");
+            String best = null;
+            StringBuilder run = new StringBuilder();
+            int depth = 0;
+            int i = 0;
+            while (i < regex.length()) {
+                char c = regex.charAt(i);
+                int literal = -1;
+                int next = i + 1;
+                if (c == '\\' && i + 1 < regex.length()) {
+                    char escaped = regex.charAt(i + 1);
+                    next = i + 2;
+                    if ("\\.[]{}()*+?^$|/-".indexOf(escaped) >= 0) {
+                        literal = escaped;
+                    } else if (escaped == 't') {
+                        literal = '\t';
+                    } else if (escaped == 'n') {
+                        literal = '\n';
+                    } else if (escaped == 'Q') {
+                        // Quoted text is not analysed; keep what was found before it unless an
+                        // alternation may follow, which would make that run optional
+                        if (regex.indexOf('|', i) >= 0) {
+                            return null;
+                        }
+                        break;
+                    } else if ("xuc0kN".indexOf(escaped) >= 0 || (escaped >= '1' && escaped <= '9')) {
+                        // Escapes with operands (hex, octal, control, named or numbered references)
+                        // are not parsed, so no literal can be proven around them
+                        return null;
+                    } else if (escaped == 'p' || escaped == 'P') {
+                        int close = regex.indexOf('}', i);
+                        next = i + 2 < regex.length() && regex.charAt(i + 2) == '{' && close > 0 ? close + 1 : i + 3;
+                    }
+                } else if (c == '[') {
+                    next = endOfClass(regex, i);
+                } else if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                } else if (c == '|') {
+                    if (depth == 0) {
+                        return null;
+                    }
+                } else if (depth == 0 && ".^$*+?{".indexOf(c) < 0) {
+                    literal = c;
+                }
+                if (depth > 0 || (c == ')' && depth == 0)) {
+                    literal = -1;
+                }
+                // A quantifier after the atom decides whether it is required and whether the run
+                // continues; it is consumed here, with any lazy or possessive suffix
+                boolean optional = false;
+                boolean repeated = false;
+                if (c != '(' && next < regex.length()) {
+                    char quantifier = regex.charAt(next);
+                    if (quantifier == '?' || quantifier == '*') {
+                        optional = true;
+                        next++;
+                    } else if (quantifier == '+') {
+                        repeated = true;
+                        next++;
+                    } else if (quantifier == '{') {
+                        optional = regex.startsWith("{0", next);
+                        repeated = true;
+                        int close = regex.indexOf('}', next);
+                        next = close < 0 ? regex.length() : close + 1;
+                    }
+                    if ((optional || repeated) && next < regex.length()
+                        && (regex.charAt(next) == '?' || regex.charAt(next) == '+')) {
+                        next++;
+                    }
+                }
+                if (literal >= 0 && !optional) {
+                    run.append((char) literal);
+                }
+                if (literal < 0 || optional || repeated) {
+                    best = longer(best, run);
+                    run.setLength(0);
+                }
+                i = next;
+            }
+            best = longer(best, run);
+            if (best != null && best.length() < MIN_LITERAL) {
+                return null;
+            }
+            if (best != null && caseInsensitive && !isAscii(best)) {
+                return null;
+            }
+            return best;
+        }
+
+        private static boolean isAscii(CharSequence text) {
+            return text.chars().allMatch(ch -> ch < 0x80);
+        }
+
+        /** Letters of every embedded flag group such as (?i) or (?s:...), turned on or off. */
+        private static String inlineFlags(String regex) {
+            StringBuilder letters = new StringBuilder();
+            Matcher groups = INLINE_FLAGS.matcher(regex);
+            while (groups.find()) {
+                letters.append(groups.group(1));
+            }
+            return letters.toString();
+        }
+
+        private static final Pattern INLINE_FLAGS = Pattern.compile("\\(\\?([idmsuxU-]+)[:)]");
+
+        private static String longer(String best, StringBuilder run) {
+            return run.length() > (best == null ? 0 : best.length()) ? run.toString() : best;
+        }
+
+        private static int endOfClass(String regex, int open) {
+            int depth = 0;
+            for (int i = open; i < regex.length(); i++) {
+                char c = regex.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == '[') {
+                    depth++;
+                } else if (c == ']' && i > open + 1 && --depth == 0) {
+                    return i + 1;
+                }
+            }
+            return regex.length();
+        }
+    }
+
+    // ========== Demos ==========
+
+    private static void automatonDemo() {
+        System.out.println("--- Aho-Corasick Automaton ---");
+
+        AhoCorasick automaton = AhoCorasick.of(List.of("he", "she", "his", "hers", "caf\u00e9"));
+        String text = "ushers visit his café";
+        System.out.println("Keywords: he, she, his, hers, café   Text: \"" + text + "\"");
+        List<String> found = new ArrayList<>();
+        long count = automaton.search(text, (keyword, start, end) -> {
+            found.add(automaton.keyword(keyword) + "@" + start);
+            return true;
+        });
+        System.out.println(count + " overlapping matches in one pass: " + found);
+
+        AhoCorasick folded = AhoCorasick.ignoringAsciiCase(List.of("error", "timeout"));
+        System.out.println("ASCII case folding finds \"ERROR\" and \"TimeOut\": "
+            + folded.search("ERROR: upstream TimeOut", (keyword, start, end) -> true));
+        System.out.println("containsAny stops at the first hit: " + folded.containsAny("...error..."));
+
+        System.out.println();
+    }
+
+    private static void streamingDemo() {
+        System.out.println("--- Streaming over Reader and ByteBuffer ---");
+
+        List<String> keywords = generateKeywords(2_000, 11);
+        AhoCorasick automaton = AhoCorasick.of(keywords);
+        String text = generateText(keywords, 20_000, 12);
+        System.out.println(String.format("%,d keywords -> %,d states in %,d KB of int arrays "
+                + "(a 256-wide table would need %,d KB)", automaton.keywordCount(), automaton.stateCount(),
+            automaton.footprintBytes() / 1024, 256L * 4 * automaton.stateCount() / 1024));
+
+        MatchHandler counting = (keyword, start, end) -> true;
+        long fromString = automaton.search(text, counting);
+        long fromReader;
+        try (Reader reader = new StringReader(text)) {
+            fromReader = automaton.search(reader, counting);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long fromBytes = automaton.search(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)), counting);
+        System.out.println(String.format("Matches over %,d chars: CharSequence %,d, Reader %,d, UTF-8 ByteBuffer %,d",
+            text.length(), fromString, fromReader, fromBytes));
+
+        System.out.println();
+    }
+
+    private static void regexPrefilterDemo() {
+        System.out.println("--- Regex Prefilter ---");
+
+        String[] regexes = {"connection to \\S+ timed out after \\d+ms", "user=(\\w+) failed login", "ERROR\\s+\\[disk]",
+            "(?i)out of memory", "\\d{3}-\\d{4}", "payment (declined|refused)", "GET /api/v\\d+/orders"};
+        for (String regex : regexes) {
+            String literal = RegexPrefilter.requiredLiteral(Pattern.compile(regex));
+            System.out.println(String.format("  %-44s required literal: %s", regex,
+                literal == null ? "none, always runs" : "\"" + literal + "\""));
+        }
+
+        RegexPrefilter prefilter = new RegexPrefilter(Arrays.stream(regexes).map(Pattern::compile).toList());
+        String line = "12:00:01 WARN user=bob failed login, then OUT OF MEMORY while retrying";
+        System.out.println("Line: \"" + line + "\"");
+        System.out.println("Matching patterns: " + Arrays.stream(prefilter.matchingPatterns(line))
+            .mapToObj(i -> regexes[i]).collect(Collectors.joining(", ")));
+        System.out.println(prefilter.filteredPatternCount() + " of " + regexes.length
+            + " patterns are skipped unless their literal occurs; the rest always run");
+
+        // Escapes with operands must not leak their operand into the literal
+        String[] tricky = {"\\x41BCD", "\\u0041BCD", "\\0101BCD", "\\cJabc", "(?<w>ab)\\k<w>cde", "(ab)\\1cde",
+            "\\QabcD\\E", "xyz\\Q.\\E|other", "\\pLabcd", "\\p{Lu}abcd"};
+        String[] lines = {"ABCD", "\nabc", "ababcde", "abcD", "other", "Xabcd", "xyz."};
+        RegexPrefilter trickyFilter = new RegexPrefilter(Arrays.stream(tricky).map(Pattern::compile).toList());
+        int lost = 0;
+        for (String text : lines) {
+            int[] filtered = trickyFilter.matchingPatterns(text);
+            int[] direct = IntStream.range(0, tricky.length).filter(i -> Pattern.compile(tricky[i]).matcher(text).find())
+                .toArray();
+            lost += Arrays.equals(filtered, direct) ? 0 : 1;
+        }
+        System.out.println("Patterns with operand escapes and \\Q...\\E: " + lost + " of " + lines.length
+            + " lines differ from running every regex");
+
+        // Flags under which the ASCII-folding automaton would miss matches
+        List<Pattern> flagged = List.of(
+            Pattern.compile("caf\u00e9", Pattern.LITERAL | Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE),
+            Pattern.compile("caf\u00e9", Pattern.CANON_EQ),
+            Pattern.compile("na\u00efve", Pattern.LITERAL | Pattern.CASE_INSENSITIVE),
+            Pattern.compile("\u00fcber", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE),
+            Pattern.compile("timeout", Pattern.LITERAL | Pattern.CASE_INSENSITIVE));
+        String[] flaggedLines = {"CAF\u00c9 au lait", "cafe\u0301 noir", "NA\u00cfVE", "\u00dcBER", "TIMEOUT"};
+        RegexPrefilter flaggedFilter = new RegexPrefilter(flagged);
+        int flaggedLost = 0;
+        for (String text : flaggedLines) {
+            int[] direct = IntStream.range(0, flagged.size()).filter(i -> flagged.get(i).matcher(text).find()).toArray();
+            flaggedLost += Arrays.equals(flaggedFilter.matchingPatterns(text), direct) ? 0 : 1;
+        }
+        System.out.println("LITERAL, UNICODE_CASE and CANON_EQ patterns: " + flaggedLost + " of " + flaggedLines.length
+            + " lines differ (" + flaggedFilter.filteredPatternCount() + " of " + flagged.size() + " filtered)");
+
+        System.out.println();
+    }
+
+    // ========== Benchmarks ==========
+
+    private static void keywordBenchmark() {
+        System.out.println("--- Benchmark: 1,000 Keywords over Log Text (MB/s) ---");
+
+        List<String> keywords = generateKeywords(1_000, 21);
+        String text = generateText(keywords, 40_000, 22);
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        AhoCorasick automaton = AhoCorasick.of(keywords);
+        System.out.println(String.format("Input: %.1f MB", text.length() / 1e6));
+        System.out.println(String.format("  %-46s %10s %12s", "approach", "MB/s", "matches"));
+
+        String indexOfSlice = text.substring(0, text.length() / 20);
+        long byIndexOf = measure("indexOf loop per keyword (1/20 of input)", indexOfSlice.length(), () -> {
+            long matches = 0;
+            for (String keyword : keywords) {
+                for (int at = indexOfSlice.indexOf(keyword); at >= 0; at = indexOfSlice.indexOf(keyword, at + 1)) {
+                    matches++;
+                }
+            }
+            return matches;
+        });
+        long sameSlice = automaton.search(indexOfSlice, (keyword, start, end) -> true);
+        String alternationSlice = text.substring(0, text.length() / 100);
+        Pattern alternation = Pattern.compile(keywords.stream().map(Pattern::quote).collect(Collectors.joining("|")));
+        measure("combined alternation regex (1/100 of input)", alternationSlice.length(), () -> {
+            long matches = 0;
+            Matcher matcher = alternation.matcher(alternationSlice);
+            while (matcher.find()) {
+                matches++;
+            }
+            return matches;
+        });
+        measure("Aho-Corasick over String", text.length(), () ->
+            automaton.search(text, (keyword, start, end) -> true));
+        measure("Aho-Corasick over UTF-8 ByteBuffer", utf8.length, () ->
+            automaton.search(ByteBuffer.wrap(utf8), (keyword, start, end) -> true));
+        System.out.println("On the same slice indexOf and Aho-Corasick both count " + byIndexOf + " / " + sameSlice
+            + " overlapping matches; the regex reports");
+        System.out.println("leftmost non-overlapping matches only. Aho-Corasick cost does not grow with keyword count.");
+
+        System.out.println();
+    }
+
+    private static void regexBenchmark() {
+        System.out.println("--- Benchmark: 200 Regex Rules over 20,000 Log Lines (lines/ms) ---");
+
+        List<Pattern> rules = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rules.add(Pattern.compile(switch (i % 4) {
+                case 0 -> "service-" + i + " timed out after \\d+ms";
+                case 1 -> "code=E" + i + "\\b.*retry \\d+";
+                case 2 -> "(?i)queue-" + i + " (full|stalled)";
+                default -> "user=\\w+ action=op" + i + "\\s+denied";
+            }));
+        }
+        SplittableRandom random = new SplittableRandom(31);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            int rule = random.nextInt(200);
+            lines.add(switch (random.nextInt(50)) {
+                case 0 -> "WARN service-" + rule + " timed out after 350ms";
+                case 1 -> "ERROR code=E" + rule + " upstream reset, retry 3";
+                case 2 -> "WARN QUEUE-" + rule + " Stalled";
+                default -> "INFO request " + i + " user=u" + rule + " action=view took " + random.nextInt(900) + "ms";
+            });
+        }
+        RegexPrefilter prefilter = new RegexPrefilter(rules);
+        System.out.println(prefilter.filteredPatternCount() + " of " + rules.size() + " rules have a required literal");
+        System.out.println(String.format("  %-46s %10s %12s", "approach", "lines/ms", "matches"));
+
+        List<String> slice = lines.subList(0, lines.size() / 20);
+        long naive = measure("every regex on every line (1/20 lines)", slice.size() * 1_000L, () -> {
+            long matches = 0;
+            for (String line : slice) {
+                for (Pattern rule : rules) {
+                    if (rule.matcher(line).find()) {
+                        matches++;
+                    }
+                }
+            }
+            return matches;
+        });
+        Pattern combined = Pattern.compile(rules.stream().map(rule -> (rule.pattern().startsWith("(?i)") ? "(?i:"
+            + rule.pattern().substring(4) : "(?:" + rule.pattern()) + ")").collect(Collectors.joining("|")));
+        measure("combined alternation, any match (1/20 lines)", slice.size() * 1_000L, () -> {
+            long matches = 0;
+            for (String line : slice) {
+                if (combined.matcher(line).find()) {
+                    matches++;
+                }
+            }
+            return matches;
+        });
+        long prefiltered = measure("Aho-Corasick literal prefilter + regex", lines.size() * 1_000L, () -> {
+            long matches = 0;
+            for (String line : lines) {
+                matches += prefilter.matchingPatterns(line).length;
+            }
+            return matches;
+        });
+        long prefilteredSlice = 0;
+        for (String line : slice) {
+            prefilteredSlice += prefilter.matchingPatterns(line).length;
+        }
+        if (prefilteredSlice != naive) {
+            throw new IllegalStateException("Prefilter found " + prefilteredSlice + " matches, brute force " + naive);
+        }
+        System.out.println("Prefilter and brute force agree on the shared slice (" + naive + " matches); "
+            + prefiltered + " over all lines.");
+        System.out.println("The combined regex only says whether some rule matched, not which.");
+
+        System.out.println();
+    }
+
+    /** Prints units per microsecond: MB/s for char or byte counts, lines/ms when lines are scaled by 1,000. */
+    private static long measure(String name, long units, LongSupplier body) {
+        ShowcaseSupport.Timing timing = ShowcaseSupport.time(3, body);
+        System.out.println(String.format("  %-46s %10.1f %,12d", name, units * 1e3 / timing.bestNanos(),
+            timing.result()));
+        return timing.result();
+    }
+
+    // ========== Helper Methods ==========
+
+    private static final String[] SYLLABLES = {"ka", "lor", "ven", "mi", "tash", "dro", "el", "qui", "zan", "por",
+        "gri", "sul", "ba", "nek", "ostr", "fy", "um", "rel", "cad", "wix"};
+
+    private static List<String> generateKeywords(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Set<String> keywords = new LinkedHashSet<>();
+        while (keywords.size() < count) {
+            StringBuilder word = new StringBuilder();
+            for (int s = 2 + random.nextInt(3); s > 0; s--) {
+                word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            keywords.add(word.toString());
+        }
+        return new ArrayList<>(keywords);
+    }
+
+    /** Log-like lines of random syllable words, with a keyword in roughly every fourth line. */
+    private static String generateText(List<String> keywords, int lines, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder text = new StringBuilder(lines * 80);
+        for (int i = 0; i < lines; i++) {
+            text.append("2024-05-01 12:").append(10 + i % 50).append(" INFO ");
+            for (int w = 0; w < 8; w++) {
+                if (w == 4 && random.nextInt(4) == 0) {
+                    text.append(keywords.get(random.nextInt(keywords.size()))).append(' ');
+                }
+                for (int s = 1 + random.nextInt(2); s > 0; s--) {
+                    text.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+                }
+                text.append(i % 97 == 0 && w == 0 ? " naïve " : " ");
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+}
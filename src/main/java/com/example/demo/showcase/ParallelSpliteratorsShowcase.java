@@ -0,0 +1,690 @@
+package com.example.demo.showcase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Demonstrates Spliterators that split well for parallel streams over non-array sources
+ * Including a checkpointed linked list, an in-order binary tree, memory-mapped text lines,
+ * running parallel streams on a dedicated bounded ForkJoinPool instead of the common pool,
+ * and speedup curves by parallelism and data size
+ */
+public class ParallelSpliteratorsShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== PARALLEL SPLITERATORS SHOWCASE ==========\n");
+
+        splitQualityDemo();
+        mappedLinesDemo();
+        dedicatedPoolDemo();
+        speedupCurvesBenchmark();
+    }
+
+    // ========== Linked Source ==========
+
+    /**
+     * Append-only singly linked list with an index of every CHECKPOINT_INTERVAL-th node. A spliterator
+     * covers a range of checkpoint segments, so trySplit() is O(1) and exact, where LinkedList can
+     * only copy growing batches of elements into arrays while walking from the head.
+     *
+     * The index is built on the first spliterator() after a change rather than during add(): while
+     * the list is only reachable from its head, a copying GC moves the nodes in chain order, and an
+     * index array referencing nodes throughout the chain would scatter them instead.
+     */
+    static final class CheckpointedLinkedList<T> implements Iterable<T> {
+        static final int CHECKPOINT_INTERVAL = 1024;
+
+        static final class Node<T> {
+            final T value;
+            Node<T> next;
+
+            Node(T value) {
+                this.value = value;
+            }
+        }
+
+        private Node<T> head;
+        private Node<T> tail;
+        private int size;
+        private List<Node<T>> checkpoints = List.of();
+        private int indexedSize;
+
+        void add(T value) {
+            Node<T> node = new Node<>(value);
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private List<Node<T>> checkpoints() {
+            if (indexedSize != size) {
+                List<Node<T>> index = new ArrayList<>(size / CHECKPOINT_INTERVAL + 1);
+                Node<T> node = head;
+                for (int i = 0; i < size; i++, node = node.next) {
+                    if (i % CHECKPOINT_INTERVAL == 0) {
+                        index.add(node);
+                    }
+                }
+                checkpoints = index;
+                indexedSize = size;
+            }
+            return checkpoints;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return Spliterators.iterator(spliterator());
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            List<Node<T>> index = checkpoints();
+            return new SegmentSpliterator<>(index, size, 0, index.size());
+        }
+
+        Stream<T> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+
+        Stream<T> parallelStream() {
+            return StreamSupport.stream(spliterator(), true);
+        }
+
+        /** Covers checkpoint segments [segment, fence); only the last segment may be partial. */
+        private static final class SegmentSpliterator<T> implements Spliterator<T> {
+            private final List<Node<T>> checkpoints;
+            private final int size;
+            private int segment;
+            private final int fence;
+            private Node<T> current;
+            private int remainingInSegment;
+
+            SegmentSpliterator(List<Node<T>> checkpoints, int size, int segment, int fence) {
+                this.checkpoints = checkpoints;
+                this.size = size;
+                this.segment = segment;
+                this.fence = fence;
+            }
+
+            @Override
+            public Spliterator<T> trySplit() {
+                if (current != null) {
+                    return null;
+                }
+                int mid = (segment + fence) >>> 1;
+                if (mid == segment) {
+                    return null;
+                }
+                Spliterator<T> prefix = new SegmentSpliterator<>(checkpoints, size, segment, mid);
+                segment = mid;
+                return prefix;
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (current == null) {
+                    if (segment >= fence) {
+                        return false;
+                    }
+                    current = checkpoints.get(segment);
+                    remainingInSegment = segmentSize(segment);
+                    segment++;
+                }
+                action.accept(current.value);
+                current = --remainingInSegment == 0 ? null : current.next;
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super T> action) {
+                while (current != null) {
+                    tryAdvance(action);
+                }
+                for (; segment < fence; segment++) {
+                    forEachInSegment(checkpoints.get(segment), segmentSize(segment), action);
+                }
+            }
+
+            // Separate method so the JIT compiles the hot loop normally instead of only by OSR
+            private static <T> void forEachInSegment(Node<T> node, int count, Consumer<? super T> action) {
+                for (int i = count; i > 0; i--) {
+                    action.accept(node.value);
+                    node = node.next;
+                }
+            }
+
+            private int segmentSize(int index) {
+                return index == checkpoints.size() - 1
+                    ? size - index * CHECKPOINT_INTERVAL
+                    : CHECKPOINT_INTERVAL;
+            }
+
+            @Override
+            public long estimateSize() {
+                long estimate = 0;
+                for (int i = segment; i < fence; i++) {
+                    estimate += segmentSize(i);
+                }
+                return current == null ? estimate : estimate + remainingInSegment;
+            }
+
+            @Override
+            public int characteristics() {
+                return ORDERED | SIZED | SUBSIZED | NONNULL;
+            }
+        }
+    }
+
+    // ========== Tree Source ==========
+
+    /**
+     * Immutable binary tree with subtree sizes. The in-order spliterator state is an optional
+     * pending element followed by a subtree; splitting hands off (pending, left subtree) and keeps
+     * (root, right subtree), which preserves encounter order and halves a balanced tree each time.
+     */
+    static final class SizedTree<T> {
+        record Node<T>(Node<T> left, T value, Node<T> right, int size) {
+            static <T> int sizeOf(Node<T> node) {
+                return node == null ? 0 : node.size;
+            }
+        }
+
+        private final Node<T> root;
+
+        private SizedTree(Node<T> root) {
+            this.root = root;
+        }
+
+        /** Builds a perfectly balanced tree over the list, in list order. */
+        static <T> SizedTree<T> balanced(List<T> values) {
+            return new SizedTree<>(build(values, 0, values.size()));
+        }
+
+        private static <T> Node<T> build(List<T> values, int from, int to) {
+            if (from >= to) {
+                return null;
+            }
+            int mid = (from + to) >>> 1;
+            return new Node<>(build(values, from, mid), values.get(mid), build(values, mid + 1, to), to - from);
+        }
+
+        int size() {
+            return Node.sizeOf(root);
+        }
+
+        Spliterator<T> spliterator() {
+            return new InOrderSpliterator<>(false, null, root);
+        }
+
+        Stream<T> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+
+        Stream<T> parallelStream() {
+            return StreamSupport.stream(spliterator(), true);
+        }
+
+        private static final class InOrderSpliterator<T> implements Spliterator<T> {
+            private boolean hasPending;
+            private T pending;
+            private Node<T> subtree;
+            private ArrayDeque<Node<T>> stack;
+
+            InOrderSpliterator(boolean hasPending, T pending, Node<T> subtree) {
+                this.hasPending = hasPending;
+                this.pending = pending;
+                this.subtree = subtree;
+            }
+
+            @Override
+            public Spliterator<T> trySplit() {
+                if (stack != null || subtree == null || (subtree.left() == null && !hasPending)) {
+                    return null;
+                }
+                Spliterator<T> prefix = new InOrderSpliterator<>(hasPending, pending, subtree.left());
+                hasPending = true;
+                pending = subtree.value();
+                subtree = subtree.right();
+                return prefix;
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (hasPending) {
+                    hasPending = false;
+                    action.accept(pending);
+                    pending = null;
+                    return true;
+                }
+                if (stack == null) {
+                    stack = new ArrayDeque<>();
+                    pushLeftSpine(subtree);
+                    subtree = null;
+                }
+                Node<T> node = stack.poll();
+                if (node == null) {
+                    return false;
+                }
+                pushLeftSpine(node.right());
+                action.accept(node.value());
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super T> action) {
+                if (stack != null) {
+                    while (tryAdvance(action)) {
+                        // Drain the partially consumed traversal
+                    }
+                    return;
+                }
+                if (hasPending) {
+                    hasPending = false;
+                    action.accept(pending);
+                    pending = null;
+                }
+                Node<T> node = subtree;
+                subtree = null;
+                inOrder(node, action);
+            }
+
+            private static <T> void inOrder(Node<T> node, Consumer<? super T> action) {
+                // A balanced tree is shallow, so recursion depth is log2(size)
+                while (node != null) {
+                    inOrder(node.left(), action);
+                    action.accept(node.value());
+                    node = node.right();
+                }
+            }
+
+            private void pushLeftSpine(Node<T> node) {
+                for (; node != null; node = node.left()) {
+                    stack.push(node);
+                }
+            }
+
+            @Override
+            public long estimateSize() {
+                if (stack != null) {
+                    long size = 0;
+                    for (Node<T> node : stack) {
+                        size += 1 + Node.sizeOf(node.right());
+                    }
+                    return size;
+                }
+                return (hasPending ? 1 : 0) + Node.sizeOf(subtree);
+            }
+
+            @Override
+            public int characteristics() {
+                return ORDERED | SIZED | SUBSIZED;
+            }
+        }
+    }
+
+    // ========== File Source ==========
+
+    /**
+     * Lines of a UTF-8 text file read through a memory mapping. Splits jump to the middle of the
+     * byte range and move forward to the next '\n', which is safe for UTF-8 because that byte never
+     * occurs inside a multi-byte sequence. Sizes are estimates, so the spliterator is not SIZED.
+     * A single MappedByteBuffer addresses at most 2 GB; larger files need one mapping per region.
+     */
+    static final class MappedLineSpliterator implements Spliterator<String> {
+        private static final int MIN_SPLIT_BYTES = 64 * 1024;
+
+        private final MappedByteBuffer buffer;
+        private int position;
+        private final int fence;
+        private final double bytesPerLine;
+
+        private MappedLineSpliterator(MappedByteBuffer buffer, int position, int fence, double bytesPerLine) {
+            this.buffer = buffer;
+            this.position = position;
+            this.fence = fence;
+            this.bytesPerLine = bytesPerLine;
+        }
+
+        static Stream<String> lines(Path file, boolean parallel) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("File too large for a single mapping: " + size + " bytes");
+                }
+                // The mapping stays valid after the channel is closed
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                return StreamSupport.stream(new MappedLineSpliterator(buffer, 0, (int) size, 64), parallel);
+            }
+        }
+
+        @Override
+        public Spliterator<String> trySplit() {
+            int remaining = fence - position;
+            if (remaining < MIN_SPLIT_BYTES) {
+                return null;
+            }
+            int split = position + remaining / 2;
+            while (split < fence && buffer.get(split - 1) != '\n') {
+                split++;
+            }
+            if (split >= fence) {
+                return null;
+            }
+            Spliterator<String> prefix = new MappedLineSpliterator(buffer, position, split, bytesPerLine);
+            position = split;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            if (position >= fence) {
+                return false;
+            }
+            int end = position;
+            while (end < fence && buffer.get(end) != '\n') {
+                end++;
+            }
+            int lineEnd = end > position && buffer.get(end - 1) == '\r' ? end - 1 : end;
+            byte[] bytes = new byte[lineEnd - position];
+            buffer.get(position, bytes);
+            position = end + 1;
+            action.accept(new String(bytes, StandardCharsets.UTF_8));
+            return true;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) Math.ceil((fence - position) / bytesPerLine);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    // ========== Dedicated Pool ==========
+
+    /**
+     * A bounded ForkJoinPool for parallel streams. A terminal operation started from inside a
+     * ForkJoinTask runs on that task's pool, so submitting the whole pipeline keeps it off the common
+     * pool. maximumPoolSize equal to parallelism stops managed blocking from adding compensation
+     * threads, and the saturate predicate makes the pool wait rather than reject when that cap is hit.
+     */
+    static final class BoundedStreamPool implements AutoCloseable {
+        private final ForkJoinPool pool;
+
+        BoundedStreamPool(String name, int parallelism) {
+            AtomicInteger counter = new AtomicInteger();
+            ForkJoinPool.ForkJoinWorkerThreadFactory factory = p -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                thread.setName(name + "-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            this.pool = new ForkJoinPool(parallelism, factory, null, false,
+                0, parallelism, 1, p -> true, 30, TimeUnit.SECONDS);
+        }
+
+        <T> T run(Supplier<T> pipeline) {
+            return pool.submit(pipeline::get).join();
+        }
+
+        int parallelism() {
+            return pool.getParallelism();
+        }
+
+        ForkJoinPool pool() {
+            return pool;
+        }
+
+        @Override
+        public void close() {
+            pool.shutdown();
+        }
+    }
+
+    // ========== Demos ==========
+
+    private static void splitQualityDemo() {
+        System.out.println("--- Split Quality (leaf sizes after 4 levels of trySplit) ---");
+
+        int size = 100_000;
+        List<Integer> values = new ArrayList<>(size);
+        CheckpointedLinkedList<Integer> linked = new CheckpointedLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+            linked.add(i);
+        }
+
+        printLeaves("ArrayList", values.spliterator());
+        printLeaves("LinkedList", new LinkedList<>(values).spliterator());
+        printLeaves("CheckpointedLinkedList", linked.spliterator());
+        printLeaves("SizedTree", SizedTree.balanced(values).spliterator());
+
+        long parallelSum = linked.parallelStream().mapToLong(Integer::longValue).sum();
+        List<Integer> firstFromTree = SizedTree.balanced(values).parallelStream()
+            .filter(n -> n % 9_999 == 0).limit(4).toList();
+        System.out.println("Parallel sum over linked list: " + parallelSum
+            + "; ordered parallel filter over tree: " + firstFromTree);
+
+        System.out.println();
+    }
+
+    private static <T> void printLeaves(String name, Spliterator<T> root) {
+        List<Long> leaves = new ArrayList<>();
+        collectLeaves(root, 4, leaves);
+        System.out.println(String.format("  %-24s %s", name, leaves));
+    }
+
+    private static <T> void collectLeaves(Spliterator<T> spliterator, int depth, List<Long> leaves) {
+        Spliterator<T> prefix = depth == 0 ? null : spliterator.trySplit();
+        if (prefix == null) {
+            long count = 0;
+            while (spliterator.tryAdvance(x -> { })) {
+                count++;
+            }
+            leaves.add(count);
+            return;
+        }
+        collectLeaves(prefix, depth - 1, leaves);
+        collectLeaves(spliterator, depth - 1, leaves);
+    }
+
+    private static void mappedLinesDemo() {
+        System.out.println("--- Memory-Mapped Line Spliterator ---");
+
+        Path file = null;
+        try {
+            file = writeSampleFile(200_000);
+            long bytes = Files.size(file);
+            try (Stream<String> lines = MappedLineSpliterator.lines(file, true)) {
+                long errors = lines.filter(line -> line.contains("ERROR")).count();
+                System.out.println("File: " + bytes / 1024 + " KB, ERROR lines (parallel): " + errors);
+            }
+            try (Stream<String> mapped = MappedLineSpliterator.lines(file, true);
+                 Stream<String> reader = Files.lines(file)) {
+                System.out.println("Same lines as Files.lines(), in order: " + mapped.toList().equals(reader.toList()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            ShowcaseSupport.deleteQuietly(file);
+        }
+
+        System.out.println();
+    }
+
+    private static void dedicatedPoolDemo() {
+        System.out.println("--- Parallel Streams on a Dedicated Bounded ForkJoinPool ---");
+
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 1; i <= 100_000; i++) {
+            numbers.add(i);
+        }
+
+        try (BoundedStreamPool pool = new BoundedStreamPool("stream-pool", 2)) {
+            Set<String> threads = Collections.synchronizedSet(new TreeSet<>());
+            long sum = pool.run(() -> numbers.parallelStream()
+                .peek(n -> threads.add(Thread.currentThread().getName().replaceAll("\\d+$", "N")))
+                .mapToLong(n -> n * 2L)
+                .sum());
+            System.out.println("Sum: " + sum + ", parallelism: " + pool.parallelism() + ", threads used: " + threads);
+            System.out.println("Common pool untouched by this pipeline: "
+                + threads.stream().noneMatch(t -> t.startsWith("ForkJoinPool.commonPool")));
+
+            // Blocking inside the stream: the bounded pool does not grow past its maximum
+            pool.run(() -> numbers.parallelStream().limit(8).peek(n -> sleep(20)).count());
+            System.out.println("Pool size after blocking tasks: " + pool.pool().getPoolSize()
+                + " (max " + pool.parallelism() + ")");
+        }
+
+        System.out.println();
+    }
+
+    // ========== Benchmark ==========
+
+    private static void speedupCurvesBenchmark() {
+        System.out.println("--- Benchmark: Speedup by Parallelism and Data Size ---");
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        int[] parallelisms = IntStream.of(1, 2, 4, cores).distinct().sorted().toArray();
+        int[] sizes = {10_000, 100_000, 300_000};
+        System.out.println("Available processors: " + cores
+            + (cores == 1 ? " (speedups above 1.0x cannot show on this machine)" : ""));
+
+        StringBuilder header = new StringBuilder(String.format("  %-24s %9s %9s", "source", "elements", "seq ms"));
+        for (int p : parallelisms) {
+            header.append(String.format(" %6s", "p=" + p));
+        }
+        System.out.println(header);
+
+        Path file = null;
+        try {
+            for (int size : sizes) {
+                List<Integer> values = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add(i);
+                }
+                // Each linked structure is built in one pass, so its nodes are laid out contiguously
+                CheckpointedLinkedList<Integer> linked = new CheckpointedLinkedList<>();
+                values.forEach(linked::add);
+                LinkedList<Integer> jdkLinked = new LinkedList<>(values);
+                SizedTree<Integer> tree = SizedTree.balanced(values);
+                file = writeSampleFile(size);
+                Path lines = file;
+
+                speedupRow("ArrayList", size, parallelisms, parallel -> work(parallel ? values.parallelStream() : values.stream()));
+                speedupRow("LinkedList", size, parallelisms, parallel -> work(parallel ? jdkLinked.parallelStream() : jdkLinked.stream()));
+                speedupRow("CheckpointedLinkedList", size, parallelisms, parallel -> work(parallel ? linked.parallelStream() : linked.stream()));
+                speedupRow("SizedTree", size, parallelisms, parallel -> work(parallel ? tree.parallelStream() : tree.stream()));
+                speedupRow("MappedLineSpliterator", size, parallelisms, parallel -> {
+                    try (Stream<String> stream = MappedLineSpliterator.lines(lines, parallel)) {
+                        return work(stream.map(String::length));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                ShowcaseSupport.deleteQuietly(file);
+                file = null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            ShowcaseSupport.deleteQuietly(file);
+        }
+
+        System.out.println("Cells are sequential time / parallel time on a dedicated pool of that parallelism.");
+
+        System.out.println();
+    }
+
+    interface Workload {
+        long run(boolean parallel);
+    }
+
+    private static long work(Stream<Integer> stream) {
+        // A few dozen cycles per element, so splitting overhead is visible at small sizes
+        return stream.mapToLong(n -> {
+            long h = n * 0x9E3779B97F4A7C15L;
+            for (int i = 0; i < 8; i++) {
+                h ^= h >>> 29;
+                h *= 0xBF58476D1CE4E5B9L;
+            }
+            return h & 0xFF;
+        }).sum();
+    }
+
+    private static void speedupRow(String name, int size, int[] parallelisms, Workload workload) {
+        int reps = 3;
+        double sequential = bestMillis(reps, () -> workload.run(false));
+        StringBuilder row = new StringBuilder(String.format("  %-24s %9d %9.2f", name, size, sequential));
+        for (int parallelism : parallelisms) {
+            try (BoundedStreamPool pool = new BoundedStreamPool("bench", parallelism)) {
+                double parallel = bestMillis(reps, () -> pool.run(() -> workload.run(true)));
+                row.append(String.format(" %5.1fx", sequential / parallel));
+            }
+        }
+        System.out.println(row);
+    }
+
+    private static double bestMillis(int reps, Supplier<Long> body) {
+        for (int i = 0; i < 4; i++) {
+            body.get();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < reps; i++) {
+            long start = System.nanoTime();
+            body.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e6;
+    }
+
+    // ========== Helper Methods ==========
+
+    private static Path writeSampleFile(int lines) throws IOException {
+        Path file = Files.createTempFile("spliterator-lines", ".log");
+        String[] levels = {"INFO", "DEBUG", "WARN", "ERROR"};
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < lines; i++) {
+                writer.write("2024-01-01T00:00:" + (i % 60) + " " + levels[i % levels.length]
+                    + " request " + i + " handled by worker-" + (i % 16) + " in " + (i % 97) + "ms\n");
+            }
+        }
+        return file;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
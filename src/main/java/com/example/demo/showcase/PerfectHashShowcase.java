@@ -0,0 +1,171 @@
+package com.example.demo.showcase;
+
+import com.example.demo.controller.FunctionController.CalculateOperation;
+import com.example.demo.util.PerfectHashTable;
+
+import java.util.*;
+
+/**
+ * Demonstrates compact lookup tables for small, fixed string key sets
+ * Including perfect-hash tables built once per key set, enum dispatch on top of them
+ * (the EnumMap idea applied to string keys) and a benchmark against HashMap and string switch
+ */
+public class PerfectHashShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== PERFECT HASH SHOWCASE ==========\n");
+
+        perfectHashTableDemo();
+        enumDispatchDemo();
+        dispatchBenchmark();
+    }
+
+    // ========== Perfect Hash Table ==========
+
+    private static void perfectHashTableDemo() {
+        System.out.println("--- Perfect Hash Table ---");
+        System.out.println("Every key gets its own slot: lookup = hashCode, multiply, shift, equals");
+
+        Map<String, Integer> httpMethods = new LinkedHashMap<>();
+        httpMethods.put("GET", 1);
+        httpMethods.put("POST", 2);
+        httpMethods.put("PUT", 3);
+        httpMethods.put("DELETE", 4);
+        httpMethods.put("PATCH", 5);
+        httpMethods.put("HEAD", 6);
+        httpMethods.put("OPTIONS", 7);
+
+        PerfectHashTable<Integer> table = PerfectHashTable.of(httpMethods);
+        System.out.println("Keys: " + table.size() + ", table slots: " + table.tableSize()
+            + ", multiplier: 0x" + Integer.toHexString(table.multiplier()));
+        System.out.println("Table: " + table);
+        System.out.println("get(\"PATCH\"): " + table.get("PATCH"));
+        System.out.println("get(\"TRACE\") (not in set): " + table.get("TRACE"));
+        System.out.println("getOrDefault(\"get\", -1) (case-sensitive): " + table.getOrDefault("get", -1));
+
+        // All four share one String.hashCode(), so the table switches to a seeded hash of the chars
+        Map<String, Integer> colliding = new LinkedHashMap<>();
+        for (String key : List.of("AaAa", "AaBB", "BBAa", "BBBB")) {
+            colliding.put(key, colliding.size());
+        }
+        PerfectHashTable<Integer> seeded = PerfectHashTable.of(colliding);
+        System.out.println("Keys with equal hashCode " + "AaAa".hashCode() + ": " + seeded + ", get(\"BBAa\"): "
+            + seeded.get("BBAa") + ", get(\"BBBa\"): " + seeded.get("BBBa"));
+
+        System.out.println();
+    }
+
+    // ========== Enum Dispatch ==========
+
+    private static final PerfectHashTable<CalculateOperation> OPERATIONS =
+        PerfectHashTable.forEnum(CalculateOperation.class, op -> op.name().toLowerCase(Locale.ROOT));
+
+    private static int applyViaPerfectHash(String name, int a, int b) {
+        CalculateOperation op = OPERATIONS.get(name);
+        return op == null ? 0 : switch (op) {
+            case ADD -> a + b;
+            case SUBTRACT -> a - b;
+            case MULTIPLY -> a * b;
+            case DIVIDE -> b != 0 ? a / b : 0;
+        };
+    }
+
+    private static int applyViaStringSwitch(String name, int a, int b) {
+        return switch (name) {
+            case "add" -> a + b;
+            case "subtract" -> a - b;
+            case "multiply" -> a * b;
+            case "divide" -> b != 0 ? a / b : 0;
+            default -> 0;
+        };
+    }
+
+    @FunctionalInterface
+    private interface IntOperator {
+        int apply(int a, int b);
+    }
+
+    private static final Map<String, IntOperator> HASH_MAP_OPERATIONS = new HashMap<>(Map.of(
+        "add", (a, b) -> a + b,
+        "subtract", (a, b) -> a - b,
+        "multiply", (a, b) -> a * b,
+        "divide", (a, b) -> b != 0 ? a / b : 0
+    ));
+
+    private static int applyViaHashMap(String name, int a, int b) {
+        IntOperator op = HASH_MAP_OPERATIONS.get(name);
+        return op == null ? 0 : op.apply(a, b);
+    }
+
+    private static void enumDispatchDemo() {
+        System.out.println("--- Enum Dispatch ---");
+        System.out.println("Resolve the name once to an enum, then switch on the enum (ordinal jump table)");
+        System.out.println("This is how FunctionController dispatches /api/calculate and /api/manipulate");
+
+        for (String name : List.of("add", "subtract", "multiply", "divide", "modulo")) {
+            System.out.println("  " + name + "(20, 4) = " + applyViaPerfectHash(name, 20, 4)
+                + " (resolved to " + OPERATIONS.get(name) + ")");
+        }
+
+        System.out.println();
+    }
+
+    // ========== Benchmark ==========
+
+    private static void dispatchBenchmark() {
+        System.out.println("--- Dispatch Benchmark ---");
+
+        int iterations = 5_000_000;
+        String[] known = {"add", "subtract", "multiply", "divide"};
+        // Fresh String instances, as a request parameter would be (hash computed on first use only)
+        String[] names = new String[1024];
+        Random random = new Random(3);
+        for (int i = 0; i < names.length; i++) {
+            String base = random.nextInt(10) == 0 ? "unknown" : known[random.nextInt(known.length)];
+            names[i] = new String(base);
+        }
+
+        // Warm up all three paths so each is measured after JIT compilation
+        long sink = 0;
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < iterations / 10; i++) {
+                String name = names[i & 1023];
+                sink += applyViaStringSwitch(name, i, 3) + applyViaHashMap(name, i, 3) + applyViaPerfectHash(name, i, 3);
+            }
+        }
+
+        long start = System.nanoTime();
+        long switchSum = 0;
+        for (int i = 0; i < iterations; i++) {
+            switchSum += applyViaStringSwitch(names[i & 1023], i, 3);
+        }
+        long switchTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        long mapSum = 0;
+        for (int i = 0; i < iterations; i++) {
+            mapSum += applyViaHashMap(names[i & 1023], i, 3);
+        }
+        long mapTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        long perfectSum = 0;
+        for (int i = 0; i < iterations; i++) {
+            perfectSum += applyViaPerfectHash(names[i & 1023], i, 3);
+        }
+        long perfectTime = System.nanoTime() - start;
+
+        System.out.println(iterations + " dispatches over 4 operations (+10% unknown names):");
+        System.out.println(String.format("String switch:          %6d μs (%.2f ns/op)",
+            switchTime / 1000, (double) switchTime / iterations));
+        System.out.println(String.format("HashMap<String, op>:    %6d μs (%.2f ns/op)",
+            mapTime / 1000, (double) mapTime / iterations));
+        System.out.println(String.format("PerfectHashTable+enum:  %6d μs (%.2f ns/op)",
+            perfectTime / 1000, (double) perfectTime / iterations));
+        System.out.println("Results agree: " + (switchSum == mapSum && mapSum == perfectSum) + " (sink " + (sink & 1) + ")");
+        System.out.println("For 4 keys all three are close; the table pays off as key sets grow,");
+        System.out.println("since a string switch binary-searches hash codes and HashMap walks bucket nodes");
+
+        System.out.println();
+    }
+}
@@ -0,0 +1,1036 @@
+package com.example.demo.showcase;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Demonstrates persistent (immutable) collections with structural sharing
+ * Including a 32-ary trie vector, a HAMT-based map and set, transient batch builders
+ * and update-cost comparisons against CopyOnWriteArrayList and full copies
+ */
+public class PersistentCollectionsShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== PERSISTENT COLLECTIONS SHOWCASE ==========\n");
+
+        persistentVectorDemo();
+        persistentHashMapDemo();
+        persistentHashSetDemo();
+        transientBuilderDemo();
+        vectorUpdateBenchmark();
+        mapUpdateBenchmark();
+        snapshotMemoryComparison();
+    }
+
+    // ========== Persistent Vector (32-ary trie) ==========
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    static final class VectorNode {
+        final Object edit;
+        final Object[] array;
+
+        VectorNode(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Immutable vector backed by a 32-way branching trie plus a tail buffer.
+     * Appends and updates copy only the path from the root to the leaf, O(log32 n).
+     */
+    static final class PersistentVector<E> implements Iterable<E> {
+        private static final VectorNode EMPTY_NODE = new VectorNode(null, new Object[WIDTH]);
+        private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+        final int size;
+        final int shift;
+        final VectorNode root;
+        final Object[] tail;
+
+        PersistentVector(int size, int shift, VectorNode root, Object[] tail) {
+            this.size = size;
+            this.shift = shift;
+            this.root = root;
+            this.tail = tail;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <E> PersistentVector<E> empty() {
+            return (PersistentVector<E>) EMPTY;
+        }
+
+        @SafeVarargs
+        static <E> PersistentVector<E> of(E... elements) {
+            TransientVector<E> builder = PersistentVector.<E>empty().asTransient();
+            for (E e : elements) {
+                builder.conj(e);
+            }
+            return builder.persistent();
+        }
+
+        public int size() {
+            return size;
+        }
+
+        int tailOffset() {
+            return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+        }
+
+        /** Number of trie levels copied by a single update. */
+        int depth() {
+            return shift / BITS + 1;
+        }
+
+        private Object[] leafFor(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            if (index >= tailOffset()) {
+                return tail;
+            }
+            VectorNode node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (VectorNode) node.array[(index >>> level) & MASK];
+            }
+            return node.array;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            return (E) leafFor(index)[index & MASK];
+        }
+
+        public PersistentVector<E> conj(E element) {
+            if (size - tailOffset() < WIDTH) {
+                Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+                newTail[tail.length] = element;
+                return new PersistentVector<>(size + 1, shift, root, newTail);
+            }
+            VectorNode tailNode = new VectorNode(null, tail);
+            VectorNode newRoot;
+            int newShift = shift;
+            if ((size >>> BITS) > (1 << shift)) {
+                // Root overflow - grow the trie by one level
+                newRoot = new VectorNode(null, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(null, shift, tailNode);
+                newShift += BITS;
+            } else {
+                newRoot = pushTail(shift, root, tailNode);
+            }
+            return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+        }
+
+        private VectorNode pushTail(int level, VectorNode parent, VectorNode tailNode) {
+            int subIndex = ((size - 1) >>> level) & MASK;
+            VectorNode result = new VectorNode(parent.edit, parent.array.clone());
+            VectorNode toInsert;
+            if (level == BITS) {
+                toInsert = tailNode;
+            } else {
+                VectorNode child = (VectorNode) parent.array[subIndex];
+                toInsert = child != null
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(null, level - BITS, tailNode);
+            }
+            result.array[subIndex] = toInsert;
+            return result;
+        }
+
+        public PersistentVector<E> assoc(int index, E element) {
+            if (index == size) {
+                return conj(element);
+            }
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            if (index >= tailOffset()) {
+                Object[] newTail = tail.clone();
+                newTail[index & MASK] = element;
+                return new PersistentVector<>(size, shift, root, newTail);
+            }
+            return new PersistentVector<>(size, shift, doAssoc(shift, root, index, element), tail);
+        }
+
+        private static VectorNode doAssoc(int level, VectorNode node, int index, Object value) {
+            VectorNode result = new VectorNode(node.edit, node.array.clone());
+            if (level == 0) {
+                result.array[index & MASK] = value;
+            } else {
+                int subIndex = (index >>> level) & MASK;
+                result.array[subIndex] = doAssoc(level - BITS, (VectorNode) node.array[subIndex], index, value);
+            }
+            return result;
+        }
+
+        public TransientVector<E> asTransient() {
+            return new TransientVector<>(this);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+                private int index = 0;
+                private Object[] leaf = size > 0 ? leafFor(0) : null;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public E next() {
+                    if (index >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    if (index > 0 && (index & MASK) == 0) {
+                        leaf = leafFor(index);
+                    }
+                    return (E) leaf[index++ & MASK];
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(", ", "[", "]");
+            for (E e : this) {
+                joiner.add(String.valueOf(e));
+            }
+            return joiner.toString();
+        }
+    }
+
+    private static VectorNode newPath(Object edit, int level, VectorNode node) {
+        if (level == 0) {
+            return node;
+        }
+        VectorNode result = new VectorNode(edit, new Object[WIDTH]);
+        result.array[0] = newPath(edit, level - BITS, node);
+        return result;
+    }
+
+    /**
+     * Mutable builder over a persistent vector.
+     * Nodes created by this transient carry its edit token and are mutated in place.
+     */
+    static final class TransientVector<E> {
+        private Object edit = new Object();
+        private int size;
+        private int shift;
+        private VectorNode root;
+        private Object[] tail;
+
+        TransientVector(PersistentVector<E> source) {
+            this.size = source.size;
+            this.shift = source.shift;
+            this.root = new VectorNode(edit, source.root.array.clone());
+            this.tail = Arrays.copyOf(source.tail, WIDTH);
+        }
+
+        private void ensureAlive() {
+            if (edit == null) {
+                throw new IllegalStateException("Transient used after persistent() call");
+            }
+        }
+
+        private VectorNode ensureEditable(VectorNode node) {
+            return node.edit == edit ? node : new VectorNode(edit, node.array.clone());
+        }
+
+        private int tailOffset() {
+            return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+        }
+
+        public TransientVector<E> conj(E element) {
+            ensureAlive();
+            if (size - tailOffset() < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+            VectorNode tailNode = new VectorNode(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((size >>> BITS) > (1 << shift)) {
+                VectorNode newRoot = new VectorNode(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        private VectorNode pushTail(int level, VectorNode parent, VectorNode tailNode) {
+            VectorNode result = ensureEditable(parent);
+            int subIndex = ((size - 1) >>> level) & MASK;
+            if (level == BITS) {
+                result.array[subIndex] = tailNode;
+            } else {
+                VectorNode child = (VectorNode) result.array[subIndex];
+                result.array[subIndex] = child != null
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(edit, level - BITS, tailNode);
+            }
+            return result;
+        }
+
+        public TransientVector<E> assoc(int index, E element) {
+            ensureAlive();
+            if (index == size) {
+                return conj(element);
+            }
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            if (index >= tailOffset()) {
+                tail[index & MASK] = element;
+            } else {
+                root = doAssoc(shift, root, index, element);
+            }
+            return this;
+        }
+
+        private VectorNode doAssoc(int level, VectorNode node, int index, Object value) {
+            VectorNode result = ensureEditable(node);
+            if (level == 0) {
+                result.array[index & MASK] = value;
+            } else {
+                int subIndex = (index >>> level) & MASK;
+                result.array[subIndex] = doAssoc(level - BITS, (VectorNode) result.array[subIndex], index, value);
+            }
+            return result;
+        }
+
+        public PersistentVector<E> persistent() {
+            ensureAlive();
+            edit = null;
+            Object[] trimmedTail = Arrays.copyOf(tail, size - tailOffset());
+            return new PersistentVector<>(size, shift, root, trimmedTail);
+        }
+    }
+
+    private static void persistentVectorDemo() {
+        System.out.println("--- Persistent Vector ---");
+        System.out.println("32-ary trie: every update returns a new version sharing untouched nodes");
+
+        PersistentVector<String> v1 = PersistentVector.of("Apple", "Banana", "Cherry");
+        PersistentVector<String> v2 = v1.conj("Date");
+        PersistentVector<String> v3 = v2.assoc(0, "Avocado");
+
+        System.out.println("v1: " + v1);
+        System.out.println("v2 = v1.conj(\"Date\"): " + v2);
+        System.out.println("v3 = v2.assoc(0, \"Avocado\"): " + v3);
+        System.out.println("v1 unchanged after updates: " + v1);
+
+        PersistentVector<Integer> large = PersistentVector.empty();
+        for (int i = 0; i < 100_000; i++) {
+            large = large.conj(i);
+        }
+        PersistentVector<Integer> updated = large.assoc(12_345, -1);
+        System.out.println("Large vector size: " + large.size() + ", trie depth: " + large.depth());
+        System.out.println("large.get(12345): " + large.get(12_345) + ", updated.get(12345): " + updated.get(12_345));
+        System.out.println("Shared root children: " + countShared(large.root, updated.root) + "/" + WIDTH);
+
+        System.out.println();
+    }
+
+    private static int countShared(VectorNode a, VectorNode b) {
+        int shared = 0;
+        for (int i = 0; i < WIDTH; i++) {
+            if (a.array[i] != null && a.array[i] == b.array[i]) {
+                shared++;
+            }
+        }
+        return shared;
+    }
+
+    // ========== Persistent Hash Map (HAMT) ==========
+
+    private static final Object NOT_FOUND = new Object();
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitpos(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private interface HamtNode {
+        Object find(int shift, int hash, Object key, Object notFound);
+
+        HamtNode assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] addedLeaf);
+
+        HamtNode without(Object edit, int shift, int hash, Object key, boolean[] removedLeaf);
+
+        void forEach(BiConsumer<Object, Object> action);
+    }
+
+    /**
+     * Hash array mapped trie node: a 32-bit bitmap marks which of the 32 slots are present,
+     * and the array holds only those slots as (key, value) or (null, child node) pairs.
+     */
+    static final class BitmapIndexedNode implements HamtNode {
+        static final BitmapIndexedNode EMPTY = new BitmapIndexedNode(null, 0, new Object[0]);
+
+        final Object edit;
+        int bitmap;
+        Object[] array;
+
+        BitmapIndexedNode(Object edit, int bitmap, Object[] array) {
+            this.edit = edit;
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private boolean ownedBy(Object edit) {
+            return edit != null && edit == this.edit;
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key, Object notFound) {
+            int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return notFound;
+            }
+            int idx = index(bit);
+            Object k = array[2 * idx];
+            Object v = array[2 * idx + 1];
+            if (k == null) {
+                return ((HamtNode) v).find(shift + BITS, hash, key, notFound);
+            }
+            return key.equals(k) ? v : notFound;
+        }
+
+        @Override
+        public HamtNode assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] addedLeaf) {
+            int bit = bitpos(hash, shift);
+            int idx = index(bit);
+            if ((bitmap & bit) != 0) {
+                Object k = array[2 * idx];
+                Object v = array[2 * idx + 1];
+                if (k == null) {
+                    HamtNode child = ((HamtNode) v).assoc(edit, shift + BITS, hash, key, value, addedLeaf);
+                    return child == v ? this : editAndSet(edit, 2 * idx + 1, child);
+                }
+                if (key.equals(k)) {
+                    return v == value ? this : editAndSet(edit, 2 * idx + 1, value);
+                }
+                addedLeaf[0] = true;
+                HamtNode child = createNode(edit, shift + BITS, k, v, hash, key, value);
+                BitmapIndexedNode result = editAndSet(edit, 2 * idx, null);
+                result.array[2 * idx + 1] = child;
+                return result;
+            }
+
+            int count = Integer.bitCount(bitmap);
+            Object[] newArray = new Object[2 * (count + 1)];
+            System.arraycopy(array, 0, newArray, 0, 2 * idx);
+            newArray[2 * idx] = key;
+            newArray[2 * idx + 1] = value;
+            System.arraycopy(array, 2 * idx, newArray, 2 * (idx + 1), 2 * (count - idx));
+            addedLeaf[0] = true;
+            if (ownedBy(edit)) {
+                this.array = newArray;
+                this.bitmap |= bit;
+                return this;
+            }
+            return new BitmapIndexedNode(edit, bitmap | bit, newArray);
+        }
+
+        @Override
+        public HamtNode without(Object edit, int shift, int hash, Object key, boolean[] removedLeaf) {
+            int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int idx = index(bit);
+            Object k = array[2 * idx];
+            Object v = array[2 * idx + 1];
+            if (k == null) {
+                HamtNode child = ((HamtNode) v).without(edit, shift + BITS, hash, key, removedLeaf);
+                if (child == v) {
+                    return this;
+                }
+                if (child != null) {
+                    return editAndSet(edit, 2 * idx + 1, child);
+                }
+            } else if (key.equals(k)) {
+                removedLeaf[0] = true;
+            } else {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            return removePair(edit, bit, idx);
+        }
+
+        private BitmapIndexedNode editAndSet(Object edit, int i, Object value) {
+            BitmapIndexedNode node = ownedBy(edit) ? this : new BitmapIndexedNode(edit, bitmap, array.clone());
+            node.array[i] = value;
+            return node;
+        }
+
+        private BitmapIndexedNode removePair(Object edit, int bit, int idx) {
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, 2 * idx);
+            System.arraycopy(array, 2 * (idx + 1), newArray, 2 * idx, newArray.length - 2 * idx);
+            if (ownedBy(edit)) {
+                this.array = newArray;
+                this.bitmap ^= bit;
+                return this;
+            }
+            return new BitmapIndexedNode(edit, bitmap ^ bit, newArray);
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == null) {
+                    ((HamtNode) array[i + 1]).forEach(action);
+                } else {
+                    action.accept(array[i], array[i + 1]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Leaf for keys whose full 32-bit hashes collide; entries are scanned linearly.
+     */
+    static final class HashCollisionNode implements HamtNode {
+        final Object edit;
+        final int hash;
+        Object[] array;
+
+        HashCollisionNode(Object edit, int hash, Object[] array) {
+            this.edit = edit;
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int findIndex(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean ownedBy(Object edit) {
+            return edit != null && edit == this.edit;
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key, Object notFound) {
+            int idx = findIndex(key);
+            return idx < 0 ? notFound : array[idx + 1];
+        }
+
+        @Override
+        public HamtNode assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] addedLeaf) {
+            if (hash != this.hash) {
+                // Different hash at this level - push the collision node down a bitmap node
+                return new BitmapIndexedNode(edit, bitpos(this.hash, shift), new Object[]{null, this})
+                    .assoc(edit, shift, hash, key, value, addedLeaf);
+            }
+            int idx = findIndex(key);
+            if (idx >= 0) {
+                if (array[idx + 1] == value) {
+                    return this;
+                }
+                HashCollisionNode node = ownedBy(edit) ? this : new HashCollisionNode(edit, hash, array.clone());
+                node.array[idx + 1] = value;
+                return node;
+            }
+            Object[] newArray = Arrays.copyOf(array, array.length + 2);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            addedLeaf[0] = true;
+            if (ownedBy(edit)) {
+                this.array = newArray;
+                return this;
+            }
+            return new HashCollisionNode(edit, hash, newArray);
+        }
+
+        @Override
+        public HamtNode without(Object edit, int shift, int hash, Object key, boolean[] removedLeaf) {
+            int idx = findIndex(key);
+            if (idx < 0) {
+                return this;
+            }
+            removedLeaf[0] = true;
+            if (array.length == 2) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, idx);
+            System.arraycopy(array, idx + 2, newArray, idx, newArray.length - idx);
+            if (ownedBy(edit)) {
+                this.array = newArray;
+                return this;
+            }
+            return new HashCollisionNode(edit, hash, newArray);
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                action.accept(array[i], array[i + 1]);
+            }
+        }
+    }
+
+    private static HamtNode createNode(Object edit, int shift, Object key1, Object value1,
+                                       int hash2, Object key2, Object value2) {
+        int hash1 = hash(key1);
+        if (hash1 == hash2) {
+            return new HashCollisionNode(edit, hash1, new Object[]{key1, value1, key2, value2});
+        }
+        boolean[] addedLeaf = new boolean[1];
+        return BitmapIndexedNode.EMPTY
+            .assoc(edit, shift, hash1, key1, value1, addedLeaf)
+            .assoc(edit, shift, hash2, key2, value2, addedLeaf);
+    }
+
+    /**
+     * Immutable hash map backed by a hash array mapped trie.
+     * put/remove copy at most one node per level (O(log32 n)); null keys are not permitted.
+     */
+    static final class PersistentHashMap<K, V> {
+        private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(0, null);
+
+        final int size;
+        final HamtNode root;
+
+        PersistentHashMap(int size, HamtNode root) {
+            this.size = size;
+            this.root = root;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <K, V> PersistentHashMap<K, V> empty() {
+            return (PersistentHashMap<K, V>) EMPTY;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean containsKey(Object key) {
+            return root != null && root.find(0, hash(key), key, NOT_FOUND) != NOT_FOUND;
+        }
+
+        public V get(Object key) {
+            return getOrDefault(key, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        public V getOrDefault(Object key, V defaultValue) {
+            if (root == null) {
+                return defaultValue;
+            }
+            Object value = root.find(0, hash(key), key, NOT_FOUND);
+            return value == NOT_FOUND ? defaultValue : (V) value;
+        }
+
+        public PersistentHashMap<K, V> plus(K key, V value) {
+            Objects.requireNonNull(key, "key");
+            boolean[] addedLeaf = new boolean[1];
+            HamtNode start = root == null ? BitmapIndexedNode.EMPTY : root;
+            HamtNode newRoot = start.assoc(null, 0, hash(key), key, value, addedLeaf);
+            if (newRoot == root) {
+                return this;
+            }
+            return new PersistentHashMap<>(addedLeaf[0] ? size + 1 : size, newRoot);
+        }
+
+        public PersistentHashMap<K, V> minus(Object key) {
+            if (root == null) {
+                return this;
+            }
+            boolean[] removedLeaf = new boolean[1];
+            HamtNode newRoot = root.without(null, 0, hash(key), key, removedLeaf);
+            if (!removedLeaf[0]) {
+                return this;
+            }
+            return new PersistentHashMap<>(size - 1, newRoot);
+        }
+
+        @SuppressWarnings("unchecked")
+        public void forEach(BiConsumer<? super K, ? super V> action) {
+            if (root != null) {
+                root.forEach((k, v) -> action.accept((K) k, (V) v));
+            }
+        }
+
+        public TransientHashMap<K, V> asTransient() {
+            return new TransientHashMap<>(this);
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(", ", "{", "}");
+            forEach((k, v) -> joiner.add(k + "=" + v));
+            return joiner.toString();
+        }
+    }
+
+    /**
+     * Mutable builder for PersistentHashMap - nodes it owns are updated in place,
+     * so a batch of N puts allocates far less than N persistent versions.
+     */
+    static final class TransientHashMap<K, V> {
+        private Object edit = new Object();
+        private int size;
+        private HamtNode root;
+
+        TransientHashMap(PersistentHashMap<K, V> source) {
+            this.size = source.size;
+            this.root = source.root;
+        }
+
+        private void ensureAlive() {
+            if (edit == null) {
+                throw new IllegalStateException("Transient used after persistent() call");
+            }
+        }
+
+        public TransientHashMap<K, V> put(K key, V value) {
+            ensureAlive();
+            Objects.requireNonNull(key, "key");
+            boolean[] addedLeaf = new boolean[1];
+            HamtNode start = root == null ? BitmapIndexedNode.EMPTY : root;
+            root = start.assoc(edit, 0, hash(key), key, value, addedLeaf);
+            if (addedLeaf[0]) {
+                size++;
+            }
+            return this;
+        }
+
+        public TransientHashMap<K, V> remove(Object key) {
+            ensureAlive();
+            if (root != null) {
+                boolean[] removedLeaf = new boolean[1];
+                root = root.without(edit, 0, hash(key), key, removedLeaf);
+                if (removedLeaf[0]) {
+                    size--;
+                }
+            }
+            return this;
+        }
+
+        public PersistentHashMap<K, V> persistent() {
+            ensureAlive();
+            edit = null;
+            return new PersistentHashMap<>(size, root);
+        }
+    }
+
+    private static void persistentHashMapDemo() {
+        System.out.println("--- Persistent Hash Map (HAMT) ---");
+        System.out.println("Bitmap-indexed trie nodes: only populated slots are stored");
+
+        PersistentHashMap<String, Integer> config = PersistentHashMap.<String, Integer>empty()
+            .plus("pool.size", 8)
+            .plus("timeout.ms", 500)
+            .plus("retries", 3);
+        PersistentHashMap<String, Integer> tuned = config.plus("pool.size", 16).minus("retries");
+
+        System.out.println("Original config: " + config);
+        System.out.println("Tuned config: " + tuned);
+        System.out.println("config.get(\"pool.size\"): " + config.get("pool.size"));
+        System.out.println("tuned.get(\"pool.size\"): " + tuned.get("pool.size"));
+        System.out.println("tuned.containsKey(\"retries\"): " + tuned.containsKey("retries"));
+
+        // Colliding hash codes ("Aa" and "BB" share a hashCode) end up in a collision node
+        PersistentHashMap<String, String> collisions = PersistentHashMap.<String, String>empty()
+            .plus("Aa", "first")
+            .plus("BB", "second");
+        System.out.println("\"Aa\".hashCode() == \"BB\".hashCode(): " + ("Aa".hashCode() == "BB".hashCode()));
+        System.out.println("Collision map: " + collisions + ", size: " + collisions.size());
+        System.out.println("After minus(\"Aa\"): " + collisions.minus("Aa"));
+
+        System.out.println();
+    }
+
+    // ========== Persistent Hash Set ==========
+
+    /**
+     * Immutable set layered on PersistentHashMap (each element maps to itself).
+     */
+    static final class PersistentHashSet<E> implements Iterable<E> {
+        private static final PersistentHashSet<?> EMPTY = new PersistentHashSet<>(PersistentHashMap.empty());
+
+        private final PersistentHashMap<E, E> map;
+
+        private PersistentHashSet(PersistentHashMap<E, E> map) {
+            this.map = map;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <E> PersistentHashSet<E> empty() {
+            return (PersistentHashSet<E>) EMPTY;
+        }
+
+        public int size() {
+            return map.size();
+        }
+
+        public boolean contains(Object element) {
+            return map.containsKey(element);
+        }
+
+        public PersistentHashSet<E> plus(E element) {
+            PersistentHashMap<E, E> updated = map.plus(element, element);
+            return updated == map ? this : new PersistentHashSet<>(updated);
+        }
+
+        public PersistentHashSet<E> minus(Object element) {
+            PersistentHashMap<E, E> updated = map.minus(element);
+            return updated == map ? this : new PersistentHashSet<>(updated);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            List<E> elements = new ArrayList<>(map.size());
+            map.forEach((k, v) -> elements.add(k));
+            return elements.iterator();
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(", ", "[", "]");
+            map.forEach((k, v) -> joiner.add(String.valueOf(k)));
+            return joiner.toString();
+        }
+    }
+
+    private static void persistentHashSetDemo() {
+        System.out.println("--- Persistent Hash Set ---");
+
+        PersistentHashSet<String> roles = PersistentHashSet.<String>empty()
+            .plus("USER")
+            .plus("ADMIN");
+        PersistentHashSet<String> reduced = roles.minus("ADMIN").plus("AUDITOR");
+
+        System.out.println("Roles: " + roles);
+        System.out.println("Reduced roles: " + reduced);
+        System.out.println("roles.contains(\"ADMIN\"): " + roles.contains("ADMIN"));
+        System.out.println("reduced.contains(\"ADMIN\"): " + reduced.contains("ADMIN"));
+        System.out.println("Adding an existing element returns the same instance: "
+            + (roles.plus("USER") == roles));
+
+        System.out.println();
+    }
+
+    // ========== Transient Builders ==========
+
+    private static void transientBuilderDemo() {
+        System.out.println("--- Transient Batch Builders ---");
+        System.out.println("Transients mutate nodes they own, then freeze into a persistent version");
+
+        int n = 200_000;
+
+        long persistentStart = System.nanoTime();
+        PersistentHashMap<Integer, Integer> viaPlus = PersistentHashMap.empty();
+        for (int i = 0; i < n; i++) {
+            viaPlus = viaPlus.plus(i, i);
+        }
+        long persistentTime = System.nanoTime() - persistentStart;
+
+        long transientStart = System.nanoTime();
+        TransientHashMap<Integer, Integer> builder = PersistentHashMap.<Integer, Integer>empty().asTransient();
+        for (int i = 0; i < n; i++) {
+            builder.put(i, i);
+        }
+        PersistentHashMap<Integer, Integer> viaTransient = builder.persistent();
+        long transientTime = System.nanoTime() - transientStart;
+
+        System.out.println("Build " + n + " entries with plus(): " + persistentTime / 1_000_000 + " ms");
+        System.out.println("Build " + n + " entries with transient: " + transientTime / 1_000_000 + " ms");
+        System.out.println("Sizes match: " + (viaPlus.size() == viaTransient.size()));
+        System.out.println("Lookup 4242 in both: " + viaPlus.get(4242) + " / " + viaTransient.get(4242));
+
+        try {
+            builder.put(-1, -1);
+        } catch (IllegalStateException e) {
+            System.out.println("Transient after persistent(): " + e.getMessage());
+        }
+
+        System.out.println();
+    }
+
+    // ========== Update Cost Benchmarks ==========
+
+    private static void vectorUpdateBenchmark() {
+        System.out.println("--- Vector Update Cost Benchmark ---");
+
+        int n = 100_000;
+        int updates = 2_000;
+        Random random = new Random(42);
+        int[] indexes = new int[updates];
+        for (int i = 0; i < updates; i++) {
+            indexes[i] = random.nextInt(n);
+        }
+
+        TransientVector<Integer> builder = PersistentVector.<Integer>empty().asTransient();
+        List<Integer> source = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            builder.conj(i);
+            source.add(i);
+        }
+        PersistentVector<Integer> vector = builder.persistent();
+        CopyOnWriteArrayList<Integer> cowList = new CopyOnWriteArrayList<>(source);
+        List<Integer> snapshot = Collections.unmodifiableList(new ArrayList<>(source));
+
+        long pvStart = System.nanoTime();
+        for (int idx : indexes) {
+            vector = vector.assoc(idx, -idx);
+        }
+        long pvTime = System.nanoTime() - pvStart;
+
+        long cowStart = System.nanoTime();
+        for (int idx : indexes) {
+            cowList.set(idx, -idx);
+        }
+        long cowTime = System.nanoTime() - cowStart;
+
+        long copyStart = System.nanoTime();
+        for (int idx : indexes) {
+            List<Integer> copy = new ArrayList<>(snapshot);
+            copy.set(idx, -idx);
+            snapshot = Collections.unmodifiableList(copy);
+        }
+        long copyTime = System.nanoTime() - copyStart;
+
+        System.out.println(updates + " random updates on " + n + " elements:");
+        System.out.println("PersistentVector.assoc: " + pvTime / 1000 + " μs ("
+            + (pvTime / updates) + " ns/update)");
+        System.out.println("CopyOnWriteArrayList.set: " + cowTime / 1000 + " μs ("
+            + (cowTime / updates) + " ns/update)");
+        System.out.println("Full copy + unmodifiableList: " + copyTime / 1000 + " μs ("
+            + (copyTime / updates) + " ns/update)");
+        System.out.println("Results agree: " + (vector.get(indexes[0]).equals(cowList.get(indexes[0]))
+            && cowList.get(indexes[0]).equals(snapshot.get(indexes[0]))));
+
+        System.out.println();
+    }
+
+    private static void mapUpdateBenchmark() {
+        System.out.println("--- Map Update Cost Benchmark ---");
+
+        int n = 20_000;
+        int updates = 500;
+
+        TransientHashMap<String, Integer> builder = PersistentHashMap.<String, Integer>empty().asTransient();
+        Map<String, Integer> source = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            builder.put("key-" + i, i);
+            source.put("key-" + i, i);
+        }
+        PersistentHashMap<String, Integer> hamt = builder.persistent();
+        Map<String, Integer> snapshot = Collections.unmodifiableMap(source);
+
+        long hamtStart = System.nanoTime();
+        for (int i = 0; i < updates; i++) {
+            hamt = hamt.plus("key-" + (i * 7 % n), -i);
+        }
+        long hamtTime = System.nanoTime() - hamtStart;
+
+        long copyStart = System.nanoTime();
+        for (int i = 0; i < updates; i++) {
+            Map<String, Integer> copy = new HashMap<>(snapshot);
+            copy.put("key-" + (i * 7 % n), -i);
+            snapshot = Collections.unmodifiableMap(copy);
+        }
+        long copyTime = System.nanoTime() - copyStart;
+
+        System.out.println(updates + " updates on a " + n + "-entry snapshot map:");
+        System.out.println("PersistentHashMap.plus: " + hamtTime / 1000 + " μs ("
+            + (hamtTime / updates) + " ns/update)");
+        System.out.println("Full HashMap copy + unmodifiableMap: " + copyTime / 1000 + " μs ("
+            + (copyTime / updates) + " ns/update)");
+        System.out.println("Results agree: " + Objects.equals(hamt.get("key-7"), snapshot.get("key-7")));
+
+        System.out.println();
+    }
+
+    // ========== Snapshot Memory Comparison ==========
+
+    private static void snapshotMemoryComparison() {
+        System.out.println("--- Snapshot Memory Comparison ---");
+        System.out.println("Retaining every version after each update");
+
+        int n = 100_000;
+        int versions = 100;
+
+        TransientVector<Integer> builder = PersistentVector.<Integer>empty().asTransient();
+        for (int i = 0; i < n; i++) {
+            builder.conj(i);
+        }
+        PersistentVector<Integer> vector = builder.persistent();
+
+        // Each assoc copies one 32-slot array per trie level; a full copy duplicates all n slots
+        long trieSlotsPerUpdate = (long) vector.depth() * WIDTH;
+        long trieSlots = n + versions * trieSlotsPerUpdate;
+        long copySlots = (long) n * (versions + 1);
+        System.out.println("Array slots copied per update - trie: " + trieSlotsPerUpdate + ", full copy: " + n);
+        System.out.println("Slots retained for " + versions + " versions - trie: " + trieSlots
+            + ", full copies: " + copySlots);
+
+        Runtime runtime = Runtime.getRuntime();
+        List<Object> retained = new ArrayList<>(versions + 1);
+
+        System.gc();
+        long before = runtime.totalMemory() - runtime.freeMemory();
+        PersistentVector<Integer> current = vector;
+        for (int i = 0; i < versions; i++) {
+            current = current.assoc(i * 997 % n, -i);
+            retained.add(current);
+        }
+        System.gc();
+        long trieBytes = (runtime.totalMemory() - runtime.freeMemory()) - before;
+        retained.clear();
+
+        System.gc();
+        before = runtime.totalMemory() - runtime.freeMemory();
+        Object[] copy = new Object[n];
+        for (int i = 0; i < n; i++) {
+            copy[i] = vector.get(i);
+        }
+        for (int i = 0; i < versions; i++) {
+            copy = copy.clone();
+            copy[i * 997 % n] = -i;
+            retained.add(copy);
+        }
+        System.gc();
+        long copyBytes = (runtime.totalMemory() - runtime.freeMemory()) - before;
+        retained.clear();
+
+        System.out.println("Approximate heap retained (GC-dependent) - trie: " + Math.max(trieBytes, 0) / 1024
+            + " KB, full copies: " + Math.max(copyBytes, 0) / 1024 + " KB");
+
+        System.out.println();
+    }
+}
@@ -0,0 +1,575 @@
+package com.example.demo.showcase;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Cleaner;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Demonstrates a concurrent weak-key / soft-value cache as a WeakHashMap replacement
+ * Including a ReferenceQueue drain thread, Cleaner-based resource release,
+ * reclamation metrics per GC cycle and a memory-pressure harness
+ */
+public class ReferenceCacheShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== REFERENCE CACHE SHOWCASE ==========\n");
+
+        referenceTypesOverview();
+        weakKeyDemo();
+        softValueDemo();
+        cleanerDemo();
+        concurrentAccessDemo();
+        memoryPressureDemo();
+    }
+
+    // ========== Reference Types ==========
+
+    private static void referenceTypesOverview() {
+        System.out.println("--- Reference Types ---");
+        System.out.println("Strong  - never collected while reachable");
+        System.out.println("Soft    - cleared only when the heap is under pressure (memory-sensitive caches)");
+        System.out.println("Weak    - cleared at the next GC once no strong references remain (metadata keyed by object)");
+        System.out.println("Phantom - enqueued after finalization; used by Cleaner for post-mortem cleanup");
+        System.out.println("WeakHashMap: weak keys only, unsynchronized, expunges silently on access");
+        System.out.println();
+    }
+
+    // ========== Reference Cache ==========
+
+    /**
+     * Thread-safe cache backed by ConcurrentHashMap.
+     * Keys may be held weakly (compared by identity, like IdentityHashMap, since an equal
+     * but distinct key object would not keep the entry alive) and values may be held softly.
+     * A daemon thread blocks on the ReferenceQueue and removes entries as soon as the GC
+     * clears them, so stale entries never accumulate and reads never pay for expunging.
+     */
+    static final class ReferenceCache<K, V> implements AutoCloseable {
+
+        enum Strength { STRONG, WEAK, SOFT }
+
+        private final ConcurrentHashMap<Object, Object> map = new ConcurrentHashMap<>();
+        private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        private final Strength keyStrength;
+        private final Strength valueStrength;
+        private final Cleaner cleaner;
+        private final Thread drainThread;
+        private final CacheStats stats = new CacheStats();
+
+        ReferenceCache(Strength keyStrength, Strength valueStrength, Cleaner cleaner) {
+            if (keyStrength == Strength.SOFT) {
+                throw new IllegalArgumentException("Soft keys are not supported - use WEAK or STRONG");
+            }
+            this.keyStrength = keyStrength;
+            this.valueStrength = valueStrength;
+            this.cleaner = cleaner;
+            this.drainThread = new Thread(this::drainLoop, "reference-cache-drain");
+            this.drainThread.setDaemon(true);
+            this.drainThread.start();
+        }
+
+        public V get(K key) {
+            Object stored = map.get(lookupKey(key));
+            V value = unwrapValue(stored);
+            if (value == null) {
+                stats.misses.increment();
+            } else {
+                stats.hits.increment();
+            }
+            return value;
+        }
+
+        /**
+         * Atomic per key: the lookup, the load and the store run inside the map's compute, so
+         * concurrent callers for one key load once. A mapping whose referent was cleared counts
+         * as absent and is re-loaded. The loader runs under the bin lock and must not touch this cache.
+         */
+        public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+            Objects.requireNonNull(key, "key");
+            V existing = unwrapValue(map.get(lookupKey(key)));
+            if (existing != null) {
+                stats.hits.increment();
+                return existing;
+            }
+            // The key object is stored only if absent; an unused WeakKey is harmless when it is enqueued later
+            Object computeKey = keyStrength == Strength.WEAK ? new WeakKey<>(key, queue) : key;
+            List<V> result = new ArrayList<>(1);
+            map.compute(computeKey, (storedKey, stored) -> {
+                V current = unwrapValue(stored);
+                if (current != null) {
+                    stats.hits.increment();
+                    result.add(current);
+                    return stored;
+                }
+                stats.misses.increment();
+                V loaded = loader.apply(key);
+                if (loaded == null) {
+                    return null;
+                }
+                stats.puts.increment();
+                result.add(loaded);
+                return wrapValue(storedKey, loaded);
+            });
+            return result.isEmpty() ? null : result.get(0);
+        }
+
+        public void put(K key, V value) {
+            put(key, value, null);
+        }
+
+        /**
+         * Stores a value and, optionally, an action that releases resources tied to it.
+         * The action runs on the Cleaner thread once the value itself becomes unreachable -
+         * it must not capture the value, or the value can never be collected.
+         */
+        public void put(K key, V value, Runnable releaseAction) {
+            Objects.requireNonNull(key, "key");
+            Objects.requireNonNull(value, "value");
+            if (releaseAction != null) {
+                cleaner.register(value, () -> {
+                    stats.resourcesReleased.increment();
+                    releaseAction.run();
+                });
+            }
+            Object storedKey = keyStrength == Strength.WEAK ? new WeakKey<>(key, queue) : key;
+            map.put(storedKey, wrapValue(storedKey, value));
+            stats.puts.increment();
+        }
+
+        private Object wrapValue(Object storedKey, V value) {
+            return switch (valueStrength) {
+                case SOFT -> new SoftValue<>(value, storedKey, queue);
+                case WEAK -> new WeakValue<>(value, storedKey, queue);
+                case STRONG -> value;
+            };
+        }
+
+        public V remove(K key) {
+            return unwrapValue(map.remove(lookupKey(key)));
+        }
+
+        public int size() {
+            return map.size();
+        }
+
+        public CacheStats stats() {
+            return stats;
+        }
+
+        private Object lookupKey(K key) {
+            return keyStrength == Strength.WEAK ? new LookupKey(key) : key;
+        }
+
+        @SuppressWarnings("unchecked")
+        private V unwrapValue(Object stored) {
+            if (stored instanceof Reference<?> ref) {
+                return (V) ref.get();
+            }
+            return (V) stored;
+        }
+
+        private void drainLoop() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Reference<?> ref = queue.remove();
+                    long gcCycle = totalGcCount();
+                    if (ref instanceof WeakKey<?> weakKey) {
+                        if (map.remove(weakKey) != null) {
+                            stats.recordReclaimed(gcCycle, stats.weakKeysReclaimed);
+                        }
+                    } else if (ref instanceof ValueReference valueRef) {
+                        // Conditional remove: the key may already map to a newer value
+                        if (map.remove(valueRef.storedKey(), ref)) {
+                            stats.recordReclaimed(gcCycle, valueRef instanceof SoftValue<?>
+                                ? stats.softValuesReclaimed : stats.weakValuesReclaimed);
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void close() {
+            drainThread.interrupt();
+            map.clear();
+        }
+    }
+
+    private interface ValueReference {
+        Object storedKey();
+    }
+
+    /** Weak key with a cached identity hash so it can still be removed after being cleared. */
+    static final class WeakKey<K> extends WeakReference<K> {
+        private final int hash;
+
+        WeakKey(K key, ReferenceQueue<Object> queue) {
+            super(key, queue);
+            this.hash = System.identityHashCode(key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            Object referent = get();
+            if (referent == null) {
+                return false;
+            }
+            if (other instanceof WeakKey<?> weakKey) {
+                return referent == weakKey.get();
+            }
+            if (other instanceof LookupKey lookupKey) {
+                return referent == lookupKey.key;
+            }
+            return false;
+        }
+    }
+
+    /** Short-lived probe used for get/remove so lookups don't allocate a WeakReference. */
+    private static final class LookupKey {
+        private final Object key;
+
+        LookupKey(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof WeakKey<?> weakKey ? weakKey.get() == key : other == this;
+        }
+    }
+
+    static final class SoftValue<V> extends SoftReference<V> implements ValueReference {
+        private final Object storedKey;
+
+        SoftValue(V value, Object storedKey, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.storedKey = storedKey;
+        }
+
+        @Override
+        public Object storedKey() {
+            return storedKey;
+        }
+    }
+
+    static final class WeakValue<V> extends WeakReference<V> implements ValueReference {
+        private final Object storedKey;
+
+        WeakValue(V value, Object storedKey, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.storedKey = storedKey;
+        }
+
+        @Override
+        public Object storedKey() {
+            return storedKey;
+        }
+    }
+
+    // ========== Metrics ==========
+
+    static final class CacheStats {
+        private static final int MAX_TRACKED_CYCLES = 64;
+
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder puts = new LongAdder();
+        final LongAdder weakKeysReclaimed = new LongAdder();
+        final LongAdder softValuesReclaimed = new LongAdder();
+        final LongAdder weakValuesReclaimed = new LongAdder();
+        final LongAdder resourcesReleased = new LongAdder();
+        // Cumulative GC count at drain time -> entries drained; approximates "reclaimed per GC cycle"
+        private final ConcurrentSkipListMap<Long, LongAdder> reclaimedByGcCycle = new ConcurrentSkipListMap<>();
+
+        void recordReclaimed(long gcCycle, LongAdder counter) {
+            counter.increment();
+            reclaimedByGcCycle.computeIfAbsent(gcCycle, cycle -> new LongAdder()).increment();
+            while (reclaimedByGcCycle.size() > MAX_TRACKED_CYCLES) {
+                reclaimedByGcCycle.pollFirstEntry();
+            }
+        }
+
+        double hitRate() {
+            long h = hits.sum();
+            long total = h + misses.sum();
+            return total == 0 ? 0.0 : (double) h / total;
+        }
+
+        long totalReclaimed() {
+            return weakKeysReclaimed.sum() + softValuesReclaimed.sum() + weakValuesReclaimed.sum();
+        }
+
+        Map<Long, Long> reclaimedPerGcCycle() {
+            Map<Long, Long> snapshot = new LinkedHashMap<>();
+            reclaimedByGcCycle.forEach((cycle, count) -> snapshot.put(cycle, count.sum()));
+            return snapshot;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "hits=%d, misses=%d, hitRate=%.2f, puts=%d, weakKeysReclaimed=%d, softValuesReclaimed=%d, "
+                    + "weakValuesReclaimed=%d, resourcesReleased=%d",
+                hits.sum(), misses.sum(), hitRate(), puts.sum(), weakKeysReclaimed.sum(),
+                softValuesReclaimed.sum(), weakValuesReclaimed.sum(), resourcesReleased.sum());
+        }
+    }
+
+    private static long totalGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(gc.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    /** Requests GCs until the condition holds or the timeout passes (GC is only a hint). */
+    private static boolean awaitReclaim(BooleanCondition condition, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.isMet()) {
+                return true;
+            }
+            System.gc();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return condition.isMet();
+    }
+
+    private static void awaitQuiet(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface BooleanCondition {
+        boolean isMet();
+    }
+
+    // ========== Demos ==========
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private static void weakKeyDemo() {
+        System.out.println("--- Weak Keys with ReferenceQueue Drain ---");
+
+        try (ReferenceCache<Object, String> cache =
+                 new ReferenceCache<>(ReferenceCache.Strength.WEAK, ReferenceCache.Strength.STRONG, CLEANER)) {
+            Object session1 = new Object();
+            Object session2 = new Object();
+            Object session3 = new Object();
+            cache.put(session1, "metadata-1");
+            cache.put(session2, "metadata-2");
+            cache.put(session3, "metadata-3");
+            System.out.println("Initial size: " + cache.size());
+            System.out.println("get(session2): " + cache.get(session2));
+
+            session1 = null;
+            session3 = null;
+            boolean drained = awaitReclaim(() -> cache.size() == 1, 2_000);
+
+            System.out.println("After dropping 2 keys and GC - drained by background thread: " + drained);
+            System.out.println("Size: " + cache.size() + ", get(session2): " + cache.get(session2));
+            System.out.println("Stats: " + cache.stats());
+            Reference.reachabilityFence(session2);
+        }
+
+        System.out.println();
+    }
+
+    private static void softValueDemo() {
+        System.out.println("--- Soft Values ---");
+        System.out.println("Soft values survive ordinary GCs and are cleared only under memory pressure");
+
+        try (ReferenceCache<String, byte[]> cache =
+                 new ReferenceCache<>(ReferenceCache.Strength.STRONG, ReferenceCache.Strength.SOFT, CLEANER)) {
+            for (int i = 0; i < 10; i++) {
+                cache.put("report-" + i, new byte[64 * 1024]);
+            }
+            System.gc();
+            System.out.println("After a GC with plenty of free heap, cached entries: " + cache.size());
+            byte[] report = cache.computeIfAbsent("report-3", k -> new byte[64 * 1024]);
+            System.out.println("computeIfAbsent(report-3) served from cache: " + (report.length == 64 * 1024));
+            System.out.println("Stats: " + cache.stats());
+        }
+
+        System.out.println();
+    }
+
+    /** Stand-in for an off-heap or native resource attached to a cached value. */
+    static final class NativeBuffer {
+        final byte[] data;
+
+        NativeBuffer(int size) {
+            this.data = new byte[size];
+        }
+    }
+
+    private static void cleanerDemo() {
+        System.out.println("--- Cleaner-based Resource Release ---");
+        System.out.println("Release actions run once the cached value is unreachable, without finalize()");
+
+        LongAdder openHandles = new LongAdder();
+        try (ReferenceCache<String, NativeBuffer> cache =
+                 new ReferenceCache<>(ReferenceCache.Strength.STRONG, ReferenceCache.Strength.WEAK, CLEANER)) {
+            for (int i = 0; i < 5; i++) {
+                openHandles.increment();
+                // The release action captures only the counter, never the buffer itself
+                cache.put("buffer-" + i, new NativeBuffer(1024), openHandles::decrement);
+            }
+            NativeBuffer pinned = cache.get("buffer-0");
+            System.out.println("Open handles after caching 5 buffers: " + openHandles.sum());
+
+            boolean released = awaitReclaim(() -> openHandles.sum() == 1 && cache.size() == 1, 2_000);
+            System.out.println("After GC - released by Cleaner: " + released);
+            System.out.println("Open handles: " + openHandles.sum() + " (buffer-0 still pinned), entries: " + cache.size());
+            System.out.println("Stats: " + cache.stats());
+            Reference.reachabilityFence(pinned);
+        }
+
+        System.out.println();
+    }
+
+    private static void concurrentAccessDemo() {
+        System.out.println("--- Concurrent Access ---");
+
+        try (ReferenceCache<Integer, String> cache =
+                 new ReferenceCache<>(ReferenceCache.Strength.STRONG, ReferenceCache.Strength.SOFT, CLEANER)) {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            LongAdder loads = new LongAdder();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 50_000; i++) {
+                        cache.computeIfAbsent(random.nextInt(1_000), k -> {
+                            loads.increment();
+                            return "value-" + k;
+                        });
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+            System.out.println("4 threads x 50,000 computeIfAbsent over 1,000 keys (WeakHashMap would need external locking)");
+            System.out.println("Entries: " + cache.size() + String.format(", hit rate: %.3f", cache.stats().hitRate())
+                + ", loader calls: " + loads.sum() + " (once per key unless a soft value was cleared)");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        }
+
+        System.out.println();
+    }
+
+    // ========== Memory Pressure Harness ==========
+
+    private static final long IN_PROCESS_HARNESS_MAX_HEAP_MB = 256;
+
+    /**
+     * Fills a soft-value cache with 1 MB values until the GC starts clearing them,
+     * then reports what was reclaimed per GC cycle and how close the heap came to its limit.
+     * Allocation is capped at twice the max heap (and 2 GB) so the run stays quick;
+     * demonstrate() only runs it in-process on small heaps, otherwise use its main method.
+     */
+    static final class MemoryPressureHarness {
+        private static final int VALUE_SIZE = 1024 * 1024;
+        private static final long MAX_ALLOCATION = 2L * 1024 * 1024 * 1024;
+
+        public static void main(String[] args) {
+            run();
+        }
+
+        static void run() {
+            Runtime runtime = Runtime.getRuntime();
+            long maxHeap = runtime.maxMemory();
+            long budget = Math.min(maxHeap * 2, MAX_ALLOCATION);
+            System.out.println("Max heap: " + maxHeap / (1024 * 1024) + " MB, allocation budget: "
+                + budget / (1024 * 1024) + " MB");
+
+            LongAdder released = new LongAdder();
+            try (ReferenceCache<Integer, NativeBuffer> cache =
+                     new ReferenceCache<>(ReferenceCache.Strength.STRONG, ReferenceCache.Strength.SOFT, CLEANER)) {
+                long gcBefore = totalGcCount();
+                long allocated = 0;
+                long peakUsed = 0;
+                int key = 0;
+                while (allocated < budget && cache.stats().softValuesReclaimed.sum() == 0) {
+                    cache.put(key++, new NativeBuffer(VALUE_SIZE), released::increment);
+                    allocated += VALUE_SIZE;
+                    peakUsed = Math.max(peakUsed, runtime.totalMemory() - runtime.freeMemory());
+                }
+                // Keep allocating a little past the first reclamation to observe steady state
+                for (int i = 0; i < 64 && allocated < budget; i++) {
+                    cache.put(key++, new NativeBuffer(VALUE_SIZE), released::increment);
+                    allocated += VALUE_SIZE;
+                    peakUsed = Math.max(peakUsed, runtime.totalMemory() - runtime.freeMemory());
+                }
+                // Give the drain and Cleaner threads a moment to catch up with the last GC
+                awaitQuiet(100);
+
+                CacheStats stats = cache.stats();
+                System.out.println("Allocated: " + allocated / (1024 * 1024) + " MB in " + key + " values");
+                System.out.println(String.format("Peak heap used: %d MB (%.0f%% of max)",
+                    peakUsed / (1024 * 1024), 100.0 * peakUsed / maxHeap));
+                System.out.println("GC cycles during run: " + (totalGcCount() - gcBefore));
+                System.out.println("Live entries: " + cache.size() + ", soft values reclaimed: "
+                    + stats.softValuesReclaimed.sum() + ", resources released: " + released.sum());
+                if (stats.softValuesReclaimed.sum() == 0) {
+                    System.out.println("Heap never came under pressure within the budget - "
+                        + "rerun with a small -Xmx to see soft values cleared");
+                } else {
+                    System.out.println("Reclaimed per GC cycle (cumulative GC count -> entries): "
+                        + stats.reclaimedPerGcCycle());
+                }
+            }
+        }
+    }
+
+    private static void memoryPressureDemo() {
+        System.out.println("--- Memory Pressure Harness ---");
+        long maxHeapMb = Runtime.getRuntime().maxMemory() / (1024 * 1024);
+        if (maxHeapMb <= IN_PROCESS_HARNESS_MAX_HEAP_MB) {
+            MemoryPressureHarness.run();
+        } else {
+            // Driving a large shared heap to its limit would clear every soft reference in the app
+            System.out.println("Skipped in-process: max heap is " + maxHeapMb + " MB. Run standalone with:");
+            System.out.println("  java -Xmx64m -cp target/classes "
+                + "'com.example.demo.showcase.ReferenceCacheShowcase$MemoryPressureHarness'");
+        }
+        System.out.println();
+    }
+}
@@ -0,0 +1,575 @@
+package com.example.demo.showcase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Demonstrates a rope for building and editing very large text
+ * Including a height-balanced tree of string chunks with O(log n) insert, delete and substring,
+ * O(log n) concatenation that shares structure, a chunked builder that never copies what it
+ * has already written, streaming UTF-8 output to channels, and append-heavy and edit-heavy
+ * benchmarks against StringBuilder
+ */
+public class RopeShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== ROPE SHOWCASE ==========\n");
+
+        ropeEditingDemo();
+        concatenationDemo();
+        channelWriterDemo();
+        appendBenchmark();
+        editBenchmark();
+    }
+
+    // ========== Rope ==========
+
+    /** Leaf chunk size: large enough for cheap iteration, small enough that splitting a leaf is trivial. */
+    static final int LEAF_MAX = 4_096;
+
+    /**
+     * Immutable text as an AVL-balanced binary tree whose leaves are Strings of at most LEAF_MAX
+     * chars. Every edit is a split followed by joins, each O(log n), and returns a new rope that
+     * shares all untouched subtrees with the old one, so old versions stay valid as snapshots.
+     */
+    abstract static sealed class Rope implements CharSequence permits Leaf, Concat {
+        static final Rope EMPTY = new Leaf("");
+
+        final int length;
+        final int height;
+
+        Rope(int length, int height) {
+            this.length = length;
+            this.height = height;
+        }
+
+        /** Chunks the text into leaves and builds a perfectly balanced tree over them, O(n). */
+        static Rope of(CharSequence text) {
+            int leaves = (text.length() + LEAF_MAX - 1) / LEAF_MAX;
+            if (leaves <= 1) {
+                return new Leaf(text.toString());
+            }
+            Rope[] chunks = new Rope[leaves];
+            for (int i = 0; i < leaves; i++) {
+                chunks[i] = new Leaf(text.subSequence(i * LEAF_MAX, Math.min(text.length(), (i + 1) * LEAF_MAX)).toString());
+            }
+            return balanced(chunks, 0, leaves);
+        }
+
+        private static Rope balanced(Rope[] chunks, int from, int to) {
+            if (to - from == 1) {
+                return chunks[from];
+            }
+            int mid = (from + to) >>> 1;
+            return new Concat(balanced(chunks, from, mid), balanced(chunks, mid, to));
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, length);
+            Rope node = this;
+            while (node instanceof Concat concat) {
+                if (index < concat.left.length) {
+                    node = concat.left;
+                } else {
+                    index -= concat.left.length;
+                    node = concat.right;
+                }
+            }
+            return ((Leaf) node).text.charAt(index);
+        }
+
+        Rope concat(Rope other) {
+            return join(this, other);
+        }
+
+        Rope insert(int index, CharSequence text) {
+            Objects.checkIndex(index, length + 1);
+            Rope inserted = text instanceof Rope rope ? rope : of(text);
+            Rope[] parts = split(this, index);
+            return join(join(parts[0], inserted), parts[1]);
+        }
+
+        Rope delete(int from, int to) {
+            Objects.checkFromToIndex(from, to, length);
+            Rope[] tail = split(this, to);
+            return join(split(tail[0], from)[0], tail[1]);
+        }
+
+        @Override
+        public Rope subSequence(int from, int to) {
+            Objects.checkFromToIndex(from, to, length);
+            return split(split(this, to)[0], from)[1];
+        }
+
+        /** Visits the leaf strings left to right; the way to read a rope without copying it. */
+        abstract void forEachChunk(Consumer<String> action);
+
+        @Override
+        public String toString() {
+            StringBuilder out = new StringBuilder(length);
+            forEachChunk(out::append);
+            return out.toString();
+        }
+
+        /**
+         * Streams the text to a channel through one reusable buffer, so a 100 MB document never
+         * exists as one String or byte[]; only one leaf is encoded at a time. A high surrogate
+         * ending a leaf is held back and encoded together with the next leaf.
+         */
+        long writeTo(WritableByteChannel channel, Charset charset) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+            long[] written = {0};
+            String[] carry = {""};
+            try {
+                forEachChunk(chunk -> {
+                    String text = carry[0].isEmpty() ? chunk : carry[0].concat(chunk);
+                    carry[0] = "";
+                    if (Character.isHighSurrogate(text.charAt(text.length() - 1))) {
+                        carry[0] = text.substring(text.length() - 1);
+                        text = text.substring(0, text.length() - 1);
+                    }
+                    written[0] += put(text.getBytes(charset), buffer, channel);
+                });
+                written[0] += put(carry[0].getBytes(charset), buffer, channel);
+                return written[0] + drain(buffer, channel);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        private static long put(byte[] bytes, ByteBuffer buffer, WritableByteChannel channel) {
+            try {
+                long written = 0;
+                for (int offset = 0; offset < bytes.length; ) {
+                    if (!buffer.hasRemaining()) {
+                        written += drain(buffer, channel);
+                    }
+                    int count = Math.min(buffer.remaining(), bytes.length - offset);
+                    buffer.put(bytes, offset, count);
+                    offset += count;
+                }
+                return written;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static long drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+            buffer.flip();
+            long written = 0;
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer);
+            }
+            buffer.clear();
+            return written;
+        }
+
+        int leafCount() {
+            int[] count = {0};
+            forEachChunk(chunk -> count[0]++);
+            return count[0];
+        }
+
+        // ----- balancing -----
+
+        /**
+         * AVL join: descends the taller tree's inner spine to a subtree of matching height,
+         * attaches there and rotates on the way back up. O(|height difference|). Two small
+         * leaves are merged so edits do not leave a trail of tiny fragments.
+         */
+        static Rope join(Rope left, Rope right) {
+            if (left.length == 0) {
+                return right;
+            }
+            if (right.length == 0) {
+                return left;
+            }
+            if (left instanceof Leaf a && right instanceof Leaf b && a.length + b.length <= LEAF_MAX) {
+                return new Leaf(a.text.concat(b.text));
+            }
+            if (left.height > right.height + 1) {
+                Concat concat = (Concat) left;
+                return balance(concat.left, join(concat.right, right));
+            }
+            if (right.height > left.height + 1) {
+                Concat concat = (Concat) right;
+                return balance(join(left, concat.left), concat.right);
+            }
+            return new Concat(left, right);
+        }
+
+        /** Builds a node from children whose heights differ by at most two, rotating if needed. */
+        private static Rope balance(Rope left, Rope right) {
+            if (left.height > right.height + 1) {
+                Concat heavy = (Concat) left;
+                if (heavy.left.height >= heavy.right.height) {
+                    return new Concat(heavy.left, new Concat(heavy.right, right));
+                }
+                Concat inner = (Concat) heavy.right;
+                return new Concat(new Concat(heavy.left, inner.left), new Concat(inner.right, right));
+            }
+            if (right.height > left.height + 1) {
+                Concat heavy = (Concat) right;
+                if (heavy.right.height >= heavy.left.height) {
+                    return new Concat(new Concat(left, heavy.left), heavy.right);
+                }
+                Concat inner = (Concat) heavy.left;
+                return new Concat(new Concat(left, inner.left), new Concat(inner.right, heavy.right));
+            }
+            return new Concat(left, right);
+        }
+
+        /** Splits into [0, index) and [index, length); O(log n) because the joins telescope. */
+        static Rope[] split(Rope rope, int index) {
+            if (index <= 0) {
+                return new Rope[]{EMPTY, rope};
+            }
+            if (index >= rope.length) {
+                return new Rope[]{rope, EMPTY};
+            }
+            if (rope instanceof Leaf leaf) {
+                return new Rope[]{new Leaf(leaf.text.substring(0, index)), new Leaf(leaf.text.substring(index))};
+            }
+            Concat concat = (Concat) rope;
+            if (index < concat.left.length) {
+                Rope[] parts = split(concat.left, index);
+                return new Rope[]{parts[0], join(parts[1], concat.right)};
+            }
+            Rope[] parts = split(concat.right, index - concat.left.length);
+            return new Rope[]{join(concat.left, parts[0]), parts[1]};
+        }
+    }
+
+    static final class Leaf extends Rope {
+        final String text;
+
+        Leaf(String text) {
+            super(text.length(), 0);
+            this.text = text;
+        }
+
+        @Override
+        void forEachChunk(Consumer<String> action) {
+            if (length > 0) {
+                action.accept(text);
+            }
+        }
+    }
+
+    static final class Concat extends Rope {
+        final Rope left;
+        final Rope right;
+
+        Concat(Rope left, Rope right) {
+            super(Math.addExact(left.length, right.length), Math.max(left.height, right.height) + 1);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        void forEachChunk(Consumer<String> action) {
+            left.forEachChunk(action);
+            right.forEachChunk(action);
+        }
+    }
+
+    /**
+     * Append-only builder: fills one LEAF_MAX buffer and joins it onto the rope when full.
+     * Written text is copied exactly once, instead of on every StringBuilder capacity doubling.
+     */
+    static final class RopeBuilder implements Appendable {
+        private Rope rope = Rope.EMPTY;
+        private final StringBuilder chunk = new StringBuilder(LEAF_MAX);
+
+        @Override
+        public RopeBuilder append(CharSequence text) {
+            return append(text, 0, text.length());
+        }
+
+        @Override
+        public RopeBuilder append(CharSequence text, int start, int end) {
+            if (text instanceof Rope other) {
+                flush();
+                rope = rope.concat(other.subSequence(start, end));
+                return this;
+            }
+            while (start < end) {
+                int count = Math.min(end - start, LEAF_MAX - chunk.length());
+                chunk.append(text, start, start + count);
+                start += count;
+                if (chunk.length() == LEAF_MAX) {
+                    flush();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public RopeBuilder append(char c) {
+            chunk.append(c);
+            if (chunk.length() == LEAF_MAX) {
+                flush();
+            }
+            return this;
+        }
+
+        RopeBuilder append(long value) {
+            if (chunk.length() > LEAF_MAX - 20) {
+                flush();
+            }
+            chunk.append(value);
+            if (chunk.length() == LEAF_MAX) {
+                flush();
+            }
+            return this;
+        }
+
+        int length() {
+            return rope.length + chunk.length();
+        }
+
+        Rope build() {
+            flush();
+            return rope;
+        }
+
+        private void flush() {
+            if (!chunk.isEmpty()) {
+                rope = rope.concat(new Leaf(chunk.toString()));
+                chunk.setLength(0);
+            }
+        }
+    }
+
+    // ========== Demos ==========
+
+    private static void ropeEditingDemo() {
+        System.out.println("--- Editing a Rope ---");
+
+        Rope rope = Rope.of("Hello World!");
+        Rope edited = rope.insert(6, "Java ").delete(0, 5).insert(0, "Hi");
+        System.out.println("Original : " + rope);
+        System.out.println("Edited   : " + edited + " (the original is untouched)");
+        System.out.println("Substring: " + edited.subSequence(3, 7));
+
+        RopeBuilder builder = new RopeBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            builder.append("line ").append(i).append('\n');
+        }
+        Rope big = builder.build();
+        Rope marked = big.insert(big.length() / 2, ">>> inserted in the middle <<<\n");
+        System.out.println(String.format("Built %,d chars in %,d leaves, height %d (log2 of leaves is %.1f)",
+            big.length(), big.leafCount(), big.height, Math.log(big.leafCount()) / Math.log(2)));
+        int middle = marked.toString().indexOf(">>>");
+        System.out.println("Mid-document insert lands at " + middle + ", touching " + (marked.height + 1)
+            + " levels instead of shifting " + (big.length() - middle) + " chars");
+
+        System.out.println();
+    }
+
+    private static void concatenationDemo() {
+        System.out.println("--- Cheap Concatenation and Shared Structure ---");
+
+        Rope body = Rope.of("x".repeat(8_000_000));
+        Rope header = Rope.of("<report>\n");
+        Rope footer = Rope.of("</report>\n");
+
+        long start = System.nanoTime();
+        Rope document = header.concat(body).concat(footer);
+        Rope twice = document.concat(document);
+        long nanos = System.nanoTime() - start;
+        System.out.println(String.format("Concatenated %,d + %,d chars, then doubled to %,d, in %.1f us",
+            body.length(), header.length() + footer.length(), twice.length(), nanos / 1e3));
+        System.out.println("Both halves of 'twice' are the same nodes: "
+            + (((Concat) twice).left == ((Concat) twice).right));
+
+        start = System.nanoTime();
+        String copied = "<report>\n" + "x".repeat(8_000_000) + "</report>\n";
+        String copiedTwice = copied + copied;
+        nanos = System.nanoTime() - start;
+        System.out.println(String.format("String concatenation of the same: %.1f ms (copies every char, %,d chars)",
+            nanos / 1e6, copiedTwice.length()));
+
+        System.out.println();
+    }
+
+    private static void channelWriterDemo() {
+        System.out.println("--- Streaming to a Channel ---");
+
+        RopeBuilder builder = new RopeBuilder();
+        for (int i = 0; i < 50_000; i++) {
+            builder.append("row ").append(i).append(" café 😀\n");
+        }
+        Rope rope = builder.build();
+
+        Path file = null;
+        try {
+            file = Files.createTempFile("rope", ".txt");
+            long written;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                written = rope.writeTo(channel, StandardCharsets.UTF_8);
+            }
+            boolean identical = Arrays.equals(Files.readAllBytes(file), rope.toString().getBytes(StandardCharsets.UTF_8));
+            System.out.println(String.format("Wrote %,d chars as %,d UTF-8 bytes through one 64 KB buffer, a leaf at a time; "
+                + "matches String.getBytes: %s", rope.length(), written, identical));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            ShowcaseSupport.deleteQuietly(file);
+        }
+
+        System.out.println();
+    }
+
+    // ========== Benchmarks ==========
+
+    private static void appendBenchmark() {
+        System.out.println("--- Benchmark: Append-Heavy (assemble and write a 16 MB document) ---");
+
+        int lines = 200_000;
+        String line = "2024-01-15T10:30:00Z INFO  order-service processed order for customer account ";
+        WritableByteChannel sink = new CountingChannel();
+        System.out.println(String.format("  %-44s %8s %12s", "approach", "ms", "MB allocated"));
+
+        measure("StringBuilder() + toString + getBytes + write", () -> {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < lines; i++) {
+                builder.append(line).append(i).append('\n');
+            }
+            return writeFully(sink, ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8)));
+        });
+        measure("StringBuilder(presized) + same output", () -> {
+            StringBuilder builder = new StringBuilder(lines * (line.length() + 8));
+            for (int i = 0; i < lines; i++) {
+                builder.append(line).append(i).append('\n');
+            }
+            return writeFully(sink, ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8)));
+        });
+        measure("RopeBuilder + streaming writeTo", () -> {
+            RopeBuilder builder = new RopeBuilder();
+            for (int i = 0; i < lines; i++) {
+                builder.append(line).append(i).append('\n');
+            }
+            try {
+                return builder.build().writeTo(sink, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        System.out.println("The unsized StringBuilder copies its contents on every doubling, and both StringBuilder");
+        System.out.println("rows then make a String and a byte[] of the whole document before writing anything.");
+        System.out.println("The rope's allocation is mostly short-lived per-leaf byte[]s; it never holds a second copy.");
+
+        System.out.println();
+    }
+
+    private static void editBenchmark() {
+        System.out.println("--- Benchmark: Edit-Heavy (4,000 random edits on a 4 MB document) ---");
+
+        String base = "The quick brown fox jumps over the lazy dog. ".repeat(4_000_000 / 45);
+        int edits = 4_000;
+        SplittableRandom random = new SplittableRandom(7);
+        int[] kinds = new int[edits];
+        double[] positions = new double[edits];
+        for (int i = 0; i < edits; i++) {
+            kinds[i] = random.nextInt(3);
+            positions[i] = random.nextDouble();
+        }
+        String snippet = "[edited text of thirty-two chars]".substring(0, 32);
+        System.out.println(String.format("  %-44s %8s %12s", "approach", "ms", "MB allocated"));
+
+        long expected = measure("StringBuilder insert/delete/substring", () -> {
+            StringBuilder text = new StringBuilder(base);
+            long checksum = 0;
+            for (int i = 0; i < edits; i++) {
+                int at = (int) (positions[i] * (text.length() - 64));
+                switch (kinds[i]) {
+                    case 0 -> text.insert(at, snippet);
+                    case 1 -> text.delete(at, at + 32);
+                    default -> checksum += text.substring(at, at + 64).charAt(63);
+                }
+            }
+            return checksum * 31 + text.toString().hashCode();
+        });
+        long actual = measure("Rope insert/delete/subSequence", () -> {
+            Rope text = Rope.of(base);
+            long checksum = 0;
+            for (int i = 0; i < edits; i++) {
+                int at = (int) (positions[i] * (text.length() - 64));
+                switch (kinds[i]) {
+                    case 0 -> text = text.insert(at, snippet);
+                    case 1 -> text = text.delete(at, at + 32);
+                    default -> checksum += text.subSequence(at, at + 64).charAt(63);
+                }
+            }
+            return checksum * 31 + text.toString().hashCode();
+        });
+        if (expected != actual) {
+            throw new IllegalStateException("Rope edits diverged from StringBuilder edits");
+        }
+        System.out.println("Both results are identical. StringBuilder shifts on average half the document per edit;");
+        System.out.println("the rope rewrites one leaf and O(log n) nodes, and every intermediate version stays usable.");
+
+        System.out.println();
+    }
+
+    /** Discards bytes like a socket with an infinitely fast peer. */
+    static final class CountingChannel implements WritableByteChannel {
+        private long count;
+
+        @Override
+        public int write(ByteBuffer source) {
+            int remaining = source.remaining();
+            source.position(source.limit());
+            count += remaining;
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static long measure(String name, LongSupplier body) {
+        ShowcaseSupport.Timing timing = ShowcaseSupport.time(1, body);
+        System.out.println(String.format("  %-44s %8.1f %12.1f", name, timing.bestNanos() / 1e6,
+            timing.bestBytes() / 1e6));
+        return timing.result();
+    }
+
+    // ========== Helper Methods ==========
+
+    private static long writeFully(WritableByteChannel channel, ByteBuffer buffer) {
+        try {
+            long written = 0;
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer);
+            }
+            return written;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,721 @@
+package com.example.demo.showcase;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Demonstrates data structures for scheduling large numbers of timed tasks
+ * Including an indexed d-ary heap with decrease-key and O(log n) cancel,
+ * a heap-backed task scheduler, a hierarchical timing wheel with O(1) schedule/cancel,
+ * and schedule/cancel benchmarks against PriorityQueue and DelayQueue
+ */
+public class SchedulerQueuesShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== SCHEDULER QUEUES SHOWCASE ==========\n");
+
+        indexedHeapDemo();
+        heapSchedulerDemo();
+        timingWheelDemo();
+        scheduleCancelBenchmark();
+        largeScaleBenchmark();
+    }
+
+    // ========== Indexed D-ary Heap ==========
+
+    /**
+     * Min-heap where each element knows its own slot, so remove and priority
+     * updates are O(log n) instead of PriorityQueue's O(n) remove(Object).
+     * A wider arity (4 by default) makes the tree shallower and sift-up cheaper,
+     * at the price of more comparisons per sift-down level.
+     */
+    static final class IndexedDaryHeap<E> {
+
+        static final class Handle<E> {
+            private final E value;
+            private long priority;
+            private int index = -1;
+            private IndexedDaryHeap<E> owner;
+
+            private Handle(E value, long priority) {
+                this.value = value;
+                this.priority = priority;
+            }
+
+            public E value() {
+                return value;
+            }
+
+            public long priority() {
+                return priority;
+            }
+
+            public boolean isQueued() {
+                return index >= 0;
+            }
+
+            @Override
+            public String toString() {
+                return value + "@" + priority;
+            }
+        }
+
+        private final int arity;
+        private Handle<E>[] heap;
+        // Priorities mirrored in a primitive array so sifting compares without chasing pointers
+        private long[] priorities;
+        private int size;
+
+        IndexedDaryHeap() {
+            this(4, 16);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        IndexedDaryHeap(int arity, int initialCapacity) {
+            if (arity < 2) {
+                throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+            }
+            this.arity = arity;
+            this.heap = (Handle<E>[]) new Handle[Math.max(initialCapacity, 1)];
+            this.priorities = new long[heap.length];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public Handle<E> insert(long priority, E value) {
+            if (size == heap.length) {
+                int newCapacity = heap.length + (heap.length >> 1) + 1;
+                heap = Arrays.copyOf(heap, newCapacity);
+                priorities = Arrays.copyOf(priorities, newCapacity);
+            }
+            Handle<E> handle = new Handle<>(value, priority);
+            handle.owner = this;
+            place(handle, size);
+            size++;
+            siftUp(size - 1);
+            return handle;
+        }
+
+        public Handle<E> peek() {
+            return size == 0 ? null : heap[0];
+        }
+
+        public Handle<E> poll() {
+            if (size == 0) {
+                return null;
+            }
+            Handle<E> top = heap[0];
+            removeAt(0);
+            return top;
+        }
+
+        /** Cancels a queued handle; returns false if it was already polled or removed. */
+        public boolean remove(Handle<E> handle) {
+            if (!contains(handle)) {
+                return false;
+            }
+            removeAt(handle.index);
+            return true;
+        }
+
+        /** Changes the priority of a queued handle (decrease-key or increase-key). */
+        public void updatePriority(Handle<E> handle, long newPriority) {
+            if (!contains(handle)) {
+                throw new IllegalArgumentException("Handle is not queued in this heap: " + handle);
+            }
+            long oldPriority = handle.priority;
+            handle.priority = newPriority;
+            priorities[handle.index] = newPriority;
+            if (newPriority < oldPriority) {
+                siftUp(handle.index);
+            } else if (newPriority > oldPriority) {
+                siftDown(handle.index);
+            }
+        }
+
+        private boolean contains(Handle<E> handle) {
+            return handle.owner == this && handle.index >= 0 && handle.index < size && heap[handle.index] == handle;
+        }
+
+        private void removeAt(int i) {
+            Handle<E> removed = heap[i];
+            int last = --size;
+            if (i != last) {
+                Handle<E> moved = heap[last];
+                place(moved, i);
+                heap[last] = null;
+                siftDown(i);
+                if (moved.index == i) {
+                    siftUp(i);
+                }
+            } else {
+                heap[last] = null;
+            }
+            removed.index = -1;
+        }
+
+        private void place(Handle<E> handle, int i) {
+            heap[i] = handle;
+            priorities[i] = handle.priority;
+            handle.index = i;
+        }
+
+        private void siftUp(int i) {
+            Handle<E> moving = heap[i];
+            long priority = priorities[i];
+            while (i > 0) {
+                int parent = (i - 1) / arity;
+                if (priorities[parent] <= priority) {
+                    break;
+                }
+                place(heap[parent], i);
+                i = parent;
+            }
+            place(moving, i);
+        }
+
+        private void siftDown(int i) {
+            Handle<E> moving = heap[i];
+            long priority = priorities[i];
+            while (true) {
+                int firstChild = i * arity + 1;
+                if (firstChild >= size) {
+                    break;
+                }
+                int lastChild = Math.min(firstChild + arity, size);
+                int best = firstChild;
+                for (int c = firstChild + 1; c < lastChild; c++) {
+                    if (priorities[c] < priorities[best]) {
+                        best = c;
+                    }
+                }
+                if (priorities[best] >= priority) {
+                    break;
+                }
+                place(heap[best], i);
+                i = best;
+            }
+            place(moving, i);
+        }
+    }
+
+    private static void indexedHeapDemo() {
+        System.out.println("--- Indexed D-ary Heap ---");
+        System.out.println("Handles track their heap slot: cancel and decrease-key in O(log n)");
+
+        IndexedDaryHeap<String> heap = new IndexedDaryHeap<>();
+        IndexedDaryHeap.Handle<String> low = heap.insert(30, "Low priority");
+        IndexedDaryHeap.Handle<String> high = heap.insert(10, "High priority");
+        IndexedDaryHeap.Handle<String> medium = heap.insert(20, "Medium priority");
+        IndexedDaryHeap.Handle<String> cleanup = heap.insert(40, "Cleanup");
+
+        System.out.println("Peek: " + heap.peek());
+        heap.updatePriority(low, 5);
+        System.out.println("After decrease-key(Low priority -> 5), peek: " + heap.peek());
+        System.out.println("Cancel Medium priority: " + heap.remove(medium));
+        System.out.println("Cancel again: " + heap.remove(medium));
+        heap.updatePriority(high, 50);
+        System.out.println("After increase-key(High priority -> 50)");
+
+        StringJoiner order = new StringJoiner(", ");
+        while (!heap.isEmpty()) {
+            order.add(heap.poll().toString());
+        }
+        System.out.println("Polling all: " + order);
+        System.out.println("Cleanup still queued: " + cleanup.isQueued());
+
+        System.out.println();
+    }
+
+    // ========== Heap-based Scheduler ==========
+
+    /**
+     * Single-threaded timer built on the indexed heap. Unlike ScheduledThreadPoolExecutor,
+     * cancel() removes the task immediately and reschedule() moves it in place.
+     */
+    static final class HeapScheduler implements AutoCloseable {
+        private final IndexedDaryHeap<Runnable> queue = new IndexedDaryHeap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private final Thread worker;
+        private volatile boolean running = true;
+
+        HeapScheduler(String name) {
+            worker = new Thread(this::runLoop, name);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        public IndexedDaryHeap.Handle<Runnable> schedule(Runnable task, long delay, TimeUnit unit) {
+            lock.lock();
+            try {
+                IndexedDaryHeap.Handle<Runnable> handle = queue.insert(System.nanoTime() + unit.toNanos(delay), task);
+                if (queue.peek() == handle) {
+                    changed.signal();
+                }
+                return handle;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public boolean cancel(IndexedDaryHeap.Handle<Runnable> handle) {
+            lock.lock();
+            try {
+                return queue.remove(handle);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public boolean reschedule(IndexedDaryHeap.Handle<Runnable> handle, long delay, TimeUnit unit) {
+            lock.lock();
+            try {
+                if (!handle.isQueued()) {
+                    return false;
+                }
+                queue.updatePriority(handle, System.nanoTime() + unit.toNanos(delay));
+                changed.signal();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void runLoop() {
+            while (running) {
+                Runnable task;
+                lock.lock();
+                try {
+                    IndexedDaryHeap.Handle<Runnable> next = queue.peek();
+                    if (next == null) {
+                        changed.await();
+                        continue;
+                    }
+                    long wait = next.priority() - System.nanoTime();
+                    if (wait > 0) {
+                        changed.awaitNanos(wait);
+                        continue;
+                    }
+                    task = queue.poll().value();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            running = false;
+            worker.interrupt();
+        }
+    }
+
+    private static void heapSchedulerDemo() {
+        System.out.println("--- Heap-based Scheduler ---");
+
+        CountDownLatch done = new CountDownLatch(2);
+        List<String> fired = Collections.synchronizedList(new ArrayList<>());
+        try (HeapScheduler scheduler = new HeapScheduler("heap-scheduler")) {
+            scheduler.schedule(() -> { fired.add("report"); done.countDown(); }, 150, TimeUnit.MILLISECONDS);
+            IndexedDaryHeap.Handle<Runnable> timeout =
+                scheduler.schedule(() -> fired.add("timeout"), 100, TimeUnit.MILLISECONDS);
+            IndexedDaryHeap.Handle<Runnable> retry =
+                scheduler.schedule(() -> { fired.add("retry"); done.countDown(); }, 5, TimeUnit.SECONDS);
+
+            System.out.println("Cancel timeout (response arrived): " + scheduler.cancel(timeout));
+            System.out.println("Reschedule retry from 5s to 50ms: "
+                + scheduler.reschedule(retry, 50, TimeUnit.MILLISECONDS));
+
+            done.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("Fired in order: " + fired);
+
+        System.out.println();
+    }
+
+    // ========== Hierarchical Timing Wheel ==========
+
+    /**
+     * Hierarchical (cascading) timing wheel. Level 0 has one bucket per tick; each higher
+     * level's bucket spans a full rotation of the level below. Timers are placed by how far
+     * away they are and cascade down as time approaches, so schedule and cancel are O(1)
+     * (doubly linked buckets) and each timer is moved at most once per level.
+     * Not thread-safe: drive it from a single timer thread.
+     */
+    static final class HierarchicalTimingWheel<E> {
+        private static final int WHEEL_BITS = 6;
+        private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+        private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+        static final class Timer<E> {
+            private final E value;
+            private long deadline;
+            private Timer<E> prev;
+            private Timer<E> next;
+            private int level = -1;
+            private int slot;
+            private HierarchicalTimingWheel<E> owner;
+
+            private Timer(E value, long deadline) {
+                this.value = value;
+                this.deadline = deadline;
+            }
+
+            public E value() {
+                return value;
+            }
+
+            public long deadline() {
+                return deadline;
+            }
+
+            public boolean isPending() {
+                return level >= 0;
+            }
+        }
+
+        private final int levels;
+        private final Timer<E>[][] buckets;
+        private long currentTick;
+        private int size;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        HierarchicalTimingWheel(int levels, long startTick) {
+            this.levels = levels;
+            this.buckets = (Timer<E>[][]) new Timer[levels][WHEEL_SIZE];
+            this.currentTick = startTick;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long currentTick() {
+            return currentTick;
+        }
+
+        /** Schedules a value to fire at the given tick (or the next tick if already past). */
+        public Timer<E> schedule(long deadlineTick, E value) {
+            Timer<E> timer = new Timer<>(value, deadlineTick);
+            timer.owner = this;
+            place(timer, currentTick + 1);
+            size++;
+            return timer;
+        }
+
+        public boolean cancel(Timer<E> timer) {
+            if (timer.owner != this || timer.level < 0) {
+                return false;
+            }
+            unlink(timer);
+            size--;
+            return true;
+        }
+
+        /** Moves a pending timer to a new deadline in O(1). */
+        public boolean reschedule(Timer<E> timer, long deadlineTick) {
+            if (timer.owner != this || timer.level < 0) {
+                return false;
+            }
+            unlink(timer);
+            timer.deadline = deadlineTick;
+            place(timer, currentTick + 1);
+            return true;
+        }
+
+        /** Advances time tick by tick up to targetTick, firing every expired timer in deadline order. */
+        public int advanceTo(long targetTick, Consumer<? super E> onExpire) {
+            int fired = 0;
+            while (currentTick < targetTick) {
+                currentTick++;
+                // Cascade higher levels whose bucket boundary we just crossed
+                for (int level = 1; level < levels; level++) {
+                    if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+                        break;
+                    }
+                    cascade(level, (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK));
+                }
+                int slot = (int) (currentTick & WHEEL_MASK);
+                Timer<E> timer = buckets[0][slot];
+                buckets[0][slot] = null;
+                while (timer != null) {
+                    Timer<E> next = timer.next;
+                    timer.prev = null;
+                    timer.next = null;
+                    timer.level = -1;
+                    size--;
+                    fired++;
+                    onExpire.accept(timer.value);
+                    timer = next;
+                }
+            }
+            return fired;
+        }
+
+        private void cascade(int level, int slot) {
+            Timer<E> timer = buckets[level][slot];
+            buckets[level][slot] = null;
+            while (timer != null) {
+                Timer<E> next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                place(timer, currentTick);
+                timer = next;
+            }
+        }
+
+        private void place(Timer<E> timer, long earliestTick) {
+            long effective = Math.max(timer.deadline, earliestTick);
+            long delta = effective - currentTick;
+            int level = 0;
+            while (level < levels - 1 && delta >= (1L << (WHEEL_BITS * (level + 1)))) {
+                level++;
+            }
+            long maxSpan = 1L << (WHEEL_BITS * levels);
+            if (delta >= maxSpan) {
+                // Beyond the top level's range - park it in the furthest bucket and re-cascade later
+                effective = currentTick + maxSpan - 1;
+            }
+            int slot = (int) ((effective >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+            timer.level = level;
+            timer.slot = slot;
+            Timer<E> head = buckets[level][slot];
+            timer.next = head;
+            if (head != null) {
+                head.prev = timer;
+            }
+            buckets[level][slot] = timer;
+        }
+
+        private void unlink(Timer<E> timer) {
+            if (timer.prev != null) {
+                timer.prev.next = timer.next;
+            } else {
+                buckets[timer.level][timer.slot] = timer.next;
+            }
+            if (timer.next != null) {
+                timer.next.prev = timer.prev;
+            }
+            timer.prev = null;
+            timer.next = null;
+            timer.level = -1;
+        }
+    }
+
+    private static void timingWheelDemo() {
+        System.out.println("--- Hierarchical Timing Wheel ---");
+        System.out.println("4 levels x 64 buckets cover 16,777,216 ticks (~4.6 hours at 1ms per tick)");
+
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(4, 0);
+        wheel.schedule(5, "heartbeat");
+        wheel.schedule(70, "retry");
+        HierarchicalTimingWheel.Timer<String> sessionTimeout = wheel.schedule(5_000, "session-timeout");
+        HierarchicalTimingWheel.Timer<String> idle = wheel.schedule(300_000, "idle-close");
+        wheel.schedule(300_000, "audit-flush");
+
+        System.out.println("Pending timers: " + wheel.size());
+        System.out.println("Cancel idle-close: " + wheel.cancel(idle));
+        System.out.println("Reschedule session-timeout to tick 100: " + wheel.reschedule(sessionTimeout, 100));
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(400_000, name -> fired.add(name + "@" + wheel.currentTick()));
+        System.out.println("Fired: " + fired);
+        System.out.println("Pending after advance: " + wheel.size());
+
+        System.out.println();
+    }
+
+    // ========== Schedule/Cancel Benchmarks ==========
+
+    static final class DelayedTask implements Delayed {
+        final long deadlineNanos;
+
+        DelayedTask(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineNanos, ((DelayedTask) other).deadlineNanos);
+        }
+    }
+
+    /**
+     * Typical timeout workload: schedule N timers, cancel most of them before they fire
+     * (responses arrived), then drain the rest in deadline order.
+     */
+    private static void scheduleCancelBenchmark() {
+        System.out.println("--- Schedule/Cancel Benchmark ---");
+
+        int tasks = 50_000;
+        int cancels = 5_000;
+        long[] deadlines = new long[tasks];
+        int[] cancelOrder = new int[cancels];
+        Random random = new Random(7);
+        for (int i = 0; i < tasks; i++) {
+            deadlines[i] = 1 + random.nextInt(60_000);
+        }
+        for (int i = 0; i < cancels; i++) {
+            cancelOrder[i] = random.nextInt(tasks);
+        }
+        Set<Integer> uniqueCancels = new HashSet<>();
+        for (int c : cancelOrder) {
+            uniqueCancels.add(c);
+        }
+        int expectedFired = tasks - uniqueCancels.size();
+
+        // PriorityQueue: remove(Object) is a linear scan
+        long start = System.nanoTime();
+        PriorityQueue<long[]> pq = new PriorityQueue<>(Comparator.comparingLong(t -> t[0]));
+        List<long[]> pqTasks = new ArrayList<>(tasks);
+        for (long deadline : deadlines) {
+            long[] task = {deadline};
+            pqTasks.add(task);
+            pq.offer(task);
+        }
+        for (int c : cancelOrder) {
+            pq.remove(pqTasks.get(c));
+        }
+        int pqFired = 0;
+        while (pq.poll() != null) {
+            pqFired++;
+        }
+        long pqTime = System.nanoTime() - start;
+
+        // DelayQueue: PriorityQueue under a lock; deadlines in the past so everything is expired
+        start = System.nanoTime();
+        long base = System.nanoTime() - TimeUnit.HOURS.toNanos(1);
+        DelayQueue<DelayedTask> delayQueue = new DelayQueue<>();
+        List<DelayedTask> dqTasks = new ArrayList<>(tasks);
+        for (long deadline : deadlines) {
+            DelayedTask task = new DelayedTask(base + deadline);
+            dqTasks.add(task);
+            delayQueue.offer(task);
+        }
+        for (int c : cancelOrder) {
+            delayQueue.remove(dqTasks.get(c));
+        }
+        int dqFired = 0;
+        while (delayQueue.poll() != null) {
+            dqFired++;
+        }
+        long dqTime = System.nanoTime() - start;
+
+        // Indexed 4-ary heap
+        start = System.nanoTime();
+        IndexedDaryHeap<Integer> heap = new IndexedDaryHeap<>(4, tasks);
+        List<IndexedDaryHeap.Handle<Integer>> handles = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            handles.add(heap.insert(deadlines[i], i));
+        }
+        for (int c : cancelOrder) {
+            heap.remove(handles.get(c));
+        }
+        int heapFired = 0;
+        while (heap.poll() != null) {
+            heapFired++;
+        }
+        long heapTime = System.nanoTime() - start;
+
+        // Hierarchical timing wheel (1 tick = 1 ms)
+        start = System.nanoTime();
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(4, 0);
+        List<HierarchicalTimingWheel.Timer<Integer>> timers = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            timers.add(wheel.schedule(deadlines[i], i));
+        }
+        for (int c : cancelOrder) {
+            wheel.cancel(timers.get(c));
+        }
+        int wheelFired = wheel.advanceTo(60_001, value -> { });
+        long wheelTime = System.nanoTime() - start;
+
+        System.out.println(tasks + " scheduled, " + cancels + " cancels, then drain:");
+        System.out.println("PriorityQueue: " + pqTime / 1000 + " μs (fired " + pqFired + ")");
+        System.out.println("DelayQueue: " + dqTime / 1000 + " μs (fired " + dqFired + ")");
+        System.out.println("IndexedDaryHeap: " + heapTime / 1000 + " μs (fired " + heapFired + ")");
+        System.out.println("HierarchicalTimingWheel: " + wheelTime / 1000 + " μs (fired " + wheelFired + ")");
+        System.out.println("All fired the expected " + expectedFired + ": "
+            + (pqFired == expectedFired && dqFired == expectedFired
+                && heapFired == expectedFired && wheelFired == expectedFired));
+
+        System.out.println();
+    }
+
+    private static void largeScaleBenchmark() {
+        System.out.println("--- Millions of Timers ---");
+        System.out.println("O(n) cancel rules out PriorityQueue/DelayQueue at this scale");
+
+        int tasks = 1_000_000;
+        Random random = new Random(11);
+        long[] deadlines = new long[tasks];
+        for (int i = 0; i < tasks; i++) {
+            deadlines[i] = 1 + random.nextInt(600_000);
+        }
+
+        long start = System.nanoTime();
+        IndexedDaryHeap<Integer> heap = new IndexedDaryHeap<>(4, tasks);
+        List<IndexedDaryHeap.Handle<Integer>> handles = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            handles.add(heap.insert(deadlines[i], i));
+        }
+        for (int i = 0; i < tasks; i += 10) {
+            // Reschedule every 10th timer (e.g. a keep-alive was received)
+            heap.updatePriority(handles.get(i), deadlines[i] + 30_000);
+        }
+        for (int i = 1; i < tasks; i += 10) {
+            heap.remove(handles.get(i));
+        }
+        int heapFired = 0;
+        while (heap.poll() != null) {
+            heapFired++;
+        }
+        long heapTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(4, 0);
+        List<HierarchicalTimingWheel.Timer<Integer>> timers = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            timers.add(wheel.schedule(deadlines[i], i));
+        }
+        for (int i = 0; i < tasks; i += 10) {
+            wheel.reschedule(timers.get(i), deadlines[i] + 30_000);
+        }
+        for (int i = 1; i < tasks; i += 10) {
+            wheel.cancel(timers.get(i));
+        }
+        int wheelFired = wheel.advanceTo(700_000, value -> { });
+        long wheelTime = System.nanoTime() - start;
+
+        System.out.println(tasks + " timers, 10% rescheduled, 10% cancelled, then drained:");
+        System.out.println("IndexedDaryHeap: " + heapTime / 1_000_000 + " ms (fired " + heapFired + ")");
+        System.out.println("HierarchicalTimingWheel: " + wheelTime / 1_000_000 + " ms (fired " + wheelFired + ")");
+
+        System.out.println();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.showcase;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.LongSupplier;
+
+/**
+ * Helpers shared by the showcases' benchmark sections: best-of-3 timing with per-thread
+ * allocation, and quiet cleanup of the temp files some demos write.
+ */
+final class ShowcaseSupport {
+
+    /** Keeps benchmark results observable so the JIT cannot drop the work. */
+    private static volatile long blackhole;
+
+    private ShowcaseSupport() {
+    }
+
+    /** Fastest of the timed runs, the bytes that run allocated on the calling thread, and its result. */
+    record Timing(long bestNanos, long bestBytes, long result) { }
+
+    /**
+     * Runs the body warmups times untimed, then three times timed. Callers format the numbers
+     * themselves, since each showcase reports in its own unit (ns/op, MB/s, ...).
+     */
+    static Timing time(int warmups, LongSupplier body) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long result = 0;
+        for (int i = 0; i < warmups; i++) {
+            result = body.getAsLong();
+        }
+        long bestNanos = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            result = body.getAsLong();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            bestBytes = Math.min(bestBytes, threads.getCurrentThreadAllocatedBytes() - allocatedBefore);
+        }
+        blackhole = result;
+        return new Timing(bestNanos, bestBytes, result);
+    }
+
+    /** Publishes a result computed outside time(), e.g. by a warm-up loop. */
+    static void consume(long result) {
+        blackhole = result;
+    }
+
+    static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Temp file, cleaned up by the OS otherwise
+        }
+    }
+}
@@ -0,0 +1,507 @@
+package com.example.demo.showcase;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * Demonstrates reusable windowing, batching, scan and bounded distinct operators for Java 21 streams
+ * Including fixed and sliding windows, batches closed by size or age, running scans and a
+ * constant-time sliding average, distinct-by-key over a bounded key window, queue-backed batches
+ * with real timeouts, and throughput/allocation benchmarks against collecting and re-streaming
+ */
+public class StreamOperatorsShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== STREAM OPERATORS SHOWCASE ==========\n");
+
+        windowsDemo();
+        batchingDemo();
+        scanDemo();
+        distinctByKeyDemo();
+        parallelDownstreamDemo();
+        operatorsBenchmark();
+    }
+
+    // ========== Operators ==========
+
+    /**
+     * Stateful stream operators in the spirit of JDK 22's Stream Gatherers, built on Java 21 APIs.
+     * Each one wraps the source spliterator in an AbstractSpliterator: elements are consumed in
+     * encounter order by a single thread, and trySplit() hands finished windows, batches or scan
+     * results to other threads in array batches. Stages after the operator can therefore run in
+     * parallel while the operator's own state never needs synchronization.
+     */
+    static final class StreamOps {
+        private StreamOps() {
+        }
+
+        /** Consecutive non-overlapping windows; the last one may be shorter. */
+        static <T> Stream<List<T>> fixedWindows(Stream<T> source, int size) {
+            requirePositive(size, "size");
+            Spliterator<T> upstream = source.spliterator();
+            long estimate = divideRoundingUp(upstream.estimateSize(), size);
+            return derive(source, new Spliterators.AbstractSpliterator<List<T>>(estimate,
+                    Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super List<T>> action) {
+                    List<T> window = new ArrayList<>(size);
+                    Consumer<T> add = window::add;
+                    while (window.size() < size && upstream.tryAdvance(add)) {
+                        // Filling the window
+                    }
+                    if (window.isEmpty()) {
+                        return false;
+                    }
+                    action.accept(window);
+                    return true;
+                }
+            });
+        }
+
+        /**
+         * Every full window of the given size, advancing by one element. Elements are kept in a ring
+         * buffer; each emitted window is an unmodifiable copy, since downstream stages may keep it.
+         */
+        static <T> Stream<List<T>> slidingWindows(Stream<T> source, int size) {
+            requirePositive(size, "size");
+            Spliterator<T> upstream = source.spliterator();
+            long upstreamSize = upstream.estimateSize();
+            long estimate = upstreamSize == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(0, upstreamSize - size + 1);
+            return derive(source, new Spliterators.AbstractSpliterator<List<T>>(estimate, Spliterator.ORDERED) {
+                private final Object[] ring = new Object[size];
+                private long seen;
+
+                @Override
+                public boolean tryAdvance(Consumer<? super List<T>> action) {
+                    Consumer<T> push = element -> ring[(int) (seen++ % size)] = element;
+                    while (upstream.tryAdvance(push)) {
+                        if (seen >= size) {
+                            action.accept(snapshot());
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+
+                @SuppressWarnings("unchecked")
+                private List<T> snapshot() {
+                    Object[] window = new Object[size];
+                    int oldest = (int) (seen % size);
+                    System.arraycopy(ring, oldest, window, 0, size - oldest);
+                    System.arraycopy(ring, 0, window, size - oldest, oldest);
+                    return (List<T>) Collections.unmodifiableList(Arrays.asList(window));
+                }
+            });
+        }
+
+        /** Mean of every full window of the given size in O(1) per element, without boxing. */
+        static DoubleStream slidingAverage(DoubleStream source, int size) {
+            requirePositive(size, "size");
+            Spliterator.OfDouble upstream = source.spliterator();
+            long upstreamSize = upstream.estimateSize();
+            long estimate = upstreamSize == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(0, upstreamSize - size + 1);
+            Spliterator.OfDouble averages = new Spliterators.AbstractDoubleSpliterator(estimate, Spliterator.ORDERED) {
+                private final double[] ring = new double[size];
+                private long seen;
+                private double sum;
+
+                @Override
+                public boolean tryAdvance(DoubleConsumer action) {
+                    DoubleConsumer push = value -> {
+                        int slot = (int) (seen++ % size);
+                        sum += value - ring[slot];
+                        ring[slot] = value;
+                        if (slot == size - 1) {
+                            // Re-add the window once per lap so rounding error cannot accumulate
+                            sum = 0;
+                            for (double v : ring) {
+                                sum += v;
+                            }
+                        }
+                    };
+                    while (upstream.tryAdvance(push)) {
+                        if (seen >= size) {
+                            action.accept(sum / size);
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+            };
+            return StreamSupport.doubleStream(averages, source.isParallel()).onClose(source::close);
+        }
+
+        /**
+         * Batches that close at maxSize elements or once maxAge has passed since their first element.
+         * Age is checked as elements arrive, so a stalled source holds an open batch until the next
+         * element or the end; use {@link #drainBatches} when the source is a queue.
+         */
+        static <T> Stream<List<T>> batches(Stream<T> source, int maxSize, Duration maxAge) {
+            return batches(source, maxSize, maxAge, System::nanoTime);
+        }
+
+        static <T> Stream<List<T>> batches(Stream<T> source, int maxSize, Duration maxAge, LongSupplier nanoClock) {
+            requirePositive(maxSize, "maxSize");
+            long maxAgeNanos = maxAge.toNanos();
+            Spliterator<T> upstream = source.spliterator();
+            return derive(source, new Spliterators.AbstractSpliterator<List<T>>(
+                    divideRoundingUp(upstream.estimateSize(), maxSize), Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super List<T>> action) {
+                    List<T> batch = new ArrayList<>(Math.min(maxSize, 1024));
+                    Consumer<T> add = batch::add;
+                    long openedAt = 0;
+                    while (batch.size() < maxSize && upstream.tryAdvance(add)) {
+                        long now = nanoClock.getAsLong();
+                        if (batch.size() == 1) {
+                            openedAt = now;
+                        } else if (now - openedAt >= maxAgeNanos) {
+                            break;
+                        }
+                    }
+                    if (batch.isEmpty()) {
+                        return false;
+                    }
+                    action.accept(batch);
+                    return true;
+                }
+            });
+        }
+
+        /**
+         * Batches taken from a queue, closed at maxSize elements or maxWait after their first element,
+         * whichever comes first. Unlike {@link #batches} the timeout fires even if nothing else
+         * arrives. The stream ends once finished reports true and the queue is empty, or on interrupt.
+         */
+        static <T> Stream<List<T>> drainBatches(BlockingQueue<T> queue, int maxSize, Duration maxWait,
+                                                BooleanSupplier finished) {
+            requirePositive(maxSize, "maxSize");
+            long maxWaitNanos = maxWait.toNanos();
+            return StreamSupport.stream(new Spliterators.AbstractSpliterator<List<T>>(Long.MAX_VALUE,
+                    Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super List<T>> action) {
+                    List<T> batch = new ArrayList<>(Math.min(maxSize, 1024));
+                    try {
+                        T first = null;
+                        while (first == null) {
+                            // Read the flag before polling: once it is set, the queue holds everything left
+                            boolean done = finished.getAsBoolean();
+                            first = queue.poll(maxWaitNanos, TimeUnit.NANOSECONDS);
+                            if (first == null && done) {
+                                return false;
+                            }
+                        }
+                        batch.add(first);
+                        long deadline = System.nanoTime() + maxWaitNanos;
+                        while (batch.size() < maxSize) {
+                            if (queue.drainTo(batch, maxSize - batch.size()) > 0) {
+                                continue;
+                            }
+                            long remaining = deadline - System.nanoTime();
+                            T next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                            if (next == null) {
+                                break;
+                            }
+                            batch.add(next);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        if (batch.isEmpty()) {
+                            return false;
+                        }
+                    }
+                    action.accept(batch);
+                    return true;
+                }
+            }, false);
+        }
+
+        /** Running results of op, starting from identity; the identity itself is not emitted. */
+        static <T> Stream<T> scan(Stream<T> source, T identity, BinaryOperator<T> op) {
+            Spliterator<T> upstream = source.spliterator();
+            return derive(source, new Spliterators.AbstractSpliterator<T>(upstream.estimateSize(),
+                    upstream.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED)) {
+                private T accumulated = identity;
+
+                @Override
+                public boolean tryAdvance(Consumer<? super T> action) {
+                    if (!upstream.tryAdvance(element -> accumulated = op.apply(accumulated, element))) {
+                        return false;
+                    }
+                    action.accept(accumulated);
+                    return true;
+                }
+            });
+        }
+
+        static LongStream scan(LongStream source, long identity, LongBinaryOperator op) {
+            Spliterator.OfLong upstream = source.spliterator();
+            Spliterator.OfLong scanned = new Spliterators.AbstractLongSpliterator(upstream.estimateSize(),
+                    upstream.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED)) {
+                private long accumulated = identity;
+                private final LongConsumer step = value -> accumulated = op.applyAsLong(accumulated, value);
+
+                @Override
+                public boolean tryAdvance(LongConsumer action) {
+                    if (!upstream.tryAdvance(step)) {
+                        return false;
+                    }
+                    action.accept(accumulated);
+                    return true;
+                }
+
+                @Override
+                public void forEachRemaining(LongConsumer action) {
+                    upstream.forEachRemaining((long value) -> {
+                        accumulated = op.applyAsLong(accumulated, value);
+                        action.accept(accumulated);
+                    });
+                }
+            };
+            return StreamSupport.longStream(scanned, source.isParallel()).onClose(source::close);
+        }
+
+        /**
+         * Drops elements whose key is among the maxKeys most recently seen keys. Memory stays bounded
+         * by maxKeys, at the price of letting a key through again once it has been evicted; with
+         * maxKeys at least the number of distinct keys this is exactly distinct-by-key.
+         */
+        static <T, K> Stream<T> distinctByKey(Stream<T> source, Function<? super T, ? extends K> key, int maxKeys) {
+            requirePositive(maxKeys, "maxKeys");
+            Spliterator<T> upstream = source.spliterator();
+            Map<K, Boolean> recent = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Boolean> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+            return derive(source, new Spliterators.AbstractSpliterator<T>(upstream.estimateSize(),
+                    upstream.characteristics() & (Spliterator.ORDERED | Spliterator.NONNULL)) {
+                private T candidate;
+
+                @Override
+                public boolean tryAdvance(Consumer<? super T> action) {
+                    while (upstream.tryAdvance(element -> candidate = element)) {
+                        T element = candidate;
+                        candidate = null;
+                        if (recent.put(key.apply(element), Boolean.TRUE) == null) {
+                            action.accept(element);
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+            });
+        }
+
+        private static <T, R> Stream<R> derive(Stream<T> source, Spliterator<R> spliterator) {
+            return StreamSupport.stream(spliterator, source.isParallel()).onClose(source::close);
+        }
+
+        private static long divideRoundingUp(long estimate, int divisor) {
+            return estimate == Long.MAX_VALUE ? Long.MAX_VALUE : (estimate + divisor - 1) / divisor;
+        }
+
+        private static void requirePositive(int value, String name) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be positive: " + value);
+            }
+        }
+    }
+
+    // ========== Demos ==========
+
+    private static void windowsDemo() {
+        System.out.println("--- Fixed and Sliding Windows ---");
+
+        List<Integer> numbers = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        System.out.println("Fixed windows of 3: " + StreamOps.fixedWindows(numbers.stream(), 3).toList());
+        System.out.println("Sliding windows of 3: " + StreamOps.slidingWindows(numbers.stream(), 3).limit(4).toList()
+            + " ...");
+        System.out.println("Sliding sums of 3: " + StreamOps.slidingWindows(numbers.stream(), 3)
+            .map(w -> w.stream().mapToInt(Integer::intValue).sum()).toList());
+        System.out.println("Moving average of 4 over squares: " + Arrays.toString(
+            StreamOps.slidingAverage(IntStream.rangeClosed(1, 8).mapToDouble(n -> n * n), 4).toArray()));
+
+        // Works on infinite streams because nothing is collected up front
+        System.out.println("Windows of an infinite stream: " + StreamOps.fixedWindows(
+            Stream.iterate(1, n -> n * 2), 4).limit(3).toList());
+
+        System.out.println();
+    }
+
+    private static void batchingDemo() {
+        System.out.println("--- Batching by Size or Time ---");
+
+        // A fake clock: elements 1-8 arrive 10 ms apart, then the source slows to one every 60 ms
+        long[] arrivalMillis = {0};
+        int[] arrivals = {0};
+        LongSupplier clock = () -> {
+            arrivalMillis[0] += arrivals[0]++ < 8 ? 10 : 60;
+            return arrivalMillis[0] * 1_000_000L;
+        };
+        List<List<Integer>> batches = StreamOps.batches(IntStream.rangeClosed(1, 12).boxed(), 4,
+            Duration.ofMillis(100), clock).toList();
+        System.out.println("maxSize 4, maxAge 100 ms, slowing source: " + batches);
+
+        BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+        AtomicBoolean producerDone = new AtomicBoolean();
+        Thread producer = Thread.ofVirtual().start(() -> {
+            for (int i = 1; i <= 7; i++) {
+                queue.add("event-" + i);
+                sleep(i == 4 ? 80 : 2);
+            }
+            producerDone.set(true);
+        });
+        List<List<String>> queueBatches = StreamOps.drainBatches(queue, 3, Duration.ofMillis(40), producerDone::get)
+            .toList();
+        joinQuietly(producer);
+        System.out.println("Queue batches (maxSize 3, maxWait 40 ms, 80 ms pause after event 4): " + queueBatches);
+
+        System.out.println();
+    }
+
+    private static void scanDemo() {
+        System.out.println("--- Scan and Prefix Sums ---");
+
+        System.out.println("Running sum 1..10: " + Arrays.toString(
+            StreamOps.scan(LongStream.rangeClosed(1, 10), 0, Long::sum).toArray()));
+        System.out.println("Running max: " + StreamOps.scan(Stream.of(3, 1, 4, 1, 5, 9, 2, 6), Integer.MIN_VALUE,
+            Math::max).toList());
+        System.out.println("Running concatenation: " + StreamOps.scan(Stream.of("a", "b", "c", "d"), "",
+            String::concat).toList());
+
+        // For data already in an array, Arrays.parallelPrefix computes the scan in parallel
+        long[] prefix = LongStream.rangeClosed(1, 1_000_000).toArray();
+        Arrays.parallelPrefix(prefix, Long::sum);
+        System.out.println("Arrays.parallelPrefix over 1..1,000,000, last value: " + prefix[prefix.length - 1]
+            + " (matches scan: " + (StreamOps.scan(LongStream.rangeClosed(1, 1_000_000), 0, Long::sum)
+            .reduce((a, b) -> b).orElse(-1) == prefix[prefix.length - 1]) + ")");
+
+        System.out.println();
+    }
+
+    private static void distinctByKeyDemo() {
+        System.out.println("--- Distinct by Key with Bounded Memory ---");
+
+        List<String> words = Arrays.asList("apple", "avocado", "banana", "blueberry", "cherry", "apricot", "date");
+        System.out.println("First word per initial: "
+            + StreamOps.distinctByKey(words.stream(), w -> w.charAt(0), 100).toList());
+
+        // Event IDs that repeat close together: dedupe over a window of the last 1,000 IDs
+        SplittableRandom random = new SplittableRandom(11);
+        int[] ids = new int[200_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = Math.max(0, i - random.nextInt(50));
+        }
+        long bounded = StreamOps.distinctByKey(Arrays.stream(ids).boxed(), id -> id, 1_000).count();
+        long exact = Arrays.stream(ids).distinct().count();
+        System.out.println("200,000 events, duplicates within 50 positions: bounded distinct " + bounded
+            + ", exact distinct " + exact + ", keys retained 1,000 vs " + exact);
+
+        System.out.println();
+    }
+
+    private static void parallelDownstreamDemo() {
+        System.out.println("--- Parallel Downstream Stages ---");
+
+        // Windows are formed in order on one thread; the per-window work below runs in parallel
+        List<Integer> windowSums = StreamOps.fixedWindows(IntStream.rangeClosed(1, 100_000).boxed().parallel(), 1_000)
+            .map(w -> w.stream().mapToInt(Integer::intValue).sum())
+            .toList();
+        boolean ordered = true;
+        for (int i = 0; i < windowSums.size(); i++) {
+            int first = i * 1_000 + 1;
+            ordered &= windowSums.get(i) == (first + first + 999) * 1_000 / 2;
+        }
+        System.out.println("100 windows of 1,000 from a parallel stream, sums correct and in order: " + ordered);
+
+        long scanned = StreamOps.scan(IntStream.rangeClosed(1, 10_000).boxed().parallel(), 0, Integer::sum)
+            .filter(running -> running % 2 == 0)
+            .count();
+        System.out.println("Even running sums of 1..10,000 computed via a parallel stream: " + scanned);
+
+        System.out.println();
+    }
+
+    // ========== Benchmark ==========
+
+    private static void operatorsBenchmark() {
+        System.out.println("--- Benchmark: Operators vs Collect-and-Re-Stream, 1,000,000 Elements ---");
+
+        int n = 1_000_000;
+        double[] prices = new SplittableRandom(5).doubles(n, 90, 110).toArray();
+        System.out.println(String.format("  %-46s %10s %14s", "pipeline", "Melem/s", "bytes/elem"));
+
+        measure("fixed windows 100: collect + subList", n, () -> {
+            List<Integer> all = IntStream.range(0, n).boxed().collect(Collectors.toList());
+            return IntStream.range(0, (all.size() + 99) / 100)
+                .mapToObj(i -> all.subList(i * 100, Math.min(all.size(), i * 100 + 100)))
+                .mapToLong(w -> w.get(w.size() - 1))
+                .sum();
+        });
+        measure("fixed windows 100: StreamOps.fixedWindows", n, () ->
+            StreamOps.fixedWindows(IntStream.range(0, n).boxed(), 100)
+                .mapToLong(w -> w.get(w.size() - 1))
+                .sum());
+
+        measure("moving average 50: collect + per-window sum", n, () -> {
+            List<Double> all = Arrays.stream(prices).boxed().collect(Collectors.toList());
+            return (long) IntStream.rangeClosed(0, all.size() - 50)
+                .mapToDouble(i -> all.subList(i, i + 50).stream().mapToDouble(Double::doubleValue).sum() / 50)
+                .sum();
+        });
+        measure("moving average 50: StreamOps.slidingAverage", n, () ->
+            (long) StreamOps.slidingAverage(Arrays.stream(prices), 50).sum());
+
+        measure("running sum: map with AtomicLong side effect", n, () -> {
+            AtomicLong running = new AtomicLong();
+            return LongStream.range(0, n).map(running::addAndGet).max().orElse(0);
+        });
+        measure("running sum: StreamOps.scan(LongStream)", n, () ->
+            StreamOps.scan(LongStream.range(0, n), 0, Long::sum).max().orElse(0));
+
+        measure("distinct ids: filter(HashSet::add), unbounded", n, () -> {
+            Set<Integer> seen = new HashSet<>();
+            return IntStream.range(0, n).map(i -> i / 3).boxed().filter(seen::add).count();
+        });
+        measure("distinct ids: StreamOps.distinctByKey(1,000)", n, () ->
+            StreamOps.distinctByKey(IntStream.range(0, n).map(i -> i / 3).boxed(), id -> id, 1_000).count());
+
+        System.out.println("Best of 3 after warm-up; allocation measured on the calling thread (sequential runs).");
+
+        System.out.println();
+    }
+
+    private static void measure(String name, int elements, LongSupplier body) {
+        ShowcaseSupport.Timing timing = ShowcaseSupport.time(3, body);
+        System.out.println(String.format("  %-46s %10.1f %14.1f", name, elements / (timing.bestNanos() / 1e3),
+            (double) timing.bestBytes() / elements));
+    }
+
+    // ========== Helper Methods ==========
+
+    private static void joinQuietly(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,544 @@
+package com.example.demo.showcase;
+
+import com.example.demo.model.User;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Demonstrates a bounded, weak-referenced string interner as an alternative to String.intern()
+ * Including a fixed-size concurrent table that never grows, entries the GC can reclaim,
+ * hit-rate and eviction metrics, deduplication straight from UTF-8 bytes without creating
+ * a String on hits, and heap saved when ingesting User records
+ */
+public class StringInternerShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== STRING INTERNER SHOWCASE ==========\n");
+
+        interningDemo();
+        boundedAndWeakDemo();
+        heapSavingsDemo();
+        internBenchmark();
+    }
+
+    // ========== Weak Interner ==========
+
+    /**
+     * Lock-free interner over a fixed power-of-two table of weak references. A key may live in
+     * any of PROBE slots after its home slot; a miss takes the first empty or GC-cleared slot in
+     * that window, or evicts a random one if all are live. The table therefore never grows and
+     * never pins a string, at the cost of being best-effort: an evicted or racing insert can
+     * leave two equal canonical instances, which only costs memory, never correctness.
+     * String.intern() by contrast uses the JVM-wide string table, sized only at startup
+     * (-XX:StringTableSize) and shared with every class and library in the process.
+     */
+    static final class WeakInterner {
+        private static final int PROBE = 8;
+
+        private final AtomicReferenceArray<Entry> table;
+        private final int mask;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder reclaimed = new LongAdder();
+
+        WeakInterner(int capacity) {
+            int size = Integer.highestOneBit(Math.max(PROBE, capacity - 1)) << 1;
+            this.table = new AtomicReferenceArray<>(size);
+            this.mask = size - 1;
+        }
+
+        /** Weak reference that remembers the hash so probes skip most entries without dereferencing. */
+        static final class Entry extends WeakReference<String> {
+            final int hash;
+
+            Entry(String value, int hash) {
+                super(value);
+                this.hash = hash;
+            }
+        }
+
+        String intern(String value) {
+            int hash = value.hashCode();
+            int home = spread(hash) & mask;
+            int free = -1;
+            for (int p = 0; p < PROBE; p++) {
+                int index = (home + p) & mask;
+                Entry entry = table.get(index);
+                if (entry == null) {
+                    free = free < 0 ? index : free;
+                    continue;
+                }
+                if (entry.hash == hash) {
+                    String canonical = entry.get();
+                    if (canonical != null && canonical.equals(value)) {
+                        hits.increment();
+                        return canonical;
+                    }
+                }
+                if (free < 0 && entry.refersTo(null)) {
+                    free = index;
+                }
+            }
+            misses.increment();
+            insert(home, free, new Entry(value, hash));
+            return value;
+        }
+
+        /**
+         * Interns the UTF-8 text in bytes[offset, offset + length). On a hit nothing is allocated:
+         * the hash is String.hashCode() computed while decoding, and candidates are compared
+         * against the bytes directly. Malformed input goes through new String(), which
+         * substitutes U+FFFD exactly as a decoder would.
+         */
+        String intern(byte[] bytes, int offset, int length) {
+            long decoded = utf8HashCode(bytes, offset, length);
+            if (decoded < 0) {
+                return intern(new String(bytes, offset, length, StandardCharsets.UTF_8));
+            }
+            int hash = (int) decoded;
+            int home = spread(hash) & mask;
+            int free = -1;
+            for (int p = 0; p < PROBE; p++) {
+                int index = (home + p) & mask;
+                Entry entry = table.get(index);
+                if (entry == null) {
+                    free = free < 0 ? index : free;
+                    continue;
+                }
+                if (entry.hash == hash) {
+                    String canonical = entry.get();
+                    if (canonical != null && utf8Equals(canonical, bytes, offset, length)) {
+                        hits.increment();
+                        return canonical;
+                    }
+                }
+                if (free < 0 && entry.refersTo(null)) {
+                    free = index;
+                }
+            }
+            misses.increment();
+            String value = new String(bytes, offset, length, StandardCharsets.UTF_8);
+            insert(home, free, new Entry(value, hash));
+            return value;
+        }
+
+        private void insert(int home, int free, Entry entry) {
+            if (free >= 0) {
+                Entry previous = table.get(free);
+                if (previous == null || previous.refersTo(null)) {
+                    if (table.compareAndSet(free, previous, entry) && previous != null) {
+                        reclaimed.increment();
+                    }
+                    return;
+                }
+            }
+            table.set((home + ThreadLocalRandom.current().nextInt(PROBE)) & mask, entry);
+            evictions.increment();
+        }
+
+        /** Table slots still referring to a live string; a full scan, meant for metrics only. */
+        int liveEntries() {
+            int live = 0;
+            for (int i = 0; i < table.length(); i++) {
+                Entry entry = table.get(i);
+                if (entry != null && !entry.refersTo(null)) {
+                    live++;
+                }
+            }
+            return live;
+        }
+
+        int capacity() {
+            return table.length();
+        }
+
+        InternerStats stats() {
+            return new InternerStats(hits.sum(), misses.sum(), evictions.sum(), reclaimed.sum(), liveEntries(), capacity());
+        }
+
+        private static int spread(int hash) {
+            return (hash ^ (hash >>> 16)) * 0x9E3779B9;
+        }
+    }
+
+    record InternerStats(long hits, long misses, long evictions, long reclaimed, int live, int capacity) {
+        double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%,d misses=%,d hitRate=%.1f%% evictions=%,d reclaimed=%,d live=%,d/%,d",
+                hits, misses, hitRate() * 100, evictions, reclaimed, live, capacity);
+        }
+    }
+
+    // ========== UTF-8 Helpers ==========
+
+    /**
+     * Decodes UTF-8 only far enough to compute the String.hashCode() of the resulting UTF-16
+     * text. Returns the hash as a non-negative long, or -1 for malformed, overlong or surrogate
+     * encodings so the caller can fall back to a real decoder.
+     */
+    static long utf8HashCode(byte[] bytes, int offset, int length) {
+        int hash = 0;
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            int b = bytes[i];
+            if (b >= 0) {
+                hash = 31 * hash + b;
+                i++;
+                continue;
+            }
+            int codePoint;
+            int count;
+            if ((b & 0xE0) == 0xC0) {
+                codePoint = b & 0x1F;
+                count = 1;
+            } else if ((b & 0xF0) == 0xE0) {
+                codePoint = b & 0x0F;
+                count = 2;
+            } else if ((b & 0xF8) == 0xF0) {
+                codePoint = b & 0x07;
+                count = 3;
+            } else {
+                return -1;
+            }
+            if (i + count >= end) {
+                return -1;
+            }
+            for (int k = 1; k <= count; k++) {
+                int continuation = bytes[i + k];
+                if ((continuation & 0xC0) != 0x80) {
+                    return -1;
+                }
+                codePoint = codePoint << 6 | continuation & 0x3F;
+            }
+            if (codePoint < MIN_CODE_POINT[count] || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+                return -1;
+            }
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                hash = 31 * hash + codePoint;
+            } else {
+                hash = 31 * hash + Character.highSurrogate(codePoint);
+                hash = 31 * hash + Character.lowSurrogate(codePoint);
+            }
+            i += count + 1;
+        }
+        return hash & 0xFFFF_FFFFL;
+    }
+
+    /** Smallest code point each continuation count may encode; anything lower is overlong. */
+    private static final int[] MIN_CODE_POINT = {0, 0x80, 0x800, 0x10000};
+
+    /** Compares a String with well-formed UTF-8 without decoding the bytes into a new String. */
+    static boolean utf8Equals(String text, byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        int c = 0;
+        int chars = text.length();
+        while (i < end) {
+            int b = bytes[i];
+            if (b >= 0) {
+                if (c >= chars || text.charAt(c++) != b) {
+                    return false;
+                }
+                i++;
+                continue;
+            }
+            int count = (b & 0xE0) == 0xC0 ? 1 : (b & 0xF0) == 0xE0 ? 2 : 3;
+            int codePoint = b & (0x3F >> count);
+            for (int k = 1; k <= count; k++) {
+                codePoint = codePoint << 6 | bytes[i + k] & 0x3F;
+            }
+            i += count + 1;
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                if (c >= chars || text.charAt(c++) != codePoint) {
+                    return false;
+                }
+            } else if (c + 1 >= chars || text.charAt(c++) != Character.highSurrogate(codePoint)
+                || text.charAt(c++) != Character.lowSurrogate(codePoint)) {
+                return false;
+            }
+        }
+        return c == chars;
+    }
+
+    // ========== Demos ==========
+
+    private static void interningDemo() {
+        System.out.println("--- Interning ---");
+
+        WeakInterner interner = new WeakInterner(1_024);
+        String first = new String("alice@example.com");
+        String second = new String("alice@example.com");
+        System.out.println("Distinct instances before: " + (first != second));
+        System.out.println("Same instance after      : " + (interner.intern(first) == interner.intern(second)));
+
+        byte[] input = "id=7,name=Zoë Müller,email=alice@example.com".getBytes(StandardCharsets.UTF_8);
+        int emailAt = indexOf(input, "email=") + "email=".length();
+        String fromBytes = interner.intern(input, emailAt, input.length - emailAt);
+        System.out.println("From UTF-8 bytes, same instance as the String path: " + (fromBytes == first));
+        int nameAt = indexOf(input, "name=") + "name=".length();
+        int nameEnd = indexOf(input, ",email");
+        String name = interner.intern(input, nameAt, nameEnd - nameAt);
+        System.out.println("Non-ASCII name interned from bytes: " + name.length() + " chars, "
+            + (nameEnd - nameAt) + " bytes, hash matches String.hashCode: "
+            + (utf8HashCode(input, nameAt, nameEnd - nameAt) == (name.hashCode() & 0xFFFF_FFFFL))
+            + ", second lookup hits: " + (interner.intern(input, nameAt, nameEnd - nameAt) == name));
+        System.out.println("Stats: " + interner.stats());
+
+        System.out.println();
+    }
+
+    private static void boundedAndWeakDemo() {
+        System.out.println("--- Bounded and Weak ---");
+
+        WeakInterner interner = new WeakInterner(4_096);
+        Map<String, String> unbounded = new ConcurrentHashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            String key = "session-" + i;
+            interner.intern(key);
+            unbounded.putIfAbsent(key, key);
+        }
+        System.out.println(String.format("After 200,000 distinct keys: interner table %,d slots (%,d evictions), "
+            + "ConcurrentHashMap interner %,d entries", interner.capacity(), interner.stats().evictions(), unbounded.size()));
+        unbounded.clear();
+
+        WeakInterner weak = new WeakInterner(4_096);
+        List<String> holders = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            holders.add(weak.intern("tenant-" + i));
+        }
+        int before = weak.liveEntries();
+        holders.subList(0, 1_500).clear();
+        System.gc();
+        int after = weak.liveEntries();
+        InternerStats beforeReintern = weak.stats();
+        for (int i = 0; i < 2_000; i++) {
+            weak.intern("tenant-" + i);
+        }
+        Reference.reachabilityFence(holders);
+        InternerStats afterReintern = weak.stats();
+        System.out.println("Live entries with 2,000 strings referenced: " + before + ", after dropping 1,500 and a GC: "
+            + after + " (the interner never kept them alive)");
+        System.out.println("Re-interning all 2,000: " + (afterReintern.hits() - beforeReintern.hits())
+            + " hits on the held strings, " + (afterReintern.reclaimed() - beforeReintern.reclaimed())
+            + " cleared slots reused; " + afterReintern);
+        System.out.println("String.intern() has one JVM-wide table, sized by -XX:StringTableSize at startup only");
+
+        System.out.println();
+    }
+
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Carol", "Dave", "Eve", "Frank", "Grace", "Heidi",
+        "Ivan", "Judy", "José", "Zoë", "Mallory", "Niaj", "Olivia", "Peggy", "Rupert", "Sybil", "Trent", "Victor"};
+    private static final String[] LAST_NAMES = {"Smith", "Jones", "Müller", "García", "Chen", "Nakamura", "Okafor",
+        "Rossi", "Novak", "Silva", "Kowalski", "Andersen", "Dubois", "Ivanova", "Kim", "Patel", "Byrne", "Costa",
+        "Fischer", "Lund", "Meyer", "Santos", "Tanaka", "Wójcik", "Young"};
+
+    private static void heapSavingsDemo() {
+        System.out.println("--- Heap Saved Ingesting User Records ---");
+
+        int records = 200_000;
+        int distinctUsers = 5_000;
+        byte[] input = userCsv(records, distinctUsers);
+        System.out.println(String.format("Input: %,d CSV records for %,d distinct users, %.1f MB of UTF-8",
+            records, distinctUsers, input.length / 1e6));
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long baseline = usedHeapAfterGc(memory);
+        List<User> plain = ingest(input, null);
+        long plainHeap = usedHeapAfterGc(memory) - baseline;
+        long plainStrings = retainedStringBytes(plain);
+        plain = null;
+
+        baseline = usedHeapAfterGc(memory);
+        WeakInterner interner = new WeakInterner(16_384);
+        List<User> interned = ingest(input, interner);
+        long internedHeap = usedHeapAfterGc(memory) - baseline;
+        long internedStrings = retainedStringBytes(interned);
+
+        System.out.println(String.format("  %-34s %14s %14s", "", "name+email", "heap after GC"));
+        System.out.println(String.format("  %-34s %11.1f MB %11.1f MB", "new String per field", plainStrings / 1e6,
+            plainHeap / 1e6));
+        System.out.println(String.format("  %-34s %11.1f MB %11.1f MB", "WeakInterner.intern(bytes, ...)",
+            internedStrings / 1e6, internedHeap / 1e6));
+        System.out.println(String.format("Strings retained shrink %.0fx; the measured heap also holds the %,d User "
+            + "objects and ids, which interning cannot share.", (double) plainStrings / internedStrings, interned.size()));
+        System.out.println("Interner: " + interner.stats());
+        System.out.println("String sizes assume compressed oops: 24-byte String + 16-byte array header, 8-byte aligned.");
+
+        System.out.println();
+    }
+
+    /** Parses "id,name,email,age" lines; names and emails go through the interner when one is given. */
+    private static List<User> ingest(byte[] input, WeakInterner interner) {
+        List<User> users = new ArrayList<>();
+        int[] commas = new int[3];
+        int lineStart = 0;
+        for (int i = 0; i < input.length; i++) {
+            if (input[i] != '\n') {
+                continue;
+            }
+            int found = 0;
+            for (int j = lineStart; j < i && found < 3; j++) {
+                if (input[j] == ',') {
+                    commas[found++] = j;
+                }
+            }
+            String id = new String(input, lineStart, commas[0] - lineStart, StandardCharsets.UTF_8);
+            String name = field(input, commas[0] + 1, commas[1], interner);
+            String email = field(input, commas[1] + 1, commas[2], interner);
+            int age = 0;
+            for (int j = commas[2] + 1; j < i; j++) {
+                age = age * 10 + (input[j] - '0');
+            }
+            users.add(new User(id, name, email, age));
+            lineStart = i + 1;
+        }
+        return users;
+    }
+
+    private static String field(byte[] input, int start, int end, WeakInterner interner) {
+        return interner == null
+            ? new String(input, start, end - start, StandardCharsets.UTF_8)
+            : interner.intern(input, start, end - start);
+    }
+
+    private static byte[] userCsv(int records, int distinctUsers) {
+        StringBuilder csv = new StringBuilder(records * 48);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < records; i++) {
+            // Skewed like real traffic: a few users produce most of the records
+            int user = (int) (distinctUsers * Math.pow(random.nextDouble(), 3));
+            String first = FIRST_NAMES[user % FIRST_NAMES.length];
+            String last = LAST_NAMES[user / FIRST_NAMES.length % LAST_NAMES.length];
+            csv.append(i).append(',').append(first).append(' ').append(last).append(',')
+                .append(first.toLowerCase(Locale.ROOT)).append('.').append(user).append("@example.com,")
+                .append(18 + user % 60).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Sums the estimated size of each distinct name and email String instance, counted by identity. */
+    private static long retainedStringBytes(List<User> users) {
+        Set<String> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0;
+        for (User user : users) {
+            for (String text : new String[]{user.name(), user.email()}) {
+                if (seen.add(text)) {
+                    boolean latin1 = text.chars().allMatch(c -> c <= 0xFF);
+                    bytes += 24 + ((16 + (long) text.length() * (latin1 ? 1 : 2) + 7) & ~7L);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        System.gc();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    // ========== Benchmark ==========
+
+    private static void internBenchmark() {
+        System.out.println("--- Benchmark: Deduplicating Fields from Byte Input (95% repeats) ---");
+
+        int operations = 500_000;
+        byte[][] fields = new byte[4_000][];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = (FIRST_NAMES[i % FIRST_NAMES.length].toLowerCase(Locale.ROOT) + "." + i + "@example.com")
+                .getBytes(StandardCharsets.UTF_8);
+        }
+        int[] order = new int[operations];
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < operations; i++) {
+            order[i] = i % 20 == 0 ? random.nextInt(fields.length) : random.nextInt(fields.length / 20);
+        }
+
+        System.out.println(String.format("  %-44s %8s %10s", "approach", "ns/op", "bytes/op"));
+        measure("new String (no deduplication)", operations, () -> {
+            long sum = 0;
+            for (int index : order) {
+                sum += new String(fields[index], StandardCharsets.UTF_8).length();
+            }
+            return sum;
+        });
+        measure("new String + String.intern()", operations, () -> {
+            long sum = 0;
+            for (int index : order) {
+                sum += new String(fields[index], StandardCharsets.UTF_8).intern().length();
+            }
+            return sum;
+        });
+        Map<String, String> map = new ConcurrentHashMap<>();
+        measure("new String + ConcurrentHashMap (unbounded)", operations, () -> {
+            long sum = 0;
+            for (int index : order) {
+                String value = new String(fields[index], StandardCharsets.UTF_8);
+                String previous = map.putIfAbsent(value, value);
+                sum += (previous == null ? value : previous).length();
+            }
+            return sum;
+        });
+        WeakInterner stringInterner = new WeakInterner(8_192);
+        measure("new String + WeakInterner.intern(String)", operations, () -> {
+            long sum = 0;
+            for (int index : order) {
+                sum += stringInterner.intern(new String(fields[index], StandardCharsets.UTF_8)).length();
+            }
+            return sum;
+        });
+        WeakInterner byteInterner = new WeakInterner(8_192);
+        measure("WeakInterner.intern(bytes, ...)", operations, () -> {
+            long sum = 0;
+            for (int index : order) {
+                byte[] field = fields[index];
+                sum += byteInterner.intern(field, 0, field.length).length();
+            }
+            return sum;
+        });
+        System.out.println("Bytes path: " + byteInterner.stats());
+        System.out.println("Single-threaded timings; the table is lock-free, so concurrent ingestion threads do not");
+        System.out.println("contend on a lock, only on the cache lines of the slots they write.");
+
+        System.out.println();
+    }
+
+    private static void measure(String name, int operations, LongSupplier body) {
+        ShowcaseSupport.Timing timing = ShowcaseSupport.time(3, body);
+        System.out.println(String.format("  %-44s %8.1f %10.1f", name, (double) timing.bestNanos() / operations,
+            (double) timing.bestBytes() / operations));
+    }
+
+    // ========== Helper Methods ==========
+
+    private static int indexOf(byte[] bytes, String ascii) {
+        outer:
+        for (int i = 0; i + ascii.length() <= bytes.length; i++) {
+            for (int k = 0; k < ascii.length(); k++) {
+                if (bytes[i + k] != ascii.charAt(k)) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,593 @@
+package com.example.demo.showcase;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Demonstrates counters and accumulators that stay fast under contention
+ * Including contention-adaptive striping (the LongAdder technique), a striped max accumulator,
+ * per-thread sharded histograms, cheap approximate reads and a 1-64 thread contention benchmark
+ * against the synchronized Counter and AtomicInteger from ConcurrencyShowcase
+ */
+public class StripedCountersShowcase {
+
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+    public static void demonstrate() {
+        System.out.println("\n========== STRIPED COUNTERS SHOWCASE ==========\n");
+
+        stripedCounterDemo();
+        accumulatorDemo();
+        shardedHistogramDemo();
+        approximateReadDemo();
+        contentionBenchmark();
+    }
+
+    // ========== Striped Accumulator ==========
+
+    /**
+     * Padding on both sides of the value keeps each cell on its own cache line, so threads
+     * updating neighbouring cells do not invalidate each other (false sharing). Superclass
+     * fields are laid out before subclass fields, which is what keeps the padding in place.
+     */
+    static class CellPadLeft {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    static class CellValue extends CellPadLeft {
+        volatile long value;
+    }
+
+    static final class Cell extends CellValue {
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        Cell(long initial) {
+            value = initial;
+        }
+    }
+
+    /**
+     * Long accumulator that starts as a single CAS-updated field and splits into padded cells
+     * only when a CAS fails, doubling the cell count on further contention up to a few times the
+     * CPU count. Uncontended it costs one CAS; contended, threads mostly hit distinct cells.
+     * The operator must be associative and commutative (sum, max, min, bitwise or).
+     */
+    static class StripedLongAccumulator {
+        private static final VarHandle BASE;
+        private static final VarHandle CELL_VALUE;
+        private static final VarHandle RESIZING;
+        static final int MAX_CELLS = Integer.highestOneBit(Math.max(1, NCPU) * 4 - 1) << 1;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                BASE = lookup.findVarHandle(StripedLongAccumulator.class, "base", long.class);
+                RESIZING = lookup.findVarHandle(StripedLongAccumulator.class, "resizing", int.class);
+                CELL_VALUE = lookup.findVarHandle(CellValue.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final LongBinaryOperator operator;
+        private final long identity;
+        private volatile long base;
+        private volatile Cell[] cells;
+        private volatile int resizing;
+        private volatile long cachedValue;
+        private volatile long cachedAtNanos;
+
+        StripedLongAccumulator(LongBinaryOperator operator, long identity) {
+            this.operator = operator;
+            this.identity = identity;
+            this.base = identity;
+            this.cachedValue = identity;
+            // System.nanoTime() here so that only accumulators read approximately start the CoarseClock ticker
+            this.cachedAtNanos = System.nanoTime();
+        }
+
+        void accumulate(long x) {
+            Cell[] cs = cells;
+            if (cs == null) {
+                long b = base;
+                if (BASE.compareAndSet(this, b, operator.applyAsLong(b, x))) {
+                    return;
+                }
+                cs = grow(null);
+            }
+            int probe = probe();
+            Cell cell = cs[probe & (cs.length - 1)];
+            long v = cell.value;
+            if (CELL_VALUE.compareAndSet(cell, v, operator.applyAsLong(v, x))) {
+                return;
+            }
+            // Two threads share this cell: widen the table (if allowed) and retry elsewhere; the probe
+            // moves after every failed CAS, so two threads that collide do not keep colliding
+            if (cs.length < MAX_CELLS) {
+                cs = grow(cs);
+            }
+            while (true) {
+                probe = advanceProbe();
+                cell = cs[probe & (cs.length - 1)];
+                v = cell.value;
+                if (CELL_VALUE.compareAndSet(cell, v, operator.applyAsLong(v, x))) {
+                    return;
+                }
+                Thread.onSpinWait();
+                cs = cells;
+            }
+        }
+
+        /** Folds base and all cells; exact when quiescent, a moving snapshot under concurrent updates. */
+        long get() {
+            long result = base;
+            Cell[] cs = cells;
+            if (cs != null) {
+                for (Cell cell : cs) {
+                    result = operator.applyAsLong(result, cell.value);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns a cached fold refreshed at most once per {@code maxStalenessNanos}. For dashboards
+         * and rate limiters polled from many threads, this avoids every reader walking every cell.
+         * Staleness is judged against {@link CoarseClock}, so a read is a few volatile loads.
+         */
+        long getApproximate(long maxStalenessNanos) {
+            long now = CoarseClock.nanoTime();
+            if (now - cachedAtNanos > maxStalenessNanos) {
+                cachedValue = get();
+                cachedAtNanos = now;
+            }
+            return cachedValue;
+        }
+
+        int cellCount() {
+            Cell[] cs = cells;
+            return cs == null ? 0 : cs.length;
+        }
+
+        private Cell[] grow(Cell[] expected) {
+            if (RESIZING.compareAndSet(this, 0, 1)) {
+                try {
+                    Cell[] current = cells;
+                    if (current == expected) {
+                        int newSize = current == null ? 2 : current.length * 2;
+                        Cell[] grown = new Cell[newSize];
+                        int kept = current == null ? 0 : current.length;
+                        if (current != null) {
+                            // Keep the existing cells so no concurrent update is lost
+                            System.arraycopy(current, 0, grown, 0, kept);
+                        }
+                        for (int i = kept; i < newSize; i++) {
+                            grown[i] = new Cell(identity);
+                        }
+                        cells = grown;
+                    }
+                } finally {
+                    resizing = 0;
+                }
+            }
+            Cell[] cs;
+            while ((cs = cells) == null) {
+                Thread.onSpinWait();
+            }
+            return cs;
+        }
+    }
+
+    /**
+     * Millisecond-resolution clock published by a daemon thread. Reading it is two volatile loads,
+     * far cheaper than System.nanoTime() on virtualised hosts without a fast clock source. The
+     * ticker starts on the first read and runs until {@link #stop()}; a later read restarts it.
+     */
+    static final class CoarseClock {
+        private static final long TICK_NANOS = 1_000_000;
+        private static volatile long now = System.nanoTime();
+        private static volatile Thread ticker;
+
+        private CoarseClock() {
+        }
+
+        static long nanoTime() {
+            if (ticker == null) {
+                start();
+            }
+            return now;
+        }
+
+        private static synchronized void start() {
+            if (ticker == null) {
+                now = System.nanoTime();
+                ticker = Thread.ofPlatform().name("coarse-clock").daemon().start(() -> {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        LockSupport.parkNanos(TICK_NANOS);
+                        now = System.nanoTime();
+                    }
+                });
+            }
+        }
+
+        static synchronized void stop() {
+            Thread current = ticker;
+            if (current != null) {
+                ticker = null;
+                current.interrupt();
+            }
+        }
+    }
+
+    /** Sum-specialised accumulator: the drop-in replacement for a synchronized or atomic counter. */
+    static final class StripedCounter extends StripedLongAccumulator {
+        StripedCounter() {
+            super(Long::sum, 0L);
+        }
+
+        void increment() {
+            accumulate(1L);
+        }
+
+        void add(long delta) {
+            accumulate(delta);
+        }
+
+        long sum() {
+            return get();
+        }
+
+        long sumApproximate(long maxStalenessNanos) {
+            return getApproximate(maxStalenessNanos);
+        }
+    }
+
+    /** Per-thread probe, seeded from the thread id; works for platform and virtual threads. */
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> {
+        long z = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 32)) * 0xD6E8FEB86659FD93L;
+        int seed = (int) (z ^ (z >>> 32));
+        return new int[]{seed == 0 ? 1 : seed};
+    });
+
+    /** Per-thread hash used to pick a cell or shard; stable until {@link #advanceProbe()}. */
+    static int probe() {
+        return PROBE.get()[0];
+    }
+
+    /** Rehashes the caller's probe after a failed CAS (xorshift, as Striped64 does) and returns it. */
+    static int advanceProbe() {
+        int[] holder = PROBE.get();
+        int probe = holder[0];
+        probe ^= probe << 13;
+        probe ^= probe >>> 17;
+        probe ^= probe << 5;
+        holder[0] = probe;
+        return probe;
+    }
+
+    private static void stripedCounterDemo() {
+        System.out.println("--- Contention-Adaptive Striped Counter ---");
+
+        StripedCounter single = new StripedCounter();
+        for (int i = 0; i < 1_000; i++) {
+            single.increment();
+        }
+        System.out.println("Single thread: sum=" + single.sum() + ", cells=" + single.cellCount()
+            + " (no contention, stays a single field)");
+
+        StripedCounter contended = new StripedCounter();
+        int threads = 8;
+        int perThread = 200_000;
+        runConcurrently(threads, () -> {
+            for (int i = 0; i < perThread; i++) {
+                contended.increment();
+            }
+        });
+        System.out.println(threads + " threads: sum=" + contended.sum() + " (expected " + threads * perThread
+            + "), cells=" + contended.cellCount() + " (max " + StripedLongAccumulator.MAX_CELLS + ")");
+
+        System.out.println();
+    }
+
+    private static void accumulatorDemo() {
+        System.out.println("--- Striped Max Accumulator ---");
+
+        StripedLongAccumulator max = new StripedLongAccumulator(Math::max, Long.MIN_VALUE);
+        AtomicLong expected = new AtomicLong(Long.MIN_VALUE);
+        runConcurrently(4, () -> {
+            SplittableRandom random = new SplittableRandom(probe());
+            long localMax = Long.MIN_VALUE;
+            for (int i = 0; i < 100_000; i++) {
+                long value = random.nextLong(1_000_000_000L);
+                max.accumulate(value);
+                localMax = Math.max(localMax, value);
+            }
+            expected.accumulateAndGet(localMax, Math::max);
+        });
+        System.out.println("Max of 400,000 random values: " + max.get() + " (expected " + expected.get() + ")");
+
+        System.out.println();
+    }
+
+    // ========== Sharded Histogram ==========
+
+    /**
+     * Log-linear histogram (8 sub-buckets per power of two, max 12.5% relative error) split into
+     * shards selected by thread. Recording touches only the caller's shard; reads merge all shards.
+     * Shards are still updated atomically because two threads may hash to the same one.
+     */
+    static final class ShardedHistogram {
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+        private static final int BUCKETS = LINEAR_LIMIT + (62 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+        private static final int SUM_SLOT = BUCKETS;
+        private static final int MAX_SLOT = BUCKETS + 1;
+        private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(long[].class);
+
+        private final long[][] shards;
+
+        ShardedHistogram() {
+            int shardCount = Integer.highestOneBit(Math.max(1, NCPU) * 2 - 1) << 1;
+            shards = new long[shardCount][BUCKETS + 2];
+        }
+
+        void record(long value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Negative value: " + value);
+            }
+            long[] shard = shards[probe() & (shards.length - 1)];
+            SLOT.getAndAdd(shard, bucketIndex(value), 1L);
+            SLOT.getAndAdd(shard, SUM_SLOT, value);
+            long max;
+            while (value > (max = (long) SLOT.getVolatile(shard, MAX_SLOT))
+                && !SLOT.compareAndSet(shard, MAX_SLOT, max, value)) {
+                Thread.onSpinWait();
+            }
+        }
+
+        static int bucketIndex(long value) {
+            if (value < LINEAR_LIMIT) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + subBucket;
+        }
+
+        /** Upper bound of a bucket, reported as the percentile value (never under-reports). */
+        static long bucketUpperBound(int index) {
+            if (index < LINEAR_LIMIT) {
+                return index;
+            }
+            int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+            int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+            long lower = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+            return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+        }
+
+        Snapshot snapshot() {
+            long[] merged = new long[BUCKETS + 2];
+            for (long[] shard : shards) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    merged[i] += (long) SLOT.getVolatile(shard, i);
+                }
+                merged[SUM_SLOT] += (long) SLOT.getVolatile(shard, SUM_SLOT);
+                merged[MAX_SLOT] = Math.max(merged[MAX_SLOT], (long) SLOT.getVolatile(shard, MAX_SLOT));
+            }
+            return new Snapshot(merged);
+        }
+
+        record Snapshot(long[] counts) {
+            long count() {
+                long total = 0;
+                for (int i = 0; i < BUCKETS; i++) {
+                    total += counts[i];
+                }
+                return total;
+            }
+
+            double mean() {
+                long count = count();
+                return count == 0 ? 0 : (double) counts[SUM_SLOT] / count;
+            }
+
+            long max() {
+                return counts[MAX_SLOT];
+            }
+
+            long valueAtPercentile(double percentile) {
+                long target = Math.max(1, (long) Math.ceil(count() * percentile / 100.0));
+                long seen = 0;
+                for (int i = 0; i < BUCKETS; i++) {
+                    seen += counts[i];
+                    if (seen >= target) {
+                        return Math.min(bucketUpperBound(i), max());
+                    }
+                }
+                return max();
+            }
+        }
+    }
+
+    private static void shardedHistogramDemo() {
+        System.out.println("--- Per-Thread Sharded Histogram ---");
+
+        ShardedHistogram histogram = new ShardedHistogram();
+        int threads = 4;
+        int perThread = 250_000;
+        long[][] recorded = new long[threads][perThread];
+        AtomicInteger nextThread = new AtomicInteger();
+        runConcurrently(threads, () -> {
+            long[] mine = recorded[nextThread.getAndIncrement()];
+            SplittableRandom random = new SplittableRandom(probe());
+            for (int i = 0; i < perThread; i++) {
+                // Latency-like distribution: mostly ~100-200 μs, with a long tail
+                long value = random.nextInt(100) < 99
+                    ? 100_000 + random.nextLong(100_000)
+                    : 1_000_000 + random.nextLong(50_000_000);
+                mine[i] = value;
+                histogram.record(value);
+            }
+        });
+
+        long[] all = Arrays.stream(recorded).flatMapToLong(Arrays::stream).sorted().toArray();
+        ShardedHistogram.Snapshot snapshot = histogram.snapshot();
+        System.out.println("Recorded " + snapshot.count() + " values across " + threads + " threads");
+        System.out.println(String.format("  %-6s %14s %14s", "", "histogram (ns)", "exact (ns)"));
+        for (double p : new double[]{50, 90, 99, 99.9}) {
+            long exact = all[(int) Math.ceil(all.length * p / 100.0) - 1];
+            System.out.println(String.format("  p%-5s %14d %14d", p, snapshot.valueAtPercentile(p), exact));
+        }
+        System.out.println(String.format("  %-6s %14.0f %14.0f", "mean", snapshot.mean(),
+            Arrays.stream(all).average().orElse(0)));
+        System.out.println(String.format("  %-6s %14d %14d", "max", snapshot.max(), all[all.length - 1]));
+        System.out.println("Percentiles are bucket upper bounds: within 12.5% and never below the exact value");
+
+        System.out.println();
+    }
+
+    // ========== Approximate Reads ==========
+
+    private static void approximateReadDemo() {
+        System.out.println("--- Exact vs Approximate Reads Under Write Load ---");
+
+        StripedCounter counter = new StripedCounter();
+        int writers = 4;
+        int readsPerMode = 2_000_000;
+        for (String mode : new String[]{"exact sum()", "sumApproximate(1ms)"}) {
+            boolean approximate = mode.startsWith("sumApproximate");
+            CountDownLatch done = new CountDownLatch(1);
+            List<Thread> writerThreads = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                Thread writer = new Thread(() -> {
+                    while (done.getCount() > 0) {
+                        counter.increment();
+                    }
+                });
+                writer.start();
+                writerThreads.add(writer);
+            }
+            long sink = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < readsPerMode; i++) {
+                sink += approximate ? counter.sumApproximate(1_000_000) : counter.sum();
+            }
+            long elapsed = System.nanoTime() - start;
+            done.countDown();
+            joinAll(writerThreads);
+            System.out.println(String.format("  %-20s %6.1f ns/read (sink %d)", mode,
+                (double) elapsed / readsPerMode, sink & 1));
+        }
+        System.out.println("Approximate reads skip the cell walk; the gap widens with core count (more cells)");
+        CoarseClock.stop();
+        System.out.println("CoarseClock ticker stopped after the demo; the next approximate read restarts it");
+
+        System.out.println();
+    }
+
+    // ========== Benchmark ==========
+
+    private static void contentionBenchmark() {
+        System.out.println("--- Contention Benchmark (1-64 threads, 1M increments per run) ---");
+        System.out.println("Available processors: " + NCPU + " (above that, threads time-slice)");
+
+        int totalIncrements = 1_000_000;
+        int[] threadCounts = {1, 2, 4, 8, 16, 32, 64};
+        System.out.println(String.format("%8s %14s %14s %14s %14s", "threads",
+            "synchronized", "AtomicInteger", "LongAdder", "StripedCounter"));
+
+        for (int threads : threadCounts) {
+            int perThread = totalIncrements / threads;
+            long expected = (long) perThread * threads;
+
+            ConcurrencyShowcase.Counter syncCounter = new ConcurrencyShowcase.Counter();
+            long syncTime = timeConcurrently(threads, () -> {
+                for (int i = 0; i < perThread; i++) {
+                    syncCounter.increment();
+                }
+            });
+
+            AtomicInteger atomic = new AtomicInteger();
+            long atomicTime = timeConcurrently(threads, () -> {
+                for (int i = 0; i < perThread; i++) {
+                    atomic.incrementAndGet();
+                }
+            });
+
+            LongAdder adder = new LongAdder();
+            long adderTime = timeConcurrently(threads, () -> {
+                for (int i = 0; i < perThread; i++) {
+                    adder.increment();
+                }
+            });
+
+            StripedCounter striped = new StripedCounter();
+            long stripedTime = timeConcurrently(threads, () -> {
+                for (int i = 0; i < perThread; i++) {
+                    striped.increment();
+                }
+            });
+
+            boolean correct = syncCounter.getCount() == expected && atomic.get() == expected
+                && adder.sum() == expected && striped.sum() == expected;
+            System.out.println(String.format("%8d %11.1f ns %11.1f ns %11.1f ns %11.1f ns%s", threads,
+                (double) syncTime / expected, (double) atomicTime / expected,
+                (double) adderTime / expected, (double) stripedTime / expected,
+                correct ? "" : "  (COUNT MISMATCH)"));
+        }
+        System.out.println("ns per increment, wall clock; striping keeps per-op cost flat as threads grow");
+
+        System.out.println();
+    }
+
+    // ========== Helper Methods ==========
+
+    private static long timeConcurrently(int threads, Runnable body) {
+        long start = System.nanoTime();
+        runConcurrently(threads, body);
+        return System.nanoTime() - start;
+    }
+
+    private static void runConcurrently(int threads, Runnable body) {
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    startGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                body.run();
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        startGate.countDown();
+        joinAll(workers);
+    }
+
+    private static void joinAll(List<Thread> threads) {
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
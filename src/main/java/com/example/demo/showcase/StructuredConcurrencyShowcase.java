@@ -0,0 +1,351 @@
+package com.example.demo.showcase;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Demonstrates structured fan-out/fan-in on StructuredTaskScope (preview) with virtual threads
+ * Including all-success and first-success policies, a quorum policy, deadline propagation to
+ * nested scopes, cancellation of siblings on failure and a benchmark against CompletionService
+ *
+ * Requires --enable-preview at compile time and at runtime.
+ */
+public class StructuredConcurrencyShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== STRUCTURED CONCURRENCY SHOWCASE ==========\n");
+
+        try {
+            allSuccessDemo();
+            firstSuccessDemo();
+            quorumDemo();
+            cancellationDemo();
+            deadlinePropagationDemo();
+            completionServiceBenchmark();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== Fan-Out API ==========
+
+    /**
+     * Scoped fan-out/fan-in helpers. Every call opens a scope, forks one virtual thread per task
+     * and does not return until all of them have finished or been cancelled, so no task outlives
+     * its caller and there is no executor to shut down.
+     *
+     * The deadline is carried in a ScopedValue that forked subtasks inherit: a nested fan-out
+     * never waits longer than its enclosing one, without passing timeouts through every method.
+     */
+    static final class FanOut {
+        static final ScopedValue<Instant> DEADLINE = ScopedValue.newInstance();
+
+        private FanOut() {
+        }
+
+        /** Runs all tasks; fails as soon as one fails, cancelling the rest. */
+        static <T> List<T> all(Duration timeout, List<? extends Callable<? extends T>> tasks)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            Instant deadline = effectiveDeadline(timeout);
+            try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+                List<Subtask<? extends T>> subtasks = new ArrayList<>(tasks.size());
+                for (Callable<? extends T> task : tasks) {
+                    subtasks.add(scope.fork(withDeadline(deadline, task)));
+                }
+                scope.joinUntil(deadline);
+                scope.throwIfFailed();
+                List<T> results = new ArrayList<>(subtasks.size());
+                for (Subtask<? extends T> subtask : subtasks) {
+                    results.add(subtask.get());
+                }
+                return results;
+            }
+        }
+
+        /** Returns the first successful result, cancelling the rest; fails only if all fail. */
+        static <T> T any(Duration timeout, List<? extends Callable<? extends T>> tasks)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            Instant deadline = effectiveDeadline(timeout);
+            try (var scope = new StructuredTaskScope.ShutdownOnSuccess<T>()) {
+                for (Callable<? extends T> task : tasks) {
+                    scope.fork(withDeadline(deadline, task));
+                }
+                scope.joinUntil(deadline);
+                return scope.result();
+            }
+        }
+
+        /** Returns as soon as {@code required} tasks succeeded, cancelling the stragglers. */
+        static <T> List<T> quorum(int required, Duration timeout, List<? extends Callable<? extends T>> tasks)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            if (required < 1 || required > tasks.size()) {
+                throw new IllegalArgumentException("Quorum " + required + " of " + tasks.size() + " tasks");
+            }
+            Instant deadline = effectiveDeadline(timeout);
+            try (var scope = new QuorumScope<T>(required, tasks.size())) {
+                for (Callable<? extends T> task : tasks) {
+                    scope.fork(withDeadline(deadline, task));
+                }
+                scope.joinUntil(deadline);
+                return scope.results();
+            }
+        }
+
+        /** Time left before the innermost enclosing deadline, or the full timeout outside any scope. */
+        static Duration remaining(Duration timeout) {
+            return Duration.between(Instant.now(), effectiveDeadline(timeout));
+        }
+
+        private static Instant effectiveDeadline(Duration timeout) {
+            Instant own = Instant.now().plus(timeout);
+            if (DEADLINE.isBound() && DEADLINE.get().isBefore(own)) {
+                return DEADLINE.get();
+            }
+            return own;
+        }
+
+        private static <T> Callable<T> withDeadline(Instant deadline, Callable<T> task) {
+            return () -> ScopedValue.where(DEADLINE, deadline).call(task);
+        }
+    }
+
+    /**
+     * Custom policy: shut down once enough subtasks succeeded, or once so many failed that the
+     * quorum is unreachable. Shows the extension point the built-in policies are written against.
+     */
+    static final class QuorumScope<T> extends StructuredTaskScope<T> {
+        private final int required;
+        private final int total;
+        private final List<T> successes = new CopyOnWriteArrayList<>();
+        private final List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        QuorumScope(int required, int total) {
+            this.required = required;
+            this.total = total;
+        }
+
+        @Override
+        protected void handleComplete(Subtask<? extends T> subtask) {
+            switch (subtask.state()) {
+                case SUCCESS -> successes.add(subtask.get());
+                case FAILED -> failures.add(subtask.exception());
+                case UNAVAILABLE -> { }
+            }
+            if (successes.size() >= required || failures.size() > total - required) {
+                shutdown();
+            }
+        }
+
+        List<T> results() throws ExecutionException {
+            ensureOwnerAndJoined();
+            if (successes.size() < required) {
+                ExecutionException failure = new ExecutionException(
+                    "Quorum not reached: " + successes.size() + "/" + required, null);
+                failures.forEach(failure::addSuppressed);
+                throw failure;
+            }
+            return List.copyOf(successes.subList(0, required));
+        }
+    }
+
+    // ========== Policies ==========
+
+    private static void allSuccessDemo() throws InterruptedException {
+        System.out.println("--- All-Success Fan-Out ---");
+        System.out.println("Replaces submit() + Future.get() one at a time + manual shutdown");
+
+        try {
+            long start = System.nanoTime();
+            List<String> profile = FanOut.all(Duration.ofSeconds(1), List.of(
+                () -> simulatedCall("user", 80),
+                () -> simulatedCall("orders", 120),
+                () -> simulatedCall("recommendations", 100)
+            ));
+            System.out.println("Results: " + profile);
+            System.out.println("Elapsed: " + millisSince(start) + " ms (slowest call, not the sum)");
+        } catch (ExecutionException | TimeoutException e) {
+            System.out.println("Failed: " + e);
+        }
+
+        System.out.println();
+    }
+
+    private static void firstSuccessDemo() throws InterruptedException {
+        System.out.println("--- First-Success (Hedged Requests) ---");
+
+        try {
+            long start = System.nanoTime();
+            String replica = FanOut.any(Duration.ofSeconds(1), List.<Callable<String>>of(
+                () -> simulatedCall("replica-eu", 150),
+                () -> { throw new IllegalStateException("replica-us unavailable"); },
+                () -> simulatedCall("replica-ap", 60)
+            ));
+            System.out.println("Winner: " + replica + " after " + millisSince(start) + " ms (failures ignored)");
+        } catch (ExecutionException | TimeoutException e) {
+            System.out.println("Failed: " + e);
+        }
+
+        System.out.println();
+    }
+
+    private static void quorumDemo() throws InterruptedException {
+        System.out.println("--- Quorum (2 of 3 Acknowledgements) ---");
+
+        try {
+            long start = System.nanoTime();
+            List<String> acks = FanOut.quorum(2, Duration.ofSeconds(1), List.of(
+                () -> simulatedCall("ack-node-1", 40),
+                () -> simulatedCall("ack-node-2", 500),
+                () -> simulatedCall("ack-node-3", 70)
+            ));
+            System.out.println("Acks: " + acks + " after " + millisSince(start) + " ms (slow node cancelled)");
+        } catch (ExecutionException | TimeoutException e) {
+            System.out.println("Failed: " + e);
+        }
+
+        System.out.println();
+    }
+
+    private static void cancellationDemo() throws InterruptedException {
+        System.out.println("--- Cancellation of Siblings on Failure ---");
+
+        AtomicInteger interrupted = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int id = i;
+            tasks.add(() -> {
+                try {
+                    Thread.sleep(500);
+                    completed.incrementAndGet();
+                    return id;
+                } catch (InterruptedException e) {
+                    interrupted.incrementAndGet();
+                    throw e;
+                }
+            });
+        }
+        tasks.add(() -> {
+            Thread.sleep(50);
+            throw new IllegalStateException("inventory service returned 500");
+        });
+
+        long start = System.nanoTime();
+        try {
+            FanOut.all(Duration.ofSeconds(2), tasks);
+        } catch (ExecutionException e) {
+            System.out.println("Failed fast after " + millisSince(start) + " ms: " + e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            System.out.println("Timed out: " + e);
+        }
+        System.out.println("Siblings interrupted: " + interrupted.get() + ", completed anyway: " + completed.get());
+        System.out.println("With an ExecutorService the other 5 would keep running until someone cancels them");
+
+        System.out.println();
+    }
+
+    private static void deadlinePropagationDemo() throws InterruptedException {
+        System.out.println("--- Deadline Propagation ---");
+
+        long start = System.nanoTime();
+        try {
+            FanOut.all(Duration.ofMillis(200), List.of(
+                () -> simulatedCall("pricing", 50),
+                () -> {
+                    // The nested fan-out asks for 5 s but inherits the 200 ms outer deadline
+                    System.out.println("  Nested scope sees " + FanOut.remaining(Duration.ofSeconds(5)).toMillis()
+                        + " ms remaining (asked for 5000)");
+                    return String.join(",", FanOut.all(Duration.ofSeconds(5), List.of(
+                        () -> simulatedCall("tax", 30),
+                        () -> simulatedCall("shipping-quote", 1_000)
+                    )));
+                }
+            ));
+            System.out.println("Completed (unexpected)");
+        } catch (TimeoutException e) {
+            System.out.println("Outer deadline hit after " + millisSince(start) + " ms; nested scope cancelled too");
+        } catch (ExecutionException e) {
+            System.out.println("Nested scope hit the inherited deadline after " + millisSince(start) + " ms: "
+                + e.getCause().getClass().getSimpleName());
+        }
+
+        System.out.println();
+    }
+
+    // ========== Benchmark ==========
+
+    private static void completionServiceBenchmark() throws InterruptedException {
+        System.out.println("--- Benchmark: 10,000 I/O-Style Tasks (10ms each) ---");
+
+        int taskCount = 10_000;
+        List<Callable<Integer>> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            int id = i;
+            tasks.add(() -> {
+                Thread.sleep(10);
+                return id;
+            });
+        }
+
+        // Warm up virtual-thread scheduling and both code paths on a small batch first
+        try {
+            FanOut.all(Duration.ofSeconds(5), tasks.subList(0, 1_000));
+        } catch (ExecutionException | TimeoutException e) {
+            System.out.println("Warm-up failed: " + e);
+        }
+
+        // Existing approach: bounded platform-thread pool + CompletionService, results taken one at a time
+        ExecutorService pool = Executors.newFixedThreadPool(200);
+        long start = System.nanoTime();
+        long completionSum = 0;
+        try {
+            CompletionService<Integer> completionService = new ExecutorCompletionService<>(pool);
+            for (Callable<Integer> task : tasks) {
+                completionService.submit(task);
+            }
+            for (int i = 0; i < taskCount; i++) {
+                completionSum += completionService.take().get();
+            }
+        } catch (ExecutionException e) {
+            System.out.println("CompletionService failed: " + e);
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        long completionTime = millisSince(start);
+
+        start = System.nanoTime();
+        long structuredSum = 0;
+        try {
+            for (int value : FanOut.all(Duration.ofSeconds(30), tasks)) {
+                structuredSum += value;
+            }
+        } catch (ExecutionException | TimeoutException e) {
+            System.out.println("Structured fan-out failed: " + e);
+        }
+        long structuredTime = millisSince(start);
+
+        System.out.println(String.format("CompletionService (200 platform threads): %5d ms", completionTime));
+        System.out.println(String.format("FanOut.all (one virtual thread per task):  %5d ms", structuredTime));
+        System.out.println("Sums agree: " + (completionSum == structuredSum));
+        System.out.println("The pool is capped at 200 in-flight calls; virtual threads park cheaply while sleeping");
+
+        System.out.println();
+    }
+
+    // ========== Helper Methods ==========
+
+    private static String simulatedCall(String name, long latencyMillis) throws InterruptedException {
+        Thread.sleep(latencyMillis);
+        return name;
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -448,11 +448,15 @@ public class ThreadPoolExecutorShowcase {
     // ========== Helper Methods ==========
 
     private static void waitForTermination(ExecutorService... executors) {
+        // One shared deadline, so the total wait is bounded by 5 seconds rather than 5 per executor
+        // (ExecutorDrainShowcase shows parallel shutdown with per-pool deadlines)
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
         for (ExecutorService executor : executors) {
             try {
-                executor.awaitTermination(5, TimeUnit.SECONDS);
+                executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
+                return;
             }
         }
     }
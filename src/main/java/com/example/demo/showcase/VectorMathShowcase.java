@@ -0,0 +1,733 @@
+package com.example.demo.showcase;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/**
+ * Demonstrates bulk math kernels over double[] and float[] with the incubating Vector API
+ * Including sin, cos, exp, log, pow, sqrt, fused dot products and Kahan-compensated sums,
+ * a scalar fallback chosen at runtime when jdk.incubator.vector is not in the boot layer,
+ * accuracy checks in ULPs against StrictMath and benchmarks against scalar Math loops
+ */
+public class VectorMathShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== VECTOR MATH SHOWCASE ==========\n");
+
+        MathKernels kernels = MathKernels.best();
+        kernelSelectionDemo(kernels);
+        bulkKernelDemo(kernels);
+        accuracyCheck(kernels);
+        summationAccuracyDemo(kernels);
+        kernelBenchmark(kernels);
+        reductionBenchmark(kernels);
+    }
+
+    // ========== Kernels ==========
+
+    enum UnaryKernel { SIN, COS, EXP, LOG, SQRT }
+
+    /**
+     * Array-at-a-time math. Unary kernels and pow write into a caller-supplied output array,
+     * which may be the input; reductions return a scalar. Dot products use fused multiply-add,
+     * and sums use Kahan compensation, so both may differ from a naive left-to-right loop in
+     * the last bits, in the direction of the exact result.
+     */
+    sealed interface MathKernels permits ScalarKernels, VectorKernels {
+
+        void apply(UnaryKernel kernel, double[] in, double[] out);
+
+        void apply(UnaryKernel kernel, float[] in, float[] out);
+
+        void pow(double[] base, double exponent, double[] out);
+
+        double dot(double[] a, double[] b);
+
+        float dot(float[] a, float[] b);
+
+        double sum(double[] values);
+
+        float sum(float[] values);
+
+        String description();
+
+        /**
+         * The Vector API implementation when jdk.incubator.vector was added to the boot layer
+         * (--add-modules jdk.incubator.vector) and the preferred species has at least two lanes,
+         * otherwise plain loops. VectorKernels is only loaded on the first branch, so running
+         * without the module never touches the incubator classes.
+         */
+        static MathKernels best() {
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent() && VectorKernels.worthwhile()) {
+                return new VectorKernels();
+            }
+            return ScalarKernels.INSTANCE;
+        }
+    }
+
+    /** Straight loops over Math, also used by VectorKernels for the tails after the last full vector. */
+    static final class ScalarKernels implements MathKernels {
+        static final ScalarKernels INSTANCE = new ScalarKernels();
+
+        private ScalarKernels() {
+        }
+
+        @Override
+        public void apply(UnaryKernel kernel, double[] in, double[] out) {
+            apply(kernel, in, out, 0, in.length);
+        }
+
+        static void apply(UnaryKernel kernel, double[] in, double[] out, int from, int to) {
+            switch (kernel) {
+                case SIN -> {
+                    for (int i = from; i < to; i++) {
+                        out[i] = Math.sin(in[i]);
+                    }
+                }
+                case COS -> {
+                    for (int i = from; i < to; i++) {
+                        out[i] = Math.cos(in[i]);
+                    }
+                }
+                case EXP -> {
+                    for (int i = from; i < to; i++) {
+                        out[i] = Math.exp(in[i]);
+                    }
+                }
+                case LOG -> {
+                    for (int i = from; i < to; i++) {
+                        out[i] = Math.log(in[i]);
+                    }
+                }
+                case SQRT -> {
+                    for (int i = from; i < to; i++) {
+                        out[i] = Math.sqrt(in[i]);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void apply(UnaryKernel kernel, float[] in, float[] out) {
+            apply(kernel, in, out, 0, in.length);
+        }
+
+        static void apply(UnaryKernel kernel, float[] in, float[] out, int from, int to) {
+            switch (kernel) {
+                case SIN -> {
+                    for (int i = from; i < to; i++) {
+                        out[i] = (float) Math.sin(in[i]);
+                    }
+                }
+                case COS -> {
+                    for (int i = from; i < to; i++) {
+                        out[i] = (float) Math.cos(in[i]);
+                    }
+                }
+                case EXP -> {
+                    for (int i = from; i < to; i++) {
+                        out[i] = (float) Math.exp(in[i]);
+                    }
+                }
+                case LOG -> {
+                    for (int i = from; i < to; i++) {
+                        out[i] = (float) Math.log(in[i]);
+                    }
+                }
+                case SQRT -> {
+                    for (int i = from; i < to; i++) {
+                        out[i] = (float) Math.sqrt(in[i]);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void pow(double[] base, double exponent, double[] out) {
+            for (int i = 0; i < base.length; i++) {
+                out[i] = Math.pow(base[i], exponent);
+            }
+        }
+
+        @Override
+        public double dot(double[] a, double[] b) {
+            double sum = 0;
+            for (int i = 0; i < a.length; i++) {
+                sum = Math.fma(a[i], b[i], sum);
+            }
+            return sum;
+        }
+
+        @Override
+        public float dot(float[] a, float[] b) {
+            float sum = 0;
+            for (int i = 0; i < a.length; i++) {
+                sum = Math.fma(a[i], b[i], sum);
+            }
+            return sum;
+        }
+
+        @Override
+        public double sum(double[] values) {
+            double sum = 0;
+            double compensation = 0;
+            for (double value : values) {
+                double y = value - compensation;
+                double t = sum + y;
+                compensation = (t - sum) - y;
+                sum = t;
+            }
+            return sum;
+        }
+
+        @Override
+        public float sum(float[] values) {
+            float sum = 0;
+            float compensation = 0;
+            for (float value : values) {
+                float y = value - compensation;
+                float t = sum + y;
+                compensation = (t - sum) - y;
+                sum = t;
+            }
+            return sum;
+        }
+
+        @Override
+        public String description() {
+            return "scalar loops over java.lang.Math";
+        }
+    }
+
+    /**
+     * Vector API kernels on the preferred species (8 doubles or 16 floats with AVX-512). Each
+     * kernel is its own small method passing a VectorOperators constant to lanewise: C2 only
+     * intrinsifies (to SVML stubs on x86) when the operator is a compile-time constant, and a
+     * shared loop taking the operator as a parameter gets compiled on its own and falls back
+     * to boxed, per-lane evaluation.
+     * Kahan sums keep one running sum and compensation per lane, then finish with a scalar
+     * Kahan sum over the lane sums, the negated compensations and the tail.
+     */
+    static final class VectorKernels implements MathKernels {
+        private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+        private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+
+        static boolean worthwhile() {
+            return DOUBLES.length() >= 2;
+        }
+
+        @Override
+        public void apply(UnaryKernel kernel, double[] in, double[] out) {
+            int done = switch (kernel) {
+                case SIN -> sin(in, out);
+                case COS -> cos(in, out);
+                case EXP -> exp(in, out);
+                case LOG -> log(in, out);
+                case SQRT -> sqrt(in, out);
+            };
+            ScalarKernels.apply(kernel, in, out, done, in.length);
+        }
+
+        private static int sin(double[] in, double[] out) {
+            int upper = DOUBLES.loopBound(in.length);
+            for (int i = 0; i < upper; i += DOUBLES.length()) {
+                DoubleVector.fromArray(DOUBLES, in, i).lanewise(VectorOperators.SIN).intoArray(out, i);
+            }
+            return upper;
+        }
+
+        private static int cos(double[] in, double[] out) {
+            int upper = DOUBLES.loopBound(in.length);
+            for (int i = 0; i < upper; i += DOUBLES.length()) {
+                DoubleVector.fromArray(DOUBLES, in, i).lanewise(VectorOperators.COS).intoArray(out, i);
+            }
+            return upper;
+        }
+
+        private static int exp(double[] in, double[] out) {
+            int upper = DOUBLES.loopBound(in.length);
+            for (int i = 0; i < upper; i += DOUBLES.length()) {
+                DoubleVector.fromArray(DOUBLES, in, i).lanewise(VectorOperators.EXP).intoArray(out, i);
+            }
+            return upper;
+        }
+
+        private static int log(double[] in, double[] out) {
+            int upper = DOUBLES.loopBound(in.length);
+            for (int i = 0; i < upper; i += DOUBLES.length()) {
+                DoubleVector.fromArray(DOUBLES, in, i).lanewise(VectorOperators.LOG).intoArray(out, i);
+            }
+            return upper;
+        }
+
+        private static int sqrt(double[] in, double[] out) {
+            int upper = DOUBLES.loopBound(in.length);
+            for (int i = 0; i < upper; i += DOUBLES.length()) {
+                DoubleVector.fromArray(DOUBLES, in, i).lanewise(VectorOperators.SQRT).intoArray(out, i);
+            }
+            return upper;
+        }
+
+        @Override
+        public void apply(UnaryKernel kernel, float[] in, float[] out) {
+            int done = switch (kernel) {
+                case SIN -> sin(in, out);
+                case COS -> cos(in, out);
+                case EXP -> exp(in, out);
+                case LOG -> log(in, out);
+                case SQRT -> sqrt(in, out);
+            };
+            ScalarKernels.apply(kernel, in, out, done, in.length);
+        }
+
+        private static int sin(float[] in, float[] out) {
+            int upper = FLOATS.loopBound(in.length);
+            for (int i = 0; i < upper; i += FLOATS.length()) {
+                FloatVector.fromArray(FLOATS, in, i).lanewise(VectorOperators.SIN).intoArray(out, i);
+            }
+            return upper;
+        }
+
+        private static int cos(float[] in, float[] out) {
+            int upper = FLOATS.loopBound(in.length);
+            for (int i = 0; i < upper; i += FLOATS.length()) {
+                FloatVector.fromArray(FLOATS, in, i).lanewise(VectorOperators.COS).intoArray(out, i);
+            }
+            return upper;
+        }
+
+        private static int exp(float[] in, float[] out) {
+            int upper = FLOATS.loopBound(in.length);
+            for (int i = 0; i < upper; i += FLOATS.length()) {
+                FloatVector.fromArray(FLOATS, in, i).lanewise(VectorOperators.EXP).intoArray(out, i);
+            }
+            return upper;
+        }
+
+        private static int log(float[] in, float[] out) {
+            int upper = FLOATS.loopBound(in.length);
+            for (int i = 0; i < upper; i += FLOATS.length()) {
+                FloatVector.fromArray(FLOATS, in, i).lanewise(VectorOperators.LOG).intoArray(out, i);
+            }
+            return upper;
+        }
+
+        private static int sqrt(float[] in, float[] out) {
+            int upper = FLOATS.loopBound(in.length);
+            for (int i = 0; i < upper; i += FLOATS.length()) {
+                FloatVector.fromArray(FLOATS, in, i).lanewise(VectorOperators.SQRT).intoArray(out, i);
+            }
+            return upper;
+        }
+
+        @Override
+        public void pow(double[] base, double exponent, double[] out) {
+            int upper = DOUBLES.loopBound(base.length);
+            int i = 0;
+            for (; i < upper; i += DOUBLES.length()) {
+                DoubleVector.fromArray(DOUBLES, base, i).lanewise(VectorOperators.POW, exponent).intoArray(out, i);
+            }
+            for (; i < base.length; i++) {
+                out[i] = Math.pow(base[i], exponent);
+            }
+        }
+
+        @Override
+        public double dot(double[] a, double[] b) {
+            DoubleVector sums = DoubleVector.zero(DOUBLES);
+            int upper = DOUBLES.loopBound(a.length);
+            int i = 0;
+            for (; i < upper; i += DOUBLES.length()) {
+                sums = DoubleVector.fromArray(DOUBLES, a, i).fma(DoubleVector.fromArray(DOUBLES, b, i), sums);
+            }
+            double sum = sums.reduceLanes(VectorOperators.ADD);
+            for (; i < a.length; i++) {
+                sum = Math.fma(a[i], b[i], sum);
+            }
+            return sum;
+        }
+
+        @Override
+        public float dot(float[] a, float[] b) {
+            FloatVector sums = FloatVector.zero(FLOATS);
+            int upper = FLOATS.loopBound(a.length);
+            int i = 0;
+            for (; i < upper; i += FLOATS.length()) {
+                sums = FloatVector.fromArray(FLOATS, a, i).fma(FloatVector.fromArray(FLOATS, b, i), sums);
+            }
+            float sum = sums.reduceLanes(VectorOperators.ADD);
+            for (; i < a.length; i++) {
+                sum = Math.fma(a[i], b[i], sum);
+            }
+            return sum;
+        }
+
+        @Override
+        public double sum(double[] values) {
+            DoubleVector sums = DoubleVector.zero(DOUBLES);
+            DoubleVector compensations = DoubleVector.zero(DOUBLES);
+            int upper = DOUBLES.loopBound(values.length);
+            int i = 0;
+            for (; i < upper; i += DOUBLES.length()) {
+                DoubleVector y = DoubleVector.fromArray(DOUBLES, values, i).sub(compensations);
+                DoubleVector t = sums.add(y);
+                compensations = t.sub(sums).sub(y);
+                sums = t;
+            }
+            // Each lane holds sum - compensation; finish with a scalar Kahan sum of the lanes and the tail
+            double[] rest = new double[2 * DOUBLES.length() + values.length - i];
+            sums.intoArray(rest, 0);
+            compensations.neg().intoArray(rest, DOUBLES.length());
+            System.arraycopy(values, i, rest, 2 * DOUBLES.length(), values.length - i);
+            return ScalarKernels.INSTANCE.sum(rest);
+        }
+
+        @Override
+        public float sum(float[] values) {
+            FloatVector sums = FloatVector.zero(FLOATS);
+            FloatVector compensations = FloatVector.zero(FLOATS);
+            int upper = FLOATS.loopBound(values.length);
+            int i = 0;
+            for (; i < upper; i += FLOATS.length()) {
+                FloatVector y = FloatVector.fromArray(FLOATS, values, i).sub(compensations);
+                FloatVector t = sums.add(y);
+                compensations = t.sub(sums).sub(y);
+                sums = t;
+            }
+            float[] rest = new float[2 * FLOATS.length() + values.length - i];
+            sums.intoArray(rest, 0);
+            compensations.neg().intoArray(rest, FLOATS.length());
+            System.arraycopy(values, i, rest, 2 * FLOATS.length(), values.length - i);
+            return ScalarKernels.INSTANCE.sum(rest);
+        }
+
+        @Override
+        public String description() {
+            return "Vector API, " + DOUBLES.length() + " doubles / " + FLOATS.length() + " floats per vector ("
+                + DOUBLES.vectorBitSize() + "-bit)";
+        }
+    }
+
+    // ========== Demos ==========
+
+    private static void kernelSelectionDemo(MathKernels kernels) {
+        System.out.println("--- Kernel Selection ---");
+
+        System.out.println("Active kernels: " + kernels.description());
+        System.out.println("Fallback: " + ScalarKernels.INSTANCE.description()
+            + " (used when started without --add-modules jdk.incubator.vector)");
+
+        System.out.println();
+    }
+
+    private static void bulkKernelDemo(MathKernels kernels) {
+        System.out.println("--- Bulk Kernels ---");
+
+        double[] angles = {0, Math.PI / 6, Math.PI / 4, Math.PI / 3, Math.PI / 2, Math.PI, 3 * Math.PI / 2,
+            2 * Math.PI, -Math.PI / 4, 1e6};
+        double[] out = new double[angles.length];
+        kernels.apply(UnaryKernel.SIN, angles, out);
+        System.out.println("sin over 10 angles: " + format(out));
+        kernels.apply(UnaryKernel.COS, angles, out);
+        System.out.println("cos over 10 angles: " + format(out));
+
+        double[] values = {0, 0.5, 1, 2, 10, -1, 100, 700, -745, Double.NaN};
+        kernels.apply(UnaryKernel.EXP, values, out);
+        System.out.println("exp: " + format(out));
+        kernels.apply(UnaryKernel.LOG, values, out);
+        System.out.println("log: " + format(out));
+        kernels.apply(UnaryKernel.SQRT, values, out);
+        System.out.println("sqrt: " + format(out));
+        kernels.pow(values, 2.5, out);
+        System.out.println("pow(x, 2.5): " + format(out));
+
+        double[] ones = new double[1_000_003];
+        Arrays.fill(ones, 0.1);
+        System.out.println("Sum of 1,000,003 x 0.1: Kahan " + kernels.sum(ones) + ", naive " + naiveSum(ones));
+        System.out.println("Dot of the same vector with itself: " + kernels.dot(ones, ones));
+
+        System.out.println();
+    }
+
+    private static String format(double[] values) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (double value : values) {
+            joiner.add(String.format(Locale.ROOT, "%.4g", value));
+        }
+        return joiner.toString();
+    }
+
+    private static void accuracyCheck(MathKernels kernels) {
+        System.out.println("--- Accuracy in ULPs against StrictMath (200,000 random inputs each) ---");
+
+        SplittableRandom random = new SplittableRandom(50);
+        int samples = 200_000;
+        System.out.println(String.format("  %-22s %14s %14s %14s", "kernel (domain)", "double active",
+            "double Math", "float active"));
+        for (UnaryKernel kernel : UnaryKernel.values()) {
+            double[] in = new double[samples];
+            for (int i = 0; i < samples; i++) {
+                in[i] = switch (kernel) {
+                    case SIN, COS -> random.nextDouble(-1e4, 1e4);
+                    case EXP -> random.nextDouble(-80, 80);
+                    case LOG, SQRT -> Math.exp(random.nextDouble(-80, 80));
+                };
+            }
+            float[] inFloats = new float[samples];
+            for (int i = 0; i < samples; i++) {
+                inFloats[i] = (float) in[i];
+            }
+            double[] active = new double[samples];
+            double[] scalar = new double[samples];
+            float[] activeFloats = new float[samples];
+            kernels.apply(kernel, in, active);
+            ScalarKernels.INSTANCE.apply(kernel, in, scalar);
+            kernels.apply(kernel, inFloats, activeFloats);
+
+            double worstActive = 0;
+            double worstScalar = 0;
+            double worstFloat = 0;
+            for (int i = 0; i < samples; i++) {
+                double reference = strict(kernel, in[i]);
+                worstActive = Math.max(worstActive, ulps(active[i], reference));
+                worstScalar = Math.max(worstScalar, ulps(scalar[i], reference));
+                worstFloat = Math.max(worstFloat, ulps(activeFloats[i], strict(kernel, inFloats[i])));
+            }
+            String domain = switch (kernel) {
+                case SIN, COS -> "+-1e4";
+                case EXP -> "+-80";
+                case LOG, SQRT -> "e^+-80";
+            };
+            System.out.println(String.format(Locale.ROOT, "  %-22s %14.3f %14.3f %14.3f",
+                kernel + " (" + domain + ")", worstActive, worstScalar, worstFloat));
+        }
+
+        double[] bases = new double[samples];
+        for (int i = 0; i < samples; i++) {
+            bases[i] = random.nextDouble(1e-3, 1e3);
+        }
+        double[] powered = new double[samples];
+        for (double exponent : new double[] {0.5, 2.5, -1.3}) {
+            kernels.pow(bases, exponent, powered);
+            double worst = 0;
+            for (int i = 0; i < samples; i++) {
+                worst = Math.max(worst, ulps(powered[i], StrictMath.pow(bases[i], exponent)));
+            }
+            System.out.println(String.format(Locale.ROOT, "  %-22s %14.3f", "POW (x^" + exponent + ")", worst));
+        }
+        System.out.println("float errors are measured against the double-precision StrictMath result, in float ULPs.");
+
+        System.out.println();
+    }
+
+    private static double strict(UnaryKernel kernel, double x) {
+        return switch (kernel) {
+            case SIN -> StrictMath.sin(x);
+            case COS -> StrictMath.cos(x);
+            case EXP -> StrictMath.exp(x);
+            case LOG -> StrictMath.log(x);
+            case SQRT -> StrictMath.sqrt(x);
+        };
+    }
+
+    /** Distance from the reference in units of the reference's ULP at the result's precision. */
+    private static double ulps(double actual, double reference) {
+        if (actual == reference || Double.isNaN(actual) && Double.isNaN(reference)) {
+            return 0;
+        }
+        return Math.abs(actual - reference) / Math.ulp(reference);
+    }
+
+    private static double ulps(float actual, double reference) {
+        if (actual == reference || Float.isNaN(actual) && Double.isNaN(reference)) {
+            return 0;
+        }
+        return Math.abs(actual - reference) / Math.ulp((float) reference);
+    }
+
+    private static void summationAccuracyDemo(MathKernels kernels) {
+        System.out.println("--- Summation Accuracy (1,000,000 values spanning 16 orders of magnitude) ---");
+
+        SplittableRandom random = new SplittableRandom(51);
+        double[] values = new double[1_000_000];
+        float[] floats = new float[values.length];
+        BigDecimal exact = BigDecimal.ZERO;
+        BigDecimal exactFloats = BigDecimal.ZERO;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.pow(10, random.nextDouble(-8, 8)) * (random.nextBoolean() ? 1 : -1);
+            floats[i] = (float) values[i];
+            exact = exact.add(new BigDecimal(values[i]));
+            exactFloats = exactFloats.add(new BigDecimal(floats[i]));
+        }
+        double reference = exact.doubleValue();
+        double floatReference = exactFloats.doubleValue();
+        System.out.println(String.format(Locale.ROOT, "  double  naive %.3e   Kahan %.3e   (relative error)",
+            relativeError(naiveSum(values), reference), relativeError(kernels.sum(values), reference)));
+        float naiveFloat = 0;
+        for (float value : floats) {
+            naiveFloat += value;
+        }
+        System.out.println(String.format(Locale.ROOT, "  float   naive %.3e   Kahan %.3e",
+            relativeError(naiveFloat, floatReference), relativeError(kernels.sum(floats), floatReference)));
+
+        System.out.println();
+    }
+
+    private static double relativeError(double actual, double reference) {
+        return Math.abs(actual - reference) / Math.abs(reference);
+    }
+
+    private static double naiveSum(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    // ========== Benchmarks ==========
+
+    private static final int ELEMENTS = 1 << 16;
+
+    private static void kernelBenchmark(MathKernels kernels) {
+        System.out.println("--- Benchmark: Unary Kernels over " + String.format("%,d", ELEMENTS) + " Elements ---");
+
+        SplittableRandom random = new SplittableRandom(52);
+        double[] in = new double[ELEMENTS];
+        float[] inFloats = new float[ELEMENTS];
+        for (int i = 0; i < ELEMENTS; i++) {
+            in[i] = random.nextDouble(0.001, 100);
+            inFloats[i] = (float) in[i];
+        }
+        double[] out = new double[ELEMENTS];
+        float[] outFloats = new float[ELEMENTS];
+        warmUp(kernels, in, inFloats, out, outFloats);
+
+        System.out.println(String.format("  %-46s %10s %12s", "kernel", "ns/value", "bytes/value"));
+        measure("Math.sin loop", () -> {
+            for (int i = 0; i < ELEMENTS; i++) {
+                out[i] = Math.sin(in[i]);
+            }
+            return Double.doubleToRawLongBits(out[ELEMENTS - 1]);
+        });
+        measure("sin kernel (double)", () -> applied(kernels, UnaryKernel.SIN, in, out));
+        measure("sin kernel (float)", () -> applied(kernels, UnaryKernel.SIN, inFloats, outFloats));
+        measure("Math.cos loop", () -> {
+            for (int i = 0; i < ELEMENTS; i++) {
+                out[i] = Math.cos(in[i]);
+            }
+            return Double.doubleToRawLongBits(out[ELEMENTS - 1]);
+        });
+        measure("cos kernel (double)", () -> applied(kernels, UnaryKernel.COS, in, out));
+        measure("Math.exp loop", () -> {
+            for (int i = 0; i < ELEMENTS; i++) {
+                out[i] = Math.exp(in[i]);
+            }
+            return Double.doubleToRawLongBits(out[ELEMENTS - 1]);
+        });
+        measure("exp kernel (double)", () -> applied(kernels, UnaryKernel.EXP, in, out));
+        measure("exp kernel (float)", () -> applied(kernels, UnaryKernel.EXP, inFloats, outFloats));
+        measure("Math.log loop", () -> {
+            for (int i = 0; i < ELEMENTS; i++) {
+                out[i] = Math.log(in[i]);
+            }
+            return Double.doubleToRawLongBits(out[ELEMENTS - 1]);
+        });
+        measure("log kernel (double)", () -> applied(kernels, UnaryKernel.LOG, in, out));
+        measure("Math.pow(x, 2.5) loop", () -> {
+            for (int i = 0; i < ELEMENTS; i++) {
+                out[i] = Math.pow(in[i], 2.5);
+            }
+            return Double.doubleToRawLongBits(out[ELEMENTS - 1]);
+        });
+        measure("pow kernel (double)", () -> {
+            kernels.pow(in, 2.5, out);
+            return Double.doubleToRawLongBits(out[ELEMENTS - 1]);
+        });
+        measure("Math.sqrt loop", () -> {
+            for (int i = 0; i < ELEMENTS; i++) {
+                out[i] = Math.sqrt(in[i]);
+            }
+            return Double.doubleToRawLongBits(out[ELEMENTS - 1]);
+        });
+        measure("sqrt kernel (double)", () -> applied(kernels, UnaryKernel.SQRT, in, out));
+
+        System.out.println();
+    }
+
+    /**
+     * Runs every kernel round-robin for a second before anything is timed. Vector API code is
+     * only fast once C2 has compiled it with intrinsics (the interpreter and C1 box every vector),
+     * and with few cores the compile queue can lag well behind a short per-benchmark warm-up.
+     */
+    private static void warmUp(MathKernels kernels, double[] in, float[] inFloats, double[] out, float[] outFloats) {
+        long start = System.nanoTime();
+        long sink = 0;
+        while (System.nanoTime() - start < 1_000_000_000L) {
+            for (UnaryKernel kernel : UnaryKernel.values()) {
+                sink += applied(kernels, kernel, in, out) + applied(kernels, kernel, inFloats, outFloats);
+            }
+            kernels.pow(in, 2.5, out);
+            sink += Double.doubleToRawLongBits(kernels.dot(in, out) + kernels.sum(in))
+                + Float.floatToRawIntBits(kernels.dot(inFloats, outFloats) + kernels.sum(inFloats));
+        }
+        ShowcaseSupport.consume(sink);
+    }
+
+    private static long applied(MathKernels kernels, UnaryKernel kernel, double[] in, double[] out) {
+        kernels.apply(kernel, in, out);
+        return Double.doubleToRawLongBits(out[out.length - 1]);
+    }
+
+    private static long applied(MathKernels kernels, UnaryKernel kernel, float[] in, float[] out) {
+        kernels.apply(kernel, in, out);
+        return Float.floatToRawIntBits(out[out.length - 1]);
+    }
+
+    private static void reductionBenchmark(MathKernels kernels) {
+        System.out.println("--- Benchmark: Reductions over " + String.format("%,d", ELEMENTS) + " Elements ---");
+
+        SplittableRandom random = new SplittableRandom(53);
+        double[] a = new double[ELEMENTS];
+        double[] b = new double[ELEMENTS];
+        float[] aFloats = new float[ELEMENTS];
+        float[] bFloats = new float[ELEMENTS];
+        for (int i = 0; i < ELEMENTS; i++) {
+            a[i] = random.nextDouble(-1, 1);
+            b[i] = random.nextDouble(-1, 1);
+            aFloats[i] = (float) a[i];
+            bFloats[i] = (float) b[i];
+        }
+
+        System.out.println(String.format("  %-46s %10s %12s", "reduction", "ns/value", "bytes/value"));
+        measure("naive dot loop (double)", () -> {
+            double sum = 0;
+            for (int i = 0; i < ELEMENTS; i++) {
+                sum += a[i] * b[i];
+            }
+            return Double.doubleToRawLongBits(sum);
+        });
+        measure("dot kernel (double, fma)", () -> Double.doubleToRawLongBits(kernels.dot(a, b)));
+        measure("dot kernel (float, fma)", () -> Float.floatToRawIntBits(kernels.dot(aFloats, bFloats)));
+        measure("naive sum loop (double)", () -> Double.doubleToRawLongBits(naiveSum(a)));
+        measure("scalar Kahan sum (double)", () -> Double.doubleToRawLongBits(ScalarKernels.INSTANCE.sum(a)));
+        measure("Kahan sum kernel (double)", () -> Double.doubleToRawLongBits(kernels.sum(a)));
+        measure("Kahan sum kernel (float)", () -> Float.floatToRawIntBits(kernels.sum(aFloats)));
+        System.out.println("A naive loop cannot be vectorized by C2 because reordering floating-point additions");
+        System.out.println("changes the result; the kernels reorder deliberately, per lane. Inline best-of-3 after warm-up.");
+
+        System.out.println();
+    }
+
+    private static void measure(String name, LongSupplier body) {
+        ShowcaseSupport.Timing timing = ShowcaseSupport.time(10, body);
+        System.out.println(String.format("  %-46s %10.2f %12.2f", name, (double) timing.bestNanos() / ELEMENTS,
+            (double) timing.bestBytes() / ELEMENTS));
+    }
+}
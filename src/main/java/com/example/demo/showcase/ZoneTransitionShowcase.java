@@ -0,0 +1,369 @@
+package com.example.demo.showcase;
+
+import java.time.*;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Demonstrates bulk epoch-to-local-time conversion with precomputed zone transition tables
+ * Including bucketed transition lookups without data-dependent branches, conversion of whole
+ * long[] arrays for one or many zones, parallel chunked conversion, cross-checks against
+ * ZoneRules and benchmarks against Instant.atZone per element
+ */
+public class ZoneTransitionShowcase {
+
+    public static void demonstrate() {
+        System.out.println("\n========== ZONE TRANSITION SHOWCASE ==========\n");
+
+        transitionTableDemo();
+        bulkConversionDemo();
+        allZonesDemo();
+        crossCheck();
+        conversionBenchmark();
+    }
+
+    // ========== Transition Tables ==========
+
+    /**
+     * The UTC offsets of one zone over [fromMillis, toMillis), flattened into arrays: the
+     * transition instants in epoch millis, and the offset in effect before each of them. The
+     * range is cut into buckets of 2^32 ms (about 50 days); each bucket records how many
+     * transitions precede it, and a bucket never holds more than maxStepsPerBucket of them
+     * (two for zones that suspend DST around Ramadan, one or zero elsewhere). A lookup is
+     * then a shift, one array read, and a fixed number of "add 1 if this transition has
+     * passed" steps that the JIT can turn into conditional moves, instead of the binary
+     * search and Instant allocation in ZoneRules.getOffset. The transitions array is padded
+     * with Long.MAX_VALUE so those steps never leave it. Instants outside the range are
+     * delegated to ZoneRules.
+     */
+    static final class ZoneOffsetTable {
+        private static final int BUCKET_SHIFT = 32;
+
+        private final ZoneId zone;
+        private final ZoneRules rules;
+        private final long fromMillis;
+        private final long spanMillis;
+        private final long[] transitions;
+        private final int[] offsetMillis;
+        private final int[] bucketStart;
+        private final int maxStepsPerBucket;
+
+        private ZoneOffsetTable(ZoneId zone, long fromMillis, long toMillis) {
+            this.zone = zone;
+            this.rules = zone.getRules();
+            this.fromMillis = fromMillis;
+            this.spanMillis = toMillis - fromMillis;
+
+            List<ZoneOffsetTransition> found = new ArrayList<>();
+            ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochMilli(fromMillis));
+            while (next != null && next.toEpochSecond() * 1_000 < toMillis) {
+                found.add(next);
+                next = rules.nextTransition(next.getInstant());
+            }
+            int count = found.size();
+            this.offsetMillis = new int[count + 1];
+            offsetMillis[0] = rules.getOffset(Instant.ofEpochMilli(fromMillis)).getTotalSeconds() * 1_000;
+            long[] instants = new long[count];
+            for (int i = 0; i < count; i++) {
+                instants[i] = found.get(i).toEpochSecond() * 1_000;
+                offsetMillis[i + 1] = found.get(i).getOffsetAfter().getTotalSeconds() * 1_000;
+            }
+
+            int buckets = (int) ((spanMillis - 1) >>> BUCKET_SHIFT) + 1;
+            this.bucketStart = new int[buckets];
+            int steps = 0;
+            int index = 0;
+            for (int b = 0; b < buckets; b++) {
+                long bucketFrom = fromMillis + ((long) b << BUCKET_SHIFT);
+                while (index < count && instants[index] <= bucketFrom) {
+                    index++;
+                }
+                bucketStart[b] = index;
+                int end = index;
+                while (end < count && instants[end] < bucketFrom + (1L << BUCKET_SHIFT)) {
+                    end++;
+                }
+                steps = Math.max(steps, end - index);
+            }
+            this.maxStepsPerBucket = steps;
+            this.transitions = Arrays.copyOf(instants, count + steps + 1);
+            Arrays.fill(transitions, count, transitions.length, Long.MAX_VALUE);
+        }
+
+        private static final Map<ZoneId, ZoneOffsetTable> TABLES = new ConcurrentHashMap<>();
+
+        /** The shared table for 1900-2100, built on first use. */
+        static ZoneOffsetTable of(ZoneId zone) {
+            return TABLES.computeIfAbsent(zone, z -> new ZoneOffsetTable(z, MIN_MILLIS, MAX_MILLIS));
+        }
+
+        static ZoneOffsetTable of(ZoneId zone, Year from, Year toExclusive) {
+            return new ZoneOffsetTable(zone, from.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli(),
+                toExclusive.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+
+        static final long MIN_MILLIS = Instant.parse("1900-01-01T00:00:00Z").toEpochMilli();
+        static final long MAX_MILLIS = Instant.parse("2100-01-01T00:00:00Z").toEpochMilli();
+
+        int offsetMillis(long epochMillis) {
+            long relative = epochMillis - fromMillis;
+            if (Long.compareUnsigned(relative, spanMillis) >= 0) {
+                return rules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1_000;
+            }
+            int i = bucketStart[(int) (relative >>> BUCKET_SHIFT)];
+            for (int step = 0; step < maxStepsPerBucket; step++) {
+                i += transitions[i] <= epochMillis ? 1 : 0;
+            }
+            return offsetMillis[i];
+        }
+
+        /** Writes epoch + offset (local wall-clock millis, as if the local time were UTC) for [from, to). */
+        void toLocalMillis(long[] epochMillis, long[] localMillis, int from, int to) {
+            for (int i = from; i < to; i++) {
+                localMillis[i] = epochMillis[i] + offsetMillis(epochMillis[i]);
+            }
+        }
+
+        ZoneId zone() {
+            return zone;
+        }
+
+        int transitionCount() {
+            return offsetMillis.length - 1;
+        }
+
+        int maxStepsPerBucket() {
+            return maxStepsPerBucket;
+        }
+
+        long footprintBytes() {
+            return 8L * transitions.length + 4L * offsetMillis.length + 4L * bucketStart.length;
+        }
+    }
+
+    // ========== Bulk Conversion ==========
+
+    /**
+     * Array-at-a-time conversion. Work is split into fixed chunks so a parallel run gives each
+     * worker a contiguous slice of the input and output arrays; every table is immutable, so
+     * the workers share them without coordination.
+     */
+    static final class BulkZoneConverter {
+        private static final int CHUNK = 1 << 16;
+
+        static long[] toLocalMillis(ZoneOffsetTable table, long[] epochMillis) {
+            long[] local = new long[epochMillis.length];
+            table.toLocalMillis(epochMillis, local, 0, epochMillis.length);
+            return local;
+        }
+
+        static long[] toLocalMillisParallel(ZoneOffsetTable table, long[] epochMillis) {
+            long[] local = new long[epochMillis.length];
+            int chunks = (epochMillis.length + CHUNK - 1) / CHUNK;
+            IntStream.range(0, chunks).parallel().forEach(c ->
+                table.toLocalMillis(epochMillis, local, c * CHUNK, Math.min(epochMillis.length, (c + 1) * CHUNK)));
+            return local;
+        }
+
+        /** Converts events that each carry their own zone, as an index into tables. */
+        static long[] toLocalMillisParallel(ZoneOffsetTable[] tables, short[] zoneIndex, long[] epochMillis) {
+            long[] local = new long[epochMillis.length];
+            int chunks = (epochMillis.length + CHUNK - 1) / CHUNK;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                for (int i = c * CHUNK, end = Math.min(epochMillis.length, (c + 1) * CHUNK); i < end; i++) {
+                    local[i] = epochMillis[i] + tables[zoneIndex[i]].offsetMillis(epochMillis[i]);
+                }
+            });
+            return local;
+        }
+
+        static LocalDateTime toLocalDateTime(long localMillis) {
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1_000),
+                Math.floorMod(localMillis, 1_000) * 1_000_000, ZoneOffset.UTC);
+        }
+    }
+
+    // ========== Demos ==========
+
+    private static void transitionTableDemo() {
+        System.out.println("--- Per-Zone Transition Tables (1900-2100) ---");
+
+        for (String id : List.of("UTC", "Asia/Tokyo", "America/New_York", "Europe/London", "Australia/Lord_Howe",
+                "Africa/Casablanca")) {
+            ZoneOffsetTable table = ZoneOffsetTable.of(ZoneId.of(id));
+            System.out.println(String.format("  %-20s %4d transitions, at most %d lookup steps, %,6d bytes",
+                id, table.transitionCount(), table.maxStepsPerBucket(), table.footprintBytes()));
+        }
+
+        System.out.println();
+    }
+
+    private static void bulkConversionDemo() {
+        System.out.println("--- Bulk Conversion across a DST Change ---");
+
+        ZoneOffsetTable newYork = ZoneOffsetTable.of(ZoneId.of("America/New_York"));
+        long spring = Instant.parse("2024-03-10T06:59:59.500Z").toEpochMilli();
+        long[] epochMillis = {spring, spring + 499, spring + 500, spring + 1_000};
+        long[] local = BulkZoneConverter.toLocalMillis(newYork, epochMillis);
+        for (int i = 0; i < epochMillis.length; i++) {
+            System.out.println("  " + Instant.ofEpochMilli(epochMillis[i]) + " -> "
+                + BulkZoneConverter.toLocalDateTime(local[i]) + "   atZone: "
+                + Instant.ofEpochMilli(epochMillis[i]).atZone(newYork.zone()).toLocalDateTime());
+        }
+        long outside = Instant.parse("2150-07-01T12:00:00Z").toEpochMilli();
+        System.out.println("Outside the table range (delegates to ZoneRules): "
+            + BulkZoneConverter.toLocalDateTime(outside + newYork.offsetMillis(outside)));
+
+        System.out.println();
+    }
+
+    private static void allZonesDemo() {
+        System.out.println("--- Tables for Every Available Zone ---");
+
+        List<String> ids = new ArrayList<>(ZoneId.getAvailableZoneIds());
+        Collections.sort(ids);
+        long start = System.nanoTime();
+        long footprint = 0;
+        int maxSteps = 0;
+        String deepest = "";
+        for (String id : ids) {
+            ZoneOffsetTable table = ZoneOffsetTable.of(ZoneId.of(id));
+            footprint += table.footprintBytes();
+            if (table.maxStepsPerBucket() > maxSteps) {
+                maxSteps = table.maxStepsPerBucket();
+                deepest = id;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.println(String.format("Built %d tables in %,d ms, %,d KB in total", ids.size(),
+            elapsed / 1_000_000, footprint / 1024));
+        System.out.println("Most transitions in one bucket: " + maxSteps + " (" + deepest + ")");
+
+        System.out.println();
+    }
+
+    private static void crossCheck() {
+        System.out.println("--- Cross-Check against ZoneRules ---");
+
+        List<String> ids = new ArrayList<>(ZoneId.getAvailableZoneIds());
+        Collections.sort(ids);
+        SplittableRandom random = new SplittableRandom(48);
+        int mismatches = 0;
+        int samples = 0;
+        for (String id : ids) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneRules rules = zone.getRules();
+            ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+            for (int n = 0; n < 500; n++) {
+                long millis = random.nextLong(ZoneOffsetTable.MIN_MILLIS - 1_000_000_000_000L,
+                    ZoneOffsetTable.MAX_MILLIS + 1_000_000_000_000L);
+                if (table.offsetMillis(millis) != rules.getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1_000) {
+                    mismatches++;
+                }
+                samples++;
+            }
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.parse("2020-01-01T00:00:00Z"));
+            if (transition != null) {
+                long at = transition.toEpochSecond() * 1_000;
+                for (long millis = at - 1; millis <= at; millis++) {
+                    if (table.offsetMillis(millis) != rules.getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1_000) {
+                        mismatches++;
+                    }
+                    samples++;
+                }
+            }
+        }
+        System.out.println(String.format("%,d random and transition-edge instants across %d zones: %d mismatches",
+            samples, ids.size(), mismatches));
+
+        System.out.println();
+    }
+
+    // ========== Benchmark ==========
+
+    private static final int EVENTS = 1_000_000;
+
+    private static void conversionBenchmark() {
+        System.out.println("--- Benchmark: Epoch Millis to Local Time (2000-2040) ---");
+
+        SplittableRandom random = new SplittableRandom(7);
+        long from = Instant.parse("2000-01-01T00:00:00Z").toEpochMilli();
+        long to = Instant.parse("2040-01-01T00:00:00Z").toEpochMilli();
+        long[] epochMillis = new long[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            epochMillis[i] = random.nextLong(from, to);
+        }
+        ZoneId zone = ZoneId.of("Europe/Berlin");
+        ZoneRules rules = zone.getRules();
+        ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+
+        List<String> ids = new ArrayList<>(ZoneId.getAvailableZoneIds());
+        Collections.sort(ids);
+        List<String> sample = ids.subList(0, Math.min(300, ids.size()));
+        ZoneId[] zones = sample.stream().map(ZoneId::of).toArray(ZoneId[]::new);
+        ZoneOffsetTable[] tables = Arrays.stream(zones).map(ZoneOffsetTable::of).toArray(ZoneOffsetTable[]::new);
+        short[] zoneIndex = new short[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            zoneIndex[i] = (short) random.nextInt(zones.length);
+        }
+
+        System.out.println(String.format("  %-46s %10s %12s", "approach (one zone)", "ns/value", "bytes/value"));
+        long expected = measure("Instant.atZone(zone) per element", () -> {
+            long sum = 0;
+            for (long millis : epochMillis) {
+                ZonedDateTime zoned = Instant.ofEpochMilli(millis).atZone(zone);
+                sum += zoned.toLocalDateTime().toEpochSecond(ZoneOffset.UTC) * 1_000 + millis % 1_000;
+            }
+            return sum;
+        });
+        measure("ZoneRules.getOffset(Instant) per element", () -> {
+            long sum = 0;
+            for (long millis : epochMillis) {
+                sum += millis + rules.getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1_000L;
+            }
+            return sum;
+        });
+        long sequential = measure("ZoneOffsetTable, sequential", () -> sum(BulkZoneConverter.toLocalMillis(table, epochMillis)));
+        long parallel = measure("ZoneOffsetTable, parallel chunks",
+            () -> sum(BulkZoneConverter.toLocalMillisParallel(table, epochMillis)));
+
+        System.out.println(String.format("  %-46s %10s %12s", "approach (" + zones.length + " zones, mixed)",
+            "ns/value", "bytes/value"));
+        long mixedExpected = measure("Instant.atZone(zones[i]) per element", () -> {
+            long sum = 0;
+            for (int i = 0; i < EVENTS; i++) {
+                ZonedDateTime zoned = Instant.ofEpochMilli(epochMillis[i]).atZone(zones[zoneIndex[i]]);
+                sum += zoned.toLocalDateTime().toEpochSecond(ZoneOffset.UTC) * 1_000 + epochMillis[i] % 1_000;
+            }
+            return sum;
+        });
+        long mixed = measure("ZoneOffsetTable[zoneIndex[i]], parallel chunks",
+            () -> sum(BulkZoneConverter.toLocalMillisParallel(tables, zoneIndex, epochMillis)));
+
+        System.out.println("Same local times from every approach: "
+            + (expected == sequential && sequential == parallel && mixedExpected == mixed));
+        System.out.println("Parallelism " + Runtime.getRuntime().availableProcessors()
+            + "; the parallel runs include allocating the output array. Inline best-of-3 timings after warm-up.");
+
+        System.out.println();
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static long measure(String name, LongSupplier body) {
+        ShowcaseSupport.Timing timing = ShowcaseSupport.time(2, body);
+        System.out.println(String.format("  %-46s %10.1f %12.1f", name, (double) timing.bestNanos() / EVENTS,
+            (double) timing.bestBytes() / EVENTS));
+        return timing.result();
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.demo.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Shuts down a set of registered executors in parallel, each against its own drain deadline
+ * Total stop time is the slowest pool's deadline rather than the sum of all of them; tasks that
+ * never started are handed to an {@link UnstartedTaskStore} so they can be replayed after restart
+ */
+public final class ExecutorDrainCoordinator {
+
+    /** Extra wait after shutdownNow() for interrupted tasks to unwind. */
+    private static final Duration FORCE_GRACE = Duration.ofMillis(200);
+
+    /**
+     * What to do with queued tasks when shutdown starts
+     */
+    public enum DrainPolicy {
+        /** Keep running queued tasks until the deadline, then persist whatever is left */
+        DRAIN_QUEUE,
+        /** Persist queued tasks immediately and only wait for tasks already running */
+        PERSIST_QUEUE
+    }
+
+    /**
+     * A task that can be written out and rebuilt later. Submit these with execute(), not submit():
+     * submit() wraps the task in a FutureTask, which hides it from shutdownNow()'s returned list.
+     */
+    public interface ReplayableTask extends Runnable {
+        String type();
+
+        String payload();
+    }
+
+    public record PersistedTask(String pool, String type, String payload) { }
+
+    public interface UnstartedTaskStore {
+        void persist(String pool, List<ReplayableTask> tasks) throws IOException;
+
+        List<PersistedTask> load() throws IOException;
+
+        void clear() throws IOException;
+    }
+
+    /**
+     * Append-only tab-separated file; payloads are Base64-encoded so they may contain anything
+     */
+    public static final class FileUnstartedTaskStore implements UnstartedTaskStore {
+        private final Path file;
+
+        public FileUnstartedTaskStore(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public synchronized void persist(String pool, List<ReplayableTask> tasks) throws IOException {
+            if (tasks.isEmpty()) {
+                return;
+            }
+            List<String> lines = new ArrayList<>(tasks.size());
+            Base64.Encoder encoder = Base64.getEncoder();
+            for (ReplayableTask task : tasks) {
+                lines.add(pool + '\t' + task.type() + '\t'
+                    + encoder.encodeToString(task.payload().getBytes(StandardCharsets.UTF_8)));
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+
+        @Override
+        public synchronized List<PersistedTask> load() throws IOException {
+            if (!Files.exists(file)) {
+                return List.of();
+            }
+            List<PersistedTask> tasks = new ArrayList<>();
+            Base64.Decoder decoder = Base64.getDecoder();
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String[] fields = line.split("\t", 3);
+                if (fields.length == 3) {
+                    tasks.add(new PersistedTask(fields[0], fields[1],
+                        new String(decoder.decode(fields[2]), StandardCharsets.UTF_8)));
+                }
+            }
+            return tasks;
+        }
+
+        @Override
+        public synchronized void clear() throws IOException {
+            Files.deleteIfExists(file);
+        }
+
+        public Path file() {
+            return file;
+        }
+    }
+
+    public record PoolReport(String name, DrainPolicy policy, boolean terminated, long drainMillis,
+                             long completedDuringDrain, int persisted, int dropped, String error) { }
+
+    public record DrainReport(List<PoolReport> pools, long totalMillis) {
+        /** What the same deadlines would have cost when awaited one pool after another */
+        public long sequentialMillis() {
+            return pools.stream().mapToLong(PoolReport::drainMillis).sum();
+        }
+
+        public boolean clean() {
+            return pools.stream().allMatch(p -> p.terminated() && p.dropped() == 0 && p.error() == null);
+        }
+    }
+
+    private record Registration(String name, ExecutorService executor, Duration deadline, DrainPolicy policy) { }
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final UnstartedTaskStore store;
+
+    public ExecutorDrainCoordinator(UnstartedTaskStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Registers an executor to be stopped by {@link #shutdownAll()}; returns it for fluent use
+     */
+    public <E extends ExecutorService> E register(String name, E executor, Duration deadline, DrainPolicy policy) {
+        registrations.add(new Registration(name, executor, deadline, policy));
+        return executor;
+    }
+
+    public int registeredCount() {
+        return registrations.size();
+    }
+
+    /**
+     * Stops every registered executor concurrently and waits for all of them.
+     * Each pool gets its own deadline; after it the pool is forced with shutdownNow().
+     */
+    public DrainReport shutdownAll() {
+        long start = System.nanoTime();
+        List<Registration> pools = List.copyOf(registrations);
+        registrations.removeAll(pools);
+        List<PoolReport> reports = new ArrayList<>(pools.size());
+        try (ExecutorService drainers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<PoolReport>> futures = new ArrayList<>(pools.size());
+            for (Registration pool : pools) {
+                futures.add(drainers.submit(() -> drain(pool)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                reports.add(awaitReport(futures.get(i), pools.get(i)));
+            }
+        }
+        return new DrainReport(reports, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private PoolReport awaitReport(Future<PoolReport> future, Registration pool) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            // Shutdown of the coordinator itself was interrupted: force this pool, keep its queue and move on
+            Thread.currentThread().interrupt();
+            PersistOutcome outcome = persistUnstarted(pool.name(), pool.executor().shutdownNow());
+            return new PoolReport(pool.name(), pool.policy(), false, 0, 0, outcome.persisted(), outcome.dropped(),
+                outcome.error() == null ? "interrupted" : "interrupted, " + outcome.error());
+        } catch (ExecutionException e) {
+            return new PoolReport(pool.name(), pool.policy(), pool.executor().isTerminated(), 0, 0, 0, 0,
+                String.valueOf(e.getCause()));
+        }
+    }
+
+    private PoolReport drain(Registration pool) throws InterruptedException {
+        long start = System.nanoTime();
+        ExecutorService executor = pool.executor();
+        ThreadPoolExecutor threadPool = executor instanceof ThreadPoolExecutor tpe ? tpe : null;
+        long completedBefore = threadPool == null ? 0 : threadPool.getCompletedTaskCount();
+
+        List<Runnable> unstarted = new ArrayList<>();
+        executor.shutdown();
+        if (pool.policy() == DrainPolicy.PERSIST_QUEUE && threadPool != null) {
+            threadPool.getQueue().drainTo(unstarted);
+        }
+        boolean terminated;
+        try {
+            terminated = executor.awaitTermination(pool.deadline().toNanos(), TimeUnit.NANOSECONDS);
+            if (!terminated) {
+                unstarted.addAll(executor.shutdownNow());
+                terminated = executor.awaitTermination(FORCE_GRACE.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            // Tasks already drained from the queue exist only in this list: force the pool and keep them
+            unstarted.addAll(executor.shutdownNow());
+            persistUnstarted(pool.name(), unstarted);
+            throw e;
+        }
+        long drainMillis = (System.nanoTime() - start) / 1_000_000;
+
+        PersistOutcome outcome = persistUnstarted(pool.name(), unstarted);
+        long completed = threadPool == null ? 0 : threadPool.getCompletedTaskCount() - completedBefore;
+        return new PoolReport(pool.name(), pool.policy(), terminated, drainMillis, completed,
+            outcome.persisted(), outcome.dropped(), outcome.error());
+    }
+
+    private record PersistOutcome(int persisted, int dropped, String error) { }
+
+    /**
+     * Hands the replayable tasks to the store; anything else, or everything when the store fails, is dropped
+     */
+    private PersistOutcome persistUnstarted(String pool, List<Runnable> unstarted) {
+        List<ReplayableTask> replayable = new ArrayList<>();
+        for (Runnable task : unstarted) {
+            if (task instanceof ReplayableTask r) {
+                replayable.add(r);
+            }
+        }
+        int dropped = unstarted.size() - replayable.size();
+        try {
+            store.persist(pool, replayable);
+            return new PersistOutcome(replayable.size(), dropped, null);
+        } catch (IOException e) {
+            return new PersistOutcome(0, dropped + replayable.size(), "persist failed: " + e.getMessage());
+        }
+    }
+}
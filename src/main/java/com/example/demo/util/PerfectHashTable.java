@@ -0,0 +1,158 @@
+package com.example.demo.util;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Immutable string-keyed lookup table using a perfect hash for a fixed key set
+ * Built once (typically in a static initializer) by searching for a multiplier that maps
+ * every key to a distinct slot of a power-of-two table; a lookup is then one multiply,
+ * one shift, one array load and one equals() check - no probing, no buckets
+ *
+ * Keys are hashed with String.hashCode(), which is cached per String. Key sets in which two
+ * keys share a hashCode ("Aa" and "BB") fall back to a seeded hash over the chars instead
+ */
+public final class PerfectHashTable<V> {
+
+    private static final int MAX_SEED_ATTEMPTS = 1 << 20;
+
+    private final String[] keys;
+    private final Object[] values;
+    private final boolean seeded;
+    private final int seed;
+    private final int multiplier;
+    private final int shift;
+    private final int size;
+
+    private PerfectHashTable(String[] keys, Object[] values, boolean seeded, int seed, int multiplier, int shift,
+                             int size) {
+        this.keys = keys;
+        this.values = values;
+        this.seeded = seeded;
+        this.seed = seed;
+        this.multiplier = multiplier;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    /**
+     * Builds a table for the given constant key set
+     */
+    public static <V> PerfectHashTable<V> of(Map<String, ? extends V> entries) {
+        if (entries.isEmpty()) {
+            throw new IllegalArgumentException("Key set must not be empty");
+        }
+        List<String> keyList = new ArrayList<>(entries.keySet());
+        int[] hashes = keyList.stream().mapToInt(String::hashCode).toArray();
+        // No multiplier can separate equal hash codes, so such key sets draw a hash seed per attempt too
+        boolean seeded = Arrays.stream(hashes).distinct().count() < hashes.length;
+        // Start at the smallest power of two that fits, grow only if no multiplier is collision-free
+        int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(keyList.size() - 1));
+        for (; bits <= 16; bits++) {
+            int shift = 32 - bits;
+            SplittableRandom random = new SplittableRandom(keyList.size() * 31L + bits);
+            for (int attempt = 0; attempt < MAX_SEED_ATTEMPTS >> bits; attempt++) {
+                int seed = 0;
+                if (seeded) {
+                    seed = random.nextInt();
+                    for (int i = 0; i < hashes.length; i++) {
+                        hashes[i] = seededHash(keyList.get(i), seed);
+                    }
+                }
+                int multiplier = random.nextInt() | 1;
+                String[] slots = tryPlace(keyList, hashes, multiplier, shift, 1 << bits);
+                if (slots != null) {
+                    Object[] values = new Object[slots.length];
+                    for (int i = 0; i < slots.length; i++) {
+                        if (slots[i] != null) {
+                            values[i] = entries.get(slots[i]);
+                        }
+                    }
+                    return new PerfectHashTable<>(slots, values, seeded, seed, multiplier, shift, keyList.size());
+                }
+            }
+        }
+        throw new IllegalStateException("No perfect hash found for " + keyList.size() + " keys");
+    }
+
+    /**
+     * Builds a table mapping each enum constant's external name to the constant
+     */
+    public static <E extends Enum<E>> PerfectHashTable<E> forEnum(Class<E> type, Function<? super E, String> keyOf) {
+        Map<String, E> entries = new LinkedHashMap<>();
+        for (E constant : type.getEnumConstants()) {
+            if (entries.put(keyOf.apply(constant), constant) != null) {
+                throw new IllegalArgumentException("Duplicate key for " + constant);
+            }
+        }
+        return of(entries);
+    }
+
+    private static String[] tryPlace(List<String> keys, int[] hashes, int multiplier, int shift, int tableSize) {
+        String[] slots = new String[tableSize];
+        for (int i = 0; i < hashes.length; i++) {
+            int slot = (hashes[i] * multiplier) >>> shift;
+            if (slots[slot] != null) {
+                return null;
+            }
+            slots[slot] = keys.get(i);
+        }
+        return slots;
+    }
+
+    /**
+     * FNV-1a over the chars, started from seed; only used when String.hashCode() collides in the key set
+     */
+    private static int seededHash(String key, int seed) {
+        int hash = seed ^ 0x811C9DC5;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private int slot(String key) {
+        return ((seeded ? seededHash(key, seed) : key.hashCode()) * multiplier) >>> shift;
+    }
+
+    public V get(String key) {
+        return getOrDefault(key, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(String key, V defaultValue) {
+        int slot = slot(key);
+        String candidate = keys[slot];
+        // A key outside the set can land on an occupied slot, so always confirm with equals
+        return candidate != null && candidate.equals(key) ? (V) values[slot] : defaultValue;
+    }
+
+    public boolean containsKey(String key) {
+        int slot = slot(key);
+        String candidate = keys[slot];
+        return candidate != null && candidate.equals(key);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int tableSize() {
+        return keys.length;
+    }
+
+    public int multiplier() {
+        return multiplier;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                joiner.add(keys[i] + "=" + values[i]);
+            }
+        }
+        return joiner.toString();
+    }
+}